@@ -0,0 +1,61 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.utils.EnhancedDataGenerator;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoItemDAO's Item <-> Document mapping, per item.
+ *
+ * No database needed: the mapping is static and items come from a detached
+ * EnhancedDataGenerator.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemMappingBenchmark {
+
+    private static final long SEED = 46L;
+    private static final int ITEM_COUNT = 1024;
+
+    private List<Item> items;
+    private List<Document> documents;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        items = EnhancedDataGenerator.detached(SEED).generateDetachedItems(ITEM_COUNT, 90);
+        documents = new ArrayList<>(ITEM_COUNT);
+        for (Item item : items) {
+            // As read back from the collection, with its _id
+            documents.add(MongoItemDAO.itemToDocument(item).append("_id", new ObjectId(item.getMongoId())));
+        }
+    }
+
+    @Benchmark
+    public void itemToDocument(Blackhole blackhole) {
+        blackhole.consume(MongoItemDAO.itemToDocument(items.get(nextIndex())));
+    }
+
+    @Benchmark
+    public void documentToItem(Blackhole blackhole) {
+        blackhole.consume(MongoItemDAO.documentToItem(documents.get(nextIndex())));
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % ITEM_COUNT;
+        return next;
+    }
+}
@@ -0,0 +1,111 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.User;
+import com.campus.lostfound.models.workrequest.*;
+import com.campus.lostfound.utils.EnhancedDataGenerator;
+import org.bson.Document;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * MongoWorkRequestDAO's polymorphic WorkRequest <-> Document mapping.
+ *
+ * The requests cycle through all seven request types in turn, as a mixed
+ * work queue would, so the type dispatch in the mapping is exercised too.
+ *
+ * No database needed: the mapping is static and the items and people on
+ * the requests come from a detached EnhancedDataGenerator.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class WorkRequestDecodeBenchmark {
+
+    private static final long SEED = 46L;
+    private static final int REQUEST_COUNT = 7 * 64;
+
+    private List<WorkRequest> requests;
+    private List<Document> documents;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        List<Item> items = EnhancedDataGenerator.detached(SEED).generateDetachedItems(REQUEST_COUNT, 90);
+        requests = new ArrayList<>(REQUEST_COUNT);
+        documents = new ArrayList<>(REQUEST_COUNT);
+        for (int i = 0; i < REQUEST_COUNT; i++) {
+            WorkRequest request = newRequest(i % 7, items.get(i));
+            request.setRequestId(items.get(i).getMongoId());
+            requests.add(request);
+            documents.add(MongoWorkRequestDAO.workRequestToDocument(request));
+        }
+    }
+
+    @Benchmark
+    public void decode(Blackhole blackhole) {
+        blackhole.consume(MongoWorkRequestDAO.documentToWorkRequest(documents.get(nextIndex())));
+    }
+
+    @Benchmark
+    public void encode(Blackhole blackhole) {
+        blackhole.consume(MongoWorkRequestDAO.workRequestToDocument(requests.get(nextIndex())));
+    }
+
+    private int nextIndex() {
+        next = (next + 1) % REQUEST_COUNT;
+        return next;
+    }
+
+    private static WorkRequest newRequest(int kind, Item item) {
+        User reporter = item.getReportedBy();
+        String itemId = item.getMongoId();
+        String itemName = item.getTitle();
+        WorkRequest request;
+        switch (kind) {
+            case 0:
+                request = new ItemClaimRequest(reporter.getEmail(), reporter.getFullName(),
+                        itemId, itemName, item.getEstimatedValue());
+                break;
+            case 1:
+                request = new CrossCampusTransferRequest(reporter.getEmail(), reporter.getFullName(),
+                        itemId, itemName, "student@higher-ed.example", "Student Name");
+                break;
+            case 2:
+                request = new TransitToUniversityTransferRequest(reporter.getEmail(), reporter.getFullName(),
+                        itemId, itemName, "student@higher-ed.example", "Student Name");
+                break;
+            case 3:
+                request = new AirportToUniversityTransferRequest(reporter.getEmail(), reporter.getFullName(),
+                        itemId, itemName, "student@higher-ed.example", "Student Name");
+                break;
+            case 4:
+                request = new PoliceEvidenceRequest(reporter.getEmail(), reporter.getFullName(),
+                        itemId, itemName, "High-value item verification");
+                break;
+            case 5:
+                request = new MBTAToAirportEmergencyRequest(reporter.getEmail(), reporter.getFullName(),
+                        itemId, itemName, "Traveler Name", "B6 1234");
+                break;
+            default:
+                request = new MultiEnterpriseDisputeResolution(reporter.getEmail(), reporter.getFullName(),
+                        itemId, itemName, "Multiple claimants");
+                break;
+        }
+        request.setDescription(item.getDescription());
+        request.setRequesterEnterpriseId(item.getEnterpriseId());
+        request.setRequesterOrganizationId(item.getOrganizationId());
+        request.setTargetEnterpriseId("higher_ed");
+        request.setTargetOrganizationId("higher_ed-neu");
+        return request;
+    }
+}
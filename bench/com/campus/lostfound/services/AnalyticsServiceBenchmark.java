@@ -0,0 +1,72 @@
+package com.campus.lostfound.services;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AnalyticsService aggregations behind the dashboards and charts.
+ *
+ * Needs MongoDB: run against a database seeded with
+ * "EnhancedDataGenerator 46" (ant bench-seed) so every run aggregates the
+ * same data. The analytics cache is cleared before each call, so every call
+ * does the full aggregation.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AnalyticsServiceBenchmark {
+
+    private AnalyticsService analytics;
+
+    @Setup
+    public void setUp() {
+        analytics = new AnalyticsService();
+    }
+
+    @Setup(Level.Invocation)
+    public void clearCache() {
+        analytics.clearCache();
+    }
+
+    @Benchmark
+    public void itemCountByStatus(Blackhole blackhole) {
+        blackhole.consume(analytics.getItemCountByStatus());
+    }
+
+    @Benchmark
+    public void itemsReportedOverTime(Blackhole blackhole) {
+        blackhole.consume(analytics.getItemsReportedOverTime(30));
+    }
+
+    @Benchmark
+    public void enterpriseStats(Blackhole blackhole) {
+        blackhole.consume(analytics.getEnterpriseStats());
+    }
+
+    @Benchmark
+    public void requestCountByType(Blackhole blackhole) {
+        blackhole.consume(analytics.getRequestCountByType());
+    }
+
+    @Benchmark
+    public void slaComplianceRate(Blackhole blackhole) {
+        blackhole.consume(analytics.getSLAComplianceRate());
+    }
+
+    @Benchmark
+    public void weeklyTrends(Blackhole blackhole) {
+        blackhole.consume(analytics.getWeeklyTrends(8));
+    }
+
+    @Benchmark
+    public void executiveSummary(Blackhole blackhole) {
+        blackhole.consume(analytics.getExecutiveSummary());
+    }
+}
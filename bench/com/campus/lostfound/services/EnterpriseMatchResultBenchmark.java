@@ -0,0 +1,66 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.dao.MongoItemDAO;
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.Item.ItemType;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * EnterpriseItemMatcher.createEnterpriseMatchResult over lost/found pairs.
+ *
+ * Needs MongoDB: enterprise and organization names, network lookups and
+ * trust scores are read through the usual services. Run against a database
+ * seeded with "EnhancedDataGenerator 46" (ant bench-seed) so every run
+ * sees the same items and pairs.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnterpriseMatchResultBenchmark {
+
+    private static final long SEED = 46L;
+    private static final int PAIR_COUNT = 256;
+
+    private EnterpriseItemMatcher matcher;
+    private final List<Item[]> pairs = new ArrayList<>();
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        matcher = new EnterpriseItemMatcher();
+
+        List<Item> items = MongoItemDAO.getInstance().findAll();
+        List<Item> lost = items.stream().filter(i -> i.getType() == ItemType.LOST).collect(Collectors.toList());
+        List<Item> found = items.stream().filter(i -> i.getType() == ItemType.FOUND).collect(Collectors.toList());
+        if (lost.isEmpty() || found.isEmpty()) {
+            throw new IllegalStateException("No lost/found items to pair; seed the database first (ant bench-seed)");
+        }
+
+        Random random = new Random(SEED);
+        for (int i = 0; i < PAIR_COUNT; i++) {
+            pairs.add(new Item[] {
+                lost.get(random.nextInt(lost.size())),
+                found.get(random.nextInt(found.size()))
+            });
+        }
+    }
+
+    @Benchmark
+    public void createEnterpriseMatchResult(Blackhole blackhole) {
+        Item[] pair = pairs.get(next);
+        next = (next + 1) % PAIR_COUNT;
+        blackhole.consume(matcher.createEnterpriseMatchResult(pair[0], pair[1], 0.7));
+    }
+}
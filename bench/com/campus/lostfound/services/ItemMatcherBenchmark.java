@@ -0,0 +1,66 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.utils.EnhancedDataGenerator;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ItemMatcher.findMatches over 1k, 10k and 100k synthetic items.
+ *
+ * fullScan scores the target against every item, as callers passing a
+ * candidate list do. fromStore goes through MatchCandidateStore, which only
+ * hands over the open items within the time window. Items span 90 days, so
+ * the store returns a few percent of them.
+ *
+ * No database needed: items come from a detached EnhancedDataGenerator.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ItemMatcherBenchmark {
+
+    private static final long SEED = 46L;
+    private static final int TARGET_COUNT = 64;
+
+    @Param({"1000", "10000", "100000"})
+    public int candidates;
+
+    private List<Item> items;
+    private List<Item> targets;
+    private ItemMatcher matcher;
+    private int next = 0;
+
+    @Setup
+    public void setUp() {
+        items = EnhancedDataGenerator.detached(SEED).generateDetachedItems(candidates, 90);
+        targets = EnhancedDataGenerator.detached(SEED + 1).generateDetachedItems(TARGET_COUNT, 14);
+
+        MatchCandidateStore store = new MatchCandidateStore();
+        items.forEach(store::put);
+        matcher = new ItemMatcher(new ImageFingerprintIndex(), new ItemGeoIndex(), store);
+    }
+
+    @Benchmark
+    public void fullScan(Blackhole blackhole) {
+        blackhole.consume(matcher.findMatches(nextTarget(), items));
+    }
+
+    @Benchmark
+    public void fromStore(Blackhole blackhole) {
+        blackhole.consume(matcher.findMatches(nextTarget()));
+    }
+
+    private Item nextTarget() {
+        next = (next + 1) % TARGET_COUNT;
+        return targets.get(next);
+    }
+}
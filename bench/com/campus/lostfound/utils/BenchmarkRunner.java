@@ -0,0 +1,33 @@
+package com.campus.lostfound.utils;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Runs the JMH benchmarks with the GC profiler, so every result has its
+ * allocation rate (gc.alloc.rate.norm is bytes per operation) next to the
+ * throughput.
+ *
+ * Arguments are JMH's own, e.g. a benchmark regex and -p candidates=1000.
+ * With none, the benchmarks that need no database run:
+ * ItemMatcherBenchmark, ItemMappingBenchmark and WorkRequestDecodeBenchmark.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class BenchmarkRunner {
+
+    private static final String IN_MEMORY_BENCHMARKS =
+            "ItemMatcherBenchmark|ItemMappingBenchmark|WorkRequestDecodeBenchmark";
+
+    public static void main(String[] args) throws Exception {
+        OptionsBuilder options = new OptionsBuilder();
+        options.parent(new CommandLineOptions(args));
+        if (args.length == 0) {
+            options.include(IN_MEMORY_BENCHMARKS);
+        }
+        options.addProfiler(GCProfiler.class);
+        new Runner(options.build()).run();
+    }
+}
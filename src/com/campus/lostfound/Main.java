@@ -4,7 +4,9 @@
  */
 package com.campus.lostfound;
 
+import com.campus.lostfound.services.ReportScheduler;
 import com.campus.lostfound.ui.LoginFrame;
+import com.campus.lostfound.utils.ImageStore;
 import javax.swing.*;
 
 /**
@@ -20,6 +22,11 @@ public class Main {
             e.printStackTrace();
         }
 
+        // Precompute the periodic reports off-hours (daemon thread)
+        ReportScheduler.getInstance().start();
+        // Sweep orphaned photos every few hours (daemon thread)
+        ImageStore.startGarbageCollector();
+
         SwingUtilities.invokeLater(() -> {
             LoginFrame loginFrame = new LoginFrame();
             loginFrame.setVisible(true);
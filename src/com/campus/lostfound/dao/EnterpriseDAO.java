@@ -0,0 +1,31 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.Enterprise;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Data access for enterprises.
+ *
+ * Implemented by MongoEnterpriseDAO and InMemoryEnterpriseDAO; AppContext
+ * picks one.
+ */
+public interface EnterpriseDAO {
+
+    String create(Enterprise enterprise);
+
+    Optional<Enterprise> findById(String id);
+
+    Optional<Enterprise> findByName(String name);
+
+    List<Enterprise> findAll();
+
+    List<Enterprise> findByNetworkId(String networkId);
+
+    List<Enterprise> findByType(Enterprise.EnterpriseType type);
+
+    boolean update(Enterprise enterprise);
+
+    boolean delete(String id);
+}
@@ -0,0 +1,297 @@
+package com.campus.lostfound.dao;
+
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Document store behind the in-memory DAOs: a concurrent map of _id to
+ * document plus hash indexes on the fields the DAO looks up by.
+ *
+ * Stored documents are never changed in place. Every write stores a deep
+ * copy under the collection lock, so reads need no lock and never see a
+ * half-written document or share the caller's lists. Each DAO keeps Mongo's
+ * semantics by encoding on write and decoding a fresh model object on read
+ * with the Mongo DAO's own mapping. Index lookups are re-checked against the
+ * document they lead to, so a read racing a write sees the old or the new
+ * version, never a wrong one.
+ *
+ * Field names may be dotted paths into embedded documents ("reportedBy.email").
+ * As in Mongo, numbers match by value whatever their type (2 == 2L == 2.0).
+ */
+final class InMemoryCollection {
+
+    // ConcurrentHashMap takes no null keys; documents without the field are indexed under this
+    private static final Object MISSING = new Object();
+
+    private final Map<ObjectId, Document> documents = new ConcurrentHashMap<>();
+    private final Map<String, Map<Object, Set<ObjectId>>> indexes = new HashMap<>();
+
+    /**
+     * @param indexedFields Fields to keep a hash index on
+     */
+    InMemoryCollection(String... indexedFields) {
+        for (String field : indexedFields) {
+            indexes.put(field, new ConcurrentHashMap<>());
+        }
+    }
+
+    // ==================== WRITES ====================
+
+    /**
+     * Insert a document, giving it a new _id if it has none
+     * @return The document's _id
+     */
+    synchronized ObjectId insert(Document doc) {
+        ObjectId id = doc.getObjectId("_id");
+        if (id == null) {
+            id = new ObjectId();
+            doc.put("_id", id);
+        }
+        put(id, copyOf(doc));
+        return id;
+    }
+
+    /**
+     * Replace the document with this _id
+     * @return False if there is none
+     */
+    synchronized boolean replace(ObjectId id, Document doc) {
+        if (!documents.containsKey(id)) {
+            return false;
+        }
+        Document copy = copyOf(doc);
+        copy.put("_id", id);
+        put(id, copy);
+        return true;
+    }
+
+    /**
+     * Apply a change to a copy of the document if it passes the condition,
+     * then store the copy, atomically with respect to every other write
+     *
+     * @param condition Checked against the current document, or null for none
+     * @return The updated document, or null if not found or the condition failed
+     */
+    synchronized Document update(ObjectId id, Predicate<Document> condition, Consumer<Document> change) {
+        Document current = documents.get(id);
+        if (current == null || (condition != null && !condition.test(current))) {
+            return null;
+        }
+        Document next = new Document(current);
+        change.accept(next);
+        next = copyOf(next);
+        put(id, next);
+        return next;
+    }
+
+    /**
+     * Update every document passing the condition (see {@link #update})
+     * @return Number of documents updated
+     */
+    synchronized int updateAll(Predicate<Document> condition, Consumer<Document> change) {
+        int updated = 0;
+        for (Document doc : documents.values()) {
+            if (condition.test(doc) && update(doc.getObjectId("_id"), null, change) != null) {
+                updated++;
+            }
+        }
+        return updated;
+    }
+
+    /**
+     * @return The removed document, or null if there was none
+     */
+    synchronized Document remove(ObjectId id) {
+        Document removed = documents.remove(id);
+        if (removed != null) {
+            unindex(id, removed);
+        }
+        return removed;
+    }
+
+    private void put(ObjectId id, Document doc) {
+        // Index the new version before dropping the old one, so a lookup on an unchanged key never misses it
+        for (Map.Entry<String, Map<Object, Set<ObjectId>>> index : indexes.entrySet()) {
+            index.getValue().computeIfAbsent(key(value(doc, index.getKey())), k -> ConcurrentHashMap.newKeySet())
+                    .add(id);
+        }
+        Document previous = documents.put(id, doc);
+        if (previous != null) {
+            unindex(id, previous, doc);
+        }
+    }
+
+    private void unindex(ObjectId id, Document doc) {
+        unindex(id, doc, null);
+    }
+
+    /**
+     * Drop the id from doc's index entries, keeping those it still has in replacement
+     */
+    private void unindex(ObjectId id, Document doc, Document replacement) {
+        for (Map.Entry<String, Map<Object, Set<ObjectId>>> index : indexes.entrySet()) {
+            Object key = key(value(doc, index.getKey()));
+            if (replacement != null && key.equals(key(value(replacement, index.getKey())))) {
+                continue;
+            }
+            Set<ObjectId> ids = index.getValue().get(key);
+            if (ids != null) {
+                ids.remove(id);
+                if (ids.isEmpty()) {
+                    index.getValue().remove(key);
+                }
+            }
+        }
+    }
+
+    // ==================== READS ====================
+
+    Document get(ObjectId id) {
+        return documents.get(id);
+    }
+
+    /**
+     * The document with this _id string, or null if none or not a valid id
+     */
+    Document get(String id) {
+        return id != null && ObjectId.isValid(id) ? documents.get(new ObjectId(id)) : null;
+    }
+
+    Stream<Document> all() {
+        return documents.values().stream();
+    }
+
+    /**
+     * Documents whose field equals the value (null matches a missing field);
+     * served from the field's index when it has one
+     */
+    Stream<Document> where(String field, Object value) {
+        Map<Object, Set<ObjectId>> index = indexes.get(field);
+        if (index == null) {
+            return all().filter(doc -> matches(value(doc, field), value));
+        }
+        Set<ObjectId> ids = index.getOrDefault(key(value), Collections.emptySet());
+        return ids.stream()
+                .map(documents::get)
+                .filter(doc -> doc != null && matches(value(doc, field), value));
+    }
+
+    /**
+     * Documents whose field equals any of the values
+     */
+    Stream<Document> whereIn(String field, Collection<?> values) {
+        return values.stream().flatMap(value -> where(field, value)).distinct();
+    }
+
+    Document first(String field, Object value) {
+        return where(field, value).findFirst().orElse(null);
+    }
+
+    long size() {
+        return documents.size();
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * A field's value, following dotted paths into embedded documents
+     */
+    static Object value(Document doc, String field) {
+        Object current = doc;
+        for (String part : field.split("\\.")) {
+            if (!(current instanceof Document)) {
+                return null;
+            }
+            current = ((Document) current).get(part);
+        }
+        return current;
+    }
+
+    /**
+     * Sort on a field in Mongo's order: missing values first, then natural order
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static Comparator<Document> ascending(String field) {
+        return (a, b) -> {
+            Object x = value(a, field);
+            Object y = value(b, field);
+            if (x == null || y == null) {
+                return x == null ? (y == null ? 0 : -1) : 1;
+            }
+            if (x instanceof Number && y instanceof Number) {
+                return Double.compare(((Number) x).doubleValue(), ((Number) y).doubleValue());
+            }
+            return ((Comparable) x).compareTo(y);
+        };
+    }
+
+    static Comparator<Document> descending(String field) {
+        return ascending(field).reversed();
+    }
+
+    static <T> List<T> toList(Stream<Document> docs, Function<Document, T> mapper) {
+        return docs.map(mapper).collect(Collectors.toList());
+    }
+
+    /**
+     * Copy of a document with its embedded documents and lists copied too
+     */
+    private static Document copyOf(Document doc) {
+        Document copy = new Document();
+        for (Map.Entry<String, Object> field : doc.entrySet()) {
+            copy.put(field.getKey(), copyOfValue(field.getValue()));
+        }
+        return copy;
+    }
+
+    private static Object copyOfValue(Object value) {
+        if (value instanceof Document) {
+            return copyOf((Document) value);
+        }
+        if (value instanceof List) {
+            List<Object> copy = new ArrayList<>(((List<?>) value).size());
+            for (Object element : (List<?>) value) {
+                copy.add(copyOfValue(element));
+            }
+            return copy;
+        }
+        return value;
+    }
+
+    private static boolean matches(Object stored, Object value) {
+        return key(stored).equals(key(value));
+    }
+
+    /**
+     * Index key for a value: numbers as a Long when whole, else a Double, so
+     * an Integer finds a Long and vice versa
+     */
+    private static Object key(Object value) {
+        if (value == null) {
+            return MISSING;
+        }
+        if (value instanceof Byte || value instanceof Short || value instanceof Integer || value instanceof Long) {
+            return ((Number) value).longValue();
+        }
+        if (value instanceof Float || value instanceof Double) {
+            double d = ((Number) value).doubleValue();
+            return d == Math.rint(d) && Math.abs(d) < 0x1p63 ? (Object) (long) d : (Object) d;
+        }
+        return value;
+    }
+}
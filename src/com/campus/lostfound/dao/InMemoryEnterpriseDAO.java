@@ -0,0 +1,81 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.Enterprise;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * EnterpriseDAO kept in memory, for running the services without a database
+ */
+public class InMemoryEnterpriseDAO implements EnterpriseDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryEnterpriseDAO.class.getName());
+
+    private final InMemoryCollection enterprises = new InMemoryCollection("name", "networkId", "type");
+
+    public String create(Enterprise enterprise) {
+        try {
+            String id = enterprises.insert(MongoEnterpriseDAO.enterpriseToDocument(enterprise)).toString();
+            enterprise.setEnterpriseId(id);
+            return id;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error creating enterprise", e);
+            return null;
+        }
+    }
+
+    public Optional<Enterprise> findById(String id) {
+        return toEnterprise(enterprises.get(id));
+    }
+
+    public Optional<Enterprise> findByName(String name) {
+        return toEnterprise(enterprises.first("name", name));
+    }
+
+    public List<Enterprise> findAll() {
+        return InMemoryCollection.toList(enterprises.all(), MongoEnterpriseDAO::documentToEnterprise);
+    }
+
+    public List<Enterprise> findByNetworkId(String networkId) {
+        return InMemoryCollection.toList(enterprises.where("networkId", networkId), MongoEnterpriseDAO::documentToEnterprise);
+    }
+
+    public List<Enterprise> findByType(Enterprise.EnterpriseType type) {
+        return InMemoryCollection.toList(enterprises.where("type", type.name()), MongoEnterpriseDAO::documentToEnterprise);
+    }
+
+    public boolean update(Enterprise enterprise) {
+        try {
+            enterprises.update(new ObjectId(enterprise.getEnterpriseId()), null, doc -> {
+                doc.put("name", enterprise.getName());
+                doc.put("type", enterprise.getType().name());
+                doc.put("description", enterprise.getDescription());
+                doc.put("contactEmail", enterprise.getContactEmail());
+                doc.put("contactPhone", enterprise.getContactPhone());
+                doc.put("isActive", enterprise.isActive());
+            });
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error updating enterprise", e);
+            return false;
+        }
+    }
+
+    public boolean delete(String id) {
+        try {
+            enterprises.remove(new ObjectId(id));
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error deleting enterprise", e);
+            return false;
+        }
+    }
+
+    private Optional<Enterprise> toEnterprise(Document doc) {
+        return doc != null ? Optional.of(MongoEnterpriseDAO.documentToEnterprise(doc)) : Optional.empty();
+    }
+}
@@ -0,0 +1,259 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.Location;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * ItemDAO kept in memory, for running the services without a database
+ * (load tests, demos). Documents use MongoItemDAO's mapping, so items read
+ * back exactly as they would from MongoDB.
+ *
+ * Differences from MongoItemDAO: photos are not registered with the
+ * ImageStore (items keep the fingerprints they are saved with), and text
+ * search matches whole words of the title and description without stemming.
+ */
+public class InMemoryItemDAO implements ItemDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryItemDAO.class.getName());
+    private static final List<String> OPEN_STATUSES = Arrays.asList("OPEN", "PENDING_CLAIM", "VERIFIED");
+
+    private final InMemoryCollection items = new InMemoryCollection(
+            "status", "organizationId", "enterpriseId", "reportedBy.email", "reportedBy.userId");
+
+    private final List<WriteListener> writeListeners = new CopyOnWriteArrayList<>();
+    private volatile long lastModified = 0;
+
+    public String create(Item item) {
+        try {
+            String id = items.insert(MongoItemDAO.itemToDocument(item)).toString();
+            if (item.getMongoId() == null) {
+                item.setMongoId(id);
+            }
+            touch();
+            fireItemCreated(item);
+            return id;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error creating item", e);
+            return null;
+        }
+    }
+
+    public int createAll(List<Item> batch) {
+        for (Item item : batch) {
+            item.setMongoId(items.insert(MongoItemDAO.itemToDocument(item)).toString());
+        }
+        touch();
+        return batch.size();
+    }
+
+    public Optional<Item> findById(String id) {
+        Document doc = items.get(id);
+        return doc != null ? Optional.of(MongoItemDAO.documentToItem(doc)) : Optional.empty();
+    }
+
+    public List<Item> findAll() {
+        return newestFirst(items.all());
+    }
+
+    public long forEachItem(String organizationId, Predicate<Item> action) {
+        return visit(organizationId != null ? items.where("organizationId", organizationId) : items.all(), action);
+    }
+
+    public long forEachItemInEnterprise(String enterpriseId, Predicate<Item> action) {
+        return visit(items.where("enterpriseId", enterpriseId), action);
+    }
+
+    public long forEachItemReportedBetween(Date from, Date to, Predicate<Item> action) {
+        return visit(items.all().filter(doc -> {
+            Date reported = doc.getDate("reportedDate");
+            return reported != null
+                    && (from == null || !reported.before(from))
+                    && (to == null || reported.before(to));
+        }), action);
+    }
+
+    private long visit(Stream<Document> docs, Predicate<Item> action) {
+        long visited = 0;
+        for (Document doc : docs.sorted(InMemoryCollection.descending("reportedDate")).collect(Collectors.toList())) {
+            visited++;
+            if (!action.test(MongoItemDAO.documentToItem(doc))) {
+                break;
+            }
+        }
+        return visited;
+    }
+
+    public long count(String organizationId) {
+        return organizationId != null ? items.where("organizationId", organizationId).count() : items.size();
+    }
+
+    public String getDataWatermark() {
+        return items.size() + "@" + lastModified;
+    }
+
+    public Map<String, Long> findModifiedAfter(long lastModifiedMillis) {
+        Map<String, Long> modified = new HashMap<>();
+        items.all().forEach(doc -> {
+            Date stamp = doc.getDate("lastModified");
+            if (stamp != null && stamp.getTime() > lastModifiedMillis) {
+                modified.put(doc.getObjectId("_id").toString(), stamp.getTime());
+            }
+        });
+        return modified;
+    }
+
+    public List<Item> findByStatus(Item.ItemStatus status) {
+        return newestFirst(status != null
+                ? items.where("status", status.name())
+                : items.whereIn("status", OPEN_STATUSES));
+    }
+
+    public List<Item> findNearby(double latitude, double longitude, double maxDistanceKm) {
+        List<Map.Entry<Document, Double>> nearby = new ArrayList<>();
+        for (Document doc : (Iterable<Document>) items.all()::iterator) {
+            Object coordinates = InMemoryCollection.value(doc, "location.geo.coordinates");
+            if (coordinates instanceof List && ((List<?>) coordinates).size() == 2) {
+                List<?> point = (List<?>) coordinates;
+                double distance = Location.distanceKm(latitude, longitude,
+                        ((Number) point.get(1)).doubleValue(), ((Number) point.get(0)).doubleValue());
+                if (distance <= maxDistanceKm) {
+                    nearby.add(new AbstractMap.SimpleEntry<>(doc, distance));
+                }
+            }
+        }
+        return nearby.stream()
+                .sorted(Map.Entry.comparingByValue())
+                .map(entry -> MongoItemDAO.documentToItem(entry.getKey()))
+                .collect(Collectors.toList());
+    }
+
+    public List<Item> findByUser(String email) {
+        return newestFirst(items.where("reportedBy.email", email));
+    }
+
+    public List<Item> findByReporter(String reporterMongoId) {
+        return newestFirst(items.where("reportedBy.userId", reporterMongoId));
+    }
+
+    public List<Item> searchItems(String query, Item.ItemType type, Item.ItemCategory category) {
+        Set<String> terms = query != null && !query.trim().isEmpty() ? words(query) : null;
+        return newestFirst(items.whereIn("status", OPEN_STATUSES).filter(doc ->
+                (type == null || type.name().equals(doc.getString("type")))
+                && (category == null || category.name().equals(doc.getString("category")))
+                && (terms == null || matchesAny(doc, terms))));
+    }
+
+    private boolean matchesAny(Document doc, Set<String> terms) {
+        Set<String> text = words(doc.getString("title") + " " + doc.getString("description"));
+        return terms.stream().anyMatch(text::contains);
+    }
+
+    private Set<String> words(String text) {
+        return new HashSet<>(Arrays.asList(text.toLowerCase().split("\\W+")));
+    }
+
+    public boolean update(Item item) {
+        try {
+            if (item.getMongoId() == null || item.getMongoId().isEmpty()) {
+                LOGGER.severe("Cannot update item - mongoId is null or empty");
+                return false;
+            }
+            Document doc = MongoItemDAO.itemToDocument(item);
+            if (items.update(new ObjectId(item.getMongoId()), null, stored -> stored.putAll(doc)) == null) {
+                LOGGER.warning("Cannot update item - not found: " + item.getMongoId());
+                return false;
+            }
+            touch();
+            fireItemSaved(item);
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error updating item", e);
+            return false;
+        }
+    }
+
+    public boolean delete(String id) {
+        try {
+            if (items.remove(new ObjectId(id)) != null) {
+                touch();
+                fireItemDeleted(id);
+            }
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error deleting item", e);
+            return false;
+        }
+    }
+
+    public boolean deleteByTitleAndUser(String title, String email) {
+        Optional<Document> match = items.where("reportedBy.email", email)
+                .filter(doc -> Objects.equals(title, doc.getString("title")))
+                .findFirst();
+        if (match.isPresent() && items.remove(match.get().getObjectId("_id")) != null) {
+            touch();
+            fireItemDeleted(match.get().getObjectId("_id").toString());
+        }
+        return true;
+    }
+
+    // ==================== WRITE LISTENERS ====================
+
+    public void addWriteListener(WriteListener listener) {
+        writeListeners.add(listener);
+    }
+
+    public void removeWriteListener(WriteListener listener) {
+        writeListeners.remove(listener);
+    }
+
+    private void fireItemSaved(Item item) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.itemSaved(item);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Item write listener failed", e);
+            }
+        }
+    }
+
+    private void fireItemCreated(Item item) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.itemCreated(item);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Item write listener failed", e);
+            }
+        }
+    }
+
+    private void fireItemDeleted(String mongoId) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.itemDeleted(mongoId);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Item write listener failed", e);
+            }
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private List<Item> newestFirst(Stream<Document> docs) {
+        return InMemoryCollection.toList(docs.sorted(InMemoryCollection.descending("reportedDate")),
+                MongoItemDAO::documentToItem);
+    }
+
+    private void touch() {
+        lastModified = System.currentTimeMillis();
+    }
+}
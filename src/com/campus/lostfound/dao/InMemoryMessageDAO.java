@@ -0,0 +1,100 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.*;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.util.*;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * MessageDAO kept in memory, for running the services without a database.
+ * Conversation titles and names are looked up in the given item and user DAOs.
+ */
+public class InMemoryMessageDAO implements MessageDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryMessageDAO.class.getName());
+
+    private final InMemoryCollection messages = new InMemoryCollection("itemId", "senderId", "recipientId");
+    private final ItemDAO itemDAO;
+    private final UserDAO userDAO;
+
+    public InMemoryMessageDAO(ItemDAO itemDAO, UserDAO userDAO) {
+        this.itemDAO = itemDAO;
+        this.userDAO = userDAO;
+    }
+
+    public String sendMessage(Message message) {
+        try {
+            return messages.insert(MongoMessageDAO.messageToDocument(message)).toString();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error sending message", e);
+            return null;
+        }
+    }
+
+    public List<Message> getMessages(String userEmail1, String userEmail2, String itemId) {
+        Predicate<Document> between = doc ->
+                (userEmail1.equals(doc.getString("senderId")) && userEmail2.equals(doc.getString("recipientId")))
+                || (userEmail2.equals(doc.getString("senderId")) && userEmail1.equals(doc.getString("recipientId")));
+
+        List<Message> result = InMemoryCollection.toList(
+                messages.where("itemId", itemId).filter(between).sorted(InMemoryCollection.ascending("sentDate")),
+                MongoMessageDAO::documentToMessage);
+
+        // Mark as read for the current user
+        messages.updateAll(doc -> Objects.equals(itemId, doc.getString("itemId"))
+                        && userEmail1.equals(doc.getString("recipientId"))
+                        && userEmail2.equals(doc.getString("senderId")),
+                doc -> doc.put("isRead", true));
+        return result;
+    }
+
+    public List<Conversation> getConversations(String userEmail) {
+        Map<String, Conversation> conversationMap = new HashMap<>();
+        List<Document> docs = messages.where("senderId", userEmail)
+                .collect(Collectors.toCollection(ArrayList::new));
+        messages.where("recipientId", userEmail)
+                .filter(doc -> !userEmail.equals(doc.getString("senderId")))
+                .forEach(docs::add);
+        docs.sort(InMemoryCollection.descending("sentDate"));
+
+        for (Document doc : docs) {
+            String senderEmail = doc.getString("senderId");
+            String recipientEmail = doc.getString("recipientId");
+            String otherUserEmail = senderEmail.equals(userEmail) ? recipientEmail : senderEmail;
+            String itemId = doc.getString("itemId");
+
+            conversationMap.computeIfAbsent(otherUserEmail + "_" + itemId, key -> {
+                Conversation conv = new Conversation(itemId, otherUserEmail);
+                conv.setOtherUserName(userName(otherUserEmail));
+                conv.setItemTitle(itemTitle(itemId));
+                conv.setLastMessage(doc.getString("messageText"));
+                conv.setLastMessageDate(doc.getDate("sentDate"));
+                if (!doc.getBoolean("isRead", false) && recipientEmail.equals(userEmail)) {
+                    conv.incrementUnreadCount();
+                }
+                return conv;
+            });
+        }
+        return new ArrayList<>(conversationMap.values());
+    }
+
+    private String userName(String email) {
+        return userDAO.findByEmail(email)
+                .filter(user -> user.getFirstName() != null)
+                .map(user -> user.getLastName() != null
+                        ? user.getFirstName() + " " + user.getLastName() : user.getFirstName())
+                .orElse(email);
+    }
+
+    private String itemTitle(String itemId) {
+        if (itemId == null || !ObjectId.isValid(itemId)) {
+            return "Item";
+        }
+        return itemDAO.findById(itemId).map(Item::getTitle).orElse("Item");
+    }
+}
@@ -0,0 +1,82 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.Organization;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * OrganizationDAO kept in memory, for running the services without a database
+ */
+public class InMemoryOrganizationDAO implements OrganizationDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryOrganizationDAO.class.getName());
+
+    private final InMemoryCollection organizations = new InMemoryCollection("name", "enterpriseId", "type");
+
+    public String create(Organization organization) {
+        try {
+            String id = organizations.insert(MongoOrganizationDAO.organizationToDocument(organization)).toString();
+            organization.setOrganizationId(id);
+            return id;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error creating organization", e);
+            return null;
+        }
+    }
+
+    public Optional<Organization> findById(String id) {
+        return toOrganization(organizations.get(id));
+    }
+
+    public Optional<Organization> findByName(String name) {
+        return toOrganization(organizations.first("name", name));
+    }
+
+    public List<Organization> findAll() {
+        return InMemoryCollection.toList(organizations.all(), MongoOrganizationDAO::documentToOrganization);
+    }
+
+    public List<Organization> findByEnterpriseId(String enterpriseId) {
+        return InMemoryCollection.toList(organizations.where("enterpriseId", enterpriseId), MongoOrganizationDAO::documentToOrganization);
+    }
+
+    public List<Organization> findByType(Organization.OrganizationType type) {
+        return InMemoryCollection.toList(organizations.where("type", type.name()), MongoOrganizationDAO::documentToOrganization);
+    }
+
+    public boolean update(Organization organization) {
+        try {
+            organizations.update(new ObjectId(organization.getOrganizationId()), null, doc -> {
+                doc.put("name", organization.getName());
+                doc.put("type", organization.getType().name());
+                doc.put("description", organization.getDescription());
+                doc.put("contactEmail", organization.getContactEmail());
+                doc.put("contactPhone", organization.getContactPhone());
+                doc.put("address", organization.getAddress());
+                doc.put("isActive", organization.isActive());
+            });
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error updating organization", e);
+            return false;
+        }
+    }
+
+    public boolean delete(String id) {
+        try {
+            organizations.remove(new ObjectId(id));
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error deleting organization", e);
+            return false;
+        }
+    }
+
+    private Optional<Organization> toOrganization(Document doc) {
+        return doc != null ? Optional.of(MongoOrganizationDAO.documentToOrganization(doc)) : Optional.empty();
+    }
+}
@@ -0,0 +1,344 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.User;
+import com.campus.lostfound.models.trustscore.TrustScore;
+import com.campus.lostfound.models.trustscore.TrustScore.ScoreLevel;
+import com.campus.lostfound.models.trustscore.TrustScoreEvent;
+import com.campus.lostfound.models.trustscore.TrustScoreEvent.EventType;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * TrustScoreDAO kept in memory, for running the services without a
+ * database. Documents use MongoTrustScoreDAO's mapping.
+ *
+ * The score aggregate falls back to the trustScore of the users in the given
+ * UserDAO, as the Mongo version falls back to the users collection.
+ */
+public class InMemoryTrustScoreDAO implements TrustScoreDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryTrustScoreDAO.class.getName());
+
+    private final InMemoryCollection scores = new InMemoryCollection(
+            "userId", "userEmail", "scoreLevel", "isFlagged", "isUnderInvestigation");
+    private final InMemoryCollection events = new InMemoryCollection(
+            "userId", "eventType", "relatedItemId", "relatedRequestId");
+    private final AtomicInteger scoreSequence = new AtomicInteger();
+    private final AtomicInteger eventSequence = new AtomicInteger();
+    private final UserDAO userDAO;
+
+    /**
+     * @param userDAO Users for the enterprise scope and fallback of {@link #getScoreAggregate}
+     */
+    public InMemoryTrustScoreDAO(UserDAO userDAO) {
+        this.userDAO = userDAO;
+    }
+
+    // ==================== TRUST SCORE CRUD ====================
+
+    public String saveTrustScore(TrustScore score) {
+        try {
+            if (score.getScoreId() == null) {
+                score.generateVisibleId(scoreSequence.incrementAndGet());
+                String id = scores.insert(MongoTrustScoreDAO.trustScoreToDocument(score)).toString();
+                score.setScoreId(id);
+                return id;
+            }
+            scores.replace(new ObjectId(score.getScoreId()), MongoTrustScoreDAO.trustScoreToDocument(score));
+            return score.getScoreId();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error saving TrustScore", e);
+            return null;
+        }
+    }
+
+    public TrustScore findScoreById(String scoreId) {
+        return toScore(scores.get(scoreId));
+    }
+
+    public TrustScore findScoreByUserId(String userId) {
+        return toScore(scores.first("userId", userId));
+    }
+
+    public TrustScore findScoreByEmail(String email) {
+        return toScore(scores.first("userEmail", email));
+    }
+
+    public boolean updateScore(String userId, double newScore) {
+        return updateByUserId(userId, doc -> {
+            doc.put("currentScore", newScore);
+            doc.put("scoreLevel", ScoreLevel.fromScore(newScore).name());
+            doc.put("lastUpdatedAt", MongoTrustScoreDAO.toDate(LocalDateTime.now()));
+        });
+    }
+
+    public boolean deleteTrustScore(String scoreId) {
+        try {
+            scores.remove(new ObjectId(scoreId));
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error deleting TrustScore: " + scoreId, e);
+            return false;
+        }
+    }
+
+    // ==================== TRUST SCORE QUERIES ====================
+
+    public List<TrustScore> findAllScores() {
+        return toScores(scores.all(), true);
+    }
+
+    public List<TrustScore> getScoresByRange(double minScore, double maxScore) {
+        return toScores(scores.all().filter(doc -> {
+            double score = currentScore(doc);
+            return score >= minScore && score <= maxScore;
+        }), true);
+    }
+
+    public List<TrustScore> getScoresBelowThreshold(double threshold) {
+        return toScores(scores.all().filter(doc -> currentScore(doc) < threshold), false);
+    }
+
+    public List<TrustScore> getScoresAboveThreshold(double threshold) {
+        return toScores(scores.all().filter(doc -> currentScore(doc) >= threshold), true);
+    }
+
+    public List<TrustScore> getLowTrustUsers() {
+        return getScoresBelowThreshold(TrustScore.REQUIRES_VERIFICATION_THRESHOLD);
+    }
+
+    public List<TrustScore> getExcellentUsers() {
+        return getScoresAboveThreshold(90.0);
+    }
+
+    public List<TrustScore> getFlaggedUsers() {
+        return toScores(scores.where("isFlagged", true), false);
+    }
+
+    public List<TrustScore> getUsersUnderInvestigation() {
+        return InMemoryCollection.toList(scores.where("isUnderInvestigation", true),
+                MongoTrustScoreDAO::documentToTrustScore);
+    }
+
+    public List<TrustScore> getScoresByLevel(ScoreLevel level) {
+        return toScores(scores.where("scoreLevel", level.name()), true);
+    }
+
+    // ==================== TRUST SCORE EVENTS ====================
+
+    public String saveEvent(TrustScoreEvent event) {
+        try {
+            if (event.getVisibleId() == null) {
+                event.generateVisibleId(eventSequence.incrementAndGet());
+            }
+            String id = events.insert(MongoTrustScoreDAO.eventToDocument(event)).toString();
+            event.setEventId(id);
+            return id;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error saving TrustScoreEvent", e);
+            return null;
+        }
+    }
+
+    public int saveEvents(List<TrustScoreEvent> batch) {
+        for (TrustScoreEvent event : batch) {
+            if (event.getVisibleId() == null) {
+                event.generateVisibleId(eventSequence.incrementAndGet());
+            }
+            event.setEventId(events.insert(MongoTrustScoreDAO.eventToDocument(event)).toString());
+        }
+        return batch.size();
+    }
+
+    public TrustScoreEvent findEventById(String eventId) {
+        Document doc = events.get(eventId);
+        return doc != null ? MongoTrustScoreDAO.documentToEvent(doc) : null;
+    }
+
+    public boolean deleteEvent(String eventId) {
+        try {
+            events.remove(new ObjectId(eventId));
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error deleting event: " + eventId, e);
+            return false;
+        }
+    }
+
+    public List<TrustScoreEvent> getEventsForUser(String userId) {
+        return newestFirst(events.where("userId", userId));
+    }
+
+    public List<TrustScoreEvent> getRecentEventsForUser(String userId, int limit) {
+        return newestFirst(events.where("userId", userId).sorted(InMemoryCollection.descending("timestamp")).limit(limit));
+    }
+
+    public List<TrustScoreEvent> getEventsByType(EventType eventType) {
+        return newestFirst(events.where("eventType", eventType.name()));
+    }
+
+    public List<TrustScoreEvent> getEventsByItemId(String itemId) {
+        return newestFirst(events.where("relatedItemId", itemId));
+    }
+
+    public List<TrustScoreEvent> getEventsByRequestId(String requestId) {
+        return newestFirst(events.where("relatedRequestId", requestId));
+    }
+
+    public List<TrustScoreEvent> getEventsByDateRange(LocalDateTime start, LocalDateTime end) {
+        Date from = MongoTrustScoreDAO.toDate(start);
+        Date to = MongoTrustScoreDAO.toDate(end);
+        return newestFirst(events.all().filter(doc -> {
+            Date timestamp = doc.getDate("timestamp");
+            return timestamp != null && !timestamp.before(from) && !timestamp.after(to);
+        }));
+    }
+
+    public List<TrustScoreEvent> getNegativeEventsForUser(String userId) {
+        return newestFirst(events.where("userId", userId).filter(doc -> doc.getInteger("pointsChange", 0) < 0));
+    }
+
+    // ==================== STATISTICS ====================
+
+    public double getAverageScore() {
+        return scores.all().mapToDouble(this::currentScore).average().orElse(50.0);
+    }
+
+    public Map<ScoreLevel, Long> getScoreDistribution() {
+        Map<ScoreLevel, Long> distribution = new LinkedHashMap<>();
+        for (ScoreLevel level : ScoreLevel.values()) {
+            distribution.put(level, 0L);
+        }
+        scores.all().map(doc -> doc.getString("scoreLevel")).filter(Objects::nonNull)
+                .forEach(level -> distribution.merge(ScoreLevel.valueOf(level), 1L, Long::sum));
+        return distribution;
+    }
+
+    public long getTotalScoresCount() {
+        return scores.size();
+    }
+
+    public long getTotalEventsCount() {
+        return events.size();
+    }
+
+    public Map<EventType, Long> getEventTypeDistribution() {
+        Map<EventType, Long> distribution = new LinkedHashMap<>();
+        events.all().map(doc -> doc.getString("eventType")).filter(Objects::nonNull)
+                .forEach(type -> {
+                    try {
+                        distribution.merge(EventType.valueOf(type), 1L, Long::sum);
+                    } catch (IllegalArgumentException e) {
+                        // Skip unknown types
+                    }
+                });
+        return distribution;
+    }
+
+    public long getFlaggedUsersCount() {
+        return scores.where("isFlagged", true).count();
+    }
+
+    public ScoreAggregate getScoreAggregate(String enterpriseId) {
+        ScoreAggregate aggregate = new ScoreAggregate();
+        Set<String> scopeEmails = enterpriseId != null ? emailsInEnterprise(enterpriseId) : null;
+        scores.all()
+                .filter(doc -> scopeEmails == null || scopeEmails.contains(doc.getString("userEmail")))
+                .forEach(doc -> aggregate.add(currentScore(doc),
+                        doc.getBoolean("isFlagged", false), doc.getBoolean("isUnderInvestigation", false)));
+
+        if (aggregate.getCount() == 0) {
+            for (User user : userDAO.findAllIncludingInactive()) {
+                if (enterpriseId == null || enterpriseId.equals(user.getEnterpriseId())) {
+                    aggregate.add(user.getTrustScore(), false, false);
+                }
+            }
+        }
+        aggregate.finish();
+        return aggregate;
+    }
+
+    private Set<String> emailsInEnterprise(String enterpriseId) {
+        return userDAO.findAllIncludingInactive().stream()
+                .filter(user -> enterpriseId.equals(user.getEnterpriseId()))
+                .map(User::getEmail)
+                .collect(Collectors.toSet());
+    }
+
+    // ==================== FLAG OPERATIONS ====================
+
+    public boolean flagUser(String userId, String reason) {
+        Date now = MongoTrustScoreDAO.toDate(LocalDateTime.now());
+        return updateByUserId(userId, doc -> {
+            doc.put("isFlagged", true);
+            doc.put("flagReason", reason);
+            doc.put("flaggedAt", now);
+            doc.put("lastUpdatedAt", now);
+        });
+    }
+
+    public boolean clearUserFlag(String userId) {
+        return updateByUserId(userId, doc -> {
+            doc.put("isFlagged", false);
+            doc.remove("flagReason");
+            doc.remove("flaggedAt");
+            doc.put("lastUpdatedAt", MongoTrustScoreDAO.toDate(LocalDateTime.now()));
+        });
+    }
+
+    public boolean startInvestigation(String userId) {
+        return updateByUserId(userId, doc -> {
+            doc.put("isUnderInvestigation", true);
+            doc.put("lastUpdatedAt", MongoTrustScoreDAO.toDate(LocalDateTime.now()));
+        });
+    }
+
+    public boolean endInvestigation(String userId) {
+        return updateByUserId(userId, doc -> {
+            doc.put("isUnderInvestigation", false);
+            doc.put("lastUpdatedAt", MongoTrustScoreDAO.toDate(LocalDateTime.now()));
+        });
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Update the user's score record; like updateOne, true even if there is none
+     */
+    private boolean updateByUserId(String userId, Consumer<Document> change) {
+        Document doc = scores.first("userId", userId);
+        if (doc != null) {
+            scores.update(doc.getObjectId("_id"), null, change);
+        }
+        return true;
+    }
+
+    private double currentScore(Document doc) {
+        Double score = doc.getDouble("currentScore");
+        return score != null ? score : TrustScore.DEFAULT_INITIAL_SCORE;
+    }
+
+    private TrustScore toScore(Document doc) {
+        return doc != null ? MongoTrustScoreDAO.documentToTrustScore(doc) : null;
+    }
+
+    private List<TrustScore> toScores(Stream<Document> docs, boolean highestFirst) {
+        Comparator<Document> order = InMemoryCollection.ascending("currentScore");
+        return InMemoryCollection.toList(docs.sorted(highestFirst ? order.reversed() : order),
+                MongoTrustScoreDAO::documentToTrustScore);
+    }
+
+    private List<TrustScoreEvent> newestFirst(Stream<Document> docs) {
+        return InMemoryCollection.toList(docs.sorted(InMemoryCollection.descending("timestamp")),
+                MongoTrustScoreDAO::documentToEvent);
+    }
+}
@@ -0,0 +1,203 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.User;
+import org.bson.Document;
+
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * UserDAO kept in memory, for running the services without a database.
+ * Documents use MongoUserDAO's mapping and password hashing.
+ */
+public class InMemoryUserDAO implements UserDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryUserDAO.class.getName());
+
+    private final InMemoryCollection users = new InMemoryCollection("email", "isActive");
+    private final List<WriteListener> writeListeners = new CopyOnWriteArrayList<>();
+
+    public String create(User user, String password) {
+        try {
+            String id = users.insert(MongoUserDAO.newUserDocument(user, MongoUserDAO.hashPassword(password))).toString();
+            LOGGER.fine("User created with ID: " + id);
+            fireUserChanged(id, user.getEmail());
+            return id;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error creating user", e);
+            return null;
+        }
+    }
+
+    public int createAll(List<User> batch, String password) {
+        String passwordHash = MongoUserDAO.hashPassword(password);
+        for (User user : batch) {
+            String id = users.insert(MongoUserDAO.newUserDocument(user, passwordHash)).toString();
+            user.setMongoId(id);
+            user.setUserId(id.hashCode());
+        }
+        return batch.size();
+    }
+
+    public Optional<User> findById(String id) {
+        Document doc = users.get(id);
+        return doc != null ? Optional.of(MongoUserDAO.documentToUser(doc)) : Optional.empty();
+    }
+
+    public Optional<User> findByEmail(String email) {
+        Document doc = users.first("email", email);
+        return doc != null ? Optional.of(MongoUserDAO.documentToUser(doc)) : Optional.empty();
+    }
+
+    public boolean authenticate(String email, String password) {
+        String hash = MongoUserDAO.hashPassword(password);
+        return updateByEmail(email,
+                doc -> doc.getBoolean("isActive", false) && hash.equals(doc.getString("passwordHash")),
+                doc -> doc.put("lastLogin", new Date()));
+    }
+
+    public List<User> findAll() {
+        return InMemoryCollection.toList(users.where("isActive", true), MongoUserDAO::documentToUser);
+    }
+
+    public long forEachActiveUser(Predicate<User> action) {
+        long visited = 0;
+        for (Document doc : users.where("isActive", true).collect(Collectors.toList())) {
+            visited++;
+            if (!action.test(MongoUserDAO.documentToUser(doc))) {
+                break;
+            }
+        }
+        return visited;
+    }
+
+    public String getDataWatermark() {
+        return String.valueOf(users.size());
+    }
+
+    public long countActiveUsers() {
+        return users.where("isActive", true).count();
+    }
+
+    public void updateTrustScore(String userId, String action) {
+        Document doc = users.get(userId);
+        // Like MongoUserDAO: no HELPED_RETURN by id, and listeners only hear about real changes
+        if (doc != null && MongoUserDAO.TRUST_ACTIONS.contains(action) && !"HELPED_RETURN".equals(action)
+                && users.update(doc.getObjectId("_id"), null, trustAction(action)) != null) {
+            fireUserChanged(userId, doc.getString("email"));
+        }
+    }
+
+    public void updateTrustScoreByEmail(String email, String action) {
+        if (!MongoUserDAO.TRUST_ACTIONS.contains(action)) {
+            return;
+        }
+        Document doc = users.first("email", email);
+        if (doc == null) {
+            LOGGER.warning("User not found with email: " + email);
+            return;
+        }
+        // A HELPED_RETURN at the maximum score changes nothing
+        Predicate<Document> changes = current -> !"HELPED_RETURN".equals(action) || current.getDouble("trustScore") < 100;
+        if (users.update(doc.getObjectId("_id"), changes, trustAction(action)) != null) {
+            fireUserChanged(doc.getObjectId("_id").toString(), email);
+        }
+    }
+
+    /**
+     * Same score changes as MongoUserDAO; unknown actions change nothing
+     */
+    private Consumer<Document> trustAction(String action) {
+        return doc -> {
+            double score = doc.getDouble("trustScore");
+            switch (action) {
+                case "RETURN":
+                    doc.put("trustScore", Math.min(100, score + 10));
+                    doc.put("itemsReturned", doc.getInteger("itemsReturned", 0) + 1);
+                    break;
+                case "FALSE_CLAIM":
+                    doc.put("trustScore", Math.max(0, score - 25));
+                    doc.put("falseClaims", doc.getInteger("falseClaims", 0) + 1);
+                    break;
+                case "REPORT":
+                    doc.put("trustScore", Math.min(100, score + 2));
+                    doc.put("itemsReported", doc.getInteger("itemsReported", 0) + 1);
+                    break;
+                case "HELPED_RETURN":
+                    doc.put("trustScore", Math.min(100, score + 5));
+                    break;
+            }
+        };
+    }
+
+    public boolean update(User user) {
+        return updateUser(user);
+    }
+
+    @Deprecated
+    public boolean updateUser(User user) {
+        updateByEmail(user.getEmail(), null, doc -> {
+            doc.put("firstName", user.getFirstName());
+            doc.put("lastName", user.getLastName());
+            doc.put("role", user.getRole().name());
+            doc.put("trustScore", user.getTrustScore());
+            doc.put("phoneNumber", user.getPhoneNumber());
+            doc.put("enterpriseId", user.getEnterpriseId());
+            doc.put("organizationId", user.getOrganizationId());
+            doc.put("isActive", user.isActive());
+        });
+        fireUserChanged(user.getMongoId(), user.getEmail());
+        return true;
+    }
+
+    public boolean setUserActive(String email, boolean active) {
+        updateByEmail(email, null, doc -> doc.put("isActive", active));
+        fireUserChanged(null, email);
+        return true;
+    }
+
+    public boolean isUserActive(String email) {
+        Document doc = users.first("email", email);
+        return doc != null && doc.getBoolean("isActive", true);
+    }
+
+    public List<User> findAllIncludingInactive() {
+        return InMemoryCollection.toList(users.all(), MongoUserDAO::documentToUser);
+    }
+
+    // ==================== WRITE LISTENERS ====================
+
+    public void addWriteListener(WriteListener listener) {
+        writeListeners.add(listener);
+    }
+
+    public void removeWriteListener(WriteListener listener) {
+        writeListeners.remove(listener);
+    }
+
+    private void fireUserChanged(String mongoId, String email) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.userChanged(mongoId, email);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "User write listener failed", e);
+            }
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Update the first user with this email
+     * @return False if there is none or the condition failed
+     */
+    private boolean updateByEmail(String email, Predicate<Document> condition, Consumer<Document> change) {
+        Document doc = users.first("email", email);
+        return doc != null && users.update(doc.getObjectId("_id"), condition, change) != null;
+    }
+}
@@ -0,0 +1,449 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.verification.VerificationRequest;
+import com.campus.lostfound.models.verification.VerificationRequest.VerificationStatus;
+import com.campus.lostfound.models.verification.VerificationRequest.VerificationType;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Stream;
+
+/**
+ * VerificationDAO kept in memory, for running the services without a
+ * database. Documents use MongoVerificationDAO's mapping, and the status
+ * transitions and leases check the same conditions as its filters, under
+ * the collection lock instead of in findOneAndUpdate.
+ *
+ * @author Developer 3 - Security & Verification Specialist
+ */
+public class InMemoryVerificationDAO implements VerificationDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryVerificationDAO.class.getName());
+
+    // Non-terminal statuses a request can still transition out of
+    private static final List<String> ACTIVE_STATUSES = Arrays.asList(
+        VerificationStatus.PENDING.name(),
+        VerificationStatus.IN_PROGRESS.name(),
+        VerificationStatus.AWAITING_DOCUMENTS.name(),
+        VerificationStatus.AWAITING_RESPONSE.name()
+    );
+
+    private static final List<String> ASSIGNED_STATUSES = Arrays.asList(
+        VerificationStatus.IN_PROGRESS.name(),
+        VerificationStatus.AWAITING_DOCUMENTS.name(),
+        VerificationStatus.AWAITING_RESPONSE.name()
+    );
+
+    private static final List<String> POLICE_TYPES = Arrays.asList(
+        VerificationType.STOLEN_PROPERTY_CHECK.name(),
+        VerificationType.POLICE_BACKGROUND_CHECK.name(),
+        VerificationType.SERIAL_NUMBER_CHECK.name()
+    );
+
+    // Mongo sorts the stored priority names, so the same string order is used here
+    private static final Comparator<Document> PRIORITY_THEN_OLDEST =
+        InMemoryCollection.descending("priority").thenComparing(InMemoryCollection.ascending("createdAt"));
+
+    private final InMemoryCollection requests = new InMemoryCollection(
+        "status", "verificationType", "subjectUserId", "subjectItemId", "requesterId",
+        "verifierId", "visibleId", "relatedWorkRequestId", "relatedClaimId");
+    private final AtomicInteger sequence = new AtomicInteger();
+
+    // ==================== CRUD OPERATIONS ====================
+
+    public String save(VerificationRequest request) {
+        try {
+            if (request.getVisibleId() == null) {
+                request.generateVisibleId(sequence.incrementAndGet());
+            }
+            String id = requests.insert(MongoVerificationDAO.toDocument(request)).toString();
+            request.setRequestId(id);
+            return id;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error saving VerificationRequest", e);
+            return null;
+        }
+    }
+
+    public boolean update(VerificationRequest request) {
+        try {
+            if (request.getRequestId() == null) {
+                LOGGER.warning("Cannot update request without ID");
+                return false;
+            }
+            requests.replace(new ObjectId(request.getRequestId()), MongoVerificationDAO.toDocument(request));
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error updating VerificationRequest", e);
+            return false;
+        }
+    }
+
+    public VerificationRequest findById(String requestId) {
+        return toRequest(requests.get(requestId));
+    }
+
+    public VerificationRequest findByVisibleId(String visibleId) {
+        return toRequest(requests.first("visibleId", visibleId));
+    }
+
+    public boolean delete(String requestId) {
+        try {
+            requests.remove(new ObjectId(requestId));
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error deleting request: " + requestId, e);
+            return false;
+        }
+    }
+
+    // ==================== QUERY METHODS ====================
+
+    public List<VerificationRequest> findByUserId(String userId) {
+        return newestFirst(requests.where("subjectUserId", userId));
+    }
+
+    public List<VerificationRequest> findByItemId(String itemId) {
+        return newestFirst(requests.where("subjectItemId", itemId));
+    }
+
+    public List<VerificationRequest> findByStatus(VerificationStatus status) {
+        return toRequests(requests.where("status", status.name()).sorted(
+            InMemoryCollection.descending("priority").thenComparing(InMemoryCollection.descending("createdAt"))));
+    }
+
+    public List<VerificationRequest> findByType(VerificationType type) {
+        return newestFirst(requests.where("verificationType", type.name()));
+    }
+
+    public List<VerificationRequest> findPendingForVerifier(String verifierId) {
+        return toRequests(requests.where("verifierId", verifierId)
+            .filter(doc -> ASSIGNED_STATUSES.contains(doc.getString("status")))
+            .sorted(PRIORITY_THEN_OLDEST));
+    }
+
+    public List<VerificationRequest> findUnassignedPending() {
+        return toRequests(requests.where("status", VerificationStatus.PENDING.name())
+            .filter(InMemoryVerificationDAO::unassigned)
+            .sorted(PRIORITY_THEN_OLDEST));
+    }
+
+    public List<VerificationRequest> findExpired() {
+        Date now = now();
+        return toRequests(requests.whereIn("status", ACTIVE_STATUSES).filter(doc -> {
+            Date expiresAt = doc.getDate("expiresAt");
+            return expiresAt != null && expiresAt.before(now);
+        }));
+    }
+
+    public List<VerificationRequest> findOverdue() {
+        List<VerificationRequest> overdue = new ArrayList<>();
+        for (VerificationRequest req : toRequests(requests.whereIn("status", ACTIVE_STATUSES))) {
+            if (req.isOverdue()) {
+                overdue.add(req);
+            }
+        }
+        return overdue;
+    }
+
+    public List<VerificationRequest> getVerificationHistory(String userId) {
+        return newestFirst(Stream.concat(requests.where("subjectUserId", userId), requests.where("requesterId", userId))
+            .distinct());
+    }
+
+    public List<VerificationRequest> findByWorkRequestId(String workRequestId) {
+        return newestFirst(requests.where("relatedWorkRequestId", workRequestId));
+    }
+
+    public List<VerificationRequest> findByClaimId(String claimId) {
+        return newestFirst(requests.where("relatedClaimId", claimId));
+    }
+
+    public List<VerificationRequest> findRequiringPolice() {
+        return toRequests(requests.whereIn("verificationType", POLICE_TYPES)
+            .filter(doc -> ACTIVE_STATUSES.contains(doc.getString("status")))
+            .sorted(PRIORITY_THEN_OLDEST));
+    }
+
+    public List<VerificationRequest> findStolenFlags() {
+        return newestFirst(requests.all().filter(doc -> doc.getBoolean("isReportedStolen", false)));
+    }
+
+    public List<VerificationRequest> findHighValuePending(double minValue) {
+        return toRequests(requests.where("verificationType", VerificationType.HIGH_VALUE_ITEM_CLAIM.name())
+            .filter(doc -> VerificationStatus.PENDING.name().equals(doc.getString("status")))
+            .filter(doc -> doc.getDouble("subjectItemValue") != null && doc.getDouble("subjectItemValue") >= minValue)
+            .sorted(InMemoryCollection.descending("subjectItemValue")));
+    }
+
+    public boolean hasPendingVerification(String userId, VerificationType type) {
+        return requests.where("subjectUserId", userId).anyMatch(doc ->
+            type.name().equals(doc.getString("verificationType"))
+            && ACTIVE_STATUSES.contains(doc.getString("status")));
+    }
+
+    public boolean isUserVerified(String userId, VerificationType type) {
+        return requests.where("subjectUserId", userId).anyMatch(doc ->
+            type.name().equals(doc.getString("verificationType"))
+            && VerificationStatus.VERIFIED.name().equals(doc.getString("status")));
+    }
+
+    // ==================== STATISTICS ====================
+
+    public Map<VerificationStatus, Long> getCountByStatus() {
+        Map<VerificationStatus, Long> counts = new LinkedHashMap<>();
+        for (VerificationStatus status : VerificationStatus.values()) {
+            counts.put(status, requests.where("status", status.name()).count());
+        }
+        return counts;
+    }
+
+    public Map<VerificationType, Long> getCountByType() {
+        Map<VerificationType, Long> counts = new LinkedHashMap<>();
+        for (VerificationType type : VerificationType.values()) {
+            counts.put(type, requests.where("verificationType", type.name()).count());
+        }
+        return counts;
+    }
+
+    public long getTotalCount() {
+        return requests.size();
+    }
+
+    public long getPendingCount() {
+        return requests.where("status", VerificationStatus.PENDING.name()).count();
+    }
+
+    public long getTodayCompletions() {
+        Date startOfDay = MongoVerificationDAO.toDate(LocalDateTime.now().toLocalDate().atStartOfDay());
+        return requests.where("status", VerificationStatus.VERIFIED.name()).filter(doc -> {
+            Date completedAt = doc.getDate("completedAt");
+            return completedAt != null && !completedAt.before(startOfDay);
+        }).count();
+    }
+
+    public double getAverageProcessingTimeHours() {
+        OptionalDouble average = requests.where("status", VerificationStatus.VERIFIED.name())
+            .filter(doc -> doc.getDate("completedAt") != null && doc.getDate("createdAt") != null)
+            .mapToLong(doc -> doc.getDate("completedAt").getTime() - doc.getDate("createdAt").getTime())
+            .average();
+        return average.isPresent() ? average.getAsDouble() / (1000.0 * 60 * 60) : 0.0;
+    }
+
+    // ==================== BULK OPERATIONS ====================
+
+    public int markExpiredRequests() {
+        Date now = now();
+        int count = requests.updateAll(
+            doc -> ACTIVE_STATUSES.contains(doc.getString("status"))
+                && doc.getDate("expiresAt") != null && doc.getDate("expiresAt").before(now),
+            doc -> {
+                doc.put("status", VerificationStatus.EXPIRED.name());
+                doc.put("completedAt", now);
+                doc.put("updatedAt", now);
+            });
+        LOGGER.fine("Marked " + count + " requests as expired");
+        return count;
+    }
+
+    public List<VerificationRequest> findAll() {
+        return newestFirst(requests.all());
+    }
+
+    public List<VerificationRequest> findByDateRange(LocalDateTime start, LocalDateTime end) {
+        Date from = MongoVerificationDAO.toDate(start);
+        Date to = MongoVerificationDAO.toDate(end);
+        return newestFirst(requests.all().filter(doc -> {
+            Date createdAt = doc.getDate("createdAt");
+            return createdAt != null && !createdAt.before(from) && !createdAt.after(to);
+        }));
+    }
+
+    // ==================== STATUS TRANSITIONS ====================
+
+    public VerificationRequest assignIfProcessable(String requestId, String verifierId,
+                                                   String verifierName, String verifierRole) {
+        Date now = now();
+        return transition(requestId, processable(now).and(assignable(verifierId, now)),
+            assign(verifierId, verifierName, verifierRole, now));
+    }
+
+    public VerificationRequest completeIfProcessable(String requestId, String notes) {
+        Date now = now();
+        return transition(requestId, processable(now), doc -> {
+            doc.put("status", VerificationStatus.VERIFIED.name());
+            doc.put("verificationNotes", notes);
+            doc.put("completedAt", now);
+            doc.put("updatedAt", now);
+        });
+    }
+
+    public VerificationRequest failIfProcessable(String requestId, String reason) {
+        Date now = now();
+        return transition(requestId, processable(now), doc -> {
+            doc.put("status", VerificationStatus.FAILED.name());
+            doc.put("failureReason", reason);
+            doc.put("completedAt", now);
+            doc.put("updatedAt", now);
+        });
+    }
+
+    public VerificationRequest cancelRequest(String requestId, String reason) {
+        Date now = now();
+        return transition(requestId, null, doc -> {
+            doc.put("status", VerificationStatus.CANCELLED.name());
+            doc.put("failureReason", reason);
+            doc.put("completedAt", now);
+            doc.put("updatedAt", now);
+        });
+    }
+
+    public VerificationRequest setAwaitingStatus(String requestId, VerificationStatus status, String notes) {
+        Date now = now();
+        return transition(requestId, null, doc -> {
+            doc.put("status", status.name());
+            doc.put("verificationNotes", notes);
+            doc.put("updatedAt", now);
+        });
+    }
+
+    public VerificationRequest recordApprovalIfActive(String requestId, String approverId, String approverName) {
+        Date now = now();
+        return transition(requestId, doc -> ACTIVE_STATUSES.contains(doc.getString("status")), doc -> {
+            int approvals = doc.getInteger("currentApprovals", 0) + 1;
+            doc.put("currentApprovals", approvals);
+            doc.put("approverIds", appendToCsv(doc.getString("approverIds"), approverId));
+            doc.put("approverNames", appendToCsv(doc.getString("approverNames"), approverName));
+            doc.put("updatedAt", now);
+            if (approvals >= doc.getInteger("requiredApprovals", 1)) {
+                doc.put("status", VerificationStatus.VERIFIED.name());
+                doc.put("verificationNotes", "All required approvals received");
+                doc.put("completedAt", now);
+            }
+        });
+    }
+
+    // ==================== DISPATCH QUEUE ====================
+
+    public List<VerificationRequest> findDispatchCandidates() {
+        return toRequests(requests.where("status", VerificationStatus.PENDING.name()).filter(claimable(now())));
+    }
+
+    public VerificationRequest tryLease(String requestId, String verifierId, LocalDateTime leaseExpiresAt) {
+        Date now = now();
+        return transition(requestId, claimable(now), doc -> {
+            doc.put("leaseOwnerId", verifierId);
+            doc.put("leaseExpiresAt", MongoVerificationDAO.toDate(leaseExpiresAt));
+            doc.put("updatedAt", now);
+        });
+    }
+
+    public VerificationRequest renewLease(String requestId, String verifierId, LocalDateTime leaseExpiresAt) {
+        return transition(requestId, liveLease(verifierId, now()),
+            doc -> doc.put("leaseExpiresAt", MongoVerificationDAO.toDate(leaseExpiresAt)));
+    }
+
+    public boolean releaseLease(String requestId, String verifierId) {
+        return transition(requestId, doc -> Objects.equals(verifierId, doc.getString("leaseOwnerId")), doc -> {
+            doc.remove("leaseOwnerId");
+            doc.remove("leaseExpiresAt");
+        }) != null;
+    }
+
+    public VerificationRequest assignLeased(String requestId, String verifierId,
+                                            String verifierName, String verifierRole) {
+        Date now = now();
+        return transition(requestId, liveLease(verifierId, now).and(processable(now)),
+            assign(verifierId, verifierName, verifierRole, now));
+    }
+
+    // ==================== CONDITIONS ====================
+
+    private VerificationRequest transition(String requestId, Predicate<Document> condition, Consumer<Document> change) {
+        try {
+            return toRequest(requests.update(new ObjectId(requestId), condition, change));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error transitioning request: " + requestId, e);
+            return null;
+        }
+    }
+
+    private static Consumer<Document> assign(String verifierId, String verifierName, String verifierRole, Date now) {
+        return doc -> {
+            doc.put("verifierId", verifierId);
+            doc.put("verifierName", verifierName);
+            doc.put("verifierRole", verifierRole);
+            doc.put("status", VerificationStatus.IN_PROGRESS.name());
+            doc.put("assignedAt", now);
+            doc.put("updatedAt", now);
+            doc.remove("leaseOwnerId");
+            doc.remove("leaseExpiresAt");
+        };
+    }
+
+    /**
+     * Same as VerificationRequest.canProcess()
+     */
+    private static Predicate<Document> processable(Date now) {
+        return doc -> ACTIVE_STATUSES.contains(doc.getString("status"))
+            && (doc.getDate("expiresAt") == null || !doc.getDate("expiresAt").before(now));
+    }
+
+    /**
+     * PENDING, unassigned, and either never leased or lease timed out
+     */
+    private static Predicate<Document> claimable(Date now) {
+        return doc -> VerificationStatus.PENDING.name().equals(doc.getString("status"))
+            && unassigned(doc)
+            && (doc.getDate("leaseExpiresAt") == null || doc.getDate("leaseExpiresAt").before(now));
+    }
+
+    /**
+     * Unassigned or already the verifier's, and not leased by anyone else
+     */
+    private static Predicate<Document> assignable(String verifierId, Date now) {
+        return doc -> (unassigned(doc) || Objects.equals(verifierId, doc.getString("verifierId")))
+            && (doc.getString("leaseOwnerId") == null
+                || Objects.equals(verifierId, doc.getString("leaseOwnerId"))
+                || (doc.getDate("leaseExpiresAt") != null && doc.getDate("leaseExpiresAt").before(now)));
+    }
+
+    private static Predicate<Document> liveLease(String verifierId, Date now) {
+        return doc -> Objects.equals(verifierId, doc.getString("leaseOwnerId"))
+            && doc.getDate("leaseExpiresAt") != null && !doc.getDate("leaseExpiresAt").before(now);
+    }
+
+    private static boolean unassigned(Document doc) {
+        String verifierId = doc.getString("verifierId");
+        return verifierId == null || verifierId.isEmpty();
+    }
+
+    private static String appendToCsv(String csv, String value) {
+        return csv == null || csv.isEmpty() ? value : csv + "," + value;
+    }
+
+    // ==================== HELPERS ====================
+
+    private static Date now() {
+        return MongoVerificationDAO.toDate(LocalDateTime.now());
+    }
+
+    private VerificationRequest toRequest(Document doc) {
+        return doc != null ? MongoVerificationDAO.toVerificationRequest(doc) : null;
+    }
+
+    private List<VerificationRequest> toRequests(Stream<Document> docs) {
+        return InMemoryCollection.toList(docs, MongoVerificationDAO::toVerificationRequest);
+    }
+
+    private List<VerificationRequest> newestFirst(Stream<Document> docs) {
+        return toRequests(docs.sorted(InMemoryCollection.descending("createdAt")));
+    }
+}
@@ -0,0 +1,128 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.workrequest.WorkRequest;
+import org.bson.Document;
+import org.bson.types.ObjectId;
+
+import java.util.Arrays;
+import java.util.Date;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * WorkRequestDAO kept in memory, for running the services without a
+ * database. Documents use MongoWorkRequestDAO's polymorphic mapping, so every
+ * request reads back as its concrete subclass.
+ */
+public class InMemoryWorkRequestDAO implements WorkRequestDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(InMemoryWorkRequestDAO.class.getName());
+    private static final List<String> AWAITING_APPROVAL = Arrays.asList("PENDING", "IN_PROGRESS");
+
+    private final InMemoryCollection requests = new InMemoryCollection(
+            "status", "requestType", "requesterId", "requesterOrganizationId",
+            "targetOrganizationId", "currentApproverId");
+
+    public String save(WorkRequest request) {
+        try {
+            Document doc = MongoWorkRequestDAO.workRequestToDocument(request);
+            if (request.getRequestId() == null) {
+                String id = requests.insert(doc).toString();
+                request.setRequestId(id);
+                return id;
+            }
+            requests.replace(new ObjectId(request.getRequestId()), doc);
+            return request.getRequestId();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error saving WorkRequest", e);
+            return null;
+        }
+    }
+
+    public int saveAll(List<? extends WorkRequest> batch) {
+        for (WorkRequest request : batch) {
+            request.setRequestId(requests.insert(MongoWorkRequestDAO.workRequestToDocument(request)).toString());
+        }
+        return batch.size();
+    }
+
+    public WorkRequest findById(String id) {
+        Document doc = requests.get(id);
+        return doc != null ? MongoWorkRequestDAO.documentToWorkRequest(doc) : null;
+    }
+
+    public List<WorkRequest> findByRequesterId(String requesterId) {
+        return newestFirst(requests.where("requesterId", requesterId));
+    }
+
+    public List<WorkRequest> findByStatus(WorkRequest.RequestStatus status) {
+        return newestFirst(requests.where("status", status.name()));
+    }
+
+    public List<WorkRequest> findByType(WorkRequest.RequestType type) {
+        return newestFirst(requests.where("requestType", type.name()));
+    }
+
+    public List<WorkRequest> findByRequesterOrganization(String organizationId) {
+        return newestFirst(requests.where("requesterOrganizationId", organizationId));
+    }
+
+    public List<WorkRequest> findByTargetOrganization(String organizationId) {
+        return newestFirst(requests.where("targetOrganizationId", organizationId));
+    }
+
+    public List<WorkRequest> findPendingForApprover(String approverId) {
+        return newestFirst(requests.where("currentApproverId", approverId)
+                .filter(doc -> AWAITING_APPROVAL.contains(doc.getString("status"))));
+    }
+
+    public List<WorkRequest> findAll() {
+        return newestFirst(requests.all());
+    }
+
+    public long forEachRequest(Predicate<WorkRequest> action) {
+        long visited = 0;
+        for (Document doc : requests.all().sorted(InMemoryCollection.descending("createdAt")).collect(Collectors.toList())) {
+            visited++;
+            if (!action.test(MongoWorkRequestDAO.documentToWorkRequest(doc))) {
+                break;
+            }
+        }
+        return visited;
+    }
+
+    public String getDataWatermark() {
+        long last = requests.all()
+                .map(doc -> doc.getDate("lastUpdatedAt"))
+                .filter(date -> date != null)
+                .mapToLong(Date::getTime)
+                .max().orElse(0);
+        return requests.size() + "@" + last;
+    }
+
+    public boolean delete(String id) {
+        try {
+            return requests.remove(new ObjectId(id)) != null;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error deleting WorkRequest: " + id, e);
+            return false;
+        }
+    }
+
+    public long count() {
+        return requests.size();
+    }
+
+    public long countByStatus(WorkRequest.RequestStatus status) {
+        return requests.where("status", status.name()).count();
+    }
+
+    private List<WorkRequest> newestFirst(Stream<Document> docs) {
+        return InMemoryCollection.toList(docs.sorted(InMemoryCollection.descending("createdAt")),
+                MongoWorkRequestDAO::documentToWorkRequest);
+    }
+}
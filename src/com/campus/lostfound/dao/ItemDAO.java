@@ -0,0 +1,138 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.Item;
+
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Data access for lost and found items.
+ *
+ * Implemented by MongoItemDAO (the application's store) and InMemoryItemDAO
+ * (no database, for load tests); AppContext picks one.
+ *
+ * @author aksha
+ */
+public interface ItemDAO {
+
+    /**
+     * Store a new item
+     * @return The new item's id, or null on failure
+     */
+    String create(Item item);
+
+    /**
+     * Store many new items in unordered batches, for bulk loading. Each item
+     * gets its mongoId. Write listeners are not notified and photos are not
+     * registered; listeners catch up through the data watermark.
+     * @return Number of items stored
+     */
+    int createAll(List<Item> items);
+
+    Optional<Item> findById(String id);
+
+    /**
+     * All items, newest first
+     */
+    List<Item> findAll();
+
+    /**
+     * Visit items without loading them all. Photo fields are not filled in.
+     *
+     * @param organizationId Only this organization's items, or null for all
+     * @param action Called per item, newest first; return false to stop early
+     * @return Number of items visited
+     * @throws RuntimeException If reading fails part way; items already
+     *         visited were handed to the action
+     */
+    long forEachItem(String organizationId, Predicate<Item> action);
+
+    /**
+     * Visit one enterprise's items, newest first (see {@link #forEachItem})
+     */
+    long forEachItemInEnterprise(String enterpriseId, Predicate<Item> action);
+
+    /**
+     * Visit items reported in [from, to), newest first (see {@link #forEachItem})
+     * @param from Inclusive lower bound, or null for no bound
+     * @param to Exclusive upper bound, or null for no bound
+     */
+    long forEachItemReportedBetween(Date from, Date to, Predicate<Item> action);
+
+    /**
+     * Count items, for progress reporting
+     * @param organizationId Only this organization's items, or null for all
+     */
+    long count(String organizationId);
+
+    /**
+     * Change marker for caches of derived data (reports); moves on every
+     * create, update and delete. Formatted "count@lastModified": the item
+     * count and the latest modification time in milliseconds, stamped before
+     * write listeners are called. Null if the store cannot be reached.
+     */
+    String getDataWatermark();
+
+    /**
+     * Ids of the items modified after the given time, with their modification
+     * times in milliseconds, so a cache can tell which changes were its own.
+     * Null if the store cannot be reached.
+     */
+    Map<String, Long> findModifiedAfter(long lastModifiedMillis);
+
+    /**
+     * Items with the status, newest first
+     * @param status Status to match, or null for every open status
+     */
+    List<Item> findByStatus(Item.ItemStatus status);
+
+    /**
+     * Items reported within maxDistanceKm of a point, nearest first; items
+     * without coordinates are never returned
+     */
+    List<Item> findNearby(double latitude, double longitude, double maxDistanceKm);
+
+    /**
+     * Items reported by the user with this email, newest first
+     */
+    List<Item> findByUser(String email);
+
+    /**
+     * Items reported by the user with this id, newest first
+     */
+    List<Item> findByReporter(String reporterMongoId);
+
+    /**
+     * Open items matching the query text, type and category (each optional), newest first
+     */
+    List<Item> searchItems(String query, Item.ItemType type, Item.ItemCategory category);
+
+    boolean update(Item item);
+
+    boolean delete(String id);
+
+    boolean deleteByTitleAndUser(String title, String email);
+
+    // ==================== WRITE LISTENERS ====================
+
+    /**
+     * Told about every successful write through this DAO, on the writing thread
+     */
+    interface WriteListener {
+        void itemSaved(Item item);
+
+        /** A new item was stored; handled like any other save unless overridden */
+        default void itemCreated(Item item) {
+            itemSaved(item);
+        }
+
+        void itemDeleted(String mongoId);
+    }
+
+    void addWriteListener(WriteListener listener);
+
+    void removeWriteListener(WriteListener listener);
+}
@@ -0,0 +1,33 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.Conversation;
+import com.campus.lostfound.models.Message;
+
+import java.util.List;
+
+/**
+ * Data access for messages between users about an item.
+ * Uses String IDs (email for users, ObjectId strings for items).
+ *
+ * Implemented by MongoMessageDAO and InMemoryMessageDAO; AppContext picks one.
+ *
+ * @author aksha
+ */
+public interface MessageDAO {
+
+    /**
+     * @return The new message's id, or null on failure
+     */
+    String sendMessage(Message message);
+
+    /**
+     * Messages between two users about an item, oldest first; the ones sent
+     * to the first user are marked read
+     */
+    List<Message> getMessages(String userEmail1, String userEmail2, String itemId);
+
+    /**
+     * One conversation per other user and item the user has messages with
+     */
+    List<Conversation> getConversations(String userEmail);
+}
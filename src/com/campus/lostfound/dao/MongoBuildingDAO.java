@@ -11,6 +11,9 @@ import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Updates;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.geojson.Point;
+import com.mongodb.client.model.geojson.Position;
+import com.campus.lostfound.models.Location;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.bson.conversions.Bson;
@@ -26,14 +29,22 @@ import java.util.logging.Level;
 public class MongoBuildingDAO {
 
     private static final Logger LOGGER = Logger.getLogger(MongoBuildingDAO.class.getName());
+    private static MongoBuildingDAO instance;
     private final MongoCollection<Document> buildingsCollection;
 
     public MongoBuildingDAO() {
         MongoDBConnection connection = MongoDBConnection.getInstance();
         this.buildingsCollection = connection.getCollection("buildings");
+    }
 
-        // Ensure default buildings exist
-        ensureDefaultBuildings();
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoBuildingDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoBuildingDAO();
+        }
+        return instance;
     }
 
     /**
@@ -253,15 +264,32 @@ public class MongoBuildingDAO {
     }
 
     /**
-     * Get nearby buildings (within a certain distance) Requires buildings to
-     * have latitude/longitude stored
+     * Buildings within maxDistanceKm of a point, nearest first. Uses the
+     * 2dsphere index on "geo"; until that exists (provisioning runs in the
+     * background) the distances are computed from the stored coordinates.
      */
     public List<Building> findNearby(double latitude, double longitude, double maxDistanceKm) {
         List<Building> buildings = new ArrayList<>();
         try {
-            // MongoDB geospatial query would go here if we had coordinates
-            // For now, return all buildings
-            buildings = findAll();
+            Bson filter = Filters.nearSphere("geo", new Point(new Position(longitude, latitude)),
+                    maxDistanceKm * 1000, null);
+            for (Document doc : buildingsCollection.find(filter)) {
+                buildings.add(documentToBuilding(doc));
+            }
+            return buildings;
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Geo query unavailable, filtering buildings in memory", e);
+        }
+        try {
+            buildings = new ArrayList<>();
+            for (Building building : findAll()) {
+                if (building.hasCoordinates() && Location.distanceKm(latitude, longitude,
+                        building.getLatitude(), building.getLongitude()) <= maxDistanceKm) {
+                    buildings.add(building);
+                }
+            }
+            buildings.sort(Comparator.comparingDouble(b -> Location.distanceKm(latitude, longitude,
+                    b.getLatitude(), b.getLongitude())));
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error finding nearby buildings", e);
         }
@@ -269,24 +297,18 @@ public class MongoBuildingDAO {
     }
 
     /**
-     * Ensure default buildings exist in database
+     * GeoJSON point for a 2dsphere index (longitude first, as GeoJSON requires)
      */
-    private void ensureDefaultBuildings() {
-        try {
-            // Check if buildings collection is empty
-            if (buildingsCollection.countDocuments() == 0) {
-                insertDefaultBuildings();
-            }
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error checking default buildings", e);
-        }
+    static Document geoPoint(double latitude, double longitude) {
+        return new Document("type", "Point").append("coordinates", Arrays.asList(longitude, latitude));
     }
 
     /**
-     * Insert default Northeastern University buildings
+     * Default Northeastern University buildings, seeded by SchemaProvisioner
+     * into an empty collection
      */
-    private void insertDefaultBuildings() {
-        List<Document> defaultBuildings = Arrays.asList(
+    static List<Document> defaultBuildings() {
+        List<Document> buildings = Arrays.asList(
                 new Document("name", "Snell Library")
                         .append("code", "SL")
                         .append("address", "360 Huntington Ave, Boston, MA 02115")
@@ -408,13 +430,10 @@ public class MongoBuildingDAO {
                         .append("floors", 6)
                         .append("hasLostFoundDesk", false)
         );
-
-        try {
-            buildingsCollection.insertMany(defaultBuildings);
-            LOGGER.info("Inserted " + defaultBuildings.size() + " default buildings");
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error inserting default buildings", e);
+        for (Document building : buildings) {
+            building.append("geo", geoPoint(building.getDouble("latitude"), building.getDouble("longitude")));
         }
+        return buildings;
     }
 
     /**
@@ -429,6 +448,12 @@ public class MongoBuildingDAO {
                 .append("enterpriseId", building.getEnterpriseId())
                 .append("organizationId", building.getOrganizationId());
 
+        if (building.hasCoordinates()) {
+            doc.append("latitude", building.getLatitude())
+                    .append("longitude", building.getLongitude())
+                    .append("geo", geoPoint(building.getLatitude(), building.getLongitude()));
+        }
+
         // Add coordinator if exists
         if (building.getCoordinator() != null) {
             doc.append("coordinatorId", building.getCoordinator().getUserId())
@@ -457,6 +482,10 @@ public class MongoBuildingDAO {
         building.setAddress(doc.getString("address"));
         building.setEnterpriseId(doc.getString("enterpriseId"));
         building.setOrganizationId(doc.getString("organizationId"));
+        if (doc.get("latitude") instanceof Number && doc.get("longitude") instanceof Number) {
+            building.setLatitude(((Number) doc.get("latitude")).doubleValue());
+            building.setLongitude(((Number) doc.get("longitude")).doubleValue());
+        }
 
         // Note: Coordinator would need to be loaded separately if needed
         // This avoids circular dependencies
@@ -23,12 +23,23 @@ import java.util.logging.Level;
 public class MongoClaimDAO {
     
     private static final Logger LOGGER = Logger.getLogger(MongoClaimDAO.class.getName());
+    private static MongoClaimDAO instance;
     private final MongoCollection<Document> claimsCollection;
     
     public MongoClaimDAO() {
         MongoDBConnection connection = MongoDBConnection.getInstance();
         this.claimsCollection = connection.getCollection("claims");
     }
+
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoClaimDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoClaimDAO();
+        }
+        return instance;
+    }
     
     /**
      * Create a new claim
@@ -9,7 +9,12 @@ import com.mongodb.client.MongoClients;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.ConnectionString;
+import com.mongodb.MongoBulkWriteException;
+import com.mongodb.bulk.BulkWriteError;
+import com.mongodb.client.model.InsertManyOptions;
 import com.mongodb.MongoClientSettings;
+import com.mongodb.MongoCompressor;
+import com.mongodb.ReadPreference;
 import org.bson.Document;
 import com.mongodb.ServerApi;
 import com.mongodb.ServerApiVersion;
@@ -18,12 +23,35 @@ import org.bson.codecs.pojo.PojoCodecProvider;
 import static org.bson.codecs.configuration.CodecRegistries.fromProviders;
 import static org.bson.codecs.configuration.CodecRegistries.fromRegistries;
 
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.util.Properties;
 import java.io.InputStream;
 
 /**
+ * Shared MongoClient for the application.
+ *
+ * Settings come from mongodb.properties on the classpath. Besides the
+ * connection string and database, the optional keys below tune the client;
+ * anything left out keeps the connection-string or driver default.
+ * <pre>
+ *   mongodb.pool.maxSize / minSize / maxConnecting
+ *   mongodb.pool.maxWaitTimeMs / maxConnectionIdleTimeMs / maxConnectionLifeTimeMs
+ *   mongodb.socket.connectTimeoutMs / readTimeoutMs
+ *   mongodb.serverSelectionTimeoutMs
+ *   mongodb.compressors          e.g. zstd,snappy,zlib (first one the server supports is used)
+ *   mongodb.readPreference       primary, primaryPreferred, secondary, secondaryPreferred, nearest
+ *   mongodb.metrics.enabled              default true
+ *   mongodb.metrics.slowQueryMs          default 100, 0 disables the slow-command log
+ *   mongodb.metrics.slowQueryDetails     default false; also log the command text
+ *   mongodb.metrics.logIntervalSeconds   default 0; periodically log the metrics report
+ * </pre>
  *
  * @author aksha
  */
@@ -38,13 +66,25 @@ public class MongoDBConnection {
     private static final String DEFAULT_CONNECTION_STRING = "mongodb://localhost:27017";
     private static final String DEFAULT_DATABASE_NAME = "campus_lostfound";
 
+    private static final long DEFAULT_SLOW_QUERY_MS = 100;
+
+    // zstd and snappy need their codec libraries on the classpath; zlib is built in
+    private static final String ZSTD_CODEC_CLASS = "com.github.luben.zstd.Zstd";
+    private static final String SNAPPY_CODEC_CLASS = "org.xerial.snappy.Snappy";
+
     private String connectionString;
     private String databaseName;
+    private Properties config = new Properties();
+    private MongoMetrics metrics;
+    private ScheduledExecutorService metricsLogger;
+    private SchemaProvisioner schemaProvisioner;
 
     private MongoDBConnection() {
         loadConfiguration();
         connect();
-        initializeCollections();
+        // Indexes and seed data are created off the caller's thread, once per schema version
+        schemaProvisioner = new SchemaProvisioner(database);
+        schemaProvisioner.provisionInBackground();
     }
 
     private void loadConfiguration() {
@@ -52,6 +92,7 @@ public class MongoDBConnection {
             if (input != null) {
                 Properties prop = new Properties();
                 prop.load(input);
+                config = prop;
                 connectionString = prop.getProperty("mongodb.connection.string", DEFAULT_CONNECTION_STRING);
                 databaseName = prop.getProperty("mongodb.database", DEFAULT_DATABASE_NAME);
             } else {
@@ -73,14 +114,17 @@ public class MongoDBConnection {
                     fromProviders(PojoCodecProvider.builder().automatic(true).build())
             );
 
+            if (booleanSetting(config, "mongodb.metrics.enabled", true)) {
+                metrics = new MongoMetrics(
+                        longSetting(config, "mongodb.metrics.slowQueryMs", DEFAULT_SLOW_QUERY_MS),
+                        booleanSetting(config, "mongodb.metrics.slowQueryDetails", false));
+            }
+
             // Create MongoClient settings
-            MongoClientSettings settings = MongoClientSettings.builder()
-                    .applyConnectionString(new ConnectionString(connectionString))
-                    .codecRegistry(pojoCodecRegistry)
-                    .serverApi(ServerApi.builder()
-                            .version(ServerApiVersion.V1)
-                            .build())
-                    .build();
+            MongoClientSettings settings = buildSettings(connectionString, config, pojoCodecRegistry, metrics);
+            LOGGER.info("MongoDB client: pool " + settings.getConnectionPoolSettings()
+                    + ", compressors " + settings.getCompressorList()
+                    + ", read preference " + settings.getReadPreference());
 
             // Create MongoClient
             mongoClient = MongoClients.create(settings);
@@ -93,106 +137,164 @@ public class MongoDBConnection {
             database.runCommand(new Document("ping", 1));
             LOGGER.info("Successfully connected to MongoDB!");
 
+            startMetricsLogging(longSetting(config, "mongodb.metrics.logIntervalSeconds", 0));
+
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Failed to connect to MongoDB", e);
             throw new RuntimeException("Failed to connect to MongoDB. Please ensure MongoDB is running on " + connectionString, e);
         }
     }
 
-    private void initializeCollections() {
-        try {
-            // Create collections if they don't exist
-            String[] collections = {"users", "items", "buildings", "claims", "messages", "notifications"};
-
-            for (String collectionName : collections) {
-                if (!database.listCollectionNames().into(new java.util.ArrayList<>()).contains(collectionName)) {
-                    database.createCollection(collectionName);
-                    LOGGER.info("Created collection: " + collectionName);
-                }
-            }
+    /**
+     * Client settings from the connection string plus the tuning keys in the configuration
+     */
+    static MongoClientSettings buildSettings(String connectionString, Properties config,
+                                             CodecRegistry codecRegistry, MongoMetrics metrics) {
+        MongoClientSettings.Builder builder = MongoClientSettings.builder()
+                .applyConnectionString(new ConnectionString(connectionString))
+                .codecRegistry(codecRegistry)
+                .serverApi(ServerApi.builder()
+                        .version(ServerApiVersion.V1)
+                        .build());
+
+        builder.applyToConnectionPoolSettings(pool -> {
+            Integer maxSize = intSetting(config, "mongodb.pool.maxSize");
+            Integer minSize = intSetting(config, "mongodb.pool.minSize");
+            Integer maxConnecting = intSetting(config, "mongodb.pool.maxConnecting");
+            Integer maxWait = intSetting(config, "mongodb.pool.maxWaitTimeMs");
+            Integer maxIdle = intSetting(config, "mongodb.pool.maxConnectionIdleTimeMs");
+            Integer maxLife = intSetting(config, "mongodb.pool.maxConnectionLifeTimeMs");
+            if (maxSize != null) pool.maxSize(maxSize);
+            if (minSize != null) pool.minSize(minSize);
+            if (maxConnecting != null) pool.maxConnecting(maxConnecting);
+            if (maxWait != null) pool.maxWaitTime(maxWait, TimeUnit.MILLISECONDS);
+            if (maxIdle != null) pool.maxConnectionIdleTime(maxIdle, TimeUnit.MILLISECONDS);
+            if (maxLife != null) pool.maxConnectionLifeTime(maxLife, TimeUnit.MILLISECONDS);
+            if (metrics != null) pool.addConnectionPoolListener(metrics);
+        });
+
+        builder.applyToSocketSettings(socket -> {
+            Integer connectTimeout = intSetting(config, "mongodb.socket.connectTimeoutMs");
+            Integer readTimeout = intSetting(config, "mongodb.socket.readTimeoutMs");
+            if (connectTimeout != null) socket.connectTimeout(connectTimeout, TimeUnit.MILLISECONDS);
+            if (readTimeout != null) socket.readTimeout(readTimeout, TimeUnit.MILLISECONDS);
+        });
+
+        Integer serverSelectionTimeout = intSetting(config, "mongodb.serverSelectionTimeoutMs");
+        if (serverSelectionTimeout != null) {
+            builder.applyToClusterSettings(cluster ->
+                    cluster.serverSelectionTimeout(serverSelectionTimeout, TimeUnit.MILLISECONDS));
+        }
 
-            // Create indexes
-            createIndexes();
+        String compressors = config.getProperty("mongodb.compressors");
+        if (compressors != null && !compressors.trim().isEmpty()) {
+            builder.compressorList(compressorList(compressors));
+        }
 
-            // Insert default buildings if collection is empty
-            insertDefaultBuildings();
+        ReadPreference readPreference = readPreferenceSetting(config, "mongodb.readPreference");
+        if (readPreference != null) {
+            builder.readPreference(readPreference);
+        }
 
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error initializing collections", e);
+        if (metrics != null) {
+            builder.addCommandListener(metrics);
         }
+        return builder.build();
     }
 
-    private void createIndexes() {
-        // Users indexes
-        MongoCollection<Document> users = database.getCollection("users");
-        users.createIndex(new Document("email", 1));
-        users.createIndex(new Document("trustScore", -1));
+    /**
+     * Compressors in preference order, skipping any whose codec library is missing
+     */
+    static List<MongoCompressor> compressorList(String names) {
+        List<MongoCompressor> compressors = new ArrayList<>();
+        for (String name : names.split(",")) {
+            switch (name.trim().toLowerCase()) {
+                case "zstd":
+                    if (isOnClasspath(ZSTD_CODEC_CLASS)) {
+                        compressors.add(MongoCompressor.createZstdCompressor());
+                    } else {
+                        LOGGER.info("zstd-jni not on the classpath, skipping zstd compression");
+                    }
+                    break;
+                case "snappy":
+                    if (isOnClasspath(SNAPPY_CODEC_CLASS)) {
+                        compressors.add(MongoCompressor.createSnappyCompressor());
+                    } else {
+                        LOGGER.info("snappy-java not on the classpath, skipping snappy compression");
+                    }
+                    break;
+                case "zlib":
+                    compressors.add(MongoCompressor.createZlibCompressor());
+                    break;
+                case "":
+                case "none":
+                    break;
+                default:
+                    LOGGER.warning("Unknown MongoDB compressor: " + name);
+            }
+        }
+        return compressors;
+    }
 
-        // Items indexes
-        MongoCollection<Document> items = database.getCollection("items");
-        items.createIndex(new Document("status", 1));
-        items.createIndex(new Document("category", 1));
-        items.createIndex(new Document("type", 1));
-        items.createIndex(new Document("reportedDate", -1));
-        items.createIndex(new Document("title", "text").append("description", "text")); // Text search index
+    private static boolean isOnClasspath(String className) {
+        try {
+            Class.forName(className, false, MongoDBConnection.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException e) {
+            return false;
+        }
+    }
 
-        // Buildings indexes
-        MongoCollection<Document> buildings = database.getCollection("buildings");
-        buildings.createIndex(new Document("code", 1));
+    private static Integer intSetting(Properties config, String key) {
+        String value = config.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            LOGGER.warning("Ignoring invalid " + key + ": " + value);
+            return null;
+        }
+    }
 
-        LOGGER.info("Indexes created successfully");
+    /**
+     * The named read preference, or null (the connection string's, else primary)
+     * if unset or not a valid name
+     */
+    private static ReadPreference readPreferenceSetting(Properties config, String key) {
+        String value = config.getProperty(key);
+        if (value == null || value.trim().isEmpty()) {
+            return null;
+        }
+        try {
+            return ReadPreference.valueOf(value.trim());
+        } catch (IllegalArgumentException e) {
+            LOGGER.warning("Ignoring invalid " + key + ": " + value);
+            return null;
+        }
     }
 
-    private void insertDefaultBuildings() {
-        MongoCollection<Document> buildings = database.getCollection("buildings");
+    private static long longSetting(Properties config, String key, long defaultValue) {
+        Integer value = intSetting(config, key);
+        return value != null ? value : defaultValue;
+    }
 
-        // Check if buildings already exist
-        if (buildings.countDocuments() > 0) {
+    private static boolean booleanSetting(Properties config, String key, boolean defaultValue) {
+        String value = config.getProperty(key);
+        return value != null && !value.trim().isEmpty() ? Boolean.parseBoolean(value.trim()) : defaultValue;
+    }
+
+    private void startMetricsLogging(long intervalSeconds) {
+        if (metrics == null || intervalSeconds <= 0) {
             return;
         }
-
-        // Insert default buildings
-        java.util.List<Document> defaultBuildings = java.util.Arrays.asList(
-                new Document("name", "Snell Library")
-                        .append("code", "SL")
-                        .append("address", "360 Huntington Ave, Boston, MA 02115")
-                        .append("type", "LIBRARY"),
-                new Document("name", "Curry Student Center")
-                        .append("code", "CSC")
-                        .append("address", "346 Huntington Ave, Boston, MA 02115")
-                        .append("type", "STUDENT_CENTER"),
-                new Document("name", "Dodge Hall")
-                        .append("code", "DG")
-                        .append("address", "360 Huntington Ave, Boston, MA 02115")
-                        .append("type", "ACADEMIC"),
-                new Document("name", "Marino Recreation Center")
-                        .append("code", "MRC")
-                        .append("address", "369 Huntington Ave, Boston, MA 02115")
-                        .append("type", "ATHLETIC"),
-                new Document("name", "International Village")
-                        .append("code", "IV")
-                        .append("address", "1155 Tremont St, Boston, MA 02120")
-                        .append("type", "RESIDENTIAL"),
-                new Document("name", "Shillman Hall")
-                        .append("code", "SH")
-                        .append("address", "115 Forsyth St, Boston, MA 02115")
-                        .append("type", "ACADEMIC"),
-                new Document("name", "ISEC")
-                        .append("code", "ISEC")
-                        .append("address", "805 Columbus Ave, Boston, MA 02120")
-                        .append("type", "ACADEMIC"),
-                new Document("name", "Ryder Hall")
-                        .append("code", "RY")
-                        .append("address", "11 Leon St, Boston, MA 02115")
-                        .append("type", "ACADEMIC"),
-                new Document("name", "West Village H")
-                        .append("code", "WVH")
-                        .append("address", "440 Huntington Ave, Boston, MA 02115")
-                        .append("type", "RESIDENTIAL")
-        );
-
-        buildings.insertMany(defaultBuildings);
-        LOGGER.info("Inserted " + defaultBuildings.size() + " default buildings");
+        metricsLogger = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "mongodb-metrics");
+            thread.setDaemon(true);
+            return thread;
+        });
+        metricsLogger.scheduleAtFixedRate(metrics::logReport, intervalSeconds, intervalSeconds, TimeUnit.SECONDS);
     }
 
     public static synchronized MongoDBConnection getInstance() {
@@ -206,6 +308,17 @@ public class MongoDBConnection {
         return database;
     }
 
+    /**
+     * Driver command and pool metrics, or null if disabled in mongodb.properties
+     */
+    public MongoMetrics getMetrics() {
+        return metrics;
+    }
+
+    public SchemaProvisioner getSchemaProvisioner() {
+        return schemaProvisioner;
+    }
+
     public MongoCollection<Document> getCollection(String collectionName) {
         return database.getCollection(collectionName);
     }
@@ -214,7 +327,35 @@ public class MongoDBConnection {
         return database.getCollection(collectionName, clazz);
     }
 
+    /**
+     * Insert documents with one unordered insertMany: the server writes them in
+     * any order and a failed document (e.g. a duplicate key) does not stop the rest.
+     * @return Positions in {@code docs} of the documents that were not inserted
+     */
+    static BitSet insertUnordered(MongoCollection<Document> collection, List<Document> docs) {
+        BitSet failed = new BitSet();
+        if (docs.isEmpty()) {
+            return failed;
+        }
+        try {
+            collection.insertMany(docs, new InsertManyOptions().ordered(false));
+        } catch (MongoBulkWriteException e) {
+            for (BulkWriteError error : e.getWriteErrors()) {
+                failed.set(error.getIndex());
+            }
+            LOGGER.log(Level.WARNING, failed.cardinality() + " of " + docs.size() + " documents not inserted into "
+                    + collection.getNamespace().getCollectionName(), e);
+        }
+        return failed;
+    }
+
     public void close() {
+        if (metricsLogger != null) {
+            metricsLogger.shutdownNow();
+        }
+        if (metrics != null) {
+            metrics.logReport();
+        }
         if (mongoClient != null) {
             mongoClient.close();
             LOGGER.info("MongoDB connection closed");
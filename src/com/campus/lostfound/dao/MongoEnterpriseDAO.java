@@ -14,9 +14,10 @@ import java.util.logging.Level;
 /**
  * DAO for Enterprise operations
  */
-public class MongoEnterpriseDAO {
+public class MongoEnterpriseDAO implements EnterpriseDAO {
 
     private static final Logger LOGGER = Logger.getLogger(MongoEnterpriseDAO.class.getName());
+    private static MongoEnterpriseDAO instance;
     private final MongoCollection<Document> enterprisesCollection;
 
     public MongoEnterpriseDAO() {
@@ -24,17 +25,19 @@ public class MongoEnterpriseDAO {
         this.enterprisesCollection = connection.getCollection("enterprises");
     }
 
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoEnterpriseDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoEnterpriseDAO();
+        }
+        return instance;
+    }
+
     public String create(Enterprise enterprise) {
         try {
-            Document doc = new Document()
-                    .append("networkId", enterprise.getNetworkId())
-                    .append("name", enterprise.getName())
-                    .append("type", enterprise.getType().name())
-                    .append("description", enterprise.getDescription())
-                    .append("contactEmail", enterprise.getContactEmail())
-                    .append("contactPhone", enterprise.getContactPhone())
-                    .append("joinedDate", enterprise.getJoinedDate())
-                    .append("isActive", enterprise.isActive());
+            Document doc = enterpriseToDocument(enterprise);
 
             enterprisesCollection.insertOne(doc);
             String id = doc.getObjectId("_id").toString();
@@ -139,7 +142,22 @@ public class MongoEnterpriseDAO {
         }
     }
 
-    private Enterprise documentToEnterprise(Document doc) {
+    /**
+     * Document for a new enterprise, without its _id
+     */
+    static Document enterpriseToDocument(Enterprise enterprise) {
+        return new Document()
+                .append("networkId", enterprise.getNetworkId())
+                .append("name", enterprise.getName())
+                .append("type", enterprise.getType().name())
+                .append("description", enterprise.getDescription())
+                .append("contactEmail", enterprise.getContactEmail())
+                .append("contactPhone", enterprise.getContactPhone())
+                .append("joinedDate", enterprise.getJoinedDate())
+                .append("isActive", enterprise.isActive());
+    }
+
+    static Enterprise documentToEnterprise(Document doc) {
         Enterprise enterprise = new Enterprise();
         enterprise.setEnterpriseId(doc.getObjectId("_id").toString());
         enterprise.setNetworkId(doc.getString("networkId"));
@@ -0,0 +1,233 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.StoredImage;
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.UpdateOptions;
+import com.mongodb.client.model.Updates;
+import com.mongodb.client.result.UpdateResult;
+import org.bson.Document;
+import org.bson.conversions.Bson;
+
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Data Access Object for image store metadata and reference counts.
+ *
+ * Collection managed:
+ * - images: { _id: sha256, path, format, width, height, sizeBytes, dHash, refCount, createdAt, updatedAt }
+ *
+ * Reference counts are changed with server-side $inc so several clients
+ * attaching or removing the same photo never lose an update. updatedAt is
+ * the last time the image was uploaded or attached; releases leave it alone,
+ * so an entry is only deleted once nobody has touched it for the grace period.
+ */
+public class MongoImageDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(MongoImageDAO.class.getName());
+    private static MongoImageDAO instance;
+
+    private final MongoCollection<Document> imagesCollection;
+
+    // ==================== CONSTRUCTOR ====================
+
+    public MongoImageDAO() {
+        this(MongoDBConnection.getInstance().getCollection("images"));
+    }
+
+    /**
+     * Constructor for testing with a specific collection (or none, for a
+     * subclass that overrides the methods it uses)
+     */
+    protected MongoImageDAO(MongoCollection<Document> imagesCollection) {
+        this.imagesCollection = imagesCollection;
+    }
+
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoImageDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoImageDAO();
+        }
+        return instance;
+    }
+
+    // ==================== METADATA ====================
+
+    /**
+     * Record an ingested image. Existing entries keep their reference count;
+     * updatedAt is refreshed so a pending garbage collection skips them.
+     * Metadata is derived from the content, so it is (re)written either way,
+     * which also fills in an entry {@link #acquire} had to recreate.
+     */
+    public boolean register(StoredImage image) {
+        try {
+            Date now = new Date();
+            imagesCollection.updateOne(
+                Filters.eq("_id", image.getHash()),
+                Updates.combine(
+                    Updates.set("path", image.getRelativePath()),
+                    Updates.set("format", image.getFormat()),
+                    Updates.set("width", image.getWidth()),
+                    Updates.set("height", image.getHeight()),
+                    Updates.set("sizeBytes", image.getSizeBytes()),
+                    Updates.set("dHash", image.getPerceptualHash()),
+                    Updates.setOnInsert("refCount", 0),
+                    Updates.setOnInsert("createdAt", now),
+                    Updates.set("updatedAt", now)),
+                new UpdateOptions().upsert(true));
+            return true;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error registering image " + image.getHash(), e);
+            return false;
+        }
+    }
+
+    public Optional<StoredImage> findByHash(String hash) {
+        try {
+            Document doc = imagesCollection.find(Filters.eq("_id", hash)).first();
+            if (doc != null) {
+                return Optional.of(documentToImage(doc));
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error finding image " + hash, e);
+        }
+        return Optional.empty();
+    }
+
+    // ==================== REFERENCE COUNTING ====================
+
+    /**
+     * Add one reference per occurrence of each hash. A missing entry (its
+     * image was collected before the item was saved) is recreated with the
+     * count so the reference is not lost, and logged, since the file is
+     * likely gone too.
+     * @return The hashes that had no entry
+     */
+    public List<String> acquire(Collection<String> hashes) {
+        List<String> missing = new ArrayList<>();
+        if (hashes == null || hashes.isEmpty()) {
+            return missing;
+        }
+        try {
+            Date now = new Date();
+            for (Map.Entry<String, Integer> entry : countsOf(hashes, 1).entrySet()) {
+                UpdateResult result = imagesCollection.updateOne(Filters.eq("_id", entry.getKey()),
+                    Updates.combine(
+                        Updates.inc("refCount", entry.getValue()),
+                        Updates.setOnInsert("createdAt", now),
+                        Updates.set("updatedAt", now)),
+                    new UpdateOptions().upsert(true));
+                if (result.getUpsertedId() != null) {
+                    missing.add(entry.getKey());
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error adjusting image reference counts", e);
+        }
+        if (!missing.isEmpty()) {
+            LOGGER.severe("Acquired images with no store entry (file may be missing): " + missing);
+        }
+        return missing;
+    }
+
+    /**
+     * Remove one reference per occurrence of each hash
+     * @return The released images that are no longer referenced
+     */
+    public List<StoredImage> release(Collection<String> hashes) {
+        List<StoredImage> unreferenced = new ArrayList<>();
+        if (hashes == null || hashes.isEmpty()) {
+            return unreferenced;
+        }
+        try {
+            // No updatedAt here: a release must not look like a fresh upload
+            for (Map.Entry<String, Integer> entry : countsOf(hashes, -1).entrySet()) {
+                imagesCollection.updateOne(Filters.eq("_id", entry.getKey()),
+                    Updates.inc("refCount", entry.getValue()));
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error adjusting image reference counts", e);
+            return unreferenced;
+        }
+        try {
+            imagesCollection.find(Filters.and(
+                    Filters.in("_id", new HashSet<>(hashes)),
+                    Filters.lte("refCount", 0)))
+                .forEach(doc -> unreferenced.add(documentToImage(doc)));
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error reading released image counts", e);
+        }
+        return unreferenced;
+    }
+
+    /**
+     * Group repeated hashes so each entry takes a single $inc
+     */
+    private static Map<String, Integer> countsOf(Collection<String> hashes, int delta) {
+        Map<String, Integer> counts = new HashMap<>();
+        for (String hash : hashes) {
+            counts.merge(hash, delta, Integer::sum);
+        }
+        return counts;
+    }
+
+    // ==================== GARBAGE COLLECTION ====================
+
+    /**
+     * Unreferenced images not touched since the cutoff (abandoned uploads,
+     * images of deleted items)
+     */
+    public List<StoredImage> findUnreferenced(Date untouchedSince) {
+        List<StoredImage> images = new ArrayList<>();
+        try {
+            imagesCollection.find(Filters.and(
+                    Filters.lte("refCount", 0),
+                    Filters.lt("updatedAt", untouchedSince)))
+                .forEach(doc -> images.add(documentToImage(doc)));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error finding unreferenced images", e);
+        }
+        return images;
+    }
+
+    /**
+     * Remove the metadata entry, but only if nothing re-acquired the image
+     * meanwhile and it was not uploaded or attached since the cutoff
+     * @return true if the entry was removed and the file may be deleted
+     */
+    public boolean deleteIfUnreferenced(String hash, Date untouchedSince) {
+        try {
+            Bson filter = Filters.and(
+                Filters.eq("_id", hash),
+                Filters.lte("refCount", 0),
+                Filters.lt("updatedAt", untouchedSince));
+            return imagesCollection.deleteOne(filter).getDeletedCount() > 0;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error deleting image entry " + hash, e);
+            return false;
+        }
+    }
+
+    // ==================== CONVERSION ====================
+
+    private StoredImage documentToImage(Document doc) {
+        StoredImage image = new StoredImage();
+        image.setHash(doc.getString("_id"));
+        image.setRelativePath(doc.getString("path"));
+        image.setFormat(doc.getString("format"));
+        image.setWidth(doc.getInteger("width", 0));
+        image.setHeight(doc.getInteger("height", 0));
+        Number size = (Number) doc.get("sizeBytes");
+        image.setSizeBytes(size != null ? size.longValue() : 0);
+        Number dHash = (Number) doc.get("dHash");
+        image.setPerceptualHash(dHash != null ? dHash.longValue() : null);
+        image.setRefCount(doc.getInteger("refCount", 0));
+        image.setCreatedAt(doc.getDate("createdAt"));
+        image.setUpdatedAt(doc.getDate("updatedAt"));
+        return image;
+    }
+}
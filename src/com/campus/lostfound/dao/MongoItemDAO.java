@@ -5,15 +5,24 @@
 package com.campus.lostfound.dao;
 
 import com.campus.lostfound.models.*;
+import com.campus.lostfound.utils.ImageStore;
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndDeleteOptions;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Sorts;
+import com.mongodb.client.model.geojson.Point;
+import com.mongodb.client.model.geojson.Position;
 import com.mongodb.client.FindIterable;
+import com.mongodb.client.MongoCursor;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.bson.conversions.Bson;
 
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -21,13 +30,20 @@ import java.util.logging.Level;
  *
  * @author aksha
  */
-public class MongoItemDAO {
+public class MongoItemDAO implements ItemDAO {
 
     private static final Logger LOGGER = Logger.getLogger(MongoItemDAO.class.getName());
+    private static MongoItemDAO instance;
     private final MongoCollection<Document> itemsCollection;
     private final MongoCollection<Document> usersCollection;
     private final MongoCollection<Document> buildingsCollection;
 
+    private static final Bson IMAGE_PATHS_ONLY = Projections.include("imagePaths");
+    private static final int CURSOR_BATCH_SIZE = 500;
+
+    // Notified after every successful item write (search index)
+    private final List<WriteListener> writeListeners = new CopyOnWriteArrayList<>();
+
     public MongoItemDAO() {
         MongoDBConnection connection = MongoDBConnection.getInstance();
         this.itemsCollection = connection.getCollection("items");
@@ -35,12 +51,28 @@ public class MongoItemDAO {
         this.buildingsCollection = connection.getCollection("buildings");
     }
 
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoItemDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoItemDAO();
+        }
+        return instance;
+    }
+
     public String create(Item item) {
         try {
+            refreshImageFingerprints(item);
             Document doc = itemToDocument(item);
             itemsCollection.insertOne(doc);
+            ImageStore.getInstance().acquire(item.getImagePaths());
             String id = doc.getObjectId("_id").toString();
+            if (item.getMongoId() == null) {
+                item.setMongoId(id);
+            }
             LOGGER.info("Item created with ID: " + id);
+            fireItemCreated(item);
             return id;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error creating item", e);
@@ -48,6 +80,25 @@ public class MongoItemDAO {
         }
     }
 
+    public int createAll(List<Item> items) {
+        try {
+            List<Document> docs = new ArrayList<>(items.size());
+            for (Item item : items) {
+                docs.add(itemToDocument(item).append("_id", new ObjectId()));
+            }
+            BitSet failed = MongoDBConnection.insertUnordered(itemsCollection, docs);
+            for (int i = 0; i < items.size(); i++) {
+                if (!failed.get(i)) {
+                    items.get(i).setMongoId(docs.get(i).getObjectId("_id").toString());
+                }
+            }
+            return items.size() - failed.cardinality();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error bulk creating items", e);
+            return 0;
+        }
+    }
+
     public Optional<Item> findById(String id) {
         try {
             Document doc = itemsCollection.find(Filters.eq("_id", new ObjectId(id))).first();
@@ -75,6 +126,110 @@ public class MongoItemDAO {
         return items;
     }
 
+    /**
+     * Stream items through a server-side cursor instead of loading them all
+     * (exports of the full history). Photo fields are not fetched.
+     *
+     * @param organizationId Only this organization's items, or null for all
+     * @param action Called per item, newest first; return false to stop early
+     * @return Number of items visited
+     * @throws com.mongodb.MongoException If the cursor fails part way; items
+     *         already visited were handed to the action
+     */
+    public long forEachItem(String organizationId, Predicate<Item> action) {
+        return streamItems(organizationId != null ? Filters.eq("organizationId", organizationId) : new Document(), action);
+    }
+
+    /**
+     * Stream one enterprise's items, newest first (see {@link #forEachItem})
+     */
+    public long forEachItemInEnterprise(String enterpriseId, Predicate<Item> action) {
+        return streamItems(Filters.eq("enterpriseId", enterpriseId), action);
+    }
+
+    /**
+     * Stream items reported in [from, to), newest first (see {@link #forEachItem})
+     * @param from Inclusive lower bound, or null for no bound
+     * @param to Exclusive upper bound, or null for no bound
+     */
+    public long forEachItemReportedBetween(Date from, Date to, Predicate<Item> action) {
+        List<Bson> range = new ArrayList<>();
+        range.add(Filters.exists("reportedDate"));
+        if (from != null) {
+            range.add(Filters.gte("reportedDate", from));
+        }
+        if (to != null) {
+            range.add(Filters.lt("reportedDate", to));
+        }
+        return streamItems(Filters.and(range), action);
+    }
+
+    private long streamItems(Bson filter, Predicate<Item> action) {
+        long visited = 0;
+        try (MongoCursor<Document> cursor = itemsCollection.find(filter)
+                .projection(Projections.exclude("imagePaths", "imageFingerprints"))
+                .sort(Sorts.descending("reportedDate"))
+                .batchSize(CURSOR_BATCH_SIZE)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                visited++;
+                if (!action.test(documentToItem(cursor.next()))) {
+                    break;
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Count items, for progress reporting
+     * @param organizationId Only this organization's items, or null for all (estimated)
+     */
+    public long count(String organizationId) {
+        try {
+            return organizationId != null
+                    ? itemsCollection.countDocuments(Filters.eq("organizationId", organizationId))
+                    : itemsCollection.estimatedDocumentCount();
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error counting items", e);
+            return -1;
+        }
+    }
+
+    /**
+     * Change marker for caches of derived data (reports): item count plus the
+     * latest modification time, so it moves on every create, update and delete.
+     * Null if the database cannot be reached.
+     */
+    public String getDataWatermark() {
+        try {
+            Document latest = itemsCollection.find()
+                    .projection(Projections.include("lastModified"))
+                    .sort(Sorts.descending("lastModified"))
+                    .limit(1)
+                    .first();
+            Date last = latest != null ? latest.getDate("lastModified") : null;
+            return itemsCollection.estimatedDocumentCount() + "@" + (last != null ? last.getTime() : 0);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error reading item watermark", e);
+            return null;
+        }
+    }
+
+    public Map<String, Long> findModifiedAfter(long lastModifiedMillis) {
+        Map<String, Long> modified = new HashMap<>();
+        try {
+            itemsCollection.find(Filters.gt("lastModified", new Date(lastModifiedMillis)))
+                    .projection(Projections.include("lastModified"))
+                    .forEach(doc -> modified.put(doc.getObjectId("_id").toString(),
+                            doc.getDate("lastModified").getTime()));
+            return modified;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error reading modified items", e);
+            return null;
+        }
+    }
+
     public List<Item> findByStatus(Item.ItemStatus status) {
         List<Item> items = new ArrayList<>();
         try {
@@ -94,6 +249,40 @@ public class MongoItemDAO {
         return items;
     }
 
+    /**
+     * Items reported within maxDistanceKm of a point, nearest first; items
+     * without coordinates are never returned. Uses the 2dsphere index on
+     * location.geo; until that exists (provisioning runs in the background)
+     * the same circle is matched without the index and sorted here.
+     */
+    public List<Item> findNearby(double latitude, double longitude, double maxDistanceKm) {
+        List<Item> items = new ArrayList<>();
+        try {
+            Bson filter = Filters.nearSphere("location.geo", new Point(new Position(longitude, latitude)),
+                    maxDistanceKm * 1000, null);
+            for (Document doc : itemsCollection.find(filter)) {
+                items.add(documentToItem(doc));
+            }
+            return items;
+        } catch (Exception e) {
+            LOGGER.log(Level.FINE, "Geo query unavailable, sorting nearby items in memory", e);
+        }
+        try {
+            items = new ArrayList<>();
+            // $geoWithin needs no index, but returns the matches unordered
+            Bson filter = Filters.geoWithinCenterSphere("location.geo", longitude, latitude,
+                    maxDistanceKm / Location.EARTH_RADIUS_KM);
+            for (Document doc : itemsCollection.find(filter)) {
+                items.add(documentToItem(doc));
+            }
+            items.sort(Comparator.comparingDouble(item -> Location.distanceKm(latitude, longitude,
+                    item.getLocation().getEffectiveLatitude(), item.getLocation().getEffectiveLongitude())));
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error finding nearby items", e);
+        }
+        return items;
+    }
+
     public List<Item> findByUser(String email) {
         List<Item> items = new ArrayList<>();
         try {
@@ -172,6 +361,7 @@ public class MongoItemDAO {
 
     public boolean update(Item item) {
         try {
+            refreshImageFingerprints(item);
             Document doc = itemToDocument(item);
             doc.remove("_id"); // Don't update the ID
 
@@ -181,12 +371,26 @@ public class MongoItemDAO {
                 return false;
             }
             
-            itemsCollection.updateOne(
+            // Returns the document as it was before the update
+            Document previous = itemsCollection.findOneAndUpdate(
                     Filters.eq("_id", new ObjectId(item.getMongoId())),
-                    new Document("$set", doc)
+                    new Document("$set", doc),
+                    new FindOneAndUpdateOptions().projection(IMAGE_PATHS_ONLY)
             );
 
+            if (previous == null) {
+                LOGGER.warning("Cannot update item - not found: " + item.getMongoId());
+                return false;
+            }
+            List<String> oldPaths = previous.getList("imagePaths", String.class, Collections.emptyList());
+            if (!oldPaths.equals(item.getImagePaths())) {
+                // Acquire before releasing so a kept image never drops to zero
+                ImageStore.getInstance().acquire(item.getImagePaths());
+                ImageStore.getInstance().release(oldPaths);
+            }
+
             LOGGER.info("Item updated: " + item.getMongoId());
+            fireItemSaved(item);
             return true;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error updating item", e);
@@ -196,7 +400,13 @@ public class MongoItemDAO {
 
     public boolean delete(String id) {
         try {
-            itemsCollection.deleteOne(Filters.eq("_id", new ObjectId(id)));
+            Document deleted = itemsCollection.findOneAndDelete(
+                    Filters.eq("_id", new ObjectId(id)),
+                    new FindOneAndDeleteOptions().projection(IMAGE_PATHS_ONLY));
+            releaseImages(deleted);
+            if (deleted != null) {
+                fireItemDeleted(id);
+            }
             LOGGER.info("Item deleted: " + id);
             return true;
         } catch (Exception e) {
@@ -213,7 +423,12 @@ public class MongoItemDAO {
                     Filters.eq("reportedBy.email", email)
             );
 
-            itemsCollection.deleteOne(filter);
+            Document deleted = itemsCollection.findOneAndDelete(filter,
+                    new FindOneAndDeleteOptions().projection(IMAGE_PATHS_ONLY));
+            releaseImages(deleted);
+            if (deleted != null) {
+                fireItemDeleted(deleted.getObjectId("_id").toString());
+            }
             LOGGER.info("Item deleted: " + title);
             return true;
         } catch (Exception e) {
@@ -222,8 +437,76 @@ public class MongoItemDAO {
         }
     }
 
-    // Helper methods for conversion
-    private Document itemToDocument(Item item) {
+    // ==================== WRITE LISTENERS ====================
+
+    public void addWriteListener(WriteListener listener) {
+        writeListeners.add(listener);
+    }
+
+    public void removeWriteListener(WriteListener listener) {
+        writeListeners.remove(listener);
+    }
+
+    private void fireItemSaved(Item item) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.itemSaved(item);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Item write listener failed", e);
+            }
+        }
+    }
+
+    private void fireItemCreated(Item item) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.itemCreated(item);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Item write listener failed", e);
+            }
+        }
+    }
+
+    private void fireItemDeleted(String mongoId) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.itemDeleted(mongoId);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Item write listener failed", e);
+            }
+        }
+    }
+
+    /**
+     * Copy the perceptual hashes of the item's photos onto the item so matching
+     * never has to open an image file
+     */
+    private void refreshImageFingerprints(Item item) {
+        if (item.getImagePaths() == null || item.getImagePaths().isEmpty()) {
+            item.setImageFingerprints(null);
+        } else {
+            item.setImageFingerprints(ImageStore.getInstance().getFingerprints(item.getImagePaths()));
+        }
+    }
+
+    /**
+     * Drop the deleted item's image references; images no other item uses are removed
+     */
+    private void releaseImages(Document deleted) {
+        if (deleted == null) {
+            return;
+        }
+        List<String> paths = deleted.getList("imagePaths", String.class);
+        if (paths != null && !paths.isEmpty()) {
+            int removed = ImageStore.getInstance().release(paths);
+            if (removed > 0) {
+                LOGGER.info("Removed " + removed + " orphaned image(s)");
+            }
+        }
+    }
+
+    // Helper methods for conversion (package-private for the mapping benchmarks)
+    static Document itemToDocument(Item item) {
         Document doc = new Document()
                 .append("title", item.getTitle())
                 .append("description", item.getDescription())
@@ -236,24 +519,36 @@ public class MongoItemDAO {
                 .append("resolvedDate", item.getResolvedDate())
                 .append("viewCount", 0)
                 .append("imagePaths", item.getImagePaths())
+                .append("imageFingerprints", item.getImageFingerprints())
                 .append("keywords", item.getKeywords())
                 .append("enterpriseId", item.getEnterpriseId())
-                .append("organizationId", item.getOrganizationId());
+                .append("organizationId", item.getOrganizationId())
+                .append("lastModified", new Date());
 
         // Embed location
         Location loc = item.getLocation();
         if (loc != null) {
-            doc.append("location", new Document()
-                    .append("building", new Document()
-                            .append("id", loc.getBuilding().getBuildingId())
-                            .append("name", loc.getBuilding().getName())
-                            .append("code", loc.getBuilding().getCode())
-                            .append("type", loc.getBuilding().getType().name()))
+            Document buildingDoc = new Document()
+                    .append("id", loc.getBuilding().getBuildingId())
+                    .append("name", loc.getBuilding().getName())
+                    .append("code", loc.getBuilding().getCode())
+                    .append("type", loc.getBuilding().getType().name());
+            if (loc.getBuilding().hasCoordinates()) {
+                buildingDoc.append("latitude", loc.getBuilding().getLatitude())
+                        .append("longitude", loc.getBuilding().getLongitude());
+            }
+            Document locDoc = new Document()
+                    .append("building", buildingDoc)
                     .append("roomNumber", loc.getRoomNumber())
                     .append("floor", loc.getFloor())
                     .append("specificLocation", loc.getSpecificLocation())
                     .append("latitude", loc.getLatitude())
-                    .append("longitude", loc.getLongitude()));
+                    .append("longitude", loc.getLongitude());
+            // Indexed point: the spot if recorded, otherwise its building
+            if (loc.hasCoordinates()) {
+                locDoc.append("geo", MongoBuildingDAO.geoPoint(loc.getEffectiveLatitude(), loc.getEffectiveLongitude()));
+            }
+            doc.append("location", locDoc);
         }
 
         // Embed reporter info
@@ -270,7 +565,7 @@ public class MongoItemDAO {
         return doc;
     }
 
-    private Item documentToItem(Document doc) {
+    static Item documentToItem(Document doc) {
         // Extract location (handle null gracefully)
         Location location = null;
         Document locDoc = doc.get("location", Document.class);
@@ -285,6 +580,10 @@ public class MongoItemDAO {
                         Building.BuildingType.valueOf(buildingDoc.getString("type"))
                 );
                 building.setBuildingId(buildingDoc.getInteger("id", 0));
+                if (buildingDoc.get("latitude") instanceof Number && buildingDoc.get("longitude") instanceof Number) {
+                    building.setLatitude(((Number) buildingDoc.get("latitude")).doubleValue());
+                    building.setLongitude(((Number) buildingDoc.get("longitude")).doubleValue());
+                }
 
                 location = new Location(
                         building,
@@ -332,6 +631,11 @@ public class MongoItemDAO {
             imagePaths.forEach(item::addImagePath);
         }
         
+        List<Long> fingerprints = doc.getList("imageFingerprints", Long.class);
+        if (fingerprints != null) {
+            item.setImageFingerprints(new ArrayList<>(fingerprints));
+        }
+
         // Set keywords - CRITICAL: must restore keywords from database!
         List<String> keywords = doc.getList("keywords", String.class);
         if (keywords != null) {
@@ -22,9 +22,10 @@ import java.util.logging.Level;
  *
  * @author aksha
  */
-public class MongoMessageDAO {
+public class MongoMessageDAO implements MessageDAO {
 
     private static final Logger LOGGER = Logger.getLogger(MongoMessageDAO.class.getName());
+    private static MongoMessageDAO instance;
     private final MongoCollection<Document> messagesCollection;
     private final MongoCollection<Document> usersCollection;
     private final MongoCollection<Document> itemsCollection;
@@ -36,15 +37,19 @@ public class MongoMessageDAO {
         this.itemsCollection = connection.getCollection("items");
     }
 
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoMessageDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoMessageDAO();
+        }
+        return instance;
+    }
+
     public String sendMessage(Message message) {
         try {
-            Document doc = new Document()
-                    .append("itemId", message.getItemId())
-                    .append("senderId", message.getSenderId())
-                    .append("recipientId", message.getRecipientId())
-                    .append("messageText", message.getMessageText())
-                    .append("isRead", false)
-                    .append("sentDate", message.getSentDate());
+            Document doc = messageToDocument(message);
 
             messagesCollection.insertOne(doc);
             String id = doc.getObjectId("_id").toString();
@@ -188,7 +193,20 @@ public class MongoMessageDAO {
         return null;
     }
 
-    private Message documentToMessage(Document doc) {
+    /**
+     * Document for a new, unread message
+     */
+    static Document messageToDocument(Message message) {
+        return new Document()
+                .append("itemId", message.getItemId())
+                .append("senderId", message.getSenderId())
+                .append("recipientId", message.getRecipientId())
+                .append("messageText", message.getMessageText())
+                .append("isRead", false)
+                .append("sentDate", message.getSentDate());
+    }
+
+    static Message documentToMessage(Document doc) {
         Message msg = new Message(
                 doc.getString("itemId"),
                 doc.getString("senderId"),
@@ -0,0 +1,375 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.utils.Instrumentation;
+import com.campus.lostfound.utils.LatencyHistogram;
+import com.mongodb.event.CommandFailedEvent;
+import com.mongodb.event.CommandListener;
+import com.mongodb.event.CommandStartedEvent;
+import com.mongodb.event.CommandSucceededEvent;
+import com.mongodb.event.ConnectionCheckOutFailedEvent;
+import com.mongodb.event.ConnectionCheckOutStartedEvent;
+import com.mongodb.event.ConnectionCheckedInEvent;
+import com.mongodb.event.ConnectionCheckedOutEvent;
+import com.mongodb.event.ConnectionClosedEvent;
+import com.mongodb.event.ConnectionCreatedEvent;
+import com.mongodb.event.ConnectionPoolListener;
+import org.bson.BsonArray;
+import org.bson.BsonDocument;
+import org.bson.BsonValue;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Logger;
+
+/**
+ * Driver-level metrics for the shared MongoClient.
+ *
+ * Registered as both a CommandListener and a ConnectionPoolListener by
+ * MongoDBConnection. Every command is timed into a latency histogram keyed by
+ * collection and command name ("items.find", "work_requests.aggregate"), and
+ * commands slower than the configured threshold are logged. The pool side
+ * tracks connections in use, threads waiting for one, checkout wait times and
+ * checkout failures.
+ *
+ * When {@link Instrumentation} is enabled, each command is also attributed to
+ * the Mongo*DAO method that issued it (found by walking the calling thread's
+ * stack) and recorded there with the documents it returned, which gives
+ * per-DAO-method statistics without timing code in every method.
+ *
+ * Listener callbacks run on the thread issuing the command, so they only
+ * touch lock-free counters.
+ *
+ * @author aksha
+ */
+public class MongoMetrics implements CommandListener, ConnectionPoolListener {
+
+    private static final Logger LOGGER = Logger.getLogger(MongoMetrics.class.getName());
+    private static final Logger SLOW_LOGGER = Logger.getLogger(MongoMetrics.class.getName() + ".slow");
+
+    private static final int MAX_LOGGED_COMMAND_LENGTH = 500;
+    private static final String DAO_PACKAGE = MongoMetrics.class.getPackage().getName() + ".";
+    private static final StackWalker STACK_WALKER = StackWalker.getInstance();
+
+    private final long slowQueryNanos;
+    private final boolean logSlowQueryDetails;
+    // Held here: Instrumentation.getInstance() is synchronized, and this runs on every command
+    private final Instrumentation instrumentation;
+
+    // ==================== COMMAND STATE ====================
+
+    private final Map<String, LatencyHistogram> commandLatency = new ConcurrentHashMap<>();
+    private final Map<String, LongAdder> commandFailures = new ConcurrentHashMap<>();
+    // Request id -> key (and optionally command text) while a command is in flight
+    private final Map<Integer, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder slowQueries = new LongAdder();
+
+    // ==================== POOL STATE ====================
+
+    private final AtomicInteger connectionsOpen = new AtomicInteger();
+    private final AtomicInteger connectionsInUse = new AtomicInteger();
+    private final AtomicInteger waitingForConnection = new AtomicInteger();
+    private final LatencyHistogram checkoutWait = new LatencyHistogram();
+    private final Map<String, LongAdder> checkoutFailures = new ConcurrentHashMap<>();
+
+    /**
+     * @param slowQueryMillis Commands at or above this duration are logged (0 disables)
+     * @param logSlowQueryDetails Also log the command text; costs a copy of every command
+     */
+    public MongoMetrics(long slowQueryMillis, boolean logSlowQueryDetails) {
+        this(slowQueryMillis, logSlowQueryDetails, Instrumentation.getInstance());
+    }
+
+    /**
+     * Constructor for testing with an unregistered instrumentation instance
+     */
+    public MongoMetrics(long slowQueryMillis, boolean logSlowQueryDetails, Instrumentation instrumentation) {
+        this.instrumentation = instrumentation;
+        this.slowQueryNanos = slowQueryMillis > 0 ? TimeUnit.MILLISECONDS.toNanos(slowQueryMillis) : Long.MAX_VALUE;
+        this.logSlowQueryDetails = logSlowQueryDetails;
+    }
+
+    // ==================== COMMAND LISTENER ====================
+
+    @Override
+    public void commandStarted(CommandStartedEvent event) {
+        String key = keyFor(event.getCommandName(), event.getCommand());
+        String text = null;
+        if (logSlowQueryDetails) {
+            text = event.getCommand().toJson();
+            if (text.length() > MAX_LOGGED_COMMAND_LENGTH) {
+                text = text.substring(0, MAX_LOGGED_COMMAND_LENGTH) + "...";
+            }
+        }
+        String caller = instrumentation.isEnabled() ? callingDaoMethod() : null;
+        inFlight.put(event.getRequestId(), new InFlight(key, text, caller));
+    }
+
+    @Override
+    public void commandSucceeded(CommandSucceededEvent event) {
+        InFlight started = inFlight.remove(event.getRequestId());
+        String key = started != null ? started.key : "?." + event.getCommandName();
+        long nanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        commandLatency.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos(nanos);
+        if (started != null && started.caller != null) {
+            instrumentation.record(started.caller, nanos, documentCount(event.getResponse()), false);
+        }
+        if (nanos >= slowQueryNanos) {
+            slowQueries.increment();
+            SLOW_LOGGER.warning(String.format("Slow MongoDB command %s took %d ms on %s%s", key,
+                    TimeUnit.NANOSECONDS.toMillis(nanos),
+                    event.getConnectionDescription().getServerAddress(),
+                    started != null && started.text != null ? ": " + started.text : ""));
+        }
+    }
+
+    @Override
+    public void commandFailed(CommandFailedEvent event) {
+        InFlight started = inFlight.remove(event.getRequestId());
+        String key = started != null ? started.key : "?." + event.getCommandName();
+        long nanos = event.getElapsedTime(TimeUnit.NANOSECONDS);
+        commandLatency.computeIfAbsent(key, k -> new LatencyHistogram()).recordNanos(nanos);
+        commandFailures.computeIfAbsent(key, k -> new LongAdder()).increment();
+        if (started != null && started.caller != null) {
+            instrumentation.record(started.caller, nanos, -1, true);
+        }
+    }
+
+    /**
+     * "collection.command" for collection commands, "db.command" otherwise
+     */
+    static String keyFor(String commandName, BsonDocument command) {
+        String collection = null;
+        if ("getMore".equals(commandName)) {
+            BsonValue value = command.get("collection");
+            collection = value != null && value.isString() ? value.asString().getValue() : null;
+        } else {
+            BsonValue value = command.get(commandName);
+            collection = value != null && value.isString() ? value.asString().getValue() : null;
+        }
+        return (collection != null ? collection : "db") + "." + commandName;
+    }
+
+    /**
+     * Outermost Mongo*DAO method on the current stack, e.g. "MongoItemDAO.findAll"
+     * when findAll calls a private helper or a lambda that runs the query;
+     * null if the command did not come from a DAO
+     */
+    static String callingDaoMethod() {
+        return STACK_WALKER.walk(frames -> {
+            String entry = null;
+            Iterator<StackWalker.StackFrame> it = frames.iterator();
+            while (it.hasNext()) {
+                StackWalker.StackFrame frame = it.next();
+                String className = frame.getClassName();
+                if (className.startsWith(DAO_PACKAGE) && isDaoClass(className)
+                        && !frame.getMethodName().startsWith("lambda$")) {
+                    entry = simpleName(className) + "." + frame.getMethodName();
+                }
+            }
+            return entry;
+        });
+    }
+
+    private static boolean isDaoClass(String className) {
+        String simple = simpleName(className);
+        return simple.startsWith("Mongo") && simple.endsWith("DAO");
+    }
+
+    private static String simpleName(String className) {
+        String simple = className.substring(className.lastIndexOf('.') + 1);
+        int nested = simple.indexOf('$');
+        return nested >= 0 ? simple.substring(0, nested) : simple;
+    }
+
+    /**
+     * Documents in a cursor batch, or the "n" of a write or count; -1 if neither
+     */
+    private static long documentCount(BsonDocument response) {
+        if (response == null) {
+            return -1;
+        }
+        BsonValue cursor = response.get("cursor");
+        if (cursor != null && cursor.isDocument()) {
+            BsonValue batch = cursor.asDocument().get("firstBatch");
+            if (batch == null) {
+                batch = cursor.asDocument().get("nextBatch");
+            }
+            return batch != null && batch.isArray() ? ((BsonArray) batch).size() : -1;
+        }
+        BsonValue n = response.get("n");
+        return n != null && n.isNumber() ? n.asNumber().longValue() : -1;
+    }
+
+    // ==================== POOL LISTENER ====================
+
+    @Override
+    public void connectionCreated(ConnectionCreatedEvent event) {
+        connectionsOpen.incrementAndGet();
+    }
+
+    @Override
+    public void connectionClosed(ConnectionClosedEvent event) {
+        connectionsOpen.decrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckOutStarted(ConnectionCheckOutStartedEvent event) {
+        waitingForConnection.incrementAndGet();
+    }
+
+    @Override
+    public void connectionCheckedOut(ConnectionCheckedOutEvent event) {
+        waitingForConnection.decrementAndGet();
+        connectionsInUse.incrementAndGet();
+        checkoutWait.recordNanos(event.getElapsedTime(TimeUnit.NANOSECONDS));
+    }
+
+    @Override
+    public void connectionCheckOutFailed(ConnectionCheckOutFailedEvent event) {
+        waitingForConnection.decrementAndGet();
+        checkoutFailures.computeIfAbsent(event.getReason().name(), k -> new LongAdder()).increment();
+    }
+
+    @Override
+    public void connectionCheckedIn(ConnectionCheckedInEvent event) {
+        connectionsInUse.decrementAndGet();
+    }
+
+    // ==================== READING ====================
+
+    /**
+     * Per-command statistics, the commands taking the most total time first
+     */
+    public List<CommandStats> getCommandStats() {
+        List<CommandStats> stats = new ArrayList<>();
+        for (Map.Entry<String, LatencyHistogram> entry : commandLatency.entrySet()) {
+            LongAdder failures = commandFailures.get(entry.getKey());
+            stats.add(new CommandStats(entry.getKey(), entry.getValue(), failures != null ? failures.sum() : 0));
+        }
+        stats.sort(Comparator.comparingDouble(CommandStats::getTotalMillis).reversed());
+        return stats;
+    }
+
+    public int getConnectionsOpen() {
+        return connectionsOpen.get();
+    }
+
+    public int getConnectionsInUse() {
+        return connectionsInUse.get();
+    }
+
+    public int getWaitingForConnection() {
+        return Math.max(0, waitingForConnection.get());
+    }
+
+    public LatencyHistogram getCheckoutWait() {
+        return checkoutWait;
+    }
+
+    public Map<String, Long> getCheckoutFailures() {
+        Map<String, Long> failures = new TreeMap<>();
+        checkoutFailures.forEach((reason, count) -> failures.put(reason, count.sum()));
+        return failures;
+    }
+
+    public long getSlowQueryCount() {
+        return slowQueries.sum();
+    }
+
+    /**
+     * Clear the command histograms (pool gauges keep their current values)
+     */
+    public void reset() {
+        commandLatency.clear();
+        commandFailures.clear();
+        slowQueries.reset();
+        checkoutWait.reset();
+        checkoutFailures.clear();
+    }
+
+    /**
+     * Plain-text summary: pool state, then the top commands by total time
+     */
+    public String formatReport(int topCommands) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Pool: %d open, %d in use, %d waiting; checkout wait %s%n",
+                getConnectionsOpen(), getConnectionsInUse(), getWaitingForConnection(), checkoutWait));
+        Map<String, Long> failures = getCheckoutFailures();
+        if (!failures.isEmpty()) {
+            sb.append("Checkout failures: ").append(failures).append(System.lineSeparator());
+        }
+        sb.append(String.format("Slow commands: %d%n", getSlowQueryCount()));
+        sb.append(String.format("%-40s %8s %10s %8s %8s %8s %8s %6s%n",
+                "Command", "Count", "Total ms", "Mean", "p95", "p99", "Max", "Fail"));
+        int shown = 0;
+        for (CommandStats stats : getCommandStats()) {
+            if (shown++ >= topCommands) {
+                break;
+            }
+            sb.append(String.format("%-40s %8d %10.0f %8.1f %8.1f %8.1f %8.1f %6d%n",
+                    stats.getKey(), stats.getCount(), stats.getTotalMillis(), stats.getMeanMillis(),
+                    stats.getP95Millis(), stats.getP99Millis(), stats.getMaxMillis(), stats.getFailures()));
+        }
+        return sb.toString();
+    }
+
+    public void logReport() {
+        if (!commandLatency.isEmpty()) {
+            LOGGER.info("MongoDB driver metrics" + System.lineSeparator() + formatReport(15));
+        }
+    }
+
+    // ==================== INNER CLASSES ====================
+
+    private static class InFlight {
+        final String key;
+        final String text;
+        final String caller;
+
+        InFlight(String key, String text, String caller) {
+            this.key = key;
+            this.text = text;
+            this.caller = caller;
+        }
+    }
+
+    /**
+     * Snapshot of one command's latency
+     */
+    public static class CommandStats {
+        private final String key;
+        private final long count;
+        private final double totalMillis;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+        private final long failures;
+
+        CommandStats(String key, LatencyHistogram histogram, long failures) {
+            this.key = key;
+            this.count = histogram.getCount();
+            this.totalMillis = histogram.getTotalMillis();
+            this.meanMillis = histogram.getMeanMillis();
+            this.p50Millis = histogram.getPercentileMillis(50);
+            this.p95Millis = histogram.getPercentileMillis(95);
+            this.p99Millis = histogram.getPercentileMillis(99);
+            this.maxMillis = histogram.getMaxMillis();
+            this.failures = failures;
+        }
+
+        public String getKey() { return key; }
+        public long getCount() { return count; }
+        public double getTotalMillis() { return totalMillis; }
+        public double getMeanMillis() { return meanMillis; }
+        public double getP50Millis() { return p50Millis; }
+        public double getP95Millis() { return p95Millis; }
+        public double getP99Millis() { return p99Millis; }
+        public double getMaxMillis() { return maxMillis; }
+        public long getFailures() { return failures; }
+    }
+}
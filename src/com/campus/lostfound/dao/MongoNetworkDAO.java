@@ -17,6 +17,7 @@ import java.util.logging.Level;
 public class MongoNetworkDAO {
 
     private static final Logger LOGGER = Logger.getLogger(MongoNetworkDAO.class.getName());
+    private static MongoNetworkDAO instance;
     private final MongoCollection<Document> networksCollection;
 
     public MongoNetworkDAO() {
@@ -24,6 +25,16 @@ public class MongoNetworkDAO {
         this.networksCollection = connection.getCollection("networks");
     }
 
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoNetworkDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoNetworkDAO();
+        }
+        return instance;
+    }
+
     public String create(Network network) {
         try {
             Document doc = new Document()
@@ -14,9 +14,10 @@ import java.util.logging.Level;
 /**
  * DAO for Organization operations
  */
-public class MongoOrganizationDAO {
+public class MongoOrganizationDAO implements OrganizationDAO {
 
     private static final Logger LOGGER = Logger.getLogger(MongoOrganizationDAO.class.getName());
+    private static MongoOrganizationDAO instance;
     private final MongoCollection<Document> organizationsCollection;
 
     public MongoOrganizationDAO() {
@@ -24,18 +25,19 @@ public class MongoOrganizationDAO {
         this.organizationsCollection = connection.getCollection("organizations");
     }
 
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoOrganizationDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoOrganizationDAO();
+        }
+        return instance;
+    }
+
     public String create(Organization organization) {
         try {
-            Document doc = new Document()
-                    .append("enterpriseId", organization.getEnterpriseId())
-                    .append("name", organization.getName())
-                    .append("type", organization.getType().name())
-                    .append("description", organization.getDescription())
-                    .append("contactEmail", organization.getContactEmail())
-                    .append("contactPhone", organization.getContactPhone())
-                    .append("address", organization.getAddress())
-                    .append("createdDate", organization.getCreatedDate())
-                    .append("isActive", organization.isActive());
+            Document doc = organizationToDocument(organization);
 
             organizationsCollection.insertOne(doc);
             String id = doc.getObjectId("_id").toString();
@@ -141,7 +143,23 @@ public class MongoOrganizationDAO {
         }
     }
 
-    private Organization documentToOrganization(Document doc) {
+    /**
+     * Document for a new organization, without its _id
+     */
+    static Document organizationToDocument(Organization organization) {
+        return new Document()
+                .append("enterpriseId", organization.getEnterpriseId())
+                .append("name", organization.getName())
+                .append("type", organization.getType().name())
+                .append("description", organization.getDescription())
+                .append("contactEmail", organization.getContactEmail())
+                .append("contactPhone", organization.getContactPhone())
+                .append("address", organization.getAddress())
+                .append("createdDate", organization.getCreatedDate())
+                .append("isActive", organization.isActive());
+    }
+
+    static Organization documentToOrganization(Document doc) {
         Organization organization = new Organization();
         organization.setOrganizationId(doc.getObjectId("_id").toString());
         organization.setEnterpriseId(doc.getString("enterpriseId"));
@@ -0,0 +1,147 @@
+package com.campus.lostfound.dao;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.model.ReturnDocument;
+import com.mongodb.client.model.Sorts;
+import org.bson.Document;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Cluster-safe sequence generator for human-readable visible IDs
+ * (VR-001234, TS-001234, TSE-001234, ...).
+ *
+ * Counters live in the shared "counters" collection and are advanced with an
+ * atomic server-side increment, so several desktop clients pointed at the same
+ * database never hand out the same number. Each process reserves a block of
+ * values per round-trip and serves inserts from it locally; unused values in a
+ * block are simply skipped when the process exits.
+ *
+ * Collection managed:
+ * - counters: { _id: sequenceName, value: lastReservedValue }
+ */
+public class MongoSequenceDAO {
+
+    private static final Logger LOGGER = Logger.getLogger(MongoSequenceDAO.class.getName());
+    private static MongoSequenceDAO instance;
+
+    /** Number of values reserved per round-trip */
+    public static final int DEFAULT_BLOCK_SIZE = 20;
+
+    /** Visible IDs historically started at 1000 */
+    private static final int MINIMUM_VALUE = 1000;
+
+    private static final FindOneAndUpdateOptions UPSERT_RETURN_UPDATED =
+        new FindOneAndUpdateOptions().upsert(true).returnDocument(ReturnDocument.AFTER);
+
+    private final MongoCollection<Document> countersCollection;
+    private final int blockSize;
+
+    // Locally reserved ranges, guarded by this
+    private final Map<String, Block> blocks = new HashMap<>();
+
+    // ==================== CONSTRUCTOR ====================
+
+    private MongoSequenceDAO(int blockSize) {
+        this.countersCollection = MongoDBConnection.getInstance().getCollection("counters");
+        this.blockSize = Math.max(1, blockSize);
+    }
+
+    public static synchronized MongoSequenceDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoSequenceDAO(DEFAULT_BLOCK_SIZE);
+        }
+        return instance;
+    }
+
+    // ==================== SEQUENCE OPERATIONS ====================
+
+    /**
+     * Get the next value for a sequence.
+     *
+     * The first call per process also reads the highest existing visible ID in
+     * {@code source} (an indexed top-1 lookup) so that counters created against
+     * a database populated by the old count-based scheme never reuse an ID.
+     *
+     * @param sequenceName Counter name (conventionally the owning collection name)
+     * @param source Collection holding the visible IDs
+     * @param visibleIdField Field holding the visible ID, e.g. "visibleId"
+     */
+    public synchronized int nextValue(String sequenceName, MongoCollection<Document> source,
+                                      String visibleIdField) {
+        Block block = blocks.get(sequenceName);
+        if (block == null) {
+            block = new Block(highestExistingValue(source, visibleIdField));
+            blocks.put(sequenceName, block);
+        }
+
+        if (block.next > block.last) {
+            reserveBlock(sequenceName, block);
+        }
+        return block.next++;
+    }
+
+    /**
+     * Reserve the next block atomically. The pipeline update raises the counter
+     * to the legacy floor first (a no-op once past it) and then adds a block.
+     */
+    private void reserveBlock(String sequenceName, Block block) {
+        Document current = new Document("$max", Arrays.asList(
+            new Document("$ifNull", Arrays.asList("$value", 0)), block.floor));
+
+        Document counter = countersCollection.findOneAndUpdate(
+            Filters.eq("_id", sequenceName),
+            Collections.singletonList(new Document("$set",
+                new Document("value", new Document("$add", Arrays.asList(current, blockSize))))),
+            UPSERT_RETURN_UPDATED);
+
+        int last = ((Number) counter.get("value")).intValue();
+        block.next = last - blockSize + 1;
+        block.last = last;
+
+        LOGGER.fine("Reserved " + sequenceName + " values " + block.next + "-" + block.last);
+    }
+
+    /**
+     * Parse the numeric part of the highest visible ID in a collection
+     */
+    private int highestExistingValue(MongoCollection<Document> source, String visibleIdField) {
+        try {
+            Document top = source.find(Filters.exists(visibleIdField))
+                .projection(Projections.include(visibleIdField))
+                .sort(Sorts.descending(visibleIdField))
+                .first();
+            if (top != null && top.getString(visibleIdField) != null) {
+                String digits = top.getString(visibleIdField).replaceAll("\\D", "");
+                if (!digits.isEmpty()) {
+                    return Math.max(MINIMUM_VALUE, Integer.parseInt(digits));
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error reading highest " + visibleIdField + " in "
+                + source.getNamespace().getCollectionName(), e);
+        }
+        return MINIMUM_VALUE;
+    }
+
+    /**
+     * A reserved range [next, last] of sequence values
+     */
+    private static class Block {
+        final int floor;
+        int next = 1;
+        int last = 0;
+
+        Block(int floor) {
+            this.floor = floor;
+        }
+    }
+}
@@ -9,7 +9,6 @@ import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.Updates;
-import com.mongodb.client.model.IndexOptions;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 
@@ -27,16 +26,14 @@ import java.util.logging.Logger;
  * - trust_scores: User trust score records
  * - trust_score_events: Individual score-affecting events
  */
-public class MongoTrustScoreDAO {
+public class MongoTrustScoreDAO implements TrustScoreDAO {
     
     private static final Logger LOGGER = Logger.getLogger(MongoTrustScoreDAO.class.getName());
+    private static MongoTrustScoreDAO instance;
     
     private final MongoCollection<Document> scoresCollection;
     private final MongoCollection<Document> eventsCollection;
-    
-    // Sequence counters for visible IDs
-    private int scoreSequence = 1000;
-    private int eventSequence = 1000;
+    private final MongoCollection<Document> usersCollection;
     
     // ==================== CONSTRUCTOR ====================
     
@@ -44,66 +41,19 @@ public class MongoTrustScoreDAO {
         MongoDatabase database = MongoDBConnection.getInstance().getDatabase();
         this.scoresCollection = database.getCollection("trust_scores");
         this.eventsCollection = database.getCollection("trust_score_events");
-        
-        initializeIndexes();
-        initializeSequences();
+        this.usersCollection = database.getCollection("users");
         
         LOGGER.info("MongoTrustScoreDAO initialized");
     }
-    
-    /**
-     * Create indexes for efficient queries
-     */
-    private void initializeIndexes() {
-        try {
-            // Trust Scores indexes
-            scoresCollection.createIndex(new Document("userId", 1), 
-                new IndexOptions().unique(true));
-            scoresCollection.createIndex(new Document("userEmail", 1));
-            scoresCollection.createIndex(new Document("currentScore", 1));
-            scoresCollection.createIndex(new Document("scoreLevel", 1));
-            scoresCollection.createIndex(new Document("isFlagged", 1));
-            scoresCollection.createIndex(new Document("isUnderInvestigation", 1));
-            
-            // Trust Score Events indexes
-            eventsCollection.createIndex(new Document("userId", 1));
-            eventsCollection.createIndex(new Document("eventType", 1));
-            eventsCollection.createIndex(new Document("timestamp", -1));
-            eventsCollection.createIndex(new Document("relatedItemId", 1));
-            eventsCollection.createIndex(new Document("relatedRequestId", 1));
-            
-            // Compound index for user event history
-            eventsCollection.createIndex(new Document("userId", 1).append("timestamp", -1));
-            
-            LOGGER.info("Trust score indexes created successfully");
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error creating indexes (may already exist)", e);
-        }
-    }
-    
+
     /**
-     * Initialize sequence counters from existing data
+     * Shared instance, created on first use
      */
-    private void initializeSequences() {
-        try {
-            // Find max score sequence
-            Document maxScore = scoresCollection.find()
-                .sort(Sorts.descending("_id"))
-                .first();
-            if (maxScore != null) {
-                scoreSequence = (int) scoresCollection.countDocuments() + 1000;
-            }
-            
-            // Find max event sequence
-            Document maxEvent = eventsCollection.find()
-                .sort(Sorts.descending("_id"))
-                .first();
-            if (maxEvent != null) {
-                eventSequence = (int) eventsCollection.countDocuments() + 1000;
-            }
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error initializing sequences", e);
+    public static synchronized MongoTrustScoreDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoTrustScoreDAO();
         }
+        return instance;
     }
     
     // ==================== TRUST SCORE CRUD ====================
@@ -118,7 +68,8 @@ public class MongoTrustScoreDAO {
             
             if (score.getScoreId() == null) {
                 // Generate visible ID
-                score.generateVisibleId(scoreSequence++);
+                score.generateVisibleId(
+                    MongoSequenceDAO.getInstance().nextValue("trust_scores", scoresCollection, "visibleId"));
                 doc.put("visibleId", score.getVisibleId());
                 
                 // Insert new
@@ -360,7 +311,8 @@ public class MongoTrustScoreDAO {
             
             // Generate visible ID if new
             if (event.getVisibleId() == null) {
-                event.generateVisibleId(eventSequence++);
+                event.generateVisibleId(
+                    MongoSequenceDAO.getInstance().nextValue("trust_score_events", eventsCollection, "visibleId"));
                 doc.put("visibleId", event.getVisibleId());
             }
             
@@ -377,6 +329,29 @@ public class MongoTrustScoreDAO {
         }
     }
     
+    public int saveEvents(List<TrustScoreEvent> events) {
+        try {
+            List<Document> docs = new ArrayList<>(events.size());
+            for (TrustScoreEvent event : events) {
+                if (event.getVisibleId() == null) {
+                    event.generateVisibleId(
+                        MongoSequenceDAO.getInstance().nextValue("trust_score_events", eventsCollection, "visibleId"));
+                }
+                docs.add(eventToDocument(event).append("_id", new ObjectId()));
+            }
+            BitSet failed = MongoDBConnection.insertUnordered(eventsCollection, docs);
+            for (int i = 0; i < events.size(); i++) {
+                if (!failed.get(i)) {
+                    events.get(i).setEventId(docs.get(i).getObjectId("_id").toString());
+                }
+            }
+            return events.size() - failed.cardinality();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error bulk saving TrustScoreEvents", e);
+            return 0;
+        }
+    }
+    
     /**
      * Find event by ID
      */
@@ -643,6 +618,126 @@ public class MongoTrustScoreDAO {
         }
     }
     
+    // ==================== CONSOLIDATED AGGREGATES ====================
+    
+    /**
+     * Compute every trust-score dashboard figure (count, average, min/max,
+     * percentiles, level histogram, flagged and investigation counts) with a
+     * single $facet pipeline.
+     * 
+     * Falls back to the trustScore field on the users collection when no
+     * trust_scores records exist yet, mirroring the legacy analytics behavior.
+     * 
+     * @param enterpriseId Restrict to users of this enterprise, or null for the whole network
+     */
+    public ScoreAggregate getScoreAggregate(String enterpriseId) {
+        try {
+            ScoreAggregate aggregate = runScoreFacet(scoresCollection,
+                "currentScore", enterpriseScopeForScores(enterpriseId));
+            if (aggregate.getCount() == 0) {
+                Document scope = enterpriseId != null
+                    ? new Document("$match", new Document("enterpriseId", enterpriseId))
+                    : null;
+                aggregate = runScoreFacet(usersCollection, "trustScore",
+                    scope != null ? Collections.singletonList(scope) : Collections.emptyList());
+            }
+            return aggregate;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error computing trust score aggregate", e);
+            return new ScoreAggregate();
+        }
+    }
+    
+    /**
+     * Trust score records don't carry an enterprise, so scope them through
+     * the owning user document (joined on email, projected to enterpriseId only).
+     */
+    private List<Document> enterpriseScopeForScores(String enterpriseId) {
+        if (enterpriseId == null) {
+            return Collections.emptyList();
+        }
+        return Arrays.asList(
+            new Document("$lookup", new Document("from", "users")
+                .append("let", new Document("email", "$userEmail"))
+                .append("pipeline", Arrays.asList(
+                    new Document("$match", new Document("$expr",
+                        new Document("$eq", Arrays.asList("$email", "$$email")))),
+                    new Document("$project", new Document("enterpriseId", 1))
+                ))
+                .append("as", "owner")),
+            new Document("$match", new Document("owner.enterpriseId", enterpriseId))
+        );
+    }
+    
+    /**
+     * Run the summary + per-point histogram facets over a score field.
+     * Percentiles and level counts are derived from the 101-bucket histogram,
+     * so the result is bounded no matter how many users exist.
+     */
+    private ScoreAggregate runScoreFacet(MongoCollection<Document> collection,
+                                         String scoreField, List<Document> scopeStages) {
+        String field = "$" + scoreField;
+        Document score = new Document("$ifNull", Arrays.asList(field, TrustScore.DEFAULT_INITIAL_SCORE));
+        
+        List<Document> pipeline = new ArrayList<>(scopeStages);
+        pipeline.add(new Document("$facet", new Document()
+            .append("summary", Arrays.asList(
+                new Document("$group", new Document("_id", null)
+                    .append("count", new Document("$sum", 1))
+                    .append("avg", new Document("$avg", score))
+                    .append("min", new Document("$min", score))
+                    .append("max", new Document("$max", score))
+                    .append("flagged", countWhereTrue("$isFlagged"))
+                    .append("investigating", countWhereTrue("$isUnderInvestigation")))
+            ))
+            .append("histogram", Arrays.asList(
+                new Document("$group", new Document("_id", new Document("$floor", score))
+                    .append("count", new Document("$sum", 1)))
+            ))
+        ));
+        
+        ScoreAggregate aggregate = new ScoreAggregate();
+        Document result = collection.aggregate(pipeline).first();
+        if (result == null) {
+            return aggregate;
+        }
+        
+        List<Document> summary = result.getList("summary", Document.class);
+        if (summary != null && !summary.isEmpty()) {
+            Document s = summary.get(0);
+            aggregate.count = toLong(s.get("count"));
+            aggregate.average = toDouble(s.get("avg"), TrustScore.DEFAULT_INITIAL_SCORE);
+            aggregate.min = toDouble(s.get("min"), 0.0);
+            aggregate.max = toDouble(s.get("max"), 0.0);
+            aggregate.flaggedCount = toLong(s.get("flagged"));
+            aggregate.investigationCount = toLong(s.get("investigating"));
+        }
+        
+        List<Document> histogram = result.getList("histogram", Document.class);
+        if (histogram != null) {
+            for (Document bucket : histogram) {
+                int point = (int) Math.max(0, Math.min(100, toDouble(bucket.get("_id"), 0.0)));
+                aggregate.histogram[point] += toLong(bucket.get("count"));
+            }
+        }
+        
+        aggregate.finish();
+        return aggregate;
+    }
+    
+    private Document countWhereTrue(String field) {
+        return new Document("$sum", new Document("$cond",
+            Arrays.asList(new Document("$eq", Arrays.asList(field, true)), 1, 0)));
+    }
+    
+    private long toLong(Object value) {
+        return value instanceof Number ? ((Number) value).longValue() : 0L;
+    }
+    
+    private double toDouble(Object value, double defaultValue) {
+        return value instanceof Number ? ((Number) value).doubleValue() : defaultValue;
+    }
+    
     // ==================== FLAG OPERATIONS ====================
     
     /**
@@ -734,7 +829,7 @@ public class MongoTrustScoreDAO {
     /**
      * Convert TrustScore to MongoDB Document
      */
-    private Document trustScoreToDocument(TrustScore score) {
+    static Document trustScoreToDocument(TrustScore score) {
         Document doc = new Document();
         
         if (score.getScoreId() != null) {
@@ -766,7 +861,7 @@ public class MongoTrustScoreDAO {
     /**
      * Convert MongoDB Document to TrustScore
      */
-    private TrustScore documentToTrustScore(Document doc) {
+    static TrustScore documentToTrustScore(Document doc) {
         TrustScore score = new TrustScore();
         
         score.setScoreId(doc.getObjectId("_id").toString());
@@ -805,7 +900,7 @@ public class MongoTrustScoreDAO {
     /**
      * Convert TrustScoreEvent to MongoDB Document
      */
-    private Document eventToDocument(TrustScoreEvent event) {
+    static Document eventToDocument(TrustScoreEvent event) {
         Document doc = new Document();
         
         doc.append("visibleId", event.getVisibleId())
@@ -830,7 +925,7 @@ public class MongoTrustScoreDAO {
     /**
      * Convert MongoDB Document to TrustScoreEvent
      */
-    private TrustScoreEvent documentToEvent(Document doc) {
+    static TrustScoreEvent documentToEvent(Document doc) {
         TrustScoreEvent event = new TrustScoreEvent();
         
         event.setEventId(doc.getObjectId("_id").toString());
@@ -870,7 +965,7 @@ public class MongoTrustScoreDAO {
     /**
      * Convert LocalDateTime to Date for MongoDB
      */
-    private Date toDate(LocalDateTime localDateTime) {
+    static Date toDate(LocalDateTime localDateTime) {
         if (localDateTime == null) return null;
         return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
     }
@@ -878,7 +973,7 @@ public class MongoTrustScoreDAO {
     /**
      * Convert Date from MongoDB to LocalDateTime
      */
-    private LocalDateTime toLocalDateTime(Date date) {
+    static LocalDateTime toLocalDateTime(Date date) {
         if (date == null) return null;
         return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
     }
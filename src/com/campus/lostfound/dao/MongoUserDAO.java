@@ -6,6 +6,8 @@ package com.campus.lostfound.dao;
 
 import com.campus.lostfound.models.User;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
+import com.mongodb.client.model.Projections;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Updates;
 import org.bson.Document;
@@ -14,6 +16,8 @@ import org.bson.types.ObjectId;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Predicate;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 
@@ -21,38 +25,38 @@ import java.util.logging.Level;
  *
  * @author aksha
  */
-public class MongoUserDAO {
+public class MongoUserDAO implements UserDAO {
 
     private static final Logger LOGGER = Logger.getLogger(MongoUserDAO.class.getName());
+    /** Actions updateTrustScoreByEmail applies (updateTrustScore has no HELPED_RETURN); others are ignored */
+    static final Set<String> TRUST_ACTIONS = Set.of("RETURN", "FALSE_CLAIM", "REPORT", "HELPED_RETURN");
+    private static MongoUserDAO instance;
     private final MongoCollection<Document> usersCollection;
+    private final List<WriteListener> writeListeners = new CopyOnWriteArrayList<>();
 
     public MongoUserDAO() {
         MongoDBConnection connection = MongoDBConnection.getInstance();
         this.usersCollection = connection.getCollection("users");
     }
 
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoUserDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoUserDAO();
+        }
+        return instance;
+    }
+
     public String create(User user, String password) {
         try {
-            Document doc = new Document()
-                    .append("email", user.getEmail())
-                    .append("passwordHash", hashPassword(password))
-                    .append("firstName", user.getFirstName())
-                    .append("lastName", user.getLastName())
-                    .append("phoneNumber", user.getPhoneNumber())
-                    .append("role", user.getRole().name())
-                    .append("trustScore", user.getTrustScore())
-                    .append("itemsReported", 0)
-                    .append("itemsReturned", 0)
-                    .append("falseClaims", 0)
-                    .append("isActive", true)
-                    .append("joinDate", new Date())
-                    .append("lastLogin", null)
-                    .append("enterpriseId", user.getEnterpriseId())
-                    .append("organizationId", user.getOrganizationId());
+            Document doc = newUserDocument(user, hashPassword(password));
 
             usersCollection.insertOne(doc);
             String id = doc.getObjectId("_id").toString();
             LOGGER.info("User created with ID: " + id);
+            fireUserChanged(id, user.getEmail());
             return id;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error creating user", e);
@@ -60,6 +64,28 @@ public class MongoUserDAO {
         }
     }
 
+    public int createAll(List<User> users, String password) {
+        try {
+            String passwordHash = hashPassword(password);
+            List<Document> docs = new ArrayList<>(users.size());
+            for (User user : users) {
+                docs.add(newUserDocument(user, passwordHash).append("_id", new ObjectId()));
+            }
+            BitSet failed = MongoDBConnection.insertUnordered(usersCollection, docs);
+            for (int i = 0; i < users.size(); i++) {
+                if (!failed.get(i)) {
+                    String id = docs.get(i).getObjectId("_id").toString();
+                    users.get(i).setMongoId(id);
+                    users.get(i).setUserId(id.hashCode());
+                }
+            }
+            return users.size() - failed.cardinality();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error bulk creating users", e);
+            return 0;
+        }
+    }
+
     public Optional<User> findById(String id) {
         try {
             Document doc = usersCollection.find(Filters.eq("_id", new ObjectId(id))).first();
@@ -124,47 +150,100 @@ public class MongoUserDAO {
         return users;
     }
 
+    /**
+     * Stream active users through a cursor (exports); password hashes are not fetched
+     * @param action Called per user; return false to stop early
+     * @return Number of users visited
+     * @throws com.mongodb.MongoException If the cursor fails part way
+     */
+    public long forEachActiveUser(Predicate<User> action) {
+        long visited = 0;
+        try (MongoCursor<Document> cursor = usersCollection.find(Filters.eq("isActive", true))
+                .projection(Projections.exclude("passwordHash"))
+                .batchSize(500)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                visited++;
+                if (!action.test(documentToUser(cursor.next()))) {
+                    break;
+                }
+            }
+        }
+        return visited;
+    }
+
+    /**
+     * Change marker for caches of derived data (reports). Users carry no
+     * modification time, so this is the user count. Null if the database
+     * cannot be reached.
+     */
+    public String getDataWatermark() {
+        try {
+            return String.valueOf(usersCollection.estimatedDocumentCount());
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error reading user watermark", e);
+            return null;
+        }
+    }
+
+    public long countActiveUsers() {
+        try {
+            return usersCollection.countDocuments(Filters.eq("isActive", true));
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error counting users", e);
+            return -1;
+        }
+    }
+
     public void updateTrustScore(String userId, String action) {
+        if (!TRUST_ACTIONS.contains(action)) {
+            LOGGER.fine("Ignoring trust score action " + action + " for user " + userId);
+            return;
+        }
         try {
             Document user = usersCollection.find(Filters.eq("_id", new ObjectId(userId))).first();
             if (user != null) {
                 double currentScore = user.getDouble("trustScore");
                 double newScore = currentScore;
+                boolean written = false;
 
                 switch (action) {
                     case "RETURN":
                         newScore = Math.min(100, currentScore + 10);
-                        usersCollection.updateOne(
+                        written = usersCollection.updateOne(
                                 Filters.eq("_id", new ObjectId(userId)),
                                 Updates.combine(
                                         Updates.set("trustScore", newScore),
                                         Updates.inc("itemsReturned", 1)
                                 )
-                        );
+                        ).getModifiedCount() > 0;
                         break;
                     case "FALSE_CLAIM":
                         newScore = Math.max(0, currentScore - 25);
-                        usersCollection.updateOne(
+                        written = usersCollection.updateOne(
                                 Filters.eq("_id", new ObjectId(userId)),
                                 Updates.combine(
                                         Updates.set("trustScore", newScore),
                                         Updates.inc("falseClaims", 1)
                                 )
-                        );
+                        ).getModifiedCount() > 0;
                         break;
                     case "REPORT":
                         newScore = Math.min(100, currentScore + 2);
-                        usersCollection.updateOne(
+                        written = usersCollection.updateOne(
                                 Filters.eq("_id", new ObjectId(userId)),
                                 Updates.combine(
                                         Updates.set("trustScore", newScore),
                                         Updates.inc("itemsReported", 1)
                                 )
-                        );
+                        ).getModifiedCount() > 0;
                         break;
                 }
 
-                LOGGER.info("Trust score updated for user " + userId + ": " + currentScore + " -> " + newScore);
+                if (written) {
+                    LOGGER.info("Trust score updated for user " + userId + ": " + currentScore + " -> " + newScore);
+                    fireUserChanged(userId, user.getString("email"));
+                }
             }
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error updating trust score", e);
@@ -175,54 +254,62 @@ public class MongoUserDAO {
      * Update trust score by email (more reliable than using hashCode userId)
      */
     public void updateTrustScoreByEmail(String email, String action) {
+        if (!TRUST_ACTIONS.contains(action)) {
+            LOGGER.fine("Ignoring trust score action " + action + " for user " + email);
+            return;
+        }
         try {
             Document user = usersCollection.find(Filters.eq("email", email)).first();
             if (user != null) {
                 double currentScore = user.getDouble("trustScore");
                 double newScore = currentScore;
+                boolean written = false;
 
                 switch (action) {
                     case "RETURN":
                         newScore = Math.min(100, currentScore + 10);
-                        usersCollection.updateOne(
+                        written = usersCollection.updateOne(
                                 Filters.eq("email", email),
                                 Updates.combine(
                                         Updates.set("trustScore", newScore),
                                         Updates.inc("itemsReturned", 1)
                                 )
-                        );
+                        ).getModifiedCount() > 0;
                         break;
                     case "FALSE_CLAIM":
                         newScore = Math.max(0, currentScore - 25);
-                        usersCollection.updateOne(
+                        written = usersCollection.updateOne(
                                 Filters.eq("email", email),
                                 Updates.combine(
                                         Updates.set("trustScore", newScore),
                                         Updates.inc("falseClaims", 1)
                                 )
-                        );
+                        ).getModifiedCount() > 0;
                         break;
                     case "REPORT":
                         newScore = Math.min(100, currentScore + 2);
-                        usersCollection.updateOne(
+                        written = usersCollection.updateOne(
                                 Filters.eq("email", email),
                                 Updates.combine(
                                         Updates.set("trustScore", newScore),
                                         Updates.inc("itemsReported", 1)
                                 )
-                        );
+                        ).getModifiedCount() > 0;
                         break;
                     case "HELPED_RETURN":
                         // Reward for finders who approve claims and help others get items back
                         newScore = Math.min(100, currentScore + 5);
-                        usersCollection.updateOne(
+                        written = usersCollection.updateOne(
                                 Filters.eq("email", email),
                                 Updates.set("trustScore", newScore)
-                        );
+                        ).getModifiedCount() > 0;
                         break;
                 }
 
-                LOGGER.info("Trust score updated for user " + email + ": " + currentScore + " -> " + newScore);
+                if (written) {
+                    LOGGER.info("Trust score updated for user " + email + ": " + currentScore + " -> " + newScore);
+                    fireUserChanged(user.getObjectId("_id").toString(), email);
+                }
             } else {
                 LOGGER.warning("User not found with email: " + email);
             }
@@ -231,7 +318,29 @@ public class MongoUserDAO {
         }
     }
 
-    private User documentToUser(Document doc) {
+    /**
+     * Document for a new active account
+     */
+    static Document newUserDocument(User user, String passwordHash) {
+        return new Document()
+                .append("email", user.getEmail())
+                .append("passwordHash", passwordHash)
+                .append("firstName", user.getFirstName())
+                .append("lastName", user.getLastName())
+                .append("phoneNumber", user.getPhoneNumber())
+                .append("role", user.getRole().name())
+                .append("trustScore", user.getTrustScore())
+                .append("itemsReported", 0)
+                .append("itemsReturned", 0)
+                .append("falseClaims", 0)
+                .append("isActive", true)
+                .append("joinDate", new Date())
+                .append("lastLogin", null)
+                .append("enterpriseId", user.getEnterpriseId())
+                .append("organizationId", user.getOrganizationId());
+    }
+
+    static User documentToUser(Document doc) {
         User user = new User(
                 doc.getString("email"),
                 doc.getString("firstName"),
@@ -255,7 +364,7 @@ public class MongoUserDAO {
         return user;
     }
 
-    private String hashPassword(String password) {
+    static String hashPassword(String password) {
         try {
             MessageDigest md = MessageDigest.getInstance("SHA-256");
             byte[] hashedBytes = md.digest(password.getBytes());
@@ -300,6 +409,7 @@ public class MongoUserDAO {
                 )
             );
             LOGGER.info("User updated: " + user.getEmail());
+            fireUserChanged(user.getMongoId(), user.getEmail());
             return true;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error updating user", e);
@@ -317,6 +427,7 @@ public class MongoUserDAO {
                 Updates.set("isActive", active)
             );
             LOGGER.info("User " + email + " active status set to: " + active);
+            fireUserChanged(null, email);
             return true;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error setting user active status", e);
@@ -354,4 +465,24 @@ public class MongoUserDAO {
         }
         return users;
     }
+
+    // ==================== WRITE LISTENERS ====================
+
+    public void addWriteListener(WriteListener listener) {
+        writeListeners.add(listener);
+    }
+
+    public void removeWriteListener(WriteListener listener) {
+        writeListeners.remove(listener);
+    }
+
+    private void fireUserChanged(String mongoId, String email) {
+        for (WriteListener listener : writeListeners) {
+            try {
+                listener.userChanged(mongoId, email);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "User write listener failed", e);
+            }
+        }
+    }
 }
@@ -7,9 +7,12 @@ import com.campus.lostfound.models.verification.VerificationRequest.Verification
 import com.mongodb.client.MongoCollection;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.FindOneAndUpdateOptions;
+import com.mongodb.client.model.ReturnDocument;
 import com.mongodb.client.model.Sorts;
 import com.mongodb.client.model.Updates;
-import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.Projections;
+import com.mongodb.client.result.UpdateResult;
 import org.bson.Document;
 import org.bson.types.ObjectId;
 import org.bson.conversions.Bson;
@@ -33,14 +36,23 @@ import java.util.logging.Logger;
  * 
  * @author Developer 3 - Security & Verification Specialist
  */
-public class MongoVerificationDAO {
+public class MongoVerificationDAO implements VerificationDAO {
     
     private static final Logger LOGGER = Logger.getLogger(MongoVerificationDAO.class.getName());
+    private static MongoVerificationDAO instance;
     
     private final MongoCollection<Document> collection;
     
-    // Sequence counter for visible IDs
-    private int sequenceCounter = 1000;
+    // Non-terminal statuses a request can still transition out of
+    private static final List<String> ACTIVE_STATUSES = Arrays.asList(
+        VerificationStatus.PENDING.name(),
+        VerificationStatus.IN_PROGRESS.name(),
+        VerificationStatus.AWAITING_DOCUMENTS.name(),
+        VerificationStatus.AWAITING_RESPONSE.name()
+    );
+    
+    private static final FindOneAndUpdateOptions RETURN_UPDATED =
+        new FindOneAndUpdateOptions().returnDocument(ReturnDocument.AFTER);
     
     // ==================== CONSTRUCTOR ====================
     
@@ -48,63 +60,17 @@ public class MongoVerificationDAO {
         MongoDatabase database = MongoDBConnection.getInstance().getDatabase();
         this.collection = database.getCollection("verification_requests");
         
-        initializeIndexes();
-        initializeSequence();
-        
         LOGGER.info("MongoVerificationDAO initialized");
     }
-    
-    /**
-     * Create indexes for efficient queries
-     */
-    private void initializeIndexes() {
-        try {
-            // Primary lookups
-            collection.createIndex(new Document("visibleId", 1), 
-                new IndexOptions().unique(true).sparse(true));
-            collection.createIndex(new Document("subjectUserId", 1));
-            collection.createIndex(new Document("subjectItemId", 1));
-            collection.createIndex(new Document("requesterId", 1));
-            collection.createIndex(new Document("verifierId", 1));
-            
-            // Status and type filters
-            collection.createIndex(new Document("status", 1));
-            collection.createIndex(new Document("verificationType", 1));
-            collection.createIndex(new Document("priority", 1));
-            
-            // Time-based queries
-            collection.createIndex(new Document("createdAt", -1));
-            collection.createIndex(new Document("expiresAt", 1));
-            collection.createIndex(new Document("updatedAt", -1));
-            
-            // Compound indexes for common queries
-            collection.createIndex(new Document("status", 1).append("verifierId", 1));
-            collection.createIndex(new Document("status", 1).append("priority", -1));
-            collection.createIndex(new Document("subjectUserId", 1).append("verificationType", 1));
-            collection.createIndex(new Document("verificationType", 1).append("status", 1));
-            
-            // Related entity lookups
-            collection.createIndex(new Document("relatedWorkRequestId", 1));
-            collection.createIndex(new Document("relatedClaimId", 1));
-            
-            LOGGER.info("Verification indexes created successfully");
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error creating indexes (may already exist)", e);
-        }
-    }
-    
+
     /**
-     * Initialize sequence counter from existing data
+     * Shared instance, created on first use
      */
-    private void initializeSequence() {
-        try {
-            long count = collection.countDocuments();
-            if (count > 0) {
-                sequenceCounter = (int) count + 1000;
-            }
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Error initializing sequence", e);
+    public static synchronized MongoVerificationDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoVerificationDAO();
         }
+        return instance;
     }
     
     // ==================== CRUD OPERATIONS ====================
@@ -119,7 +85,8 @@ public class MongoVerificationDAO {
             
             // Generate visible ID if not set
             if (request.getVisibleId() == null) {
-                request.generateVisibleId(sequenceCounter++);
+                request.generateVisibleId(
+                    MongoSequenceDAO.getInstance().nextValue("verification_requests", collection, "visibleId"));
                 doc.put("visibleId", request.getVisibleId());
             }
             
@@ -664,22 +631,30 @@ public class MongoVerificationDAO {
     // ==================== BULK OPERATIONS ====================
     
     /**
-     * Mark multiple requests as expired
+     * Mark every active request whose expiry has passed as EXPIRED.
+     * Runs as a single updateMany instead of loading and rewriting each document.
      */
     public int markExpiredRequests() {
-        int count = 0;
         try {
-            List<VerificationRequest> expired = findExpired();
-            for (VerificationRequest req : expired) {
-                req.expire();
-                update(req);
-                count++;
-            }
+            Date now = toDate(LocalDateTime.now());
+            UpdateResult result = collection.updateMany(
+                Filters.and(
+                    Filters.in("status", ACTIVE_STATUSES),
+                    Filters.lt("expiresAt", now)
+                ),
+                Updates.combine(
+                    Updates.set("status", VerificationStatus.EXPIRED.name()),
+                    Updates.set("completedAt", now),
+                    Updates.set("updatedAt", now)
+                )
+            );
+            int count = (int) result.getModifiedCount();
             LOGGER.info("Marked " + count + " requests as expired");
+            return count;
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error marking expired requests", e);
+            return 0;
         }
-        return count;
     }
     
     /**
@@ -719,12 +694,280 @@ public class MongoVerificationDAO {
         return requests;
     }
     
+    // ==================== STATUS TRANSITIONS ====================
+    
+    /**
+     * Assign a verifier, only if the request is still active and not past expiry,
+     * not assigned to another verifier, and not under another verifier's live lease.
+     * @return The updated request, or null if not found, no longer processable or held by someone else
+     */
+    public VerificationRequest assignIfProcessable(String requestId, String verifierId,
+                                                   String verifierName, String verifierRole) {
+        Date now = toDate(LocalDateTime.now());
+        return transition(requestId,
+            Filters.and(processableFilter(now), assignableFilter(verifierId, now)), Updates.combine(
+            Updates.set("verifierId", verifierId),
+            Updates.set("verifierName", verifierName),
+            Updates.set("verifierRole", verifierRole),
+            Updates.set("status", VerificationStatus.IN_PROGRESS.name()),
+            Updates.set("assignedAt", now),
+            Updates.set("updatedAt", now),
+            Updates.unset("leaseOwnerId"),
+            Updates.unset("leaseExpiresAt")
+        ));
+    }
+    
+    /**
+     * Mark as VERIFIED, only if the request is still active and not past expiry.
+     * @return The updated request, or null if not found or no longer processable
+     */
+    public VerificationRequest completeIfProcessable(String requestId, String notes) {
+        Date now = toDate(LocalDateTime.now());
+        return transition(requestId, processableFilter(now), Updates.combine(
+            Updates.set("status", VerificationStatus.VERIFIED.name()),
+            Updates.set("verificationNotes", notes),
+            Updates.set("completedAt", now),
+            Updates.set("updatedAt", now)
+        ));
+    }
+    
+    /**
+     * Mark as FAILED, only if the request is still active and not past expiry.
+     * @return The updated request, or null if not found or no longer processable
+     */
+    public VerificationRequest failIfProcessable(String requestId, String reason) {
+        Date now = toDate(LocalDateTime.now());
+        return transition(requestId, processableFilter(now), Updates.combine(
+            Updates.set("status", VerificationStatus.FAILED.name()),
+            Updates.set("failureReason", reason),
+            Updates.set("completedAt", now),
+            Updates.set("updatedAt", now)
+        ));
+    }
+    
+    /**
+     * Mark as CANCELLED regardless of current status (matches VerificationRequest.cancel).
+     * @return The updated request, or null if not found
+     */
+    public VerificationRequest cancelRequest(String requestId, String reason) {
+        Date now = toDate(LocalDateTime.now());
+        return transition(requestId, null, Updates.combine(
+            Updates.set("status", VerificationStatus.CANCELLED.name()),
+            Updates.set("failureReason", reason),
+            Updates.set("completedAt", now),
+            Updates.set("updatedAt", now)
+        ));
+    }
+    
+    /**
+     * Move to an awaiting status (AWAITING_DOCUMENTS / AWAITING_RESPONSE) with notes.
+     * @return The updated request, or null if not found
+     */
+    public VerificationRequest setAwaitingStatus(String requestId, VerificationStatus status, String notes) {
+        Date now = toDate(LocalDateTime.now());
+        return transition(requestId, null, Updates.combine(
+            Updates.set("status", status.name()),
+            Updates.set("verificationNotes", notes),
+            Updates.set("updatedAt", now)
+        ));
+    }
+    
+    /**
+     * Record one multi-party approval atomically. The approval counter and
+     * approver lists are updated server-side, and the request is completed in
+     * the same statement once the required number of approvals is reached,
+     * so concurrent approvers can't overwrite each other.
+     * @return The updated request, or null if not found or no longer active
+     */
+    public VerificationRequest recordApprovalIfActive(String requestId, String approverId, String approverName) {
+        Date now = toDate(LocalDateTime.now());
+        Document approvals = new Document("$ifNull", Arrays.asList("$currentApprovals", 0));
+        Document required = new Document("$ifNull", Arrays.asList("$requiredApprovals", 1));
+        
+        List<Document> pipeline = Arrays.asList(
+            new Document("$set", new Document()
+                .append("currentApprovals", new Document("$add", Arrays.asList(approvals, 1)))
+                .append("approverIds", appendToCsv("$approverIds", approverId))
+                .append("approverNames", appendToCsv("$approverNames", approverName))
+                .append("updatedAt", now)),
+            new Document("$set", completionStage(required, now))
+        );
+        
+        try {
+            Document doc = collection.findOneAndUpdate(
+                Filters.and(Filters.eq("_id", new ObjectId(requestId)), Filters.in("status", ACTIVE_STATUSES)),
+                pipeline, RETURN_UPDATED);
+            return doc != null ? toVerificationRequest(doc) : null;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error recording approval for request: " + requestId, e);
+            return null;
+        }
+    }
+    
+    /**
+     * Apply a conditional single-document transition and return the result.
+     */
+    private VerificationRequest transition(String requestId, Bson condition, Bson update) {
+        try {
+            Bson filter = Filters.eq("_id", new ObjectId(requestId));
+            if (condition != null) {
+                filter = Filters.and(filter, condition);
+            }
+            Document doc = collection.findOneAndUpdate(filter, update, RETURN_UPDATED);
+            return doc != null ? toVerificationRequest(doc) : null;
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error transitioning request: " + requestId, e);
+            return null;
+        }
+    }
+    
+    /**
+     * Server-side equivalent of VerificationRequest.canProcess()
+     */
+    private Bson processableFilter(Date now) {
+        return Filters.and(
+            Filters.in("status", ACTIVE_STATUSES),
+            Filters.or(Filters.eq("expiresAt", null), Filters.gte("expiresAt", now))
+        );
+    }
+    
+    /**
+     * Second pipeline stage of recordApprovalIfActive: complete the request
+     * once the incremented approval count reaches the required count.
+     */
+    private Document completionStage(Document required, Date now) {
+        Document reached = new Document("$gte", Arrays.asList("$currentApprovals", required));
+        return new Document()
+            .append("status", new Document("$cond", Arrays.asList(
+                reached, VerificationStatus.VERIFIED.name(), "$status")))
+            .append("verificationNotes", new Document("$cond", Arrays.asList(
+                reached, "All required approvals received", "$verificationNotes")))
+            .append("completedAt", new Document("$cond", Arrays.asList(
+                reached, now, "$completedAt")));
+    }
+    
+    private Document appendToCsv(String field, String value) {
+        return new Document("$cond", Arrays.asList(
+            new Document("$in", Arrays.asList(new Document("$ifNull", Arrays.asList(field, "")), Arrays.asList(""))),
+            value,
+            new Document("$concat", Arrays.asList(field, ",", value))
+        ));
+    }
+    
+    // ==================== DISPATCH QUEUE ====================
+    
+    /**
+     * Find unassigned pending requests that are not held by a live lease.
+     * Only the fields needed to rank the queue are loaded; claim a request
+     * with {@link #tryLease} to get the full document.
+     */
+    public List<VerificationRequest> findDispatchCandidates() {
+        List<VerificationRequest> requests = new ArrayList<>();
+        try {
+            Bson projection = Projections.include(
+                "visibleId", "verificationType", "status", "priority",
+                "subjectItemName", "subjectItemValue", "createdAt", "expiresAt");
+            
+            for (Document doc : collection.find(claimableFilter(toDate(LocalDateTime.now())))
+                    .projection(projection)) {
+                requests.add(toVerificationRequest(doc));
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error finding dispatch candidates", e);
+        }
+        return requests;
+    }
+    
+    /**
+     * Atomically claim a request for a verifier until {@code leaseExpiresAt}.
+     * Fails if someone else already holds a live lease or the request has been assigned.
+     * @return The leased request, or null if it could not be claimed
+     */
+    public VerificationRequest tryLease(String requestId, String verifierId, LocalDateTime leaseExpiresAt) {
+        Date now = toDate(LocalDateTime.now());
+        return transition(requestId, claimableFilter(now), Updates.combine(
+            Updates.set("leaseOwnerId", verifierId),
+            Updates.set("leaseExpiresAt", toDate(leaseExpiresAt)),
+            Updates.set("updatedAt", now)
+        ));
+    }
+    
+    /**
+     * Extend a lease still held by the verifier
+     * @return The request, or null if the lease was lost
+     */
+    public VerificationRequest renewLease(String requestId, String verifierId, LocalDateTime leaseExpiresAt) {
+        return transition(requestId, liveLeaseFilter(verifierId, toDate(LocalDateTime.now())),
+            Updates.set("leaseExpiresAt", toDate(leaseExpiresAt)));
+    }
+    
+    /**
+     * Give a claimed request back to the queue
+     */
+    public boolean releaseLease(String requestId, String verifierId) {
+        return transition(requestId, Filters.eq("leaseOwnerId", verifierId), Updates.combine(
+            Updates.unset("leaseOwnerId"),
+            Updates.unset("leaseExpiresAt")
+        )) != null;
+    }
+    
+    /**
+     * Turn a live lease into a real assignment (IN_PROGRESS) and clear the lease.
+     * @return The assigned request, or null if the lease expired or was taken over
+     */
+    public VerificationRequest assignLeased(String requestId, String verifierId,
+                                            String verifierName, String verifierRole) {
+        Date now = toDate(LocalDateTime.now());
+        return transition(requestId,
+            Filters.and(liveLeaseFilter(verifierId, now), processableFilter(now)),
+            Updates.combine(
+                Updates.set("verifierId", verifierId),
+                Updates.set("verifierName", verifierName),
+                Updates.set("verifierRole", verifierRole),
+                Updates.set("status", VerificationStatus.IN_PROGRESS.name()),
+                Updates.set("assignedAt", now),
+                Updates.set("updatedAt", now),
+                Updates.unset("leaseOwnerId"),
+                Updates.unset("leaseExpiresAt")
+            ));
+    }
+    
+    /**
+     * PENDING, unassigned, and either never leased or lease timed out
+     */
+    private Bson claimableFilter(Date now) {
+        return Filters.and(
+            Filters.eq("status", VerificationStatus.PENDING.name()),
+            Filters.or(Filters.eq("verifierId", null), Filters.eq("verifierId", "")),
+            Filters.or(Filters.eq("leaseExpiresAt", null), Filters.lt("leaseExpiresAt", now))
+        );
+    }
+    
+    /**
+     * Unassigned or already the verifier's, and not leased by anyone else
+     */
+    private Bson assignableFilter(String verifierId, Date now) {
+        return Filters.and(
+            Filters.or(Filters.eq("verifierId", null), Filters.eq("verifierId", ""),
+                       Filters.eq("verifierId", verifierId)),
+            Filters.or(Filters.eq("leaseOwnerId", null), Filters.eq("leaseOwnerId", verifierId),
+                       Filters.lt("leaseExpiresAt", now))
+        );
+    }
+    
+    private Bson liveLeaseFilter(String verifierId, Date now) {
+        return Filters.and(
+            Filters.eq("leaseOwnerId", verifierId),
+            Filters.gte("leaseExpiresAt", now)
+        );
+    }
+    
     // ==================== DOCUMENT CONVERSION ====================
     
     /**
      * Convert VerificationRequest to MongoDB Document
      */
-    private Document toDocument(VerificationRequest req) {
+    static Document toDocument(VerificationRequest req) {
         Document doc = new Document();
         
         if (req.getRequestId() != null) {
@@ -790,7 +1033,11 @@ public class MongoVerificationDAO {
            .append("updatedAt", toDate(req.getUpdatedAt()))
            .append("assignedAt", toDate(req.getAssignedAt()))
            .append("completedAt", toDate(req.getCompletedAt()))
-           .append("expiresAt", toDate(req.getExpiresAt()));
+           .append("expiresAt", toDate(req.getExpiresAt()))
+           
+           // Dispatch lease
+           .append("leaseOwnerId", req.getLeaseOwnerId())
+           .append("leaseExpiresAt", toDate(req.getLeaseExpiresAt()));
         
         return doc;
     }
@@ -798,7 +1045,7 @@ public class MongoVerificationDAO {
     /**
      * Convert MongoDB Document to VerificationRequest
      */
-    private VerificationRequest toVerificationRequest(Document doc) {
+    static VerificationRequest toVerificationRequest(Document doc) {
         VerificationRequest req = new VerificationRequest();
         
         req.setRequestId(doc.getObjectId("_id").toString());
@@ -888,6 +1135,10 @@ public class MongoVerificationDAO {
         req.setCompletedAt(toLocalDateTime(doc.getDate("completedAt")));
         req.setExpiresAt(toLocalDateTime(doc.getDate("expiresAt")));
         
+        // Dispatch lease
+        req.setLeaseOwnerId(doc.getString("leaseOwnerId"));
+        req.setLeaseExpiresAt(toLocalDateTime(doc.getDate("leaseExpiresAt")));
+        
         return req;
     }
     
@@ -896,7 +1147,7 @@ public class MongoVerificationDAO {
     /**
      * Convert LocalDateTime to Date for MongoDB
      */
-    private Date toDate(LocalDateTime localDateTime) {
+    static Date toDate(LocalDateTime localDateTime) {
         if (localDateTime == null) return null;
         return Date.from(localDateTime.atZone(ZoneId.systemDefault()).toInstant());
     }
@@ -904,7 +1155,7 @@ public class MongoVerificationDAO {
     /**
      * Convert Date from MongoDB to LocalDateTime
      */
-    private LocalDateTime toLocalDateTime(Date date) {
+    static LocalDateTime toLocalDateTime(Date date) {
         if (date == null) return null;
         return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
     }
@@ -2,6 +2,7 @@ package com.campus.lostfound.dao;
 
 import com.campus.lostfound.models.workrequest.*;
 import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoCursor;
 import com.mongodb.client.MongoDatabase;
 import com.mongodb.client.model.Filters;
 import com.mongodb.client.model.Sorts;
@@ -11,8 +12,10 @@ import org.bson.types.ObjectId;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.ArrayList;
+import java.util.BitSet;
 import java.util.Date;
 import java.util.List;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -20,23 +23,26 @@ import java.util.logging.Logger;
  * DAO for WorkRequest and all its subclasses.
  * Handles polymorphic saving and loading of different request types.
  */
-public class MongoWorkRequestDAO {
+public class MongoWorkRequestDAO implements WorkRequestDAO {
     private static final Logger LOGGER = Logger.getLogger(MongoWorkRequestDAO.class.getName());
+    private static MongoWorkRequestDAO instance;
     private final MongoCollection<Document> collection;
     
     public MongoWorkRequestDAO() {
         MongoDatabase database = MongoDBConnection.getInstance().getDatabase();
         this.collection = database.getCollection("work_requests");
         
-        // Create indexes for common queries
-        collection.createIndex(new Document("requesterId", 1));
-        collection.createIndex(new Document("status", 1));
-        collection.createIndex(new Document("requestType", 1));
-        collection.createIndex(new Document("requesterOrganizationId", 1));
-        collection.createIndex(new Document("targetOrganizationId", 1));
-        collection.createIndex(new Document("currentApproverId", 1));
-        
-        LOGGER.info("MongoWorkRequestDAO initialized with indexes");
+        LOGGER.fine("MongoWorkRequestDAO initialized");
+    }
+
+    /**
+     * Shared instance, created on first use
+     */
+    public static synchronized MongoWorkRequestDAO getInstance() {
+        if (instance == null) {
+            instance = new MongoWorkRequestDAO();
+        }
+        return instance;
     }
     
     /**
@@ -67,6 +73,25 @@ public class MongoWorkRequestDAO {
         }
     }
     
+    public int saveAll(List<? extends WorkRequest> requests) {
+        try {
+            List<Document> docs = new ArrayList<>(requests.size());
+            for (WorkRequest request : requests) {
+                docs.add(workRequestToDocument(request).append("_id", new ObjectId()));
+            }
+            BitSet failed = MongoDBConnection.insertUnordered(collection, docs);
+            for (int i = 0; i < requests.size(); i++) {
+                if (!failed.get(i)) {
+                    requests.get(i).setRequestId(docs.get(i).getObjectId("_id").toString());
+                }
+            }
+            return requests.size() - failed.cardinality();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error bulk saving WorkRequests", e);
+            return 0;
+        }
+    }
+    
     /**
      * Find a WorkRequest by ID.
      * Automatically instantiates the correct subclass based on stored type.
@@ -203,6 +228,47 @@ public class MongoWorkRequestDAO {
         }
     }
     
+    /**
+     * Stream all requests through a cursor, newest first (exports)
+     * @param action Called per request; return false to stop early
+     * @return Number of requests visited
+     * @throws com.mongodb.MongoException If the cursor fails part way
+     */
+    public long forEachRequest(Predicate<WorkRequest> action) {
+        long visited = 0;
+        try (MongoCursor<Document> cursor = collection.find()
+                .sort(Sorts.descending("createdAt"))
+                .batchSize(500)
+                .iterator()) {
+            while (cursor.hasNext()) {
+                visited++;
+                if (!action.test(documentToWorkRequest(cursor.next()))) {
+                    break;
+                }
+            }
+        }
+        return visited;
+    }
+    
+    /**
+     * Change marker for caches of derived data (reports): request count plus the
+     * latest update time. Null if the database cannot be reached.
+     */
+    public String getDataWatermark() {
+        try {
+            Document latest = collection.find()
+                    .projection(new Document("lastUpdatedAt", 1))
+                    .sort(Sorts.descending("lastUpdatedAt"))
+                    .limit(1)
+                    .first();
+            Date last = latest != null ? latest.getDate("lastUpdatedAt") : null;
+            return collection.estimatedDocumentCount() + "@" + (last != null ? last.getTime() : 0);
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error reading work request watermark", e);
+            return null;
+        }
+    }
+    
     /**
      * Delete a WorkRequest by ID
      */
@@ -244,9 +310,9 @@ public class MongoWorkRequestDAO {
     
     /**
      * Convert a WorkRequest to a MongoDB Document.
-     * Handles all subclasses polymorphically.
+     * Handles all subclasses polymorphically. Package-private for the decode benchmark.
      */
-    private Document workRequestToDocument(WorkRequest request) {
+    static Document workRequestToDocument(WorkRequest request) {
         Document doc = new Document();
         
         // Set _id if exists
@@ -305,9 +371,9 @@ public class MongoWorkRequestDAO {
     
     /**
      * Convert a MongoDB Document to a WorkRequest.
-     * Instantiates the correct subclass based on requestType.
+     * Instantiates the correct subclass based on requestType. Package-private for the decode benchmark.
      */
-    private WorkRequest documentToWorkRequest(Document doc) {
+    static WorkRequest documentToWorkRequest(Document doc) {
         String typeStr = doc.getString("requestType");
         WorkRequest.RequestType type = WorkRequest.RequestType.valueOf(typeStr);
         
@@ -382,7 +448,7 @@ public class MongoWorkRequestDAO {
     
     // ==================== TYPE-SPECIFIC FIELD METHODS ====================
     
-    private void addItemClaimFields(Document doc, ItemClaimRequest request) {
+    private static void addItemClaimFields(Document doc, ItemClaimRequest request) {
         doc.put("itemId", request.getItemId());
         doc.put("lostItemId", request.getLostItemId());  // For auto-closing matched lost item
         doc.put("itemName", request.getItemName());
@@ -401,7 +467,7 @@ public class MongoWorkRequestDAO {
         doc.put("itemHoldingEnterpriseName", request.getItemHoldingEnterpriseName());
     }
     
-    private void loadItemClaimFields(Document doc, ItemClaimRequest request) {
+    private static void loadItemClaimFields(Document doc, ItemClaimRequest request) {
         request.setItemId(doc.getString("itemId"));
         request.setLostItemId(doc.getString("lostItemId"));  // For auto-closing matched lost item
         request.setItemName(doc.getString("itemName"));
@@ -425,7 +491,7 @@ public class MongoWorkRequestDAO {
         request.setItemHoldingEnterpriseName(doc.getString("itemHoldingEnterpriseName"));
     }
     
-    private void addCrossCampusTransferFields(Document doc, CrossCampusTransferRequest request) {
+    private static void addCrossCampusTransferFields(Document doc, CrossCampusTransferRequest request) {
         doc.put("itemId", request.getItemId());
         doc.put("lostItemId", request.getLostItemId());  // For auto-closing matched lost item
         doc.put("itemName", request.getItemName());
@@ -448,7 +514,7 @@ public class MongoWorkRequestDAO {
         doc.put("trackingNotes", request.getTrackingNotes());
     }
     
-    private void loadCrossCampusTransferFields(Document doc, CrossCampusTransferRequest request) {
+    private static void loadCrossCampusTransferFields(Document doc, CrossCampusTransferRequest request) {
         request.setItemId(doc.getString("itemId"));
         request.setLostItemId(doc.getString("lostItemId"));  // For auto-closing matched lost item
         request.setItemName(doc.getString("itemName"));
@@ -471,7 +537,7 @@ public class MongoWorkRequestDAO {
         request.setTrackingNotes(doc.getString("trackingNotes"));
     }
     
-    private void addTransitTransferFields(Document doc, TransitToUniversityTransferRequest request) {
+    private static void addTransitTransferFields(Document doc, TransitToUniversityTransferRequest request) {
         doc.put("itemId", request.getItemId());
         doc.put("lostItemId", request.getLostItemId());  // For auto-closing matched lost item
         doc.put("itemName", request.getItemName());
@@ -498,7 +564,7 @@ public class MongoWorkRequestDAO {
         doc.put("foundDate", request.getFoundDate());
     }
     
-    private void loadTransitTransferFields(Document doc, TransitToUniversityTransferRequest request) {
+    private static void loadTransitTransferFields(Document doc, TransitToUniversityTransferRequest request) {
         request.setItemId(doc.getString("itemId"));
         request.setLostItemId(doc.getString("lostItemId"));  // For auto-closing matched lost item
         request.setItemName(doc.getString("itemName"));
@@ -525,7 +591,7 @@ public class MongoWorkRequestDAO {
         request.setFoundDate(doc.getString("foundDate"));
     }
     
-    private void addAirportTransferFields(Document doc, AirportToUniversityTransferRequest request) {
+    private static void addAirportTransferFields(Document doc, AirportToUniversityTransferRequest request) {
         doc.put("itemId", request.getItemId());
         doc.put("lostItemId", request.getLostItemId());  // For auto-closing matched lost item
         doc.put("itemName", request.getItemName());
@@ -559,7 +625,7 @@ public class MongoWorkRequestDAO {
         doc.put("securityNotes", request.getSecurityNotes());
     }
     
-    private void loadAirportTransferFields(Document doc, AirportToUniversityTransferRequest request) {
+    private static void loadAirportTransferFields(Document doc, AirportToUniversityTransferRequest request) {
         request.setItemId(doc.getString("itemId"));
         request.setLostItemId(doc.getString("lostItemId"));  // For auto-closing matched lost item
         request.setItemName(doc.getString("itemName"));
@@ -593,7 +659,7 @@ public class MongoWorkRequestDAO {
         request.setSecurityNotes(doc.getString("securityNotes"));
     }
     
-    private void addPoliceEvidenceFields(Document doc, PoliceEvidenceRequest request) {
+    private static void addPoliceEvidenceFields(Document doc, PoliceEvidenceRequest request) {
         doc.put("itemId", request.getItemId());
         doc.put("itemName", request.getItemName());
         doc.put("itemCategory", request.getItemCategory());
@@ -627,7 +693,7 @@ public class MongoWorkRequestDAO {
         doc.put("evidencePhotoUrl", request.getEvidencePhotoUrl());
     }
     
-    private void loadPoliceEvidenceFields(Document doc, PoliceEvidenceRequest request) {
+    private static void loadPoliceEvidenceFields(Document doc, PoliceEvidenceRequest request) {
         request.setItemId(doc.getString("itemId"));
         request.setItemName(doc.getString("itemName"));
         request.setItemCategory(doc.getString("itemCategory"));
@@ -663,7 +729,7 @@ public class MongoWorkRequestDAO {
     
     // ==================== MBTA TO AIRPORT EMERGENCY FIELDS ====================
     
-    private void addMBTAToAirportEmergencyFields(Document doc, MBTAToAirportEmergencyRequest request) {
+    private static void addMBTAToAirportEmergencyFields(Document doc, MBTAToAirportEmergencyRequest request) {
         doc.put("itemId", request.getItemId());
         doc.put("itemName", request.getItemName());
         doc.put("itemDescription", request.getItemDescription());
@@ -705,7 +771,7 @@ public class MongoWorkRequestDAO {
         doc.put("deliveryNotes", request.getDeliveryNotes());
     }
     
-    private void loadMBTAToAirportEmergencyFields(Document doc, MBTAToAirportEmergencyRequest request) {
+    private static void loadMBTAToAirportEmergencyFields(Document doc, MBTAToAirportEmergencyRequest request) {
         request.setItemId(doc.getString("itemId"));
         request.setItemName(doc.getString("itemName"));
         request.setItemDescription(doc.getString("itemDescription"));
@@ -749,7 +815,7 @@ public class MongoWorkRequestDAO {
     
     // ==================== MULTI ENTERPRISE DISPUTE FIELDS ====================
     
-    private void addMultiEnterpriseDisputeFields(Document doc, MultiEnterpriseDisputeResolution request) {
+    private static void addMultiEnterpriseDisputeFields(Document doc, MultiEnterpriseDisputeResolution request) {
         doc.put("itemId", request.getItemId());
         doc.put("itemName", request.getItemName());
         doc.put("itemDescription", request.getItemDescription());
@@ -843,7 +909,7 @@ public class MongoWorkRequestDAO {
         doc.put("evidenceItems", evidenceDocs);
     }
     
-    private void loadMultiEnterpriseDisputeFields(Document doc, MultiEnterpriseDisputeResolution request) {
+    private static void loadMultiEnterpriseDisputeFields(Document doc, MultiEnterpriseDisputeResolution request) {
         request.setItemId(doc.getString("itemId"));
         request.setItemName(doc.getString("itemName"));
         request.setItemDescription(doc.getString("itemDescription"));
@@ -944,12 +1010,12 @@ public class MongoWorkRequestDAO {
     
     // ==================== UTILITY METHODS ====================
     
-    private Date localDateTimeToDate(LocalDateTime ldt) {
+    private static Date localDateTimeToDate(LocalDateTime ldt) {
         if (ldt == null) return null;
         return Date.from(ldt.atZone(ZoneId.systemDefault()).toInstant());
     }
     
-    private LocalDateTime dateToLocalDateTime(Date date) {
+    private static LocalDateTime dateToLocalDateTime(Date date) {
         if (date == null) return null;
         return date.toInstant().atZone(ZoneId.systemDefault()).toLocalDateTime();
     }
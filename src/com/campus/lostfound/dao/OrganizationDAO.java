@@ -0,0 +1,31 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.Organization;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Data access for organizations.
+ *
+ * Implemented by MongoOrganizationDAO and InMemoryOrganizationDAO;
+ * AppContext picks one.
+ */
+public interface OrganizationDAO {
+
+    String create(Organization organization);
+
+    Optional<Organization> findById(String id);
+
+    Optional<Organization> findByName(String name);
+
+    List<Organization> findAll();
+
+    List<Organization> findByEnterpriseId(String enterpriseId);
+
+    List<Organization> findByType(Organization.OrganizationType type);
+
+    boolean update(Organization organization);
+
+    boolean delete(String id);
+}
@@ -0,0 +1,286 @@
+package com.campus.lostfound.dao;
+
+import com.mongodb.client.MongoCollection;
+import com.mongodb.client.MongoDatabase;
+import com.mongodb.client.model.Filters;
+import com.mongodb.client.model.IndexModel;
+import com.mongodb.client.model.IndexOptions;
+import com.mongodb.client.model.ReplaceOptions;
+import org.bson.Document;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * One-time creation of collections, indexes and seed data.
+ *
+ * Every index the DAOs rely on is declared here instead of in their
+ * constructors. Provisioning runs once on a background thread when the
+ * connection opens and records {@link #SCHEMA_VERSION} in a marker document
+ * (schema_info/indexes); later starts read the marker and skip the work, so
+ * opening the login screen or constructing a DAO never waits on createIndex.
+ *
+ * Bump SCHEMA_VERSION whenever an index or collection is added below.
+ *
+ * @author aksha
+ */
+public class SchemaProvisioner {
+
+    private static final Logger LOGGER = Logger.getLogger(SchemaProvisioner.class.getName());
+
+    public static final int SCHEMA_VERSION = 2;
+
+    private static final String MARKER_COLLECTION = "schema_info";
+    private static final String MARKER_ID = "indexes";
+
+    private static final List<String> COLLECTIONS = Arrays.asList(
+            "users", "items", "buildings", "claims", "messages", "notifications");
+
+    private final MongoDatabase database;
+    private CompletableFuture<Boolean> provisioning;
+
+    public SchemaProvisioner(MongoDatabase database) {
+        this.database = database;
+    }
+
+    // ==================== PROVISIONING ====================
+
+    /**
+     * Start provisioning on a daemon thread. Later calls return the same future.
+     * @return Completes with true once the schema is at the current version
+     */
+    public synchronized CompletableFuture<Boolean> provisionInBackground() {
+        if (provisioning == null) {
+            provisioning = new CompletableFuture<>();
+            Thread thread = new Thread(() -> provisioning.complete(provision()), "schema-provisioner");
+            thread.setDaemon(true);
+            thread.start();
+        }
+        return provisioning;
+    }
+
+    /**
+     * Wait for background provisioning, e.g. before seeding bulk data
+     * @return true if the schema is provisioned
+     */
+    public boolean awaitProvisioned(long timeout, TimeUnit unit) {
+        try {
+            return provisionInBackground().get(timeout, unit);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    /**
+     * Bring the schema to the current version, unless the marker says it already is
+     * @return true if the schema is at the current version afterwards
+     */
+    public boolean provision() {
+        long start = System.nanoTime();
+        try {
+            MongoCollection<Document> markers = database.getCollection(MARKER_COLLECTION);
+            Document marker = markers.find(Filters.eq("_id", MARKER_ID)).first();
+            if (marker != null && marker.getInteger("version", 0) >= SCHEMA_VERSION) {
+                LOGGER.fine("Schema already at version " + marker.getInteger("version"));
+                return true;
+            }
+
+            createCollections();
+            backfillGeoPoints();
+            boolean complete = createIndexes();
+            insertDefaultBuildings();
+
+            if (complete) {
+                markers.replaceOne(Filters.eq("_id", MARKER_ID),
+                        new Document("_id", MARKER_ID)
+                                .append("version", SCHEMA_VERSION)
+                                .append("provisionedAt", new Date()),
+                        new ReplaceOptions().upsert(true));
+            }
+            LOGGER.info(String.format("Schema provisioned to version %d in %d ms%s", SCHEMA_VERSION,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start),
+                    complete ? "" : " (some indexes failed, will retry next start)"));
+            return complete;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error provisioning schema", e);
+            return false;
+        }
+    }
+
+    private void createCollections() {
+        Set<String> existing = database.listCollectionNames().into(new HashSet<>());
+        for (String name : COLLECTIONS) {
+            if (!existing.contains(name)) {
+                database.createCollection(name);
+                LOGGER.info("Created collection: " + name);
+            }
+        }
+    }
+
+    /**
+     * One createIndexes command per collection; on a conflict (e.g. an index
+     * created earlier with other options) fall back to one index at a time
+     * @return false if any index could not be created
+     */
+    private boolean createIndexes() {
+        boolean complete = true;
+        for (Map.Entry<String, List<IndexModel>> entry : indexes().entrySet()) {
+            MongoCollection<Document> collection = database.getCollection(entry.getKey());
+            try {
+                collection.createIndexes(entry.getValue());
+            } catch (Exception batchFailure) {
+                for (IndexModel index : entry.getValue()) {
+                    try {
+                        collection.createIndex(index.getKeys(), index.getOptions());
+                    } catch (Exception e) {
+                        LOGGER.log(Level.WARNING, "Could not create index " + index.getKeys()
+                                + " on " + entry.getKey(), e);
+                        complete = false;
+                    }
+                }
+            }
+        }
+        return complete;
+    }
+
+    /**
+     * Give documents written before version 2 the GeoJSON points the 2dsphere
+     * indexes use, built from their latitude/longitude fields
+     */
+    private void backfillGeoPoints() {
+        try {
+            long buildings = database.getCollection("buildings").updateMany(
+                    Filters.and(Filters.exists("geo", false),
+                            Filters.type("latitude", "number"), Filters.type("longitude", "number")),
+                    Arrays.asList(new Document("$set", new Document("geo", new Document("type", "Point")
+                            .append("coordinates", Arrays.asList("$longitude", "$latitude"))))))
+                    .getModifiedCount();
+
+            // Items store 0,0 when no coordinates were recorded
+            long items = database.getCollection("items").updateMany(
+                    Filters.and(Filters.exists("location.geo", false),
+                            Filters.type("location.latitude", "number"), Filters.type("location.longitude", "number"),
+                            Filters.or(Filters.ne("location.latitude", 0.0), Filters.ne("location.longitude", 0.0))),
+                    Arrays.asList(new Document("$set", new Document("location.geo", new Document("type", "Point")
+                            .append("coordinates", Arrays.asList("$location.longitude", "$location.latitude"))))))
+                    .getModifiedCount();
+
+            if (buildings + items > 0) {
+                LOGGER.info("Added geo points to " + buildings + " buildings and " + items + " items");
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error backfilling geo points", e);
+        }
+    }
+
+    // ==================== INDEX DEFINITIONS ====================
+
+    /**
+     * Every index used by the DAOs, by collection
+     */
+    static Map<String, List<IndexModel>> indexes() {
+        Map<String, List<IndexModel>> indexes = new LinkedHashMap<>();
+
+        indexes.put("users", Arrays.asList(
+                index(new Document("email", 1)),
+                index(new Document("trustScore", -1))));
+
+        indexes.put("items", Arrays.asList(
+                index(new Document("status", 1)),
+                index(new Document("category", 1)),
+                index(new Document("type", 1)),
+                index(new Document("reportedDate", -1)),
+                index(new Document("lastModified", -1)),
+                index(new Document("title", "text").append("description", "text")),
+                index(new Document("location.geo", "2dsphere"))));
+
+        indexes.put("buildings", Arrays.asList(
+                index(new Document("code", 1)),
+                index(new Document("geo", "2dsphere"))));
+
+        indexes.put("work_requests", Arrays.asList(
+                index(new Document("requesterId", 1)),
+                index(new Document("status", 1)),
+                index(new Document("requestType", 1)),
+                index(new Document("requesterOrganizationId", 1)),
+                index(new Document("targetOrganizationId", 1)),
+                index(new Document("currentApproverId", 1)),
+                index(new Document("createdAt", -1)),
+                index(new Document("lastUpdatedAt", -1))));
+
+        indexes.put("trust_scores", Arrays.asList(
+                new IndexModel(new Document("userId", 1), new IndexOptions().unique(true)),
+                index(new Document("userEmail", 1)),
+                index(new Document("visibleId", 1)),
+                index(new Document("currentScore", 1)),
+                index(new Document("scoreLevel", 1)),
+                index(new Document("isFlagged", 1)),
+                index(new Document("isUnderInvestigation", 1))));
+
+        indexes.put("trust_score_events", Arrays.asList(
+                index(new Document("userId", 1)),
+                index(new Document("visibleId", 1)),
+                index(new Document("eventType", 1)),
+                index(new Document("timestamp", -1)),
+                index(new Document("relatedItemId", 1)),
+                index(new Document("relatedRequestId", 1)),
+                // User event history
+                index(new Document("userId", 1).append("timestamp", -1))));
+
+        indexes.put("verification_requests", Arrays.asList(
+                // Primary lookups
+                new IndexModel(new Document("visibleId", 1), new IndexOptions().unique(true).sparse(true)),
+                index(new Document("subjectUserId", 1)),
+                index(new Document("subjectItemId", 1)),
+                index(new Document("requesterId", 1)),
+                index(new Document("verifierId", 1)),
+                // Status and type filters
+                index(new Document("status", 1)),
+                index(new Document("verificationType", 1)),
+                index(new Document("priority", 1)),
+                // Time-based queries
+                index(new Document("createdAt", -1)),
+                index(new Document("expiresAt", 1)),
+                index(new Document("updatedAt", -1)),
+                // Compound indexes for common queries
+                index(new Document("status", 1).append("verifierId", 1)),
+                index(new Document("status", 1).append("priority", -1)),
+                index(new Document("subjectUserId", 1).append("verificationType", 1)),
+                index(new Document("verificationType", 1).append("status", 1)),
+                index(new Document("status", 1).append("expiresAt", 1)),
+                // Related entity lookups
+                index(new Document("relatedWorkRequestId", 1)),
+                index(new Document("relatedClaimId", 1))));
+
+        indexes.put("images", Arrays.asList(
+                // Garbage collection scans unreferenced entries by age
+                index(new Document("refCount", 1).append("updatedAt", 1))));
+
+        return indexes;
+    }
+
+    private static IndexModel index(Document keys) {
+        return new IndexModel(keys);
+    }
+
+    // ==================== SEED DATA ====================
+
+    private void insertDefaultBuildings() {
+        MongoCollection<Document> buildings = database.getCollection("buildings");
+
+        // Check if buildings already exist
+        if (buildings.countDocuments() > 0) {
+            return;
+        }
+
+        List<Document> defaultBuildings = MongoBuildingDAO.defaultBuildings();
+        buildings.insertMany(defaultBuildings);
+        LOGGER.info("Inserted " + defaultBuildings.size() + " default buildings");
+    }
+}
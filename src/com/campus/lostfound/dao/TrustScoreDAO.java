@@ -0,0 +1,260 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.trustscore.TrustScore;
+import com.campus.lostfound.models.trustscore.TrustScore.ScoreLevel;
+import com.campus.lostfound.models.trustscore.TrustScoreEvent;
+import com.campus.lostfound.models.trustscore.TrustScoreEvent.EventType;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data access for TrustScore and TrustScoreEvent records.
+ *
+ * Implemented by MongoTrustScoreDAO and InMemoryTrustScoreDAO; AppContext
+ * picks one.
+ */
+public interface TrustScoreDAO {
+
+    // ==================== TRUST SCORE CRUD ====================
+
+    /**
+     * Save a new TrustScore or update existing one
+     * @return The scoreId, or null on failure
+     */
+    String saveTrustScore(TrustScore score);
+
+    TrustScore findScoreById(String scoreId);
+
+    /**
+     * Find TrustScore by user ID (most common lookup)
+     */
+    TrustScore findScoreByUserId(String userId);
+
+    TrustScore findScoreByEmail(String email);
+
+    /**
+     * Update just the score value (quick update)
+     */
+    boolean updateScore(String userId, double newScore);
+
+    boolean deleteTrustScore(String scoreId);
+
+    // ==================== TRUST SCORE QUERIES ====================
+
+    /**
+     * All TrustScores, highest first
+     */
+    List<TrustScore> findAllScores();
+
+    List<TrustScore> getScoresByRange(double minScore, double maxScore);
+
+    /**
+     * Users below a threshold (for flagging/review), lowest first
+     */
+    List<TrustScore> getScoresBelowThreshold(double threshold);
+
+    List<TrustScore> getScoresAboveThreshold(double threshold);
+
+    /**
+     * Get low trust users (below 50)
+     */
+    List<TrustScore> getLowTrustUsers();
+
+    /**
+     * Get excellent users (90+)
+     */
+    List<TrustScore> getExcellentUsers();
+
+    List<TrustScore> getFlaggedUsers();
+
+    List<TrustScore> getUsersUnderInvestigation();
+
+    List<TrustScore> getScoresByLevel(ScoreLevel level);
+
+    // ==================== TRUST SCORE EVENTS ====================
+
+    /**
+     * Save a TrustScoreEvent
+     * @return The eventId, or null on failure
+     */
+    String saveEvent(TrustScoreEvent event);
+
+    /**
+     * Insert many new events in unordered batches, for bulk loading. Scores
+     * are not recalculated.
+     * @return Number of events inserted
+     */
+    int saveEvents(List<TrustScoreEvent> events);
+
+    TrustScoreEvent findEventById(String eventId);
+
+    /**
+     * Delete an event (admin only, for corrections)
+     */
+    boolean deleteEvent(String eventId);
+
+    /**
+     * Get all events for a user (most recent first)
+     */
+    List<TrustScoreEvent> getEventsForUser(String userId);
+
+    List<TrustScoreEvent> getRecentEventsForUser(String userId, int limit);
+
+    List<TrustScoreEvent> getEventsByType(EventType eventType);
+
+    List<TrustScoreEvent> getEventsByItemId(String itemId);
+
+    List<TrustScoreEvent> getEventsByRequestId(String requestId);
+
+    List<TrustScoreEvent> getEventsByDateRange(LocalDateTime start, LocalDateTime end);
+
+    /**
+     * Get negative events for a user (for investigation)
+     */
+    List<TrustScoreEvent> getNegativeEventsForUser(String userId);
+
+    // ==================== STATISTICS ====================
+
+    /**
+     * Average trust score across all users (50 when there are none)
+     */
+    double getAverageScore();
+
+    Map<ScoreLevel, Long> getScoreDistribution();
+
+    long getTotalScoresCount();
+
+    long getTotalEventsCount();
+
+    Map<EventType, Long> getEventTypeDistribution();
+
+    long getFlaggedUsersCount();
+
+    /**
+     * Every trust-score dashboard figure in one call. Falls back to the
+     * trustScore field of the users when no trust score records exist yet.
+     *
+     * @param enterpriseId Restrict to users of this enterprise, or null for the whole network
+     */
+    ScoreAggregate getScoreAggregate(String enterpriseId);
+
+    // ==================== FLAG OPERATIONS ====================
+
+    boolean flagUser(String userId, String reason);
+
+    boolean clearUserFlag(String userId);
+
+    boolean startInvestigation(String userId);
+
+    boolean endInvestigation(String userId);
+
+    // ==================== CONSOLIDATED AGGREGATES ====================
+
+    /**
+     * Result of {@link #getScoreAggregate(String)}.
+     */
+    class ScoreAggregate {
+        long count;
+        double average = TrustScore.DEFAULT_INITIAL_SCORE;
+        double min;
+        double max;
+        long flaggedCount;
+        long investigationCount;
+        final long[] histogram = new long[101];
+        private final Map<ScoreLevel, Long> levelCounts = new LinkedHashMap<>();
+        private long added;
+        private double sum;
+
+        public ScoreAggregate() {
+            for (ScoreLevel level : ScoreLevel.values()) {
+                levelCounts.put(level, 0L);
+            }
+        }
+
+        public long getCount() { return count; }
+        public double getAverage() { return average; }
+        public double getMin() { return min; }
+        public double getMax() { return max; }
+        public long getFlaggedCount() { return flaggedCount; }
+        public long getInvestigationCount() { return investigationCount; }
+        public Map<ScoreLevel, Long> getLevelCounts() { return levelCounts; }
+
+        /**
+         * Number of users whose score floors to the given point (0-100)
+         */
+        public long getCountAtScore(int point) {
+            return point >= 0 && point <= 100 ? histogram[point] : 0L;
+        }
+
+        /**
+         * Nearest-rank percentile at one-point resolution.
+         * @param percentile Value in the range 0-100
+         */
+        public double getPercentile(double percentile) {
+            if (count == 0) {
+                return average;
+            }
+            long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long cumulative = 0;
+            for (int point = 0; point <= 100; point++) {
+                cumulative += histogram[point];
+                if (cumulative >= rank) {
+                    return point;
+                }
+            }
+            return 100;
+        }
+
+        public double getMedian() {
+            return getPercentile(50);
+        }
+
+        /**
+         * Count one score, for stores that aggregate in memory; call
+         * {@link #finish()} after the last one
+         */
+        void add(double score, boolean flagged, boolean investigating) {
+            min = count == 0 ? score : Math.min(min, score);
+            max = count == 0 ? score : Math.max(max, score);
+            count++;
+            added++;
+            sum += score;
+            histogram[(int) Math.max(0, Math.min(100, Math.floor(score)))]++;
+            if (flagged) {
+                flaggedCount++;
+            }
+            if (investigating) {
+                investigationCount++;
+            }
+        }
+
+        /**
+         * Derive the average (when scores were added one by one) and the
+         * level counts from the histogram
+         */
+        void finish() {
+            if (added > 0) {
+                average = sum / added;
+            }
+            for (int point = 0; point <= 100; point++) {
+                if (histogram[point] > 0) {
+                    levelCounts.merge(ScoreLevel.fromScore(point), histogram[point], Long::sum);
+                }
+            }
+        }
+
+        @Override
+        public String toString() {
+            return "ScoreAggregate{" +
+                    "count=" + count +
+                    ", average=" + String.format("%.1f", average) +
+                    ", median=" + String.format("%.0f", getMedian()) +
+                    ", flagged=" + flaggedCount +
+                    ", investigating=" + investigationCount +
+                    '}';
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.User;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Predicate;
+
+/**
+ * Data access for user accounts.
+ *
+ * Implemented by MongoUserDAO and InMemoryUserDAO; AppContext picks one.
+ *
+ * @author aksha
+ */
+public interface UserDAO {
+
+    /**
+     * Create an active account with the given password
+     * @return The new user's id, or null on failure
+     */
+    String create(User user, String password);
+
+    /**
+     * Create many active accounts sharing one password, in unordered batches,
+     * for bulk loading. Each user gets its mongoId and userId as read back
+     * from the store.
+     * @return Number of users created
+     */
+    int createAll(List<User> users, String password);
+
+    Optional<User> findById(String id);
+
+    Optional<User> findByEmail(String email);
+
+    /**
+     * True if the account is active and the password matches; records the login
+     */
+    boolean authenticate(String email, String password);
+
+    /**
+     * All active users
+     */
+    List<User> findAll();
+
+    /**
+     * Visit active users without loading them all
+     * @param action Called per user; return false to stop early
+     * @return Number of users visited
+     * @throws RuntimeException If reading fails part way
+     */
+    long forEachActiveUser(Predicate<User> action);
+
+    /**
+     * Change marker for caches of derived data (reports). Null if the store
+     * cannot be reached.
+     */
+    String getDataWatermark();
+
+    long countActiveUsers();
+
+    /**
+     * Apply a trust score action (RETURN, FALSE_CLAIM, REPORT) to the user with this id
+     */
+    void updateTrustScore(String userId, String action);
+
+    /**
+     * Apply a trust score action (RETURN, FALSE_CLAIM, REPORT, HELPED_RETURN) to the user with this email
+     */
+    void updateTrustScoreByEmail(String email, String action);
+
+    /**
+     * Update user information (role, trust score, active status)
+     */
+    boolean update(User user);
+
+    /**
+     * Update user information (role, trust score, active status)
+     * @deprecated Use update(User) instead
+     */
+    @Deprecated
+    boolean updateUser(User user);
+
+    boolean setUserActive(String email, boolean active);
+
+    boolean isUserActive(String email);
+
+    /**
+     * All users including inactive ones
+     */
+    List<User> findAllIncludingInactive();
+
+    // ==================== WRITE LISTENERS ====================
+
+    /**
+     * Told about every successful account change through this DAO (create,
+     * update, trust score, active flag), on the writing thread. Bulk loads
+     * through createAll are not reported.
+     */
+    interface WriteListener {
+        /**
+         * @param mongoId The user's id, or null if the write only knew the email
+         * @param email The user's email, or null if the write only knew the id
+         */
+        void userChanged(String mongoId, String email);
+    }
+
+    void addWriteListener(WriteListener listener);
+
+    void removeWriteListener(WriteListener listener);
+}
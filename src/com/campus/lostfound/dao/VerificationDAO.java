@@ -0,0 +1,202 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.verification.VerificationRequest;
+import com.campus.lostfound.models.verification.VerificationRequest.VerificationStatus;
+import com.campus.lostfound.models.verification.VerificationRequest.VerificationType;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Data access for VerificationRequest records.
+ *
+ * Status transitions and dispatch leases are conditional and atomic: they
+ * return null instead of overwriting a request someone else has moved on.
+ *
+ * Implemented by MongoVerificationDAO and InMemoryVerificationDAO;
+ * AppContext picks one.
+ *
+ * @author Developer 3 - Security & Verification Specialist
+ */
+public interface VerificationDAO {
+
+    // ==================== CRUD OPERATIONS ====================
+
+    /**
+     * Save a new VerificationRequest
+     * @return The requestId, or null on failure
+     */
+    String save(VerificationRequest request);
+
+    /**
+     * Update an existing VerificationRequest
+     */
+    boolean update(VerificationRequest request);
+
+    VerificationRequest findById(String requestId);
+
+    /**
+     * Find by visible ID (e.g., "VR-001234")
+     */
+    VerificationRequest findByVisibleId(String visibleId);
+
+    boolean delete(String requestId);
+
+    // ==================== QUERY METHODS ====================
+
+    /**
+     * Find all verification requests for a user (as subject)
+     */
+    List<VerificationRequest> findByUserId(String userId);
+
+    List<VerificationRequest> findByItemId(String itemId);
+
+    List<VerificationRequest> findByStatus(VerificationStatus status);
+
+    List<VerificationRequest> findByType(VerificationType type);
+
+    /**
+     * Find pending requests assigned to a verifier
+     */
+    List<VerificationRequest> findPendingForVerifier(String verifierId);
+
+    List<VerificationRequest> findUnassignedPending();
+
+    /**
+     * Find expired requests (not yet marked as expired)
+     */
+    List<VerificationRequest> findExpired();
+
+    /**
+     * Find overdue requests (past SLA but not expired)
+     */
+    List<VerificationRequest> findOverdue();
+
+    /**
+     * Requests where the user is either subject or requester
+     */
+    List<VerificationRequest> getVerificationHistory(String userId);
+
+    List<VerificationRequest> findByWorkRequestId(String workRequestId);
+
+    List<VerificationRequest> findByClaimId(String claimId);
+
+    /**
+     * Find requests requiring police involvement
+     */
+    List<VerificationRequest> findRequiringPolice();
+
+    /**
+     * Find items flagged as potentially stolen
+     */
+    List<VerificationRequest> findStolenFlags();
+
+    List<VerificationRequest> findHighValuePending(double minValue);
+
+    boolean hasPendingVerification(String userId, VerificationType type);
+
+    boolean isUserVerified(String userId, VerificationType type);
+
+    // ==================== STATISTICS ====================
+
+    Map<VerificationStatus, Long> getCountByStatus();
+
+    Map<VerificationType, Long> getCountByType();
+
+    long getTotalCount();
+
+    long getPendingCount();
+
+    long getTodayCompletions();
+
+    /**
+     * Get average processing time (in hours) for completed verifications
+     */
+    double getAverageProcessingTimeHours();
+
+    // ==================== BULK OPERATIONS ====================
+
+    /**
+     * Mark every active request whose expiry has passed as EXPIRED
+     * @return Number of requests marked
+     */
+    int markExpiredRequests();
+
+    List<VerificationRequest> findAll();
+
+    List<VerificationRequest> findByDateRange(LocalDateTime start, LocalDateTime end);
+
+    // ==================== STATUS TRANSITIONS ====================
+
+    /**
+     * Assign a verifier, only if the request is still active and not past expiry,
+     * not assigned to another verifier, and not under another verifier's live lease.
+     * @return The updated request, or null if not found, no longer processable or held by someone else
+     */
+    VerificationRequest assignIfProcessable(String requestId, String verifierId,
+                                            String verifierName, String verifierRole);
+
+    /**
+     * Mark as VERIFIED, only if the request is still active and not past expiry.
+     * @return The updated request, or null if not found or no longer processable
+     */
+    VerificationRequest completeIfProcessable(String requestId, String notes);
+
+    /**
+     * Mark as FAILED, only if the request is still active and not past expiry.
+     * @return The updated request, or null if not found or no longer processable
+     */
+    VerificationRequest failIfProcessable(String requestId, String reason);
+
+    /**
+     * Mark as CANCELLED regardless of current status.
+     * @return The updated request, or null if not found
+     */
+    VerificationRequest cancelRequest(String requestId, String reason);
+
+    /**
+     * Move to an awaiting status (AWAITING_DOCUMENTS / AWAITING_RESPONSE) with notes.
+     * @return The updated request, or null if not found
+     */
+    VerificationRequest setAwaitingStatus(String requestId, VerificationStatus status, String notes);
+
+    /**
+     * Record one multi-party approval atomically, completing the request once
+     * the required number of approvals is reached.
+     * @return The updated request, or null if not found or no longer active
+     */
+    VerificationRequest recordApprovalIfActive(String requestId, String approverId, String approverName);
+
+    // ==================== DISPATCH QUEUE ====================
+
+    /**
+     * Unassigned pending requests not held by a live lease. Only the fields
+     * needed to rank the queue are guaranteed to be filled in.
+     */
+    List<VerificationRequest> findDispatchCandidates();
+
+    /**
+     * Claim a request for a verifier until {@code leaseExpiresAt}.
+     * @return The leased request, or null if it could not be claimed
+     */
+    VerificationRequest tryLease(String requestId, String verifierId, LocalDateTime leaseExpiresAt);
+
+    /**
+     * Extend a lease still held by the verifier
+     * @return The request, or null if the lease was lost
+     */
+    VerificationRequest renewLease(String requestId, String verifierId, LocalDateTime leaseExpiresAt);
+
+    /**
+     * Give a claimed request back to the queue
+     */
+    boolean releaseLease(String requestId, String verifierId);
+
+    /**
+     * Turn a live lease into a real assignment (IN_PROGRESS) and clear the lease.
+     * @return The assigned request, or null if the lease expired or was taken over
+     */
+    VerificationRequest assignLeased(String requestId, String verifierId,
+                                     String verifierName, String verifierRole);
+}
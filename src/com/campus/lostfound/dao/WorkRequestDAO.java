@@ -0,0 +1,70 @@
+package com.campus.lostfound.dao;
+
+import com.campus.lostfound.models.workrequest.WorkRequest;
+
+import java.util.List;
+import java.util.function.Predicate;
+
+/**
+ * Data access for WorkRequest and all its subclasses. Lists are newest first.
+ *
+ * Implemented by MongoWorkRequestDAO and InMemoryWorkRequestDAO; AppContext
+ * picks one.
+ */
+public interface WorkRequestDAO {
+
+    /**
+     * Insert a new request (no requestId yet) or replace an existing one
+     * @return The request ID, or null on failure
+     */
+    String save(WorkRequest request);
+
+    /**
+     * Insert many new requests in unordered batches, for bulk loading; each
+     * request gets its requestId
+     * @return Number of requests inserted
+     */
+    int saveAll(List<? extends WorkRequest> requests);
+
+    /**
+     * The request as its concrete subclass, or null if not found
+     */
+    WorkRequest findById(String id);
+
+    List<WorkRequest> findByRequesterId(String requesterId);
+
+    List<WorkRequest> findByStatus(WorkRequest.RequestStatus status);
+
+    List<WorkRequest> findByType(WorkRequest.RequestType type);
+
+    List<WorkRequest> findByRequesterOrganization(String organizationId);
+
+    List<WorkRequest> findByTargetOrganization(String organizationId);
+
+    /**
+     * Pending or in-progress requests waiting on this approver
+     */
+    List<WorkRequest> findPendingForApprover(String approverId);
+
+    List<WorkRequest> findAll();
+
+    /**
+     * Visit all requests without loading them all, newest first
+     * @param action Called per request; return false to stop early
+     * @return Number of requests visited
+     * @throws RuntimeException If reading fails part way
+     */
+    long forEachRequest(Predicate<WorkRequest> action);
+
+    /**
+     * Change marker for caches of derived data (reports). Null if the store
+     * cannot be reached.
+     */
+    String getDataWatermark();
+
+    boolean delete(String id);
+
+    long count();
+
+    long countByStatus(WorkRequest.RequestStatus status);
+}
@@ -16,6 +16,8 @@ public class Building {
     private String address;
     private BuildingType type;
     private User coordinator; // Building coordinator
+    private double latitude;
+    private double longitude;
     
     // Enterprise Context
     private String enterpriseId;
@@ -123,6 +125,27 @@ public class Building {
         this.type = type;
     }
 
+    public double getLatitude() {
+        return latitude;
+    }
+
+    public void setLatitude(double latitude) {
+        this.latitude = latitude;
+    }
+
+    public double getLongitude() {
+        return longitude;
+    }
+
+    public void setLongitude(double longitude) {
+        this.longitude = longitude;
+    }
+
+    // 0,0 means the coordinates were never recorded
+    public boolean hasCoordinates() {
+        return latitude != 0.0 || longitude != 0.0;
+    }
+
     public User getCoordinator() {
         return coordinator;
     }
@@ -32,6 +32,7 @@ public class Item {
     private User reportedBy;
     private User claimedBy;
     private List<String> imagePaths;
+    private List<Long> imageFingerprints; // Perceptual hashes of the photos, for image matching
     private List<String> keywords; // For matching algorithm
     private String primaryColor;
     private String brand;
@@ -133,6 +134,7 @@ public class Item {
         this.reportedDate = new Date();
         this.status = ItemStatus.OPEN;
         this.imagePaths = new ArrayList<>();
+        this.imageFingerprints = new ArrayList<>();
         this.keywords = extractKeywords(title + " " + description);
     }
 
@@ -264,6 +266,18 @@ public class Item {
         this.imagePaths.add(path);
     }
 
+    public List<Long> getImageFingerprints() {
+        return imageFingerprints;
+    }
+
+    public void setImageFingerprints(List<Long> imageFingerprints) {
+        this.imageFingerprints = imageFingerprints != null ? imageFingerprints : new ArrayList<>();
+    }
+
+    public boolean hasImageFingerprints() {
+        return imageFingerprints != null && !imageFingerprints.isEmpty();
+    }
+
     public String getPrimaryColor() {
         return primaryColor;
     }
@@ -39,15 +39,43 @@ public class Location {
         return sb.toString();
     }
 
-    // Calculate distance between two locations (simplified)
+    public static final double EARTH_RADIUS_KM = 6371.0;
+
+    // Great-circle distance in km; 0 within a building, infinite when either side has no coordinates
     public double distanceFrom(Location other) {
         if (this.building.equals(other.building)) {
             return 0.0; // Same building
         }
-        // Simplified distance calculation
-        double latDiff = Math.abs(this.latitude - other.latitude);
-        double lonDiff = Math.abs(this.longitude - other.longitude);
-        return Math.sqrt(latDiff * latDiff + lonDiff * lonDiff) * 111.0; // km
+        if (!hasCoordinates() || !other.hasCoordinates()) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return distanceKm(getEffectiveLatitude(), getEffectiveLongitude(),
+                other.getEffectiveLatitude(), other.getEffectiveLongitude());
+    }
+
+    // Haversine distance between two points, in km
+    public static double distanceKm(double lat1, double lon1, double lat2, double lon2) {
+        double dLat = Math.toRadians(lat2 - lat1);
+        double dLon = Math.toRadians(lon2 - lon1);
+        double a = Math.sin(dLat / 2) * Math.sin(dLat / 2)
+                + Math.cos(Math.toRadians(lat1)) * Math.cos(Math.toRadians(lat2))
+                * Math.sin(dLon / 2) * Math.sin(dLon / 2);
+        return 2 * EARTH_RADIUS_KM * Math.asin(Math.min(1.0, Math.sqrt(a)));
+    }
+
+    // True if the spot itself or its building has coordinates
+    public boolean hasCoordinates() {
+        return latitude != 0.0 || longitude != 0.0
+                || (building != null && building.hasCoordinates());
+    }
+
+    // Coordinates of the spot if recorded, otherwise of the building
+    public double getEffectiveLatitude() {
+        return (latitude != 0.0 || longitude != 0.0 || building == null) ? latitude : building.getLatitude();
+    }
+
+    public double getEffectiveLongitude() {
+        return (latitude != 0.0 || longitude != 0.0 || building == null) ? longitude : building.getLongitude();
     }
 
     // Getters and setters
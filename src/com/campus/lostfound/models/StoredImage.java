@@ -0,0 +1,130 @@
+package com.campus.lostfound.models;
+
+import java.util.Date;
+
+/**
+ * Metadata for an image in the content-addressed image store.
+ *
+ * The hash (SHA-256 of the uploaded bytes) is the identity: the same photo
+ * uploaded by several enterprises is stored once and shared by reference count.
+ * Width, height and format are recorded at ingest so callers can lay out
+ * previews without decoding the file.
+ *
+ * @author aksha
+ */
+public class StoredImage {
+
+    private String hash;
+    private String relativePath;   // e.g. uploaded_images/objects/3f/a9/3fa9....jpg
+    private String format;         // "jpeg", "png", "gif", ... or null if not a readable image
+    private int width;
+    private int height;
+    private long sizeBytes;
+    private Long perceptualHash;   // 64-bit dHash, null if not an image
+    private int refCount;
+    private Date createdAt;
+    private Date updatedAt;
+
+    public StoredImage() {
+    }
+
+    public StoredImage(String hash, String relativePath) {
+        this.hash = hash;
+        this.relativePath = relativePath;
+        this.createdAt = new Date();
+        this.updatedAt = this.createdAt;
+    }
+
+    /**
+     * Whether the stored file could be identified as an image at ingest
+     */
+    public boolean hasDimensions() {
+        return width > 0 && height > 0;
+    }
+
+    // Getters and Setters
+    public String getHash() {
+        return hash;
+    }
+
+    public void setHash(String hash) {
+        this.hash = hash;
+    }
+
+    public String getRelativePath() {
+        return relativePath;
+    }
+
+    public void setRelativePath(String relativePath) {
+        this.relativePath = relativePath;
+    }
+
+    public String getFormat() {
+        return format;
+    }
+
+    public void setFormat(String format) {
+        this.format = format;
+    }
+
+    public int getWidth() {
+        return width;
+    }
+
+    public void setWidth(int width) {
+        this.width = width;
+    }
+
+    public int getHeight() {
+        return height;
+    }
+
+    public void setHeight(int height) {
+        this.height = height;
+    }
+
+    public long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public void setSizeBytes(long sizeBytes) {
+        this.sizeBytes = sizeBytes;
+    }
+
+    public Long getPerceptualHash() {
+        return perceptualHash;
+    }
+
+    public void setPerceptualHash(Long perceptualHash) {
+        this.perceptualHash = perceptualHash;
+    }
+
+    public int getRefCount() {
+        return refCount;
+    }
+
+    public void setRefCount(int refCount) {
+        this.refCount = refCount;
+    }
+
+    public Date getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(Date createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public Date getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(Date updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    @Override
+    public String toString() {
+        return hash + " (" + width + "x" + height + " " + format + ", refs=" + refCount + ")";
+    }
+}
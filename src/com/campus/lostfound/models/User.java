@@ -95,6 +95,28 @@ public class User {
         this.role = role;
     }
 
+    /**
+     * Copy of another user (the primary building is shared)
+     */
+    public User(User other) {
+        this.userId = other.userId;
+        this.mongoId = other.mongoId;
+        this.email = other.email;
+        this.firstName = other.firstName;
+        this.lastName = other.lastName;
+        this.phoneNumber = other.phoneNumber;
+        this.role = other.role;
+        this.trustScore = other.trustScore;
+        this.itemsReported = other.itemsReported;
+        this.itemsReturned = other.itemsReturned;
+        this.falseClaims = other.falseClaims;
+        this.joinDate = other.joinDate != null ? new Date(other.joinDate.getTime()) : null;
+        this.primaryBuilding = other.primaryBuilding;
+        this.enterpriseId = other.enterpriseId;
+        this.organizationId = other.organizationId;
+        this.active = other.active;
+    }
+
     // Calculate trust score based on user behavior
     public void recalculateTrustScore() {
         double baseScore = 100.0;
@@ -238,6 +238,10 @@ public class VerificationRequest {
     private LocalDateTime completedAt;      // When verification completed
     private LocalDateTime expiresAt;        // When request expires
     
+    // Dispatch queue lease (claimed but not yet started)
+    private String leaseOwnerId;            // Verifier currently holding the claim
+    private LocalDateTime leaseExpiresAt;   // Claim returns to the queue after this
+    
     // ==================== CONSTRUCTORS ====================
     
     /**
@@ -306,6 +310,14 @@ public class VerificationRequest {
         return !status.isTerminal() && !isExpired();
     }
     
+    /**
+     * Check if a dispatch-queue claim is currently held
+     */
+    public boolean isLeased() {
+        return leaseOwnerId != null && leaseExpiresAt != null 
+            && leaseExpiresAt.isAfter(LocalDateTime.now());
+    }
+    
     /**
      * Check if request is overdue based on priority SLA
      */
@@ -815,6 +827,22 @@ public class VerificationRequest {
         this.expiresAt = expiresAt;
     }
     
+    public String getLeaseOwnerId() {
+        return leaseOwnerId;
+    }
+    
+    public void setLeaseOwnerId(String leaseOwnerId) {
+        this.leaseOwnerId = leaseOwnerId;
+    }
+    
+    public LocalDateTime getLeaseExpiresAt() {
+        return leaseExpiresAt;
+    }
+    
+    public void setLeaseExpiresAt(LocalDateTime leaseExpiresAt) {
+        this.leaseExpiresAt = leaseExpiresAt;
+    }
+    
     // ==================== OBJECT METHODS ====================
     
     @Override
@@ -8,10 +8,12 @@ import com.campus.lostfound.models.workrequest.WorkRequest;
 import com.campus.lostfound.models.workrequest.WorkRequest.*;
 import com.campus.lostfound.models.trustscore.TrustScore;
 import com.campus.lostfound.models.trustscore.TrustScore.ScoreLevel;
+import com.campus.lostfound.utils.Instrumentation;
 
 import java.time.*;
 import java.time.temporal.ChronoUnit;
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -35,37 +37,44 @@ public class AnalyticsService {
     
     // ==================== DEPENDENCIES ====================
     
-    private final MongoItemDAO itemDAO;
-    private final MongoUserDAO userDAO;
-    private final MongoEnterpriseDAO enterpriseDAO;
-    private final MongoOrganizationDAO organizationDAO;
-    private final MongoWorkRequestDAO workRequestDAO;
-    private final MongoTrustScoreDAO trustScoreDAO;
+    private final ItemDAO itemDAO;
+    private final UserDAO userDAO;
+    private final EnterpriseDAO enterpriseDAO;
+    private final OrganizationDAO organizationDAO;
+    private final WorkRequestDAO workRequestDAO;
+    private final TrustScoreDAO trustScoreDAO;
     private final EnterpriseItemService enterpriseItemService;
     
     // Cache for expensive calculations
-    private Map<String, Object> analyticsCache = new HashMap<>();
-    private long cacheRefreshTime = 0;
+    private final Map<String, Object> analyticsCache = new ConcurrentHashMap<>();
+    private volatile long cacheRefreshTime = 0;
     private static final long CACHE_TTL = 2 * 60 * 1000; // 2 minutes
     
     // ==================== CONSTRUCTORS ====================
     
     public AnalyticsService() {
-        this.itemDAO = new MongoItemDAO();
-        this.userDAO = new MongoUserDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestDAO = new MongoWorkRequestDAO();
-        this.trustScoreDAO = new MongoTrustScoreDAO();
-        this.enterpriseItemService = new EnterpriseItemService();
+        this(AppContext.getInstance().getEnterpriseItemService());
+    }
+    
+    /**
+     * Constructor sharing an existing EnterpriseItemService and its name caches
+     */
+    public AnalyticsService(EnterpriseItemService enterpriseItemService) {
+        this.itemDAO = AppContext.getInstance().getItemDAO();
+        this.userDAO = AppContext.getInstance().getUserDAO();
+        this.enterpriseDAO = AppContext.getInstance().getEnterpriseDAO();
+        this.organizationDAO = AppContext.getInstance().getOrganizationDAO();
+        this.workRequestDAO = AppContext.getInstance().getWorkRequestDAO();
+        this.trustScoreDAO = AppContext.getInstance().getTrustScoreDAO();
+        this.enterpriseItemService = enterpriseItemService;
     }
     
     /**
      * Constructor for testing with mock DAOs
      */
-    public AnalyticsService(MongoItemDAO itemDAO, MongoUserDAO userDAO,
-                           MongoEnterpriseDAO enterpriseDAO, MongoOrganizationDAO organizationDAO,
-                           MongoWorkRequestDAO workRequestDAO, MongoTrustScoreDAO trustScoreDAO,
+    public AnalyticsService(ItemDAO itemDAO, UserDAO userDAO,
+                           EnterpriseDAO enterpriseDAO, OrganizationDAO organizationDAO,
+                           WorkRequestDAO workRequestDAO, TrustScoreDAO trustScoreDAO,
                            EnterpriseItemService enterpriseItemService) {
         this.itemDAO = itemDAO;
         this.userDAO = userDAO;
@@ -337,57 +346,38 @@ public class AnalyticsService {
      * Calculate average trust score across all users
      */
     public double getAverageTrustScore() {
-        try {
-            List<TrustScore> scores = trustScoreDAO.findAllScores();
-            if (scores.isEmpty()) {
-                // Fall back to user model trust scores
-                List<User> users = userDAO.findAll();
-                return users.stream()
-                    .mapToDouble(User::getTrustScore)
-                    .average()
-                    .orElse(50.0);
-            }
-            
-            return scores.stream()
-                .mapToDouble(TrustScore::getCurrentScore)
-                .average()
-                .orElse(50.0);
-                
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error calculating average trust score", e);
-            return 50.0;
-        }
+        return getTrustScoreAggregate(null).getAverage();
     }
     
     /**
      * Get trust score distribution by level
      */
     public Map<ScoreLevel, Long> getTrustScoreDistribution() {
-        try {
-            List<TrustScore> scores = trustScoreDAO.findAllScores();
-            
-            if (scores.isEmpty()) {
-                // Fall back to user model
-                List<User> users = userDAO.findAll();
-                Map<ScoreLevel, Long> dist = new EnumMap<>(ScoreLevel.class);
-                for (ScoreLevel level : ScoreLevel.values()) {
-                    dist.put(level, 0L);
-                }
-                
-                for (User user : users) {
-                    ScoreLevel level = getScoreLevelFromValue(user.getTrustScore());
-                    dist.merge(level, 1L, Long::sum);
-                }
-                return dist;
-            }
-            
-            return scores.stream()
-                .collect(Collectors.groupingBy(TrustScore::getScoreLevel, Collectors.counting()));
-                
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error getting trust score distribution", e);
-            return new EnumMap<>(ScoreLevel.class);
+        return new EnumMap<>(getTrustScoreAggregate(null).getLevelCounts());
+    }
+    
+    /**
+     * Get the consolidated trust score aggregate (average, percentiles,
+     * level histogram, flagged/investigation counts) computed server-side
+     * in one query.
+     * 
+     * @param enterpriseId Enterprise to scope to, or null for the whole network
+     */
+    public TrustScoreDAO.ScoreAggregate getTrustScoreAggregate(String enterpriseId) {
+        String cacheKey = "trustScoreAggregate:" + (enterpriseId != null ? enterpriseId : "*");
+        if (System.currentTimeMillis() - cacheRefreshTime > CACHE_TTL) {
+            analyticsCache.clear();
+            cacheRefreshTime = System.currentTimeMillis();
+        }
+        
+        Object cached = analyticsCache.get(cacheKey);
+        if (cached instanceof TrustScoreDAO.ScoreAggregate) {
+            return (TrustScoreDAO.ScoreAggregate) cached;
         }
+        
+        TrustScoreDAO.ScoreAggregate aggregate = trustScoreDAO.getScoreAggregate(enterpriseId);
+        analyticsCache.put(cacheKey, aggregate);
+        return aggregate;
     }
     
     /**
@@ -425,44 +415,40 @@ public class AnalyticsService {
     // ==================== ENTERPRISE ANALYTICS ====================
     
     /**
-     * Get comprehensive statistics for all enterprises
+     * Get comprehensive statistics for all enterprises.
+     * Items and users are each read once and bucketed by enterprise.
      */
     public List<EnterpriseStats> getEnterpriseStats() {
         try {
             List<Enterprise> enterprises = enterpriseDAO.findAll();
-            List<Item> allItems = itemDAO.findAll();
-            List<User> allUsers = userDAO.findAll();
+            
+            // enterpriseId -> {total, lost, found, claimed, open}
+            Map<String, long[]> itemCounts = new HashMap<>();
+            itemDAO.forEachItem(null, i -> {
+                if (i.getEnterpriseId() != null) {
+                    long[] c = itemCounts.computeIfAbsent(i.getEnterpriseId(), k -> new long[5]);
+                    c[0]++;
+                    if (i.getType() == ItemType.LOST) c[1]++;
+                    if (i.getType() == ItemType.FOUND) c[2]++;
+                    if (i.getStatus() == ItemStatus.CLAIMED) c[3]++;
+                    if (i.getStatus() == ItemStatus.OPEN) c[4]++;
+                }
+                return true;
+            });
+            Map<String, Long> userCounts = userDAO.findAll().stream()
+                .filter(u -> u.getEnterpriseId() != null)
+                .collect(Collectors.groupingBy(User::getEnterpriseId, Collectors.counting()));
             
             List<EnterpriseStats> stats = new ArrayList<>();
             
             for (Enterprise enterprise : enterprises) {
                 String entId = enterprise.getEnterpriseId();
-                
-                // Count items
-                List<Item> entItems = allItems.stream()
-                    .filter(i -> entId.equals(i.getEnterpriseId()))
-                    .collect(Collectors.toList());
-                
-                long totalItems = entItems.size();
-                long lostItems = entItems.stream()
-                    .filter(i -> i.getType() == ItemType.LOST).count();
-                long foundItems = entItems.stream()
-                    .filter(i -> i.getType() == ItemType.FOUND).count();
-                long claimedItems = entItems.stream()
-                    .filter(i -> i.getStatus() == ItemStatus.CLAIMED).count();
-                long openItems = entItems.stream()
-                    .filter(i -> i.getStatus() == ItemStatus.OPEN).count();
-                
-                double recoveryRate = totalItems > 0 ? (double) claimedItems / totalItems : 0.0;
-                
-                // Count users
-                long userCount = allUsers.stream()
-                    .filter(u -> entId.equals(u.getEnterpriseId()))
-                    .count();
+                long[] c = itemCounts.getOrDefault(entId, new long[5]);
+                double recoveryRate = c[0] > 0 ? (double) c[3] / c[0] : 0.0;
                 
                 stats.add(new EnterpriseStats(
-                    entId, enterprise.getName(), totalItems, lostItems, foundItems,
-                    claimedItems, openItems, recoveryRate, userCount
+                    entId, enterprise.getName(), c[0], c[1], c[2],
+                    c[3], c[4], recoveryRate, userCounts.getOrDefault(entId, 0L)
                 ));
             }
             
@@ -915,6 +901,14 @@ public class AnalyticsService {
      * Get executive summary with highlights, alerts, and recommendations
      */
     public ExecutiveSummary getExecutiveSummary() {
+        try (Instrumentation.Timer timer = Instrumentation.getInstance().start("AnalyticsService.getExecutiveSummary")) {
+            ExecutiveSummary summary = buildExecutiveSummary();
+            timer.stop(-1);
+            return summary;
+        }
+    }
+
+    private ExecutiveSummary buildExecutiveSummary() {
         try {
             ExecutiveSummary summary = new ExecutiveSummary();
             
@@ -1092,17 +1086,6 @@ public class AnalyticsService {
         return recommendations;
     }
     
-    /**
-     * Convert numeric score to ScoreLevel
-     */
-    private ScoreLevel getScoreLevelFromValue(double score) {
-        if (score >= 85) return ScoreLevel.EXCELLENT;
-        if (score >= 70) return ScoreLevel.GOOD;
-        if (score >= 50) return ScoreLevel.FAIR;
-        if (score >= 30) return ScoreLevel.LOW;
-        return ScoreLevel.PROBATION;
-    }
-    
     /**
      * Clear analytics cache
      */
@@ -1966,73 +1949,99 @@ public class AnalyticsService {
      */
     public BenchmarkResult benchmarkAgainstNetwork(String enterpriseId) {
         try {
-            List<EnterpriseStats> allStats = getEnterpriseStats();
-            
-            // Find the target enterprise
-            EnterpriseStats targetStat = allStats.stream()
-                .filter(s -> s.enterpriseId.equals(enterpriseId))
-                .findFirst()
-                .orElse(null);
-            
-            if (targetStat == null) {
-                return new BenchmarkResult();
-            }
-            
-            BenchmarkResult result = new BenchmarkResult();
-            result.enterpriseName = targetStat.enterpriseName;
-            
-            // Calculate network averages (excluding target)
-            List<EnterpriseStats> otherStats = allStats.stream()
-                .filter(s -> !s.enterpriseId.equals(enterpriseId))
-                .collect(Collectors.toList());
-            
-            if (otherStats.isEmpty()) {
-                // Only one enterprise, can't benchmark
-                result.networkAvgItems = targetStat.totalItems;
-                result.networkAvgRecoveryRate = targetStat.recoveryRate;
-                result.networkAvgUsers = targetStat.userCount;
-            } else {
-                result.networkAvgItems = (long) otherStats.stream()
-                    .mapToLong(s -> s.totalItems).average().orElse(0);
-                result.networkAvgRecoveryRate = otherStats.stream()
-                    .mapToDouble(s -> s.recoveryRate).average().orElse(0);
-                result.networkAvgUsers = (long) otherStats.stream()
-                    .mapToLong(s -> s.userCount).average().orElse(0);
-            }
-            
-            // Set enterprise values
-            result.enterpriseItems = targetStat.totalItems;
-            result.enterpriseRecoveryRate = targetStat.recoveryRate;
-            result.enterpriseUsers = targetStat.userCount;
-            
-            // Calculate differentials
-            result.itemsDifferential = result.networkAvgItems > 0 ?
-                ((double) result.enterpriseItems - result.networkAvgItems) / result.networkAvgItems : 0;
-            result.recoveryRateDifferential = result.networkAvgRecoveryRate > 0 ?
-                (result.enterpriseRecoveryRate - result.networkAvgRecoveryRate) / result.networkAvgRecoveryRate : 0;
-            result.usersDifferential = result.networkAvgUsers > 0 ?
-                ((double) result.enterpriseUsers - result.networkAvgUsers) / result.networkAvgUsers : 0;
-            
-            // Determine performance level
-            double avgDiff = (result.itemsDifferential + result.recoveryRateDifferential + result.usersDifferential) / 3;
-            if (avgDiff > 0.2) {
-                result.performanceLevel = "Excellent";
-            } else if (avgDiff > 0) {
-                result.performanceLevel = "Above Average";
-            } else if (avgDiff > -0.2) {
-                result.performanceLevel = "Average";
-            } else {
-                result.performanceLevel = "Below Average";
-            }
-            
-            return result;
-            
+            return benchmark(enterpriseId, getEnterpriseStats());
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error benchmarking against network", e);
             return new BenchmarkResult();
         }
     }
     
+    /**
+     * Benchmark every enterprise against the network from a single stats load
+     * @return Enterprise ID -> benchmark
+     */
+    public Map<String, BenchmarkResult> benchmarkAllAgainstNetwork() {
+        return benchmarkAllAgainstNetwork(getEnterpriseStats());
+    }
+    
+    /**
+     * Benchmark every enterprise in already loaded stats
+     * @return Enterprise ID -> benchmark
+     */
+    public Map<String, BenchmarkResult> benchmarkAllAgainstNetwork(List<EnterpriseStats> allStats) {
+        Map<String, BenchmarkResult> results = new LinkedHashMap<>();
+        for (EnterpriseStats stat : allStats) {
+            try {
+                results.put(stat.enterpriseId, benchmark(stat.enterpriseId, allStats));
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Error benchmarking " + stat.enterpriseName, e);
+                results.put(stat.enterpriseId, new BenchmarkResult());
+            }
+        }
+        return results;
+    }
+    
+    private BenchmarkResult benchmark(String enterpriseId, List<EnterpriseStats> allStats) {
+        // Find the target enterprise
+        EnterpriseStats targetStat = allStats.stream()
+            .filter(s -> s.enterpriseId.equals(enterpriseId))
+            .findFirst()
+            .orElse(null);
+        
+        if (targetStat == null) {
+            return new BenchmarkResult();
+        }
+        
+        BenchmarkResult result = new BenchmarkResult();
+        result.enterpriseName = targetStat.enterpriseName;
+        
+        // Calculate network averages (excluding target)
+        List<EnterpriseStats> otherStats = allStats.stream()
+            .filter(s -> !s.enterpriseId.equals(enterpriseId))
+            .collect(Collectors.toList());
+        
+        if (otherStats.isEmpty()) {
+            // Only one enterprise, can't benchmark
+            result.networkAvgItems = targetStat.totalItems;
+            result.networkAvgRecoveryRate = targetStat.recoveryRate;
+            result.networkAvgUsers = targetStat.userCount;
+        } else {
+            result.networkAvgItems = (long) otherStats.stream()
+                .mapToLong(s -> s.totalItems).average().orElse(0);
+            result.networkAvgRecoveryRate = otherStats.stream()
+                .mapToDouble(s -> s.recoveryRate).average().orElse(0);
+            result.networkAvgUsers = (long) otherStats.stream()
+                .mapToLong(s -> s.userCount).average().orElse(0);
+        }
+        
+        // Set enterprise values
+        result.enterpriseItems = targetStat.totalItems;
+        result.enterpriseRecoveryRate = targetStat.recoveryRate;
+        result.enterpriseUsers = targetStat.userCount;
+        
+        // Calculate differentials
+        result.itemsDifferential = result.networkAvgItems > 0 ?
+            ((double) result.enterpriseItems - result.networkAvgItems) / result.networkAvgItems : 0;
+        result.recoveryRateDifferential = result.networkAvgRecoveryRate > 0 ?
+            (result.enterpriseRecoveryRate - result.networkAvgRecoveryRate) / result.networkAvgRecoveryRate : 0;
+        result.usersDifferential = result.networkAvgUsers > 0 ?
+            ((double) result.enterpriseUsers - result.networkAvgUsers) / result.networkAvgUsers : 0;
+        
+        // Determine performance level
+        double avgDiff = (result.itemsDifferential + result.recoveryRateDifferential + result.usersDifferential) / 3;
+        if (avgDiff > 0.2) {
+            result.performanceLevel = "Excellent";
+        } else if (avgDiff > 0) {
+            result.performanceLevel = "Above Average";
+        } else if (avgDiff > -0.2) {
+            result.performanceLevel = "Average";
+        } else {
+            result.performanceLevel = "Below Average";
+        }
+        
+        return result;
+    }
+    
     // ==================== CHART HELPER METHODS ====================
     
     /**
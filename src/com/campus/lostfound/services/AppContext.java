@@ -0,0 +1,237 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.dao.*;
+
+/**
+ * Application-wide service graph.
+ *
+ * Builds one shared instance of each service on first use and wires it to
+ * the shared DAOs and to the other shared services, so caches (enterprise and
+ * organization names, analytics aggregates, approver workload, the photo
+ * fingerprint index, the user directory) are warmed once and seen by every
+ * panel. Panels and
+ * dialogs get their services from here instead of constructing their own.
+ *
+ * Every service handed out is safe to use from the EDT and from SwingWorker
+ * threads at the same time.
+ *
+ * The item, user, enterprise, organization, message, work request, trust
+ * score and verification DAOs are MongoDB-backed by default. Start the JVM
+ * with {@code -Dlostfound.dao=memory} to use empty in-memory DAOs instead,
+ * e.g. to load-test the services on a machine without mongod.
+ *
+ * Typical use:
+ * <pre>
+ *   AppContext context = AppContext.getInstance();
+ *   WorkRequestService requests = context.getWorkRequestService();
+ * </pre>
+ *
+ * @author aksha
+ */
+public class AppContext {
+
+    /** System property selecting the DAO backend: "mongo" (default) or "memory" */
+    public static final String DAO_BACKEND_PROPERTY = "lostfound.dao";
+
+    private static AppContext instance;
+
+    private final InMemoryDAOs memory;
+
+    private UserDirectory userDirectory;
+    private TrustScoreService trustScoreService;
+    private EnterpriseItemService enterpriseItemService;
+    private ItemMatcher itemMatcher;
+    private EnterpriseItemMatcher enterpriseItemMatcher;
+    private AnalyticsService analyticsService;
+    private ReportExportService reportExportService;
+    private AuthorityService authorityService;
+    private WorkRequestRoutingEngine routingEngine;
+    private WorkRequestService workRequestService;
+    private VerificationService verificationService;
+    private NetworkAdminDataProvider networkAdminDataProvider;
+
+    private AppContext() {
+        memory = "memory".equalsIgnoreCase(System.getProperty(DAO_BACKEND_PROPERTY)) ? new InMemoryDAOs() : null;
+    }
+
+    public static synchronized AppContext getInstance() {
+        if (instance == null) {
+            instance = new AppContext();
+        }
+        return instance;
+    }
+
+    // ==================== DAOS ====================
+
+    public UserDAO getUserDAO() {
+        return memory != null ? memory.users : MongoUserDAO.getInstance();
+    }
+
+    public ItemDAO getItemDAO() {
+        return memory != null ? memory.items : MongoItemDAO.getInstance();
+    }
+
+    public EnterpriseDAO getEnterpriseDAO() {
+        return memory != null ? memory.enterprises : MongoEnterpriseDAO.getInstance();
+    }
+
+    public OrganizationDAO getOrganizationDAO() {
+        return memory != null ? memory.organizations : MongoOrganizationDAO.getInstance();
+    }
+
+    public MongoNetworkDAO getNetworkDAO() {
+        return MongoNetworkDAO.getInstance();
+    }
+
+    public MongoBuildingDAO getBuildingDAO() {
+        return MongoBuildingDAO.getInstance();
+    }
+
+    public MongoClaimDAO getClaimDAO() {
+        return MongoClaimDAO.getInstance();
+    }
+
+    public MessageDAO getMessageDAO() {
+        return memory != null ? memory.messages : MongoMessageDAO.getInstance();
+    }
+
+    public WorkRequestDAO getWorkRequestDAO() {
+        return memory != null ? memory.workRequests : MongoWorkRequestDAO.getInstance();
+    }
+
+    public TrustScoreDAO getTrustScoreDAO() {
+        return memory != null ? memory.trustScores : MongoTrustScoreDAO.getInstance();
+    }
+
+    public VerificationDAO getVerificationDAO() {
+        return memory != null ? memory.verifications : MongoVerificationDAO.getInstance();
+    }
+
+    /**
+     * True if the DAOs are the in-memory ones
+     */
+    public boolean isInMemory() {
+        return memory != null;
+    }
+
+    // ==================== SERVICES ====================
+
+    public synchronized UserDirectory getUserDirectory() {
+        if (userDirectory == null) {
+            userDirectory = new UserDirectory(getUserDAO());
+        }
+        return userDirectory;
+    }
+
+    /**
+     * The shared user directory if the DAO is the shared user DAO, otherwise
+     * a new directory over it (mock DAOs in tests). Never connects to MongoDB
+     * for a DAO that isn't already a MongoUserDAO.
+     */
+    public UserDirectory getUserDirectory(UserDAO userDAO) {
+        boolean shared = memory != null
+                ? userDAO == memory.users
+                : userDAO instanceof MongoUserDAO && userDAO == MongoUserDAO.getInstance();
+        return shared ? getUserDirectory() : new UserDirectory(userDAO);
+    }
+
+    public synchronized TrustScoreService getTrustScoreService() {
+        if (trustScoreService == null) {
+            trustScoreService = new TrustScoreService(getTrustScoreDAO(), getUserDirectory());
+        }
+        return trustScoreService;
+    }
+
+    public synchronized EnterpriseItemService getEnterpriseItemService() {
+        if (enterpriseItemService == null) {
+            enterpriseItemService = new EnterpriseItemService();
+        }
+        return enterpriseItemService;
+    }
+
+    public ItemSearchIndex getItemSearchIndex() {
+        return ItemSearchIndex.getInstance();
+    }
+
+    public synchronized ItemMatcher getItemMatcher() {
+        if (itemMatcher == null) {
+            itemMatcher = new ItemMatcher(ImageFingerprintIndex.getInstance(), ItemGeoIndex.getInstance());
+        }
+        return itemMatcher;
+    }
+
+    public synchronized EnterpriseItemMatcher getEnterpriseItemMatcher() {
+        if (enterpriseItemMatcher == null) {
+            enterpriseItemMatcher = new EnterpriseItemMatcher(getItemMatcher(), getItemDAO(),
+                    getEnterpriseDAO(), getOrganizationDAO(), getEnterpriseItemService(), getTrustScoreService(),
+                    MatchCandidateStore.getInstance(), ItemGeoIndex.getInstance());
+        }
+        return enterpriseItemMatcher;
+    }
+
+    public synchronized AnalyticsService getAnalyticsService() {
+        if (analyticsService == null) {
+            analyticsService = new AnalyticsService(getEnterpriseItemService());
+        }
+        return analyticsService;
+    }
+
+    public synchronized ReportExportService getReportExportService() {
+        if (reportExportService == null) {
+            reportExportService = new ReportExportService(getAnalyticsService(), getEnterpriseItemService(),
+                    getItemDAO(), getUserDAO(), getWorkRequestDAO(), getEnterpriseDAO());
+        }
+        return reportExportService;
+    }
+
+    public synchronized AuthorityService getAuthorityService() {
+        if (authorityService == null) {
+            authorityService = new AuthorityService();
+        }
+        return authorityService;
+    }
+
+    public synchronized WorkRequestRoutingEngine getRoutingEngine() {
+        if (routingEngine == null) {
+            routingEngine = new WorkRequestRoutingEngine(getUserDAO());
+        }
+        return routingEngine;
+    }
+
+    public synchronized WorkRequestService getWorkRequestService() {
+        if (workRequestService == null) {
+            workRequestService = new WorkRequestService(getWorkRequestDAO(), getUserDAO(),
+                    getUserDirectory(), getRoutingEngine(), getTrustScoreService());
+        }
+        return workRequestService;
+    }
+
+    public synchronized VerificationService getVerificationService() {
+        if (verificationService == null) {
+            verificationService = new VerificationService(getVerificationDAO(), getUserDAO(),
+                    getUserDirectory(), getItemDAO(), getTrustScoreService());
+        }
+        return verificationService;
+    }
+
+    public synchronized NetworkAdminDataProvider getNetworkAdminDataProvider() {
+        if (networkAdminDataProvider == null) {
+            networkAdminDataProvider = new NetworkAdminDataProvider();
+        }
+        return networkAdminDataProvider;
+    }
+
+    /**
+     * One in-memory store per collection, wired like the Mongo collections
+     */
+    private static final class InMemoryDAOs {
+        final InMemoryUserDAO users = new InMemoryUserDAO();
+        final InMemoryItemDAO items = new InMemoryItemDAO();
+        final InMemoryEnterpriseDAO enterprises = new InMemoryEnterpriseDAO();
+        final InMemoryOrganizationDAO organizations = new InMemoryOrganizationDAO();
+        final InMemoryMessageDAO messages = new InMemoryMessageDAO(items, users);
+        final InMemoryWorkRequestDAO workRequests = new InMemoryWorkRequestDAO();
+        final InMemoryTrustScoreDAO trustScores = new InMemoryTrustScoreDAO(users);
+        final InMemoryVerificationDAO verifications = new InMemoryVerificationDAO();
+    }
+}
@@ -1,14 +1,16 @@
 package com.campus.lostfound.services;
 
-import com.campus.lostfound.dao.MongoUserDAO;
-import com.campus.lostfound.dao.MongoItemDAO;
-import com.campus.lostfound.dao.MongoEnterpriseDAO;
-import com.campus.lostfound.dao.MongoOrganizationDAO;
+import com.campus.lostfound.dao.UserDAO;
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.dao.EnterpriseDAO;
+import com.campus.lostfound.dao.OrganizationDAO;
 import com.campus.lostfound.models.User;
 import com.campus.lostfound.models.User.UserRole;
 import com.campus.lostfound.models.Item;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -24,9 +26,16 @@ import java.util.logging.Logger;
  * 
  * This service is the central authority for all permission checks in the system.
  * 
+ * Each user is resolved once into an {@link AuthorizationContext} (role,
+ * organization, enterprise, permission set) and cached, so checks made per
+ * table row cost no database reads; {@link #filterViewable} checks a whole
+ * page of items at once. Contexts are dropped when the user DAO reports a
+ * change to the user, and all of them every minute for changes made by other
+ * clients.
+ * 
  * @author Developer 3 - Security & Verification Specialist
  */
-public class AuthorityService {
+public class AuthorityService implements UserDAO.WriteListener {
     
     private static final Logger LOGGER = Logger.getLogger(AuthorityService.class.getName());
     
@@ -407,30 +416,66 @@ public class AuthorityService {
     
     // ==================== INSTANCE FIELDS ====================
     
-    private final MongoUserDAO userDAO;
-    private final MongoItemDAO itemDAO;
-    private final MongoEnterpriseDAO enterpriseDAO;
-    private final MongoOrganizationDAO organizationDAO;
+    private final UserDAO userDAO;
+    private final ItemDAO itemDAO;
+    private final EnterpriseDAO enterpriseDAO;
+    private final OrganizationDAO organizationDAO;
+    private final UserDirectory users;
+    
+    // ==================== CACHES ====================
+    
+    private static final long CACHE_TTL = 60 * 1000; // 1 minute
+    
+    // Keyed by the id callers pass (email or Mongo id)
+    private final Map<String, AuthorizationContext> contexts = new ConcurrentHashMap<>();
+    private final Map<String, String> orgEnterprises = new ConcurrentHashMap<>();
+    private volatile long cacheRefreshTime = System.currentTimeMillis();
+    // Bumped on every user change, so a context loaded while one happened isn't cached
+    private final AtomicLong userChanges = new AtomicLong();
     
     // ==================== CONSTRUCTORS ====================
     
     public AuthorityService() {
-        this.userDAO = new MongoUserDAO();
-        this.itemDAO = new MongoItemDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
+        this(AppContext.getInstance().getUserDAO(), AppContext.getInstance().getItemDAO(),
+             AppContext.getInstance().getEnterpriseDAO(), AppContext.getInstance().getOrganizationDAO(),
+             AppContext.getInstance().getUserDirectory());
     }
     
     /**
      * Constructor for testing with mock DAOs
      */
-    public AuthorityService(MongoUserDAO userDAO, MongoItemDAO itemDAO,
-                           MongoEnterpriseDAO enterpriseDAO, 
-                           MongoOrganizationDAO organizationDAO) {
+    public AuthorityService(UserDAO userDAO, ItemDAO itemDAO,
+                           EnterpriseDAO enterpriseDAO, 
+                           OrganizationDAO organizationDAO) {
+        this(userDAO, itemDAO, enterpriseDAO, organizationDAO,
+             userDAO != null ? AppContext.getInstance().getUserDirectory(userDAO) : null);
+    }
+    
+    /**
+     * Constructor sharing a user directory
+     */
+    public AuthorityService(UserDAO userDAO, ItemDAO itemDAO,
+                           EnterpriseDAO enterpriseDAO, 
+                           OrganizationDAO organizationDAO,
+                           UserDirectory users) {
         this.userDAO = userDAO;
         this.itemDAO = itemDAO;
         this.enterpriseDAO = enterpriseDAO;
         this.organizationDAO = organizationDAO;
+        this.users = users;
+        if (userDAO != null) {
+            userDAO.addWriteListener(this);
+        }
+    }
+    
+    /**
+     * Stop following user writes, for a service that is no longer used
+     */
+    public void close() {
+        if (userDAO != null) {
+            userDAO.removeWriteListener(this);
+        }
+        clearCache();
     }
     
     // ==================== ACCESS CONTROL ====================
@@ -440,21 +485,16 @@ public class AuthorityService {
      */
     public boolean canUserAccessEnterprise(String userId, String enterpriseId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return false;
-            
-            // System admins can access everything
-            if (user.getRole() == UserRole.SYSTEM_ADMIN) {
-                return true;
-            }
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) return false;
             
-            // Police/Detective can access all enterprises for investigations
-            if (isLawEnforcement(user.getRole())) {
+            // System admins can access everything, police/detectives for investigations
+            if (context.seesEverything()) {
                 return true;
             }
             
             // User must belong to the enterprise
-            return enterpriseId != null && enterpriseId.equals(user.getEnterpriseId());
+            return enterpriseId != null && enterpriseId.equals(context.getEnterpriseId());
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error checking enterprise access", e);
@@ -467,28 +507,8 @@ public class AuthorityService {
      */
     public boolean canUserAccessOrganization(String userId, String orgId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return false;
-            
-            // System admins can access everything
-            if (user.getRole() == UserRole.SYSTEM_ADMIN) {
-                return true;
-            }
-            
-            // Police/Detective can access all organizations
-            if (isLawEnforcement(user.getRole())) {
-                return true;
-            }
-            
-            // Users with VIEW_ALL_ITEMS can access any org in their enterprise
-            if (hasPermission(user, Permission.VIEW_ALL_ITEMS)) {
-                // Check if org is in user's enterprise
-                return isOrgInEnterprise(orgId, user.getEnterpriseId());
-            }
-            
-            // User must belong to the organization
-            return orgId != null && orgId.equals(user.getOrganizationId());
-            
+            AuthorizationContext context = getAuthorizationContext(userId);
+            return context != null && canAccessOrganization(context, orgId);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error checking organization access", e);
             return false;
@@ -500,46 +520,16 @@ public class AuthorityService {
      */
     public boolean canUserViewItem(String userId, String itemId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return false;
-            
-            // System admin sees all
-            if (user.getRole() == UserRole.SYSTEM_ADMIN) {
-                return true;
-            }
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) return false;
             
-            // Police can see all items
-            if (isLawEnforcement(user.getRole())) {
+            // System admin and police see all, without loading the item
+            if (context.seesEverything()) {
                 return true;
             }
             
-            // Get the item
             Optional<Item> itemOpt = itemDAO.findById(itemId);
-            if (itemOpt.isEmpty()) {
-                return false;
-            }
-            
-            Item item = itemOpt.get();
-            
-            // User reported the item - can always view
-            if (item.getReportedBy() != null && 
-                userId.equals(item.getReportedBy().getEmail())) {
-                return true;
-            }
-            
-            // User claimed the item - can view
-            if (item.getClaimedBy() != null && 
-                userId.equals(item.getClaimedBy().getEmail())) {
-                return true;
-            }
-            
-            // Check if user can view all items
-            if (hasPermission(user, Permission.VIEW_ALL_ITEMS)) {
-                return true;
-            }
-            
-            // Check organization access
-            return canUserAccessOrganization(userId, item.getOrganizationId());
+            return itemOpt.isPresent() && canViewItem(context, itemOpt.get());
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error checking item view access", e);
@@ -547,6 +537,76 @@ public class AuthorityService {
         }
     }
     
+    /**
+     * Check if user can view an item that is already loaded
+     */
+    public boolean canUserViewItem(String userId, Item item) {
+        try {
+            AuthorizationContext context = getAuthorizationContext(userId);
+            return context != null && item != null && canViewItem(context, item);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error checking item view access", e);
+            return false;
+        }
+    }
+    
+    /**
+     * The items of a page (in order) that the user can view. Costs at most
+     * one user lookup, and none once the user's context is cached.
+     */
+    public List<Item> filterViewable(String userId, List<Item> items) {
+        List<Item> viewable = new ArrayList<>();
+        try {
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) return viewable;
+            
+            for (Item item : items) {
+                if (canViewItem(context, item)) {
+                    viewable.add(item);
+                }
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error filtering viewable items", e);
+        }
+        return viewable;
+    }
+    
+    private boolean canAccessOrganization(AuthorizationContext context, String orgId) {
+        // System admins and police/detectives can access all organizations
+        if (context.seesEverything()) {
+            return true;
+        }
+        
+        // Users with VIEW_ALL_ITEMS can access any org in their enterprise
+        if (context.has(Permission.VIEW_ALL_ITEMS)) {
+            return isOrgInEnterprise(orgId, context.getEnterpriseId());
+        }
+        
+        // User must belong to the organization
+        return orgId != null && orgId.equals(context.getOrganizationId());
+    }
+    
+    private boolean canViewItem(AuthorizationContext context, Item item) {
+        if (context.seesEverything()) {
+            return true;
+        }
+        
+        // User reported or claimed the item - can always view
+        if (item.getReportedBy() != null && context.isUser(item.getReportedBy().getEmail())) {
+            return true;
+        }
+        if (item.getClaimedBy() != null && context.isUser(item.getClaimedBy().getEmail())) {
+            return true;
+        }
+        
+        if (context.has(Permission.VIEW_ALL_ITEMS)) {
+            return true;
+        }
+        
+        // Otherwise only items of the user's own organization
+        return item.getOrganizationId() != null && item.getOrganizationId().equals(context.getOrganizationId());
+    }
+    
     // ==================== APPROVAL PERMISSIONS ====================
     
     /**
@@ -554,29 +614,29 @@ public class AuthorityService {
      */
     public boolean canUserApproveRequest(String userId, String requestType) {
         try {
-            User user = getUser(userId);
-            if (user == null) return false;
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) return false;
             
             // Check basic approval permission
-            if (!hasPermission(user, Permission.APPROVE_CLAIMS)) {
+            if (!context.has(Permission.APPROVE_CLAIMS)) {
                 return false;
             }
             
             // Additional checks based on request type
             if ("HIGH_VALUE".equals(requestType) || "HIGH_VALUE_ITEM_CLAIM".equals(requestType)) {
-                return hasPermission(user, Permission.APPROVE_HIGH_VALUE);
+                return context.has(Permission.APPROVE_HIGH_VALUE);
             }
             
             if ("VERY_HIGH_VALUE".equals(requestType)) {
-                return hasPermission(user, Permission.APPROVE_VERY_HIGH_VALUE);
+                return context.has(Permission.APPROVE_VERY_HIGH_VALUE);
             }
             
             if ("CROSS_ENTERPRISE".equals(requestType) || "CROSS_ENTERPRISE_TRANSFER".equals(requestType)) {
-                return hasPermission(user, Permission.CROSS_ENTERPRISE_TRANSFER);
+                return context.has(Permission.CROSS_ENTERPRISE_TRANSFER);
             }
             
             if ("TRANSFER".equals(requestType)) {
-                return hasPermission(user, Permission.APPROVE_TRANSFERS);
+                return context.has(Permission.APPROVE_TRANSFERS);
             }
             
             return true; // Can approve standard requests
@@ -592,10 +652,7 @@ public class AuthorityService {
      */
     public boolean canUserApproveHighValue(String userId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return false;
-            
-            return hasPermission(user, Permission.APPROVE_HIGH_VALUE);
+            return hasPermission(userId, Permission.APPROVE_HIGH_VALUE);
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error checking high-value approval", e);
@@ -608,10 +665,7 @@ public class AuthorityService {
      */
     public boolean canUserApproveCrossEnterprise(String userId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return false;
-            
-            return hasPermission(user, Permission.CROSS_ENTERPRISE_TRANSFER);
+            return hasPermission(userId, Permission.CROSS_ENTERPRISE_TRANSFER);
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error checking cross-enterprise approval", e);
@@ -624,10 +678,10 @@ public class AuthorityService {
      */
     public double getApprovalLimit(String userId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return 0.0;
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) return 0.0;
             
-            Double limit = APPROVAL_LIMITS.get(user.getRole());
+            Double limit = APPROVAL_LIMITS.get(context.getRole());
             return limit != null ? limit : 0.0;
             
         } catch (Exception e) {
@@ -650,11 +704,11 @@ public class AuthorityService {
      */
     public boolean canUserTransferItem(String userId, String itemId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return false;
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) return false;
             
             // Must have transfer permission
-            if (!hasPermission(user, Permission.INITIATE_TRANSFERS)) {
+            if (!context.has(Permission.INITIATE_TRANSFERS)) {
                 return false;
             }
             
@@ -664,20 +718,9 @@ public class AuthorityService {
                 return false;
             }
             
-            Item item = itemOpt.get();
-            
-            // System admin can transfer anything
-            if (user.getRole() == UserRole.SYSTEM_ADMIN) {
-                return true;
-            }
-            
-            // Police can transfer any item
-            if (isLawEnforcement(user.getRole())) {
-                return true;
-            }
-            
-            // User must have access to item's organization
-            return canUserAccessOrganization(userId, item.getOrganizationId());
+            // System admin and police can transfer anything; others need
+            // access to the item's organization
+            return canAccessOrganization(context, itemOpt.get().getOrganizationId());
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error checking transfer permission", e);
@@ -690,16 +733,16 @@ public class AuthorityService {
      */
     public boolean canUserInitiateTransfer(String userId, String fromOrgId, String toOrgId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return false;
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) return false;
             
             // Must have transfer permission
-            if (!hasPermission(user, Permission.INITIATE_TRANSFERS)) {
+            if (!context.has(Permission.INITIATE_TRANSFERS)) {
                 return false;
             }
             
             // Must have access to source organization
-            if (!canUserAccessOrganization(userId, fromOrgId)) {
+            if (!canAccessOrganization(context, fromOrgId)) {
                 return false;
             }
             
@@ -709,7 +752,7 @@ public class AuthorityService {
             
             if (fromEnterprise != null && !fromEnterprise.equals(toEnterprise)) {
                 // Cross-enterprise transfer requires special permission
-                return hasPermission(user, Permission.CROSS_ENTERPRISE_TRANSFER);
+                return context.has(Permission.CROSS_ENTERPRISE_TRANSFER);
             }
             
             return true;
@@ -725,21 +768,20 @@ public class AuthorityService {
      */
     public boolean canUserReceiveTransfer(String userId, String fromOrgId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return false;
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) return false;
             
             // Must have receive permission
-            if (!hasPermission(user, Permission.RECEIVE_TRANSFERS)) {
+            if (!context.has(Permission.RECEIVE_TRANSFERS)) {
                 return false;
             }
             
             // Check if cross-enterprise
             String fromEnterprise = getEnterpriseForOrg(fromOrgId);
-            String userEnterprise = user.getEnterpriseId();
             
-            if (fromEnterprise != null && !fromEnterprise.equals(userEnterprise)) {
+            if (fromEnterprise != null && !fromEnterprise.equals(context.getEnterpriseId())) {
                 // Cross-enterprise requires special permission
-                return hasPermission(user, Permission.CROSS_ENTERPRISE_TRANSFER);
+                return context.has(Permission.CROSS_ENTERPRISE_TRANSFER);
             }
             
             return true;
@@ -765,8 +807,8 @@ public class AuthorityService {
      */
     public boolean hasPermission(String userId, Permission permission) {
         try {
-            User user = getUser(userId);
-            return user != null && hasPermission(user, permission);
+            AuthorizationContext context = getAuthorizationContext(userId);
+            return context != null && context.has(permission);
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error checking permission", e);
             return false;
@@ -788,10 +830,10 @@ public class AuthorityService {
      */
     public Set<Permission> getEffectivePermissions(String userId) {
         try {
-            User user = getUser(userId);
-            if (user == null) return EnumSet.noneOf(Permission.class);
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) return EnumSet.noneOf(Permission.class);
             
-            return getPermissionsForRole(user.getRole());
+            return getPermissionsForRole(context.getRole());
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error getting effective permissions", e);
@@ -882,7 +924,7 @@ public class AuthorityService {
     /**
      * Check if role is a law enforcement role
      */
-    public boolean isLawEnforcement(UserRole role) {
+    public static boolean isLawEnforcement(UserRole role) {
         return role == UserRole.POLICE_EVIDENCE_CUSTODIAN ||
                role == UserRole.DETECTIVE ||
                role == UserRole.POLICE_ADMIN;
@@ -912,8 +954,8 @@ public class AuthorityService {
      */
     public boolean isUserSecurityRole(String userId) {
         try {
-            User user = getUser(userId);
-            return user != null && isSecurityRole(user.getRole());
+            AuthorizationContext context = getAuthorizationContext(userId);
+            return context != null && isSecurityRole(context.getRole());
         } catch (Exception e) {
             return false;
         }
@@ -924,8 +966,8 @@ public class AuthorityService {
      */
     public boolean isUserLawEnforcement(String userId) {
         try {
-            User user = getUser(userId);
-            return user != null && isLawEnforcement(user.getRole());
+            AuthorizationContext context = getAuthorizationContext(userId);
+            return context != null && isLawEnforcement(context.getRole());
         } catch (Exception e) {
             return false;
         }
@@ -940,21 +982,21 @@ public class AuthorityService {
         Map<String, Object> summary = new LinkedHashMap<>();
         
         try {
-            User user = getUser(userId);
-            if (user == null) {
+            AuthorizationContext context = getAuthorizationContext(userId);
+            if (context == null) {
                 summary.put("error", "User not found");
                 return summary;
             }
             
             summary.put("userId", userId);
-            summary.put("role", user.getRole().getDisplayName());
-            summary.put("roleCode", user.getRole().name());
-            summary.put("enterpriseId", user.getEnterpriseId());
-            summary.put("organizationId", user.getOrganizationId());
+            summary.put("role", context.getRole().getDisplayName());
+            summary.put("roleCode", context.getRole().name());
+            summary.put("enterpriseId", context.getEnterpriseId());
+            summary.put("organizationId", context.getOrganizationId());
             summary.put("approvalLimit", getApprovalLimit(userId));
-            summary.put("isSecurityRole", isSecurityRole(user.getRole()));
-            summary.put("isLawEnforcement", isLawEnforcement(user.getRole()));
-            summary.put("isAdmin", isAdminRole(user.getRole()));
+            summary.put("isSecurityRole", isSecurityRole(context.getRole()));
+            summary.put("isLawEnforcement", isLawEnforcement(context.getRole()));
+            summary.put("isAdmin", isAdminRole(context.getRole()));
             summary.put("permissionCount", getEffectivePermissions(userId).size());
             summary.put("permissions", getPermissionNames(userId));
             
@@ -976,32 +1018,71 @@ public class AuthorityService {
         return summary;
     }
     
+    // ==================== AUTHORIZATION CONTEXTS ====================
+    
+    /**
+     * The user's authorization context, cached after the first lookup
+     * @param userId Email or Mongo id
+     * @return The context, or null if there is no such user
+     */
+    public AuthorizationContext getAuthorizationContext(String userId) {
+        if (userId == null) return null;
+        
+        long now = System.currentTimeMillis();
+        if (now - cacheRefreshTime > CACHE_TTL) {
+            // Catch up with changes made by other clients
+            cacheRefreshTime = now;
+            contexts.clear();
+            orgEnterprises.clear();
+        }
+        
+        AuthorizationContext context = contexts.get(userId);
+        if (context != null) {
+            return context;
+        }
+        long changes = userChanges.get();
+        User user = getUser(userId);
+        if (user == null || user.getRole() == null) {
+            return null;
+        }
+        context = new AuthorizationContext(user);
+        // Put first, then check: a change noticed after the check removes what was put
+        contexts.put(userId, context);
+        if (userChanges.get() != changes) {
+            contexts.remove(userId, context);
+        }
+        return context;
+    }
+    
+    /**
+     * Drop the cached contexts of a user whose account changed
+     */
+    @Override
+    public void userChanged(String mongoId, String email) {
+        userChanges.incrementAndGet();
+        contexts.values().removeIf(context -> context.isUser(mongoId) || context.isUser(email));
+    }
+    
+    /**
+     * Drop every cached context and organization lookup
+     */
+    public void clearCache() {
+        userChanges.incrementAndGet();
+        contexts.clear();
+        orgEnterprises.clear();
+    }
+    
     // ==================== HELPER METHODS ====================
     
     /**
      * Get user by ID or email
      */
     private User getUser(String userId) {
-        try {
-            // Try by email first
-            if (userId != null && userId.contains("@")) {
-                Optional<User> userOpt = userDAO.findByEmail(userId);
-                if (userOpt.isPresent()) {
-                    return userOpt.get();
-                }
-            }
-            
-            // Try by ID
-            try {
-                Optional<User> userOpt = userDAO.findById(userId);
-                if (userOpt.isPresent()) {
-                    return userOpt.get();
-                }
-            } catch (Exception e) {
-                // Not a valid ObjectId
-            }
-            
+        if (users == null) {
             return null;
+        }
+        try {
+            return users.find(userId).orElse(null);
         } catch (Exception e) {
             LOGGER.log(Level.WARNING, "Error getting user: " + userId, e);
             return null;
@@ -1028,9 +1109,14 @@ public class AuthorityService {
     private String getEnterpriseForOrg(String orgId) {
         if (orgId == null) return null;
         
+        String cached = orgEnterprises.get(orgId);
+        if (cached != null) {
+            return cached;
+        }
         try {
             var orgOpt = organizationDAO.findById(orgId);
-            if (orgOpt.isPresent()) {
+            if (orgOpt.isPresent() && orgOpt.get().getEnterpriseId() != null) {
+                orgEnterprises.put(orgId, orgOpt.get().getEnterpriseId());
                 return orgOpt.get().getEnterpriseId();
             }
         } catch (Exception e) {
@@ -1039,6 +1125,60 @@ public class AuthorityService {
         return null;
     }
     
+    // ==================== INNER CLASSES ====================
+    
+    /**
+     * What a user may do, resolved once from their account: role,
+     * organization, enterprise and the role's permissions. Immutable.
+     */
+    public static final class AuthorizationContext {
+        private final String mongoId;
+        private final String email;
+        private final UserRole role;
+        private final String organizationId;
+        private final String enterpriseId;
+        private final Set<Permission> permissions;
+        private final boolean seesEverything;
+        
+        AuthorizationContext(User user) {
+            this.mongoId = user.getMongoId();
+            this.email = user.getEmail();
+            this.role = user.getRole();
+            this.organizationId = user.getOrganizationId();
+            this.enterpriseId = user.getEnterpriseId();
+            Set<Permission> rolePermissions = ROLE_PERMISSIONS.get(role);
+            this.permissions = Collections.unmodifiableSet(
+                rolePermissions != null ? rolePermissions : EnumSet.noneOf(Permission.class));
+            // System admins, and police/detectives for investigations
+            this.seesEverything = role == UserRole.SYSTEM_ADMIN || isLawEnforcement(role);
+        }
+        
+        public boolean has(Permission permission) {
+            return permissions.contains(permission);
+        }
+        
+        /**
+         * True if the id is this user's email or Mongo id
+         */
+        public boolean isUser(String id) {
+            return id != null && (id.equals(email) || id.equals(mongoId));
+        }
+        
+        /**
+         * System admin or law enforcement: every enterprise, organization and item
+         */
+        public boolean seesEverything() {
+            return seesEverything;
+        }
+        
+        public String getMongoId() { return mongoId; }
+        public String getEmail() { return email; }
+        public UserRole getRole() { return role; }
+        public String getOrganizationId() { return organizationId; }
+        public String getEnterpriseId() { return enterpriseId; }
+        public Set<Permission> getPermissions() { return permissions; }
+    }
+    
     // ==================== STATIC UTILITY METHODS ====================
     
     /**
@@ -26,11 +26,11 @@ public class EnterpriseAdminDataProvider implements AdminDataProvider {
     private final String enterpriseId;
     private final String enterpriseName;
     
-    private final MongoItemDAO itemDAO;
-    private final MongoUserDAO userDAO;
-    private final MongoEnterpriseDAO enterpriseDAO;
-    private final MongoOrganizationDAO organizationDAO;
-    private final MongoWorkRequestDAO workRequestDAO;
+    private final ItemDAO itemDAO;
+    private final UserDAO userDAO;
+    private final EnterpriseDAO enterpriseDAO;
+    private final OrganizationDAO organizationDAO;
+    private final WorkRequestDAO workRequestDAO;
     private final MongoBuildingDAO buildingDAO;
     
     // Cached enterprise and organization IDs for filtering
@@ -44,12 +44,12 @@ public class EnterpriseAdminDataProvider implements AdminDataProvider {
     public EnterpriseAdminDataProvider(String enterpriseId) {
         this.enterpriseId = enterpriseId;
         
-        this.itemDAO = new MongoItemDAO();
-        this.userDAO = new MongoUserDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestDAO = new MongoWorkRequestDAO();
-        this.buildingDAO = new MongoBuildingDAO();
+        this.itemDAO = AppContext.getInstance().getItemDAO();
+        this.userDAO = AppContext.getInstance().getUserDAO();
+        this.enterpriseDAO = AppContext.getInstance().getEnterpriseDAO();
+        this.organizationDAO = AppContext.getInstance().getOrganizationDAO();
+        this.workRequestDAO = AppContext.getInstance().getWorkRequestDAO();
+        this.buildingDAO = MongoBuildingDAO.getInstance();
         
         // Initialize enterprise info
         this.currentEnterprise = loadEnterprise();
@@ -66,9 +66,9 @@ public class EnterpriseAdminDataProvider implements AdminDataProvider {
     }
     
     // Constructor for dependency injection (testing)
-    public EnterpriseAdminDataProvider(String enterpriseId, MongoItemDAO itemDAO, 
-            MongoUserDAO userDAO, MongoEnterpriseDAO enterpriseDAO, 
-            MongoOrganizationDAO organizationDAO, MongoWorkRequestDAO workRequestDAO, 
+    public EnterpriseAdminDataProvider(String enterpriseId, ItemDAO itemDAO, 
+            UserDAO userDAO, EnterpriseDAO enterpriseDAO, 
+            OrganizationDAO organizationDAO, WorkRequestDAO workRequestDAO, 
             MongoBuildingDAO buildingDAO) {
         this.enterpriseId = enterpriseId;
         this.itemDAO = itemDAO;
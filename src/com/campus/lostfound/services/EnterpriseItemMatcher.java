@@ -1,8 +1,8 @@
 package com.campus.lostfound.services;
 
-import com.campus.lostfound.dao.MongoItemDAO;
-import com.campus.lostfound.dao.MongoEnterpriseDAO;
-import com.campus.lostfound.dao.MongoOrganizationDAO;
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.dao.EnterpriseDAO;
+import com.campus.lostfound.dao.OrganizationDAO;
 import com.campus.lostfound.models.Item;
 import com.campus.lostfound.models.Item.ItemType;
 import com.campus.lostfound.models.Item.ItemStatus;
@@ -13,6 +13,7 @@ import com.campus.lostfound.models.EnterpriseMatchResult.MatchType;
 import com.campus.lostfound.models.EnterpriseMatchResult.TransferComplexity;
 import com.campus.lostfound.models.EnterpriseMatchResult.ScoreLevel;
 import com.campus.lostfound.services.ItemMatcher.PotentialMatch;
+import com.campus.lostfound.utils.PerceptualHash;
 
 import java.util.*;
 import java.util.logging.Logger;
@@ -31,6 +32,7 @@ import java.util.stream.Collectors;
  * - Calculate transfer complexity and estimated times
  * - Integrate trust scores into match rankings
  * - Generate comprehensive match reports
+ * - Score nearby items first (ItemGeoIndex), the rest of the network only if needed
  * 
  * @author Developer 4 - Cross-Enterprise Integration Lead
  */
@@ -52,6 +54,9 @@ public class EnterpriseItemMatcher {
     /** Bonus for high trust score users (>= 85) */
     public static final double HIGH_TRUST_BONUS = 0.05;
     
+    /** Bonus for near-duplicate photos, scaled by photo similarity */
+    public static final double PHOTO_MATCH_BONUS = 0.10;
+    
     /** Minimum score threshold for cross-enterprise matches */
     public static final double MIN_CROSS_ENTERPRISE_SCORE = 0.40;
     
@@ -64,27 +69,37 @@ public class EnterpriseItemMatcher {
     /** High trust score threshold */
     public static final double HIGH_TRUST_THRESHOLD = 85.0;
     
+    /** Radius of the first, nearby-only matching pass (covers campus, transit and airport hops) */
+    public static final double NEARBY_RADIUS_KM = 5.0;
+    
+    /** Nearby matches that make scoring the rest of the network unnecessary */
+    public static final int NEARBY_MATCH_TARGET = 10;
+    
     // ==================== DEPENDENCIES ====================
     
     private final ItemMatcher baseMatcher;
-    private final MongoItemDAO itemDAO;
-    private final MongoEnterpriseDAO enterpriseDAO;
-    private final MongoOrganizationDAO organizationDAO;
+    private final ItemDAO itemDAO;
+    private final EnterpriseDAO enterpriseDAO;
+    private final OrganizationDAO organizationDAO;
     private final EnterpriseItemService enterpriseItemService;
+    private final ItemGeoIndex geoIndex;
+    private final MatchCandidateStore candidateStore;
     private TrustScoreService trustScoreService;
     
     // ==================== CONSTRUCTORS ====================
     
     public EnterpriseItemMatcher() {
-        this.baseMatcher = new ItemMatcher();
-        this.itemDAO = new MongoItemDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.enterpriseItemService = new EnterpriseItemService();
+        AppContext context = AppContext.getInstance();
+        this.baseMatcher = context.getItemMatcher();
+        this.itemDAO = context.getItemDAO();
+        this.enterpriseDAO = context.getEnterpriseDAO();
+        this.organizationDAO = context.getOrganizationDAO();
+        this.enterpriseItemService = context.getEnterpriseItemService();
+        this.geoIndex = ItemGeoIndex.getInstance();
+        this.candidateStore = MatchCandidateStore.getInstance();
         
-        // Lazy load TrustScoreService
         try {
-            this.trustScoreService = new TrustScoreService();
+            this.trustScoreService = context.getTrustScoreService();
         } catch (Exception e) {
             LOGGER.warning("Could not initialize TrustScoreService: " + e.getMessage());
         }
@@ -93,16 +108,32 @@ public class EnterpriseItemMatcher {
     /**
      * Constructor for testing with dependencies
      */
-    public EnterpriseItemMatcher(ItemMatcher baseMatcher, MongoItemDAO itemDAO,
-                                  MongoEnterpriseDAO enterpriseDAO,
-                                  MongoOrganizationDAO organizationDAO,
+    public EnterpriseItemMatcher(ItemMatcher baseMatcher, ItemDAO itemDAO,
+                                  EnterpriseDAO enterpriseDAO,
+                                  OrganizationDAO organizationDAO,
                                   EnterpriseItemService enterpriseItemService,
                                   TrustScoreService trustScoreService) {
+        this(baseMatcher, itemDAO, enterpriseDAO, organizationDAO, enterpriseItemService,
+             trustScoreService, new MatchCandidateStore(itemDAO), new ItemGeoIndex(itemDAO));
+    }
+    
+    /**
+     * Constructor with dependencies and the candidate store and geo index over itemDAO
+     */
+    public EnterpriseItemMatcher(ItemMatcher baseMatcher, ItemDAO itemDAO,
+                                  EnterpriseDAO enterpriseDAO,
+                                  OrganizationDAO organizationDAO,
+                                  EnterpriseItemService enterpriseItemService,
+                                  TrustScoreService trustScoreService,
+                                  MatchCandidateStore candidateStore,
+                                  ItemGeoIndex geoIndex) {
         this.baseMatcher = baseMatcher;
         this.itemDAO = itemDAO;
         this.enterpriseDAO = enterpriseDAO;
         this.organizationDAO = organizationDAO;
         this.enterpriseItemService = enterpriseItemService;
+        this.geoIndex = geoIndex;
+        this.candidateStore = candidateStore;
         this.trustScoreService = trustScoreService;
     }
     
@@ -123,11 +154,11 @@ public class EnterpriseItemMatcher {
             
             LOGGER.info("Matching item across enterprises: " + sourceItem.getTitle());
             
-            // Get all items from all enterprises
-            List<Item> allItems = itemDAO.findAll();
+            // Open items from all enterprises reported around the same time
+            List<Item> candidates = candidateStore.candidatesFor(sourceItem);
             
-            // Use base matcher to find potential matches
-            List<PotentialMatch> baseMatches = baseMatcher.findMatches(sourceItem, allItems);
+            // Use base matcher to find potential matches, nearby items first
+            List<PotentialMatch> baseMatches = findMatchesNearbyFirst(sourceItem, candidates);
             
             // Convert to EnterpriseMatchResult with enterprise context
             List<EnterpriseMatchResult> results = new ArrayList<>();
@@ -286,6 +317,38 @@ public class EnterpriseItemMatcher {
         }
     }
     
+    /**
+     * Score the candidates within NEARBY_RADIUS_KM of the source first and
+     * the rest only if that finds fewer than NEARBY_MATCH_TARGET matches.
+     * Items without coordinates are always in the second pass.
+     */
+    private List<PotentialMatch> findMatchesNearbyFirst(Item sourceItem, List<Item> candidates) {
+        if (sourceItem.getLocation() == null || !sourceItem.getLocation().hasCoordinates()) {
+            return baseMatcher.findMatches(sourceItem, candidates);
+        }
+        
+        Set<String> nearbyIds = geoIndex.findWithin(sourceItem.getLocation(), NEARBY_RADIUS_KM, candidates).keySet();
+        List<Item> nearby = new ArrayList<>();
+        List<Item> farther = new ArrayList<>();
+        for (Item candidate : candidates) {
+            if (candidate.getMongoId() != null && nearbyIds.contains(candidate.getMongoId())) {
+                nearby.add(candidate);
+            } else {
+                farther.add(candidate);
+            }
+        }
+        
+        List<PotentialMatch> matches = new ArrayList<>(baseMatcher.findMatches(sourceItem, nearby));
+        if (matches.size() >= NEARBY_MATCH_TARGET || farther.isEmpty()) {
+            LOGGER.fine("Matched within " + NEARBY_RADIUS_KM + " km: " + nearby.size() + " of "
+                    + candidates.size() + " candidates scored");
+            return matches;
+        }
+        matches.addAll(baseMatcher.findMatches(sourceItem, farther));
+        matches.sort((a, b) -> Double.compare(b.getScore(), a.getScore()));
+        return matches;
+    }
+    
     // ==================== ENHANCED SCORING ====================
     
     /**
@@ -308,6 +371,9 @@ public class EnterpriseItemMatcher {
         double avgTrustScore = getAverageTrustScore(sourceItem, matchedItem);
         enhancedScore = applyTrustScoreModifier(enhancedScore, avgTrustScore);
         
+        // Apply photo bonus (the same photo reported by two enterprises is strong evidence)
+        enhancedScore += getPhotoBonus(sourceItem, matchedItem);
+        
         // Cap at 1.0
         return Math.min(1.0, enhancedScore);
     }
@@ -339,6 +405,15 @@ public class EnterpriseItemMatcher {
         return score;
     }
     
+    /**
+     * Photo bonus from the items' perceptual hashes (0 if either has no photo
+     * or the photos are not near-duplicates).
+     */
+    public double getPhotoBonus(Item sourceItem, Item matchedItem) {
+        int distance = baseMatcher.imageDistance(sourceItem, matchedItem);
+        return PerceptualHash.similarity(distance) * PHOTO_MATCH_BONUS;
+    }
+    
     /**
      * Calculate transfer complexity between two items' organizations.
      */
@@ -616,9 +691,10 @@ public class EnterpriseItemMatcher {
     
     /**
      * Create an EnterpriseMatchResult with full context.
+     * Package-private for the match result benchmark.
      */
-    private EnterpriseMatchResult createEnterpriseMatchResult(Item sourceItem, Item matchedItem, 
-                                                               double baseScore) {
+    EnterpriseMatchResult createEnterpriseMatchResult(Item sourceItem, Item matchedItem, 
+                                                       double baseScore) {
         try {
             EnterpriseMatchResult emr = new EnterpriseMatchResult();
             emr.setSourceItem(sourceItem);
@@ -682,7 +758,8 @@ public class EnterpriseItemMatcher {
             
             // Calculate bonuses applied
             double enterpriseBonus = enhancedScore - baseScore - 
-                (emr.getSourceUserTrustScore() >= HIGH_TRUST_THRESHOLD ? HIGH_TRUST_BONUS : 0);
+                (emr.getSourceUserTrustScore() >= HIGH_TRUST_THRESHOLD ? HIGH_TRUST_BONUS : 0) -
+                getPhotoBonus(sourceItem, matchedItem);
             emr.setEnterpriseBonus(Math.max(0, enterpriseBonus));
             
             double trustBonus = emr.getSourceUserTrustScore() >= HIGH_TRUST_THRESHOLD ? HIGH_TRUST_BONUS : 0;
@@ -1,9 +1,9 @@
 package com.campus.lostfound.services;
 
-import com.campus.lostfound.dao.MongoItemDAO;
-import com.campus.lostfound.dao.MongoEnterpriseDAO;
-import com.campus.lostfound.dao.MongoOrganizationDAO;
-import com.campus.lostfound.dao.MongoUserDAO;
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.dao.EnterpriseDAO;
+import com.campus.lostfound.dao.OrganizationDAO;
+import com.campus.lostfound.dao.UserDAO;
 import com.campus.lostfound.models.Item;
 import com.campus.lostfound.models.Item.ItemCategory;
 import com.campus.lostfound.models.Item.ItemStatus;
@@ -16,13 +16,15 @@ import java.util.*;
 import java.util.logging.Logger;
 import java.util.logging.Level;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Service for cross-enterprise item search and management.
  * 
  * Provides comprehensive functionality for:
- * - Searching items across all enterprises
+ * - Searching items across all enterprises (ranked through ItemSearchIndex)
  * - Filtering by enterprise, organization, category, status
+ * - Faceted counts for search refinement (SearchFacets)
  * - Enriching items with enterprise context
  * - Statistics and analytics for cross-enterprise operations
  * 
@@ -36,37 +38,41 @@ public class EnterpriseItemService {
     
     // ==================== DEPENDENCIES ====================
     
-    private final MongoItemDAO itemDAO;
-    private final MongoEnterpriseDAO enterpriseDAO;
-    private final MongoOrganizationDAO organizationDAO;
-    private final MongoUserDAO userDAO;
+    private final ItemDAO itemDAO;
+    private final EnterpriseDAO enterpriseDAO;
+    private final OrganizationDAO organizationDAO;
+    private final UserDAO userDAO;
+    private final ItemSearchIndex searchIndex;
     
     // Cache for enterprise/org names (refreshed periodically)
-    private Map<String, String> enterpriseNameCache = new HashMap<>();
-    private Map<String, String> organizationNameCache = new HashMap<>();
-    private Map<String, String> orgToEnterpriseCache = new HashMap<>();
-    private long cacheRefreshTime = 0;
+    // Replaced wholesale on refresh so concurrent readers never see a half-built map
+    private volatile Map<String, String> enterpriseNameCache = new HashMap<>();
+    private volatile Map<String, String> organizationNameCache = new HashMap<>();
+    private volatile Map<String, String> orgToEnterpriseCache = new HashMap<>();
+    private volatile long cacheRefreshTime = 0;
     private static final long CACHE_TTL = 5 * 60 * 1000; // 5 minutes
     
     // ==================== CONSTRUCTORS ====================
     
     public EnterpriseItemService() {
-        this.itemDAO = new MongoItemDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.userDAO = new MongoUserDAO();
+        this.itemDAO = AppContext.getInstance().getItemDAO();
+        this.enterpriseDAO = AppContext.getInstance().getEnterpriseDAO();
+        this.organizationDAO = AppContext.getInstance().getOrganizationDAO();
+        this.userDAO = AppContext.getInstance().getUserDAO();
+        this.searchIndex = ItemSearchIndex.getInstance();
         refreshCacheIfNeeded();
     }
     
     /**
      * Constructor for testing with mock DAOs
      */
-    public EnterpriseItemService(MongoItemDAO itemDAO, MongoEnterpriseDAO enterpriseDAO,
-                                  MongoOrganizationDAO organizationDAO, MongoUserDAO userDAO) {
+    public EnterpriseItemService(ItemDAO itemDAO, EnterpriseDAO enterpriseDAO,
+                                  OrganizationDAO organizationDAO, UserDAO userDAO) {
         this.itemDAO = itemDAO;
         this.enterpriseDAO = enterpriseDAO;
         this.organizationDAO = organizationDAO;
         this.userDAO = userDAO;
+        this.searchIndex = new ItemSearchIndex(itemDAO);
         refreshCacheIfNeeded();
     }
     
@@ -81,7 +87,7 @@ public class EnterpriseItemService {
      */
     public List<Item> searchAllEnterprises(String query, ItemCategory category) {
         try {
-            List<Item> allItems = itemDAO.findAll();
+            List<Item> allItems = candidates(query);
             
             return filterAndEnrichItems(allItems, query, category, null, null);
             
@@ -100,7 +106,7 @@ public class EnterpriseItemService {
      */
     public List<Item> searchSpecificEnterprises(List<String> enterpriseIds, String query) {
         try {
-            List<Item> allItems = itemDAO.findAll();
+            List<Item> allItems = candidates(query);
             
             // Filter to only specified enterprises
             List<Item> filtered = allItems.stream()
@@ -146,58 +152,8 @@ public class EnterpriseItemService {
      */
     public List<Item> advancedSearch(SearchCriteria criteria) {
         try {
-            List<Item> allItems = itemDAO.findAll();
-            
-            // Apply enterprise filter
-            if (criteria.getEnterpriseIds() != null && !criteria.getEnterpriseIds().isEmpty()) {
-                allItems = allItems.stream()
-                    .filter(item -> criteria.getEnterpriseIds().contains(item.getEnterpriseId()))
-                    .collect(Collectors.toList());
-            }
-            
-            // Apply organization filter
-            if (criteria.getOrganizationIds() != null && !criteria.getOrganizationIds().isEmpty()) {
-                allItems = allItems.stream()
-                    .filter(item -> criteria.getOrganizationIds().contains(item.getOrganizationId()))
-                    .collect(Collectors.toList());
-            }
-            
-            // Apply other filters
-            return filterAndEnrichItems(
-                allItems,
-                criteria.getQuery(),
-                criteria.getCategory(),
-                criteria.getType(),
-                criteria.getStatus()
-            ).stream()
-                // Date range filter
-                .filter(item -> {
-                    if (criteria.getDateFrom() != null && item.getReportedDate() != null) {
-                        if (item.getReportedDate().before(criteria.getDateFrom())) return false;
-                    }
-                    if (criteria.getDateTo() != null && item.getReportedDate() != null) {
-                        if (item.getReportedDate().after(criteria.getDateTo())) return false;
-                    }
-                    return true;
-                })
-                // Value range filter
-                .filter(item -> {
-                    if (criteria.getMinValue() != null && item.getEstimatedValue() < criteria.getMinValue()) {
-                        return false;
-                    }
-                    if (criteria.getMaxValue() != null && item.getEstimatedValue() > criteria.getMaxValue()) {
-                        return false;
-                    }
-                    return true;
-                })
-                // Include resolved filter
-                .filter(item -> {
-                    if (!criteria.isIncludeResolved()) {
-                        return item.getStatus() != ItemStatus.CLAIMED && 
-                               item.getStatus() != ItemStatus.EXPIRED;
-                    }
-                    return true;
-                })
+            return collect(criteria, new SearchFacets(criteria)).stream()
+                .map(this::enrichItemWithEnterpriseInfo)
                 .collect(Collectors.toList());
                 
         } catch (Exception e) {
@@ -206,6 +162,59 @@ public class EnterpriseItemService {
         }
     }
     
+    /**
+     * Advanced search returning one page of results together with per-facet
+     * counts (enterprise, organization, category, type, status, date range),
+     * all computed in the same pass over the candidates
+     * 
+     * @param criteria Search criteria object
+     * @param offset Index of the first result to return
+     * @param limit Maximum results to return
+     * @return The page, the total number of matches and the facet counts
+     */
+    public FacetedSearchResult advancedSearchWithFacets(SearchCriteria criteria, int offset, int limit) {
+        SearchFacets facets = new SearchFacets(criteria);
+        try {
+            List<Item> matches = collect(criteria, facets);
+            int from = Math.min(Math.max(offset, 0), matches.size());
+            int to = Math.min(from + Math.max(limit, 0), matches.size());
+            List<Item> page = matches.subList(from, to).stream()
+                .map(this::enrichItemWithEnterpriseInfo)
+                .collect(Collectors.toList());
+            return new FacetedSearchResult(page, matches.size(), facets);
+            
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error in faceted search", e);
+            return new FacetedSearchResult(new ArrayList<>(), 0, new SearchFacets(criteria));
+        }
+    }
+    
+    /**
+     * Open items (open, pending claim or verified) matching the query, best match
+     * first; the ranked, typo-tolerant counterpart of ItemDAO.searchItems
+     * 
+     * @param query Search query (can be null for all open items, newest first)
+     * @param type Type filter (can be null)
+     * @param category Category filter (can be null)
+     */
+    public List<Item> searchOpenItems(String query, ItemType type, ItemCategory category) {
+        if (query == null || query.trim().isEmpty()) {
+            return itemDAO.searchItems(null, type, category);
+        }
+        try {
+            return searchIndex.search(query).stream()
+                .filter(item -> item.getStatus() == ItemStatus.OPEN
+                        || item.getStatus() == ItemStatus.PENDING_CLAIM
+                        || item.getStatus() == ItemStatus.VERIFIED)
+                .filter(item -> type == null || item.getType() == type)
+                .filter(item -> category == null || item.getCategory() == category)
+                .collect(Collectors.toList());
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error searching open items", e);
+            return new ArrayList<>();
+        }
+    }
+    
     /**
      * Find a specific item across enterprises
      * 
@@ -631,34 +640,38 @@ public class EnterpriseItemService {
     // ==================== HELPER METHODS ====================
     
     /**
-     * Filter and enrich a list of items
+     * Items a search starts from: the ranked index hits for a query, otherwise
+     * everything, newest first
+     */
+    private List<Item> candidates(String query) {
+        if (query == null || query.trim().isEmpty()) {
+            return searchIndex.allItems();
+        }
+        return searchIndex.search(query);
+    }
+    
+    /**
+     * Candidates passing every criterion, counted into the facets on the way;
+     * query results keep their rank order, everything else is newest first
+     */
+    private List<Item> collect(SearchCriteria criteria, SearchFacets facets) {
+        List<Item> matches = new ArrayList<>();
+        for (Item item : candidates(criteria.getQuery())) {
+            if (facets.add(item)) {
+                matches.add(item);
+            }
+        }
+        return matches;
+    }
+    
+    /**
+     * Filter and enrich a list of items. Query results keep their rank order;
+     * everything else is sorted newest first.
      */
     private List<Item> filterAndEnrichItems(List<Item> items, String query, 
                                              ItemCategory category, ItemType type, ItemStatus status) {
-        return items.stream()
-            // Query filter (search in title, description, keywords)
-            .filter(item -> {
-                if (query == null || query.trim().isEmpty()) return true;
-                
-                String lowerQuery = query.toLowerCase();
-                
-                if (item.getTitle() != null && 
-                    item.getTitle().toLowerCase().contains(lowerQuery)) return true;
-                    
-                if (item.getDescription() != null && 
-                    item.getDescription().toLowerCase().contains(lowerQuery)) return true;
-                    
-                if (item.getKeywords() != null) {
-                    for (String keyword : item.getKeywords()) {
-                        if (keyword.toLowerCase().contains(lowerQuery)) return true;
-                    }
-                }
-                
-                if (item.getBrand() != null && 
-                    item.getBrand().toLowerCase().contains(lowerQuery)) return true;
-                
-                return false;
-            })
+        boolean ranked = query != null && !query.trim().isEmpty();
+        Stream<Item> filtered = items.stream()
             // Category filter
             .filter(item -> category == null || item.getCategory() == category)
             // Type filter
@@ -666,38 +679,48 @@ public class EnterpriseItemService {
             // Status filter
             .filter(item -> status == null || item.getStatus() == status)
             // Enrich with enterprise info
-            .map(this::enrichItemWithEnterpriseInfo)
+            .map(this::enrichItemWithEnterpriseInfo);
+        if (!ranked) {
             // Sort by date
-            .sorted((a, b) -> {
+            filtered = filtered.sorted((a, b) -> {
                 if (a.getReportedDate() == null) return 1;
                 if (b.getReportedDate() == null) return -1;
                 return b.getReportedDate().compareTo(a.getReportedDate());
-            })
-            .collect(Collectors.toList());
+            });
+        }
+        return filtered.collect(Collectors.toList());
     }
     
     /**
      * Refresh the name caches if needed
      */
     private void refreshCacheIfNeeded() {
-        long now = System.currentTimeMillis();
-        
-        if (now - cacheRefreshTime > CACHE_TTL) {
+        if (System.currentTimeMillis() - cacheRefreshTime <= CACHE_TTL) {
+            return;
+        }
+        synchronized (this) {
+            long now = System.currentTimeMillis();
+            if (now - cacheRefreshTime <= CACHE_TTL) {
+                return;
+            }
             try {
                 // Refresh enterprise cache
-                enterpriseNameCache.clear();
+                Map<String, String> enterpriseNames = new HashMap<>();
                 for (Enterprise e : enterpriseDAO.findAll()) {
-                    enterpriseNameCache.put(e.getEnterpriseId(), e.getName());
+                    enterpriseNames.put(e.getEnterpriseId(), e.getName());
                 }
                 
                 // Refresh organization cache
-                organizationNameCache.clear();
-                orgToEnterpriseCache.clear();
+                Map<String, String> organizationNames = new HashMap<>();
+                Map<String, String> orgToEnterprise = new HashMap<>();
                 for (Organization o : organizationDAO.findAll()) {
-                    organizationNameCache.put(o.getOrganizationId(), o.getName());
-                    orgToEnterpriseCache.put(o.getOrganizationId(), o.getEnterpriseId());
+                    organizationNames.put(o.getOrganizationId(), o.getName());
+                    orgToEnterprise.put(o.getOrganizationId(), o.getEnterpriseId());
                 }
                 
+                enterpriseNameCache = enterpriseNames;
+                organizationNameCache = organizationNames;
+                orgToEnterpriseCache = orgToEnterprise;
                 cacheRefreshTime = now;
                 LOGGER.fine("Enterprise/Organization cache refreshed");
                 
@@ -724,6 +747,7 @@ public class EnterpriseItemService {
         private Double minValue;
         private Double maxValue;
         private boolean includeResolved = false;
+        private boolean openOnly = false;
         
         // Builder pattern
         public SearchCriteria withQuery(String query) {
@@ -773,6 +797,14 @@ public class EnterpriseItemService {
             return this;
         }
         
+        /**
+         * Only open, pending-claim and verified items, like the item DAO's text search
+         */
+        public SearchCriteria openOnly(boolean open) {
+            this.openOnly = open;
+            return this;
+        }
+        
         // Getters
         public String getQuery() { return query; }
         public ItemCategory getCategory() { return category; }
@@ -785,6 +817,26 @@ public class EnterpriseItemService {
         public Double getMinValue() { return minValue; }
         public Double getMaxValue() { return maxValue; }
         public boolean isIncludeResolved() { return includeResolved; }
+        public boolean isOpenOnly() { return openOnly; }
+    }
+    
+    /**
+     * One page of an advanced search with the facet counts of the whole result
+     */
+    public static class FacetedSearchResult {
+        private final List<Item> items;
+        private final int totalCount;
+        private final SearchFacets facets;
+        
+        public FacetedSearchResult(List<Item> items, int totalCount, SearchFacets facets) {
+            this.items = items;
+            this.totalCount = totalCount;
+            this.facets = facets;
+        }
+        
+        public List<Item> getItems() { return items; }
+        public int getTotalCount() { return totalCount; }
+        public SearchFacets getFacets() { return facets; }
     }
     
     /**
@@ -0,0 +1,281 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.utils.PerceptualHash;
+
+import java.util.*;
+
+/**
+ * Multi-index hash over item photo fingerprints for Hamming-radius lookups.
+ *
+ * Each 64-bit perceptual hash is split into four 16-bit blocks and filed in
+ * one table per block. Two hashes within distance r must agree to within
+ * r / 4 bits on at least one block (pigeonhole), so a query only probes the
+ * few bucket keys near each of its own blocks and verifies the entries found
+ * there, instead of comparing against every indexed photo.
+ *
+ * The shared index loads every item on first query and then follows the
+ * ItemDAO's writes (see ItemChangeFollower): a save with changed photos
+ * replaces the item's entries, and a delete removes them.
+ *
+ * @author aksha
+ */
+public class ImageFingerprintIndex {
+
+    private static ImageFingerprintIndex instance;
+
+    private static final int BLOCKS = 4;
+    private static final int BLOCK_BITS = 16;
+    private static final int BLOCK_MASK = (1 << BLOCK_BITS) - 1;
+
+    // One table per block: block value -> entries having it
+    private final List<Map<Integer, List<Entry>>> tables = new ArrayList<>();
+    // Current fingerprints per item id
+    private final Map<String, List<Long>> fingerprintsByItem = new HashMap<>();
+    // Bit-flip masks with at most n bits set, by n
+    private final Map<Integer, int[]> flipMasks = new HashMap<>();
+    private final ItemChangeFollower follower;
+
+    // ==================== CONSTRUCTORS ====================
+
+    /**
+     * Constructor for testing with an isolated index that is filled by hand
+     */
+    public ImageFingerprintIndex() {
+        this(null);
+    }
+
+    /**
+     * Constructor for testing with a specific DAO; loads from it on first query
+     * and follows its writes
+     */
+    public ImageFingerprintIndex(ItemDAO source) {
+        for (int b = 0; b < BLOCKS; b++) {
+            tables.add(new HashMap<>());
+        }
+        this.follower = new ItemChangeFollower(source, new IndexView());
+    }
+
+    public static synchronized ImageFingerprintIndex getInstance() {
+        if (instance == null) {
+            instance = new ImageFingerprintIndex(AppContext.getInstance().getItemDAO());
+        }
+        return instance;
+    }
+
+    // ==================== INDEXING ====================
+
+    /**
+     * Register (or refresh) the fingerprints of an item. Cheap when nothing changed.
+     */
+    public void put(Item item) {
+        follower.put(item);
+    }
+
+    public void putAll(Collection<Item> items) {
+        for (Item item : items) {
+            put(item);
+        }
+    }
+
+    /**
+     * Drop an item's fingerprints
+     */
+    public void remove(String itemId) {
+        follower.remove(itemId);
+    }
+
+    // Callers hold the monitor
+    private void index(Item item) {
+        String itemId = item.getMongoId();
+        if (itemId == null) {
+            return;
+        }
+        List<Long> fingerprints = item.getImageFingerprints();
+        List<Long> previous = fingerprintsByItem.get(itemId);
+        if (fingerprints == null || fingerprints.isEmpty()) {
+            if (previous != null) {
+                remove(itemId, previous);
+                fingerprintsByItem.remove(itemId);
+            }
+            return;
+        }
+        if (fingerprints.equals(previous)) {
+            return;
+        }
+        if (previous != null) {
+            remove(itemId, previous);
+        }
+
+        List<Long> copy = new ArrayList<>(fingerprints);
+        fingerprintsByItem.put(itemId, copy);
+        for (Long fingerprint : copy) {
+            Entry entry = new Entry(fingerprint, itemId);
+            for (int b = 0; b < BLOCKS; b++) {
+                tables.get(b).computeIfAbsent(block(fingerprint, b), k -> new ArrayList<>(2)).add(entry);
+            }
+        }
+    }
+
+    // Callers hold the monitor
+    private void unindex(String itemId) {
+        List<Long> previous = fingerprintsByItem.remove(itemId);
+        if (previous != null) {
+            remove(itemId, previous);
+        }
+    }
+
+    private void remove(String itemId, List<Long> fingerprints) {
+        for (Long fingerprint : fingerprints) {
+            for (int b = 0; b < BLOCKS; b++) {
+                int key = block(fingerprint, b);
+                List<Entry> bucket = tables.get(b).get(key);
+                if (bucket != null) {
+                    bucket.removeIf(e -> e.itemId.equals(itemId));
+                    if (bucket.isEmpty()) {
+                        tables.get(b).remove(key);
+                    }
+                }
+            }
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Find items with a photo within {@code radius} bits of any of the given fingerprints
+     * @return Item id -> smallest distance found
+     */
+    public Map<String, Integer> findWithin(List<Long> fingerprints, int radius) {
+        return findWithin(fingerprints, radius, Collections.emptyList());
+    }
+
+    /**
+     * Like {@link #findWithin(List, int)}, also comparing directly the
+     * candidates the index doesn't hold (e.g. items of another DAO)
+     */
+    public Map<String, Integer> findWithin(List<Long> fingerprints, int radius, Collection<Item> candidates) {
+        follower.ensureCurrent();
+        Map<String, Integer> results = new HashMap<>();
+        if (fingerprints == null) {
+            return results;
+        }
+        synchronized (this) {
+            probe(fingerprints, radius, results);
+            for (Item candidate : candidates) {
+                String itemId = candidate.getMongoId();
+                if (itemId != null && candidate.hasImageFingerprints() && !fingerprintsByItem.containsKey(itemId)) {
+                    for (Long fingerprint : fingerprints) {
+                        for (Long other : candidate.getImageFingerprints()) {
+                            int d = PerceptualHash.distance(fingerprint, other);
+                            if (d <= radius) {
+                                results.merge(itemId, d, Math::min);
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return results;
+    }
+
+    // Callers hold the monitor
+    private void probe(List<Long> fingerprints, int radius, Map<String, Integer> results) {
+        if (fingerprintsByItem.isEmpty()) {
+            return;
+        }
+
+        int[] masks = masksUpTo(radius / BLOCKS);
+        for (Long fingerprint : fingerprints) {
+            for (int b = 0; b < BLOCKS; b++) {
+                Map<Integer, List<Entry>> table = tables.get(b);
+                int key = block(fingerprint, b);
+                for (int mask : masks) {
+                    List<Entry> bucket = table.get(key ^ mask);
+                    if (bucket == null) {
+                        continue;
+                    }
+                    for (Entry entry : bucket) {
+                        int d = PerceptualHash.distance(fingerprint, entry.hash);
+                        if (d <= radius) {
+                            results.merge(entry.itemId, d, Math::min);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    public synchronized int getIndexedItemCount() {
+        return fingerprintsByItem.size();
+    }
+
+    public synchronized void clear() {
+        tables.forEach(Map::clear);
+        fingerprintsByItem.clear();
+    }
+
+    // ==================== HELPERS ====================
+
+    private static int block(long hash, int b) {
+        return (int) (hash >>> (b * BLOCK_BITS)) & BLOCK_MASK;
+    }
+
+    private int[] masksUpTo(int bits) {
+        return flipMasks.computeIfAbsent(bits, n -> {
+            List<Integer> masks = new ArrayList<>();
+            for (int m = 0; m <= BLOCK_MASK; m++) {
+                if (Integer.bitCount(m) <= n) {
+                    masks.add(m);
+                }
+            }
+            return masks.stream().mapToInt(Integer::intValue).toArray();
+        });
+    }
+
+    /**
+     * The index's side of ItemChangeFollower
+     */
+    private class IndexView implements ItemChangeFollower.View {
+        @Override
+        public List<Item> load(ItemDAO source) {
+            return source.findAll();
+        }
+
+        @Override
+        public void reset(List<Item> items) {
+            synchronized (ImageFingerprintIndex.this) {
+                tables.forEach(Map::clear);
+                fingerprintsByItem.clear();
+                for (Item item : items) {
+                    index(item);
+                }
+            }
+        }
+
+        @Override
+        public void apply(Item item) {
+            synchronized (ImageFingerprintIndex.this) {
+                index(item);
+            }
+        }
+
+        @Override
+        public void discard(String itemId) {
+            synchronized (ImageFingerprintIndex.this) {
+                unindex(itemId);
+            }
+        }
+    }
+
+    private static class Entry {
+        final long hash;
+        final String itemId;
+
+        Entry(long hash, String itemId) {
+            this.hash = hash;
+            this.itemId = itemId;
+        }
+    }
+}
@@ -0,0 +1,279 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.models.Item;
+
+import java.util.*;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Keeps an in-memory view of the items (search index, match candidates) in
+ * step with an ItemDAO.
+ *
+ * The view is loaded on first use. After that, the DAO's write callbacks are
+ * passed on to it, and writes that arrive while a reload is reading the
+ * collection are replayed after it. Writes from other processes are picked
+ * up through the item data watermark, checked at most every 30 seconds. When
+ * it moved, the view is kept only if this process's own writes since the last
+ * check explain it exactly: every item modified since then was saved here (and
+ * not modified again after), and the item count changed by this process's
+ * creates minus its deletes. Anything else reloads the view.
+ *
+ * Without a DAO the view is filled by hand: writes are applied directly and
+ * it is never reloaded.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+final class ItemChangeFollower implements ItemDAO.WriteListener {
+
+    private static final Logger LOGGER = Logger.getLogger(ItemChangeFollower.class.getName());
+
+    private static final long WATERMARK_CHECK_MS = 30 * 1000;
+
+    /**
+     * What the follower keeps current; each method takes the view's own lock
+     */
+    interface View {
+        /** Read the view's items from the DAO */
+        List<Item> load(ItemDAO source);
+
+        /** Replace everything with freshly loaded items */
+        void reset(List<Item> items);
+
+        /** Add or re-file an item */
+        void apply(Item item);
+
+        /** Drop an item */
+        void discard(String mongoId);
+    }
+
+    private final ItemDAO source;
+    private final View view;
+    private final long watermarkCheckMs;
+
+    private volatile boolean loaded;
+    private boolean building = false;
+    // Writes that arrive while a rebuild is reading the collection, replayed after it
+    private final List<Runnable> writesDuringBuild = new ArrayList<>();
+
+    private final Object buildLock = new Object();
+    private volatile String knownWatermark;
+    private volatile long lastWatermarkCheck = 0;
+    // This process's writes since the watermark was last read, guarded by localWritesLock:
+    // saved item ids with when the save was reported, and creates minus deletes
+    private final Object localWritesLock = new Object();
+    private Map<String, Long> localSaves = new HashMap<>();
+    private int localCountChange = 0;
+
+    /**
+     * @param source DAO to load from and follow, or null for a view filled by hand
+     */
+    ItemChangeFollower(ItemDAO source, View view) {
+        this(source, view, WATERMARK_CHECK_MS);
+    }
+
+    /**
+     * @param watermarkCheckMs Minimum time between checks for other processes' writes
+     */
+    ItemChangeFollower(ItemDAO source, View view, long watermarkCheckMs) {
+        this.source = source;
+        this.view = view;
+        this.watermarkCheckMs = watermarkCheckMs;
+        this.loaded = source == null;
+        if (source != null) {
+            source.addWriteListener(this);
+        }
+    }
+
+    // ==================== WRITE EVENTS ====================
+
+    @Override
+    public void itemSaved(Item item) {
+        noteLocalWrite(item.getMongoId(), 0);
+        put(item);
+    }
+
+    @Override
+    public void itemCreated(Item item) {
+        noteLocalWrite(item.getMongoId(), 1);
+        put(item);
+    }
+
+    @Override
+    public void itemDeleted(String mongoId) {
+        noteLocalWrite(null, -1);
+        remove(mongoId);
+    }
+
+    // The DAO stamps lastModified before it reports the write, so the time noted is never earlier
+    private void noteLocalWrite(String savedId, int countChange) {
+        synchronized (localWritesLock) {
+            if (savedId != null) {
+                localSaves.put(savedId, System.currentTimeMillis());
+            }
+            localCountChange += countChange;
+        }
+    }
+
+    /**
+     * The local writes noted so far, starting a new record
+     */
+    private LocalWrites takeLocalWrites() {
+        synchronized (localWritesLock) {
+            LocalWrites taken = new LocalWrites(localSaves, localCountChange);
+            localSaves = new HashMap<>();
+            localCountChange = 0;
+            return taken;
+        }
+    }
+
+    /**
+     * Pass an added or changed item on to the view
+     */
+    synchronized void put(Item item) {
+        if (item == null || item.getMongoId() == null) {
+            return;
+        }
+        if (building) {
+            writesDuringBuild.add(() -> view.apply(item));
+        } else if (loaded) {
+            view.apply(item);
+        }
+    }
+
+    /**
+     * Pass a deleted item on to the view
+     */
+    synchronized void remove(String mongoId) {
+        if (mongoId == null) {
+            return;
+        }
+        if (building) {
+            writesDuringBuild.add(() -> view.discard(mongoId));
+        } else if (loaded) {
+            view.discard(mongoId);
+        }
+    }
+
+    // ==================== LOADING ====================
+
+    /**
+     * Reload the view from the DAO (no-op for a view filled by hand)
+     * @return Number of items loaded
+     */
+    int rebuild() {
+        if (source == null) {
+            return 0;
+        }
+        synchronized (buildLock) {
+            synchronized (this) {
+                building = true;
+                writesDuringBuild.clear();
+            }
+
+            String watermark = null;
+            List<Item> items = Collections.emptyList();
+            takeLocalWrites();
+            try {
+                watermark = source.getDataWatermark();
+                items = view.load(source);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Error loading items", e);
+            }
+
+            synchronized (this) {
+                view.reset(items);
+                for (Runnable write : writesDuringBuild) {
+                    write.run();
+                }
+                writesDuringBuild.clear();
+                building = false;
+                loaded = true;
+            }
+            knownWatermark = watermark;
+            lastWatermarkCheck = System.currentTimeMillis();
+            return items.size();
+        }
+    }
+
+    /**
+     * Load on first use, and reload when someone else changed the items
+     */
+    void ensureCurrent() {
+        if (source == null) {
+            return;
+        }
+        if (!loaded) {
+            synchronized (buildLock) {
+                if (!loaded) {
+                    rebuild();
+                }
+            }
+            return;
+        }
+        long now = System.currentTimeMillis();
+        if (now - lastWatermarkCheck < watermarkCheckMs) {
+            return;
+        }
+        lastWatermarkCheck = now;
+        String watermark = source.getDataWatermark();
+        if (watermark == null || watermark.equals(knownWatermark)) {
+            return;
+        }
+        // Writes noted after this point count towards the next check (at worst a spare reload)
+        LocalWrites local = takeLocalWrites();
+        if (explainedBy(local, knownWatermark, watermark)) {
+            // Only our own writes moved it, and they are already applied
+            knownWatermark = watermark;
+        } else {
+            rebuild();
+        }
+    }
+
+    /**
+     * Whether this process's writes account for every change between two
+     * "count@lastModified" watermarks; false when either can't be read
+     */
+    private boolean explainedBy(LocalWrites local, String known, String current) {
+        long[] before = parseWatermark(known);
+        long[] after = parseWatermark(current);
+        if (before == null || after == null || after[0] - before[0] != local.countChange) {
+            return false;
+        }
+        Map<String, Long> modified = source.findModifiedAfter(before[1]);
+        if (modified == null) {
+            return false;
+        }
+        for (Map.Entry<String, Long> item : modified.entrySet()) {
+            Long savedAt = local.saves.get(item.getKey());
+            if (savedAt == null || item.getValue() > savedAt) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long[] parseWatermark(String watermark) {
+        int at = watermark != null ? watermark.indexOf('@') : -1;
+        if (at < 0) {
+            return null;
+        }
+        try {
+            return new long[] {Long.parseLong(watermark.substring(0, at)),
+                               Long.parseLong(watermark.substring(at + 1))};
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static class LocalWrites {
+        final Map<String, Long> saves;
+        final int countChange;
+
+        LocalWrites(Map<String, Long> saves, int countChange) {
+            this.saves = saves;
+            this.countChange = countChange;
+        }
+    }
+}
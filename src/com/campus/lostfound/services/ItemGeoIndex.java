@@ -0,0 +1,292 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.Location;
+
+import java.util.*;
+
+/**
+ * Uniform grid over item coordinates for bounded-radius lookups.
+ *
+ * Items are filed under the cell of their location (the spot if recorded,
+ * otherwise its building). A radius query probes only the cells overlapping
+ * the radius's bounding box and computes great-circle distances for the
+ * entries found there, instead of measuring the distance to every item.
+ * Cells are CELL_DEGREES on a side, about 1.1 km north-south and 0.8 km
+ * east-west in Boston, so a campus-scale query touches a handful of cells.
+ *
+ * The shared index loads every item on first query and then follows the
+ * ItemDAO's writes (see ItemChangeFollower): a save that moved an item
+ * replaces its entry, and a delete removes it and empties its cell. Items
+ * without coordinates are skipped.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class ItemGeoIndex {
+
+    private static ItemGeoIndex instance;
+
+    private static final double CELL_DEGREES = 0.01;
+    private static final double KM_PER_DEGREE_LAT = 111.32;
+
+    // Cell key -> entries in that cell
+    private final Map<Long, List<Entry>> cells = new HashMap<>();
+    // Current entry per item id
+    private final Map<String, Entry> entriesByItem = new HashMap<>();
+    private final ItemChangeFollower follower;
+
+    // ==================== CONSTRUCTORS ====================
+
+    /**
+     * Constructor for testing with an isolated index that is filled by hand
+     */
+    public ItemGeoIndex() {
+        this(null);
+    }
+
+    /**
+     * Constructor for testing with a specific DAO; loads from it on first query
+     * and follows its writes
+     */
+    public ItemGeoIndex(ItemDAO source) {
+        this.follower = new ItemChangeFollower(source, new IndexView());
+    }
+
+    public static synchronized ItemGeoIndex getInstance() {
+        if (instance == null) {
+            instance = new ItemGeoIndex(AppContext.getInstance().getItemDAO());
+        }
+        return instance;
+    }
+
+    // ==================== INDEXING ====================
+
+    /**
+     * Register (or refresh) the position of an item. Cheap when nothing changed.
+     */
+    public void put(Item item) {
+        follower.put(item);
+    }
+
+    public void putAll(Collection<Item> items) {
+        for (Item item : items) {
+            put(item);
+        }
+    }
+
+    /**
+     * Drop an item's position
+     */
+    public void remove(String itemId) {
+        follower.remove(itemId);
+    }
+
+    // Callers hold the monitor
+    private void index(Item item) {
+        String itemId = item.getMongoId();
+        if (itemId == null) {
+            return;
+        }
+        Location location = item.getLocation();
+        Entry previous = entriesByItem.get(itemId);
+        if (location == null || !location.hasCoordinates()) {
+            if (previous != null) {
+                remove(previous);
+            }
+            return;
+        }
+        double latitude = location.getEffectiveLatitude();
+        double longitude = location.getEffectiveLongitude();
+        if (previous != null) {
+            if (previous.latitude == latitude && previous.longitude == longitude) {
+                return;
+            }
+            remove(previous);
+        }
+
+        Entry entry = new Entry(itemId, latitude, longitude);
+        entriesByItem.put(itemId, entry);
+        cells.computeIfAbsent(cellKey(row(latitude), column(longitude)), k -> new ArrayList<>(4)).add(entry);
+    }
+
+    // Callers hold the monitor
+    private void remove(Entry entry) {
+        entriesByItem.remove(entry.itemId);
+        long key = cellKey(row(entry.latitude), column(entry.longitude));
+        List<Entry> cell = cells.get(key);
+        if (cell != null) {
+            cell.remove(entry);
+            if (cell.isEmpty()) {
+                cells.remove(key);
+            }
+        }
+    }
+
+    // ==================== QUERIES ====================
+
+    /**
+     * Find items within {@code radiusKm} of a point
+     * @return Item id -> distance in km
+     */
+    public Map<String, Double> findWithin(double latitude, double longitude, double radiusKm) {
+        follower.ensureCurrent();
+        Map<String, Double> results = new HashMap<>();
+        synchronized (this) {
+            probe(latitude, longitude, radiusKm, results);
+        }
+        return results;
+    }
+
+    // Callers hold the monitor
+    private void probe(double latitude, double longitude, double radiusKm, Map<String, Double> results) {
+        if (entriesByItem.isEmpty()) {
+            return;
+        }
+
+        double latSpan = radiusKm / KM_PER_DEGREE_LAT;
+        double lonSpan = radiusKm / (KM_PER_DEGREE_LAT * Math.max(0.01, Math.cos(Math.toRadians(latitude))));
+        int minRow = row(latitude - latSpan);
+        int maxRow = row(latitude + latSpan);
+        int minColumn = column(longitude - lonSpan);
+        int maxColumn = column(longitude + lonSpan);
+
+        // A radius larger than the indexed area: cheaper to check every entry
+        if ((long) (maxRow - minRow + 1) * (maxColumn - minColumn + 1) > cells.size()) {
+            for (Entry entry : entriesByItem.values()) {
+                addIfWithin(results, entry, latitude, longitude, radiusKm);
+            }
+            return;
+        }
+
+        for (int row = minRow; row <= maxRow; row++) {
+            for (int column = minColumn; column <= maxColumn; column++) {
+                List<Entry> cell = cells.get(cellKey(row, column));
+                if (cell == null) {
+                    continue;
+                }
+                for (Entry entry : cell) {
+                    addIfWithin(results, entry, latitude, longitude, radiusKm);
+                }
+            }
+        }
+    }
+
+    /**
+     * Find items within {@code radiusKm} of a location
+     * @return Item id -> distance in km; empty when the location has no coordinates
+     */
+    public Map<String, Double> findWithin(Location location, double radiusKm) {
+        if (location == null || !location.hasCoordinates()) {
+            return new HashMap<>();
+        }
+        return findWithin(location.getEffectiveLatitude(), location.getEffectiveLongitude(), radiusKm);
+    }
+
+    /**
+     * Like {@link #findWithin(Location, double)}, also measuring directly the
+     * candidates the index doesn't hold (e.g. items of another DAO)
+     */
+    public Map<String, Double> findWithin(Location location, double radiusKm, Collection<Item> candidates) {
+        if (location == null || !location.hasCoordinates()) {
+            return new HashMap<>();
+        }
+        follower.ensureCurrent();
+        double latitude = location.getEffectiveLatitude();
+        double longitude = location.getEffectiveLongitude();
+        Map<String, Double> results = new HashMap<>();
+        synchronized (this) {
+            probe(latitude, longitude, radiusKm, results);
+            for (Item candidate : candidates) {
+                String itemId = candidate.getMongoId();
+                Location other = candidate.getLocation();
+                if (itemId != null && other != null && other.hasCoordinates() && !entriesByItem.containsKey(itemId)) {
+                    addIfWithin(results, new Entry(itemId, other.getEffectiveLatitude(), other.getEffectiveLongitude()),
+                            latitude, longitude, radiusKm);
+                }
+            }
+        }
+        return results;
+    }
+
+    public synchronized int getIndexedItemCount() {
+        return entriesByItem.size();
+    }
+
+    public synchronized void clear() {
+        cells.clear();
+        entriesByItem.clear();
+    }
+
+    // ==================== HELPERS ====================
+
+    private static void addIfWithin(Map<String, Double> results, Entry entry,
+            double latitude, double longitude, double radiusKm) {
+        double distance = Location.distanceKm(latitude, longitude, entry.latitude, entry.longitude);
+        if (distance <= radiusKm) {
+            results.put(entry.itemId, distance);
+        }
+    }
+
+    private static int row(double latitude) {
+        return (int) Math.floor(latitude / CELL_DEGREES);
+    }
+
+    private static int column(double longitude) {
+        return (int) Math.floor(longitude / CELL_DEGREES);
+    }
+
+    private static long cellKey(int row, int column) {
+        return ((long) row << 32) | (column & 0xffffffffL);
+    }
+
+    /**
+     * The index's side of ItemChangeFollower
+     */
+    private class IndexView implements ItemChangeFollower.View {
+        @Override
+        public List<Item> load(ItemDAO source) {
+            return source.findAll();
+        }
+
+        @Override
+        public void reset(List<Item> items) {
+            synchronized (ItemGeoIndex.this) {
+                cells.clear();
+                entriesByItem.clear();
+                for (Item item : items) {
+                    index(item);
+                }
+            }
+        }
+
+        @Override
+        public void apply(Item item) {
+            synchronized (ItemGeoIndex.this) {
+                index(item);
+            }
+        }
+
+        @Override
+        public void discard(String itemId) {
+            synchronized (ItemGeoIndex.this) {
+                Entry entry = entriesByItem.get(itemId);
+                if (entry != null) {
+                    remove(entry);
+                }
+            }
+        }
+    }
+
+    private static class Entry {
+        final String itemId;
+        final double latitude;
+        final double longitude;
+
+        Entry(String itemId, double latitude, double longitude) {
+            this.itemId = itemId;
+            this.latitude = latitude;
+            this.longitude = longitude;
+        }
+    }
+}
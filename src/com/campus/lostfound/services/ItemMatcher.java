@@ -6,6 +6,8 @@ package com.campus.lostfound.services;
 
 import com.campus.lostfound.models.Item;
 import com.campus.lostfound.models.Location;
+import com.campus.lostfound.utils.Instrumentation;
+import com.campus.lostfound.utils.PerceptualHash;
 import java.util.*;
 
 /**
@@ -23,11 +25,87 @@ public class ItemMatcher {
     private static final double TIME_WEIGHT = 0.10;
     private static final double COLOR_WEIGHT = 0.025;
     private static final double BRAND_WEIGHT = 0.025;
+    // Bonus on top of the weights above, scaled by how close the photos are
+    private static final double IMAGE_WEIGHT = 0.15;
+    // Beyond this distance between buildings location adds nothing to the score
+    private static final double LOCATION_RADIUS_KM = 1.0;
+
+    private final ImageFingerprintIndex fingerprintIndex;
+    private final ItemGeoIndex geoIndex;
+    // Null: the shared store, created on first findMatches(Item)
+    private final MatchCandidateStore candidateStore;
+
+    public ItemMatcher() {
+        this(ImageFingerprintIndex.getInstance(), ItemGeoIndex.getInstance(), null);
+    }
+
+    /**
+     * Constructor for testing with an isolated fingerprint index
+     */
+    public ItemMatcher(ImageFingerprintIndex fingerprintIndex) {
+        this(fingerprintIndex, new ItemGeoIndex(), null);
+    }
+
+    /**
+     * Constructor for testing with isolated fingerprint and geo indexes
+     */
+    public ItemMatcher(ImageFingerprintIndex fingerprintIndex, ItemGeoIndex geoIndex) {
+        this(fingerprintIndex, geoIndex, null);
+    }
+
+    /**
+     * Constructor for testing with isolated indexes and candidate store
+     */
+    public ItemMatcher(ImageFingerprintIndex fingerprintIndex, ItemGeoIndex geoIndex,
+            MatchCandidateStore candidateStore) {
+        this.fingerprintIndex = fingerprintIndex;
+        this.geoIndex = geoIndex;
+        this.candidateStore = candidateStore;
+    }
+
+    /**
+     * Find potential matches among the open items that can still score on
+     * time (see MatchCandidateStore), instead of the whole item history
+     */
+    public List<PotentialMatch> findMatches(Item targetItem) {
+        return findMatches(targetItem, candidatesFor(targetItem));
+    }
+
+    /**
+     * Open items of the opposite type that can still score on time against
+     * the target, plus high-value ones of any date
+     */
+    public List<Item> candidatesFor(Item targetItem) {
+        MatchCandidateStore store = candidateStore != null ? candidateStore : MatchCandidateStore.getInstance();
+        return store.candidatesFor(targetItem);
+    }
 
     // Find potential matches for a lost/found item
     public List<PotentialMatch> findMatches(Item targetItem, List<Item> candidateItems) {
+        try (Instrumentation.Timer timer = Instrumentation.getInstance().start("ItemMatcher.findMatches")) {
+            List<PotentialMatch> matches = scoreCandidates(targetItem, candidateItems);
+            timer.stop(matches.size());
+            return matches;
+        }
+    }
+
+    private List<PotentialMatch> scoreCandidates(Item targetItem, List<Item> candidateItems) {
         List<PotentialMatch> matches = new ArrayList<>();
 
+        // Near-duplicate photos come from one fingerprint index query instead of per-candidate comparisons
+        Map<String, Integer> photoDistances = Collections.emptyMap();
+        if (targetItem.hasImageFingerprints()) {
+            photoDistances = fingerprintIndex.findWithin(
+                    targetItem.getImageFingerprints(), PerceptualHash.NEAR_DUPLICATE_DISTANCE, candidateItems);
+        }
+
+        // Candidates that may be close enough to score on location come from one grid query
+        Set<String> nearbyIds = null;
+        Location targetLocation = targetItem.getLocation();
+        if (targetLocation != null && targetLocation.hasCoordinates()) {
+            nearbyIds = geoIndex.findWithin(targetLocation, LOCATION_RADIUS_KM, candidateItems).keySet();
+        }
+
         for (Item candidate : candidateItems) {
             // Skip if same type (don't match lost with lost)
             if (targetItem.getType() == candidate.getType()) {
@@ -39,7 +117,15 @@ public class ItemMatcher {
                 continue;
             }
 
-            double matchScore = calculateMatchScore(targetItem, candidate);
+            double matchScore = calculateMatchScore(targetItem, candidate,
+                    distanceBetween(targetItem, candidate, nearbyIds));
+
+            Integer photoDistance = candidate.getMongoId() != null
+                    ? photoDistances.get(candidate.getMongoId()) : null;
+            if (photoDistance != null) {
+                matchScore = Math.min(1.0,
+                        matchScore + PerceptualHash.similarity(photoDistance) * IMAGE_WEIGHT);
+            }
 
             // Only include if match score is above threshold
             if (matchScore >= 0.3) {
@@ -54,8 +140,27 @@ public class ItemMatcher {
         return matches;
     }
 
+    /**
+     * Distance in km between two items' locations, measured from the candidate
+     * itself. The grid query only rules out saved candidates with coordinates
+     * that are too far to score on location.
+     * @param nearbyIds Ids the grid query found nearby, or null if it wasn't run
+     */
+    private double distanceBetween(Item target, Item candidate, Set<String> nearbyIds) {
+        Location loc1 = target.getLocation();
+        Location loc2 = candidate.getLocation();
+        if (loc1 == null || loc2 == null) {
+            return Double.POSITIVE_INFINITY;
+        }
+        if (nearbyIds != null && candidate.getMongoId() != null && loc2.hasCoordinates()
+                && !nearbyIds.contains(candidate.getMongoId())) {
+            return Double.POSITIVE_INFINITY;
+        }
+        return loc1.distanceFrom(loc2);
+    }
+
     // Calculate match score between two items
-    private double calculateMatchScore(Item item1, Item item2) {
+    private double calculateMatchScore(Item item1, Item item2, double distanceKm) {
         double score = 0.0;
 
         // TITLE MATCHING - Most important factor!
@@ -81,7 +186,8 @@ public class ItemMatcher {
         // Location proximity
         double locationScore = calculateLocationScore(
                 item1.getLocation(),
-                item2.getLocation()
+                item2.getLocation(),
+                distanceKm
         );
         score += locationScore * LOCATION_WEIGHT;
 
@@ -109,6 +215,23 @@ public class ItemMatcher {
         return score;
     }
 
+    /**
+     * Smallest Hamming distance between the two items' photo fingerprints
+     * @return The distance (0-64), or -1 if either item has no fingerprinted photo
+     */
+    public int imageDistance(Item item1, Item item2) {
+        if (!item1.hasImageFingerprints() || !item2.hasImageFingerprints()) {
+            return -1;
+        }
+        int best = Integer.MAX_VALUE;
+        for (Long a : item1.getImageFingerprints()) {
+            for (Long b : item2.getImageFingerprints()) {
+                best = Math.min(best, PerceptualHash.distance(a, b));
+            }
+        }
+        return best;
+    }
+
     // Calculate title similarity using multiple methods
     private double calculateTitleSimilarity(String title1, String title2) {
         if (title1 == null || title2 == null || title1.isEmpty() || title2.isEmpty()) {
@@ -228,7 +351,7 @@ public class ItemMatcher {
     }
 
     // Calculate location score based on proximity
-    private double calculateLocationScore(Location loc1, Location loc2) {
+    private double calculateLocationScore(Location loc1, Location loc2, double distance) {
         if (loc1 == null || loc2 == null) {
             return 0.0;
         }
@@ -244,8 +367,6 @@ public class ItemMatcher {
         }
 
         // Different buildings - use distance
-        double distance = loc1.distanceFrom(loc2);
-
         // Convert distance to score (closer = higher score)
         // Within 100m = high score, >1km = low score
         if (distance < 0.1) {
@@ -0,0 +1,570 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.models.Item;
+
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.logging.Logger;
+
+/**
+ * In-memory full-text index over all items, ranked with BM25.
+ *
+ * Title, brand, keywords, color and description are tokenized, lower-cased
+ * and lightly stemmed ("AirPods" and "airpod" both become "airpod"), and
+ * adjacent word pairs are also indexed joined, so "air pods" finds
+ * "AirPods" and the other way round. At query time:
+ * - every word is looked up exactly,
+ * - the last word also matches as a prefix, for search-as-you-type,
+ * - words of four or more letters that match nothing fall back to terms
+ *   within one edit (two for eight or more letters), so "airpdos" and
+ *   "walet" still find something.
+ *
+ * Any matching word counts (OR), and results come back best-first.
+ *
+ * The index loads every item on first search and then follows the ItemDAO's
+ * writes (see ItemChangeFollower).
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class ItemSearchIndex {
+
+    private static final Logger LOGGER = Logger.getLogger(ItemSearchIndex.class.getName());
+
+    private static ItemSearchIndex instance;
+
+    // BM25 parameters
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // Field weights (a title hit counts three times a description hit)
+    private static final float TITLE_WEIGHT = 3.0f;
+    private static final float BRAND_WEIGHT = 2.5f;
+    private static final float KEYWORD_WEIGHT = 2.0f;
+    private static final float COLOR_WEIGHT = 1.0f;
+    private static final float DESCRIPTION_WEIGHT = 1.0f;
+    private static final float JOINED_PAIR_WEIGHT = 0.5f;
+
+    // Query expansion
+    private static final double PREFIX_FACTOR = 0.8;
+    private static final double[] FUZZY_FACTOR = {1.0, 0.6, 0.4};
+    private static final int MAX_EXPANSIONS = 30;
+    private static final int MAX_JOINED_LENGTH = 14;
+    // Hits scoring below this fraction of the best hit are dropped
+    private static final double MIN_RELATIVE_SCORE = 0.1;
+
+    private static final Set<String> STOP_WORDS = new HashSet<>(Arrays.asList(
+            "a", "an", "and", "at", "by", "for", "from", "in", "is", "it", "my",
+            "near", "of", "on", "or", "the", "to", "was", "with"));
+
+    // ==================== INDEX STATE ====================
+
+    private final ItemChangeFollower follower;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Term -> item id -> weighted term frequency; sorted for prefix lookups
+    private final TreeMap<String, Map<String, Float>> postings = new TreeMap<>();
+    private final Map<String, IndexedItem> items = new HashMap<>();
+    private double totalLength = 0;
+    // Bumped on every change, so callers can tell whether cached results are stale
+    private volatile long version = 0;
+
+    // ==================== CONSTRUCTORS ====================
+
+    /**
+     * Constructor for testing with an index that is filled by hand
+     */
+    public ItemSearchIndex() {
+        this.follower = new ItemChangeFollower(null, new IndexView());
+    }
+
+    /**
+     * Constructor for testing with a specific DAO; loads from it on first search
+     * and follows its writes
+     */
+    public ItemSearchIndex(ItemDAO source) {
+        this.follower = new ItemChangeFollower(source, new IndexView());
+    }
+
+    /**
+     * Constructor for testing with a specific DAO, checking for other
+     * processes' writes at most once per interval (zero: on every search)
+     */
+    public ItemSearchIndex(ItemDAO source, Duration watermarkCheck) {
+        this.follower = new ItemChangeFollower(source, new IndexView(), watermarkCheck.toMillis());
+    }
+
+    public static synchronized ItemSearchIndex getInstance() {
+        if (instance == null) {
+            instance = new ItemSearchIndex(AppContext.getInstance().getItemDAO());
+        }
+        return instance;
+    }
+
+    // ==================== SEARCH ====================
+
+    /**
+     * Items matching the query, best match first
+     */
+    public List<Item> search(String query) {
+        List<SearchHit> hits = searchHits(query, Integer.MAX_VALUE);
+        List<Item> result = new ArrayList<>(hits.size());
+        for (SearchHit hit : hits) {
+            result.add(hit.getItem());
+        }
+        return result;
+    }
+
+    /**
+     * Scored matches for the query, best first
+     * @param limit Maximum number of hits returned
+     */
+    public List<SearchHit> searchHits(String query, int limit) {
+        if (query == null || query.trim().isEmpty()) {
+            return new ArrayList<>();
+        }
+        follower.ensureCurrent();
+
+        List<String> words = words(query);
+        if (words.isEmpty()) {
+            return new ArrayList<>();
+        }
+        boolean lastIsPrefix = !Character.isWhitespace(query.charAt(query.length() - 1));
+
+        lock.readLock().lock();
+        try {
+            if (items.isEmpty()) {
+                return new ArrayList<>();
+            }
+            double avgLength = totalLength / items.size();
+            Map<String, Double> scores = new HashMap<>();
+
+            for (Map<String, Double> clause : clauses(words, lastIsPrefix)) {
+                // Each clause contributes its best-scoring alternative per item
+                Map<String, Double> clauseScores = new HashMap<>();
+                for (Map.Entry<String, Double> alternative : clause.entrySet()) {
+                    Map<String, Float> posting = postings.get(alternative.getKey());
+                    if (posting == null) {
+                        continue;
+                    }
+                    double idf = Math.log(1 + (items.size() - posting.size() + 0.5) / (posting.size() + 0.5));
+                    for (Map.Entry<String, Float> entry : posting.entrySet()) {
+                        double tf = entry.getValue();
+                        double length = items.get(entry.getKey()).length;
+                        double score = alternative.getValue() * idf * tf * (K1 + 1)
+                                / (tf + K1 * (1 - B + B * length / avgLength));
+                        clauseScores.merge(entry.getKey(), score, Math::max);
+                    }
+                }
+                clauseScores.forEach((id, score) -> scores.merge(id, score, Double::sum));
+            }
+
+            double best = scores.values().stream().mapToDouble(Double::doubleValue).max().orElse(0);
+            List<SearchHit> hits = new ArrayList<>();
+            for (Map.Entry<String, Double> entry : scores.entrySet()) {
+                if (entry.getValue() >= best * MIN_RELATIVE_SCORE) {
+                    hits.add(new SearchHit(items.get(entry.getKey()).item, entry.getValue()));
+                }
+            }
+            hits.sort(Comparator.comparingDouble(SearchHit::getScore).reversed());
+            return hits.size() > limit ? new ArrayList<>(hits.subList(0, limit)) : hits;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Every indexed item, newest first (what an empty query shows)
+     */
+    public List<Item> allItems() {
+        follower.ensureCurrent();
+        List<Item> all;
+        lock.readLock().lock();
+        try {
+            all = new ArrayList<>(items.size());
+            for (IndexedItem indexed : items.values()) {
+                all.add(indexed.item);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        all.sort((a, b) -> {
+            if (a.getReportedDate() == null) return b.getReportedDate() == null ? 0 : 1;
+            if (b.getReportedDate() == null) return -1;
+            return b.getReportedDate().compareTo(a.getReportedDate());
+        });
+        return all;
+    }
+
+    /**
+     * Changes whenever the indexed items change
+     */
+    public long getVersion() {
+        return version;
+    }
+
+    /**
+     * One clause per query word, plus one per adjacent pair joined; each maps
+     * candidate index terms to how much a hit on them counts
+     */
+    private List<Map<String, Double>> clauses(List<String> words, boolean lastIsPrefix) {
+        List<Map<String, Double>> clauses = new ArrayList<>();
+        for (int i = 0; i < words.size(); i++) {
+            String word = words.get(i);
+            boolean prefix = lastIsPrefix && i == words.size() - 1 && word.length() >= 2;
+            if (STOP_WORDS.contains(word) && !prefix) {
+                continue;
+            }
+            Map<String, Double> clause = new HashMap<>();
+            String term = stem(word);
+            if (postings.containsKey(term)) {
+                clause.put(term, 1.0);
+            }
+            if (prefix) {
+                addPrefixMatches(word, clause);
+            }
+            if (clause.isEmpty()) {
+                addFuzzyMatches(term, clause);
+            }
+            if (!clause.isEmpty()) {
+                clauses.add(clause);
+            }
+        }
+        for (int i = 0; i + 1 < words.size(); i++) {
+            String joined = joinedTerm(words.get(i), words.get(i + 1));
+            if (joined != null && postings.containsKey(joined)) {
+                clauses.add(Collections.singletonMap(joined, 1.0));
+            }
+        }
+        return clauses;
+    }
+
+    private void addPrefixMatches(String word, Map<String, Double> clause) {
+        int added = 0;
+        for (String term : postings.subMap(word, true, word + Character.MAX_VALUE, false).keySet()) {
+            clause.putIfAbsent(term, PREFIX_FACTOR);
+            if (++added >= MAX_EXPANSIONS) {
+                break;
+            }
+        }
+    }
+
+    private void addFuzzyMatches(String term, Map<String, Double> clause) {
+        int maxEdits = term.length() >= 8 ? 2 : term.length() >= 4 ? 1 : 0;
+        if (maxEdits == 0) {
+            return;
+        }
+        for (String candidate : postings.keySet()) {
+            if (Math.abs(candidate.length() - term.length()) > maxEdits) {
+                continue;
+            }
+            int edits = editDistance(term, candidate, maxEdits);
+            if (edits <= maxEdits) {
+                clause.put(candidate, FUZZY_FACTOR[edits]);
+                if (clause.size() >= MAX_EXPANSIONS) {
+                    return;
+                }
+            }
+        }
+    }
+
+    // ==================== INDEXING ====================
+
+    /**
+     * Add an item, or re-index it if already present
+     */
+    public void put(Item item) {
+        follower.put(item);
+    }
+
+    public void remove(String mongoId) {
+        follower.remove(mongoId);
+    }
+
+    /**
+     * Number of items indexed
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return items.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Reload everything from the DAO (no-op for a hand-filled index)
+     */
+    public void rebuild() {
+        follower.rebuild();
+    }
+
+    // Callers hold the write lock
+    private void index(Item item) {
+        String id = item.getMongoId();
+        if (id == null) {
+            return;
+        }
+        unindex(id);
+
+        Map<String, Float> terms = new HashMap<>();
+        float length = 0;
+        length += addField(terms, item.getTitle(), TITLE_WEIGHT);
+        length += addField(terms, item.getBrand(), BRAND_WEIGHT);
+        if (item.getKeywords() != null) {
+            for (String keyword : item.getKeywords()) {
+                length += addField(terms, keyword, KEYWORD_WEIGHT);
+            }
+        }
+        length += addField(terms, item.getPrimaryColor(), COLOR_WEIGHT);
+        length += addField(terms, item.getDescription(), DESCRIPTION_WEIGHT);
+
+        for (Map.Entry<String, Float> term : terms.entrySet()) {
+            postings.computeIfAbsent(term.getKey(), k -> new HashMap<>()).put(id, term.getValue());
+        }
+        items.put(id, new IndexedItem(item, terms.keySet(), Math.max(length, 1f)));
+        totalLength += Math.max(length, 1f);
+    }
+
+    // Callers hold the write lock
+    private void unindex(String id) {
+        IndexedItem previous = items.remove(id);
+        if (previous == null) {
+            return;
+        }
+        totalLength -= previous.length;
+        for (String term : previous.terms) {
+            Map<String, Float> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(id);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+
+    /**
+     * Add one field's terms at the given weight; returns its weighted length
+     */
+    private static float addField(Map<String, Float> terms, String text, float weight) {
+        if (text == null || text.isEmpty()) {
+            return 0;
+        }
+        List<String> words = words(text);
+        float length = 0;
+        for (String word : words) {
+            if (!STOP_WORDS.contains(word)) {
+                terms.merge(stem(word), weight, Float::sum);
+                length += weight;
+            }
+        }
+        for (int i = 0; i + 1 < words.size(); i++) {
+            String joined = joinedTerm(words.get(i), words.get(i + 1));
+            if (joined != null) {
+                terms.merge(joined, weight * JOINED_PAIR_WEIGHT, Float::sum);
+            }
+        }
+        return length;
+    }
+
+    // ==================== TEXT ANALYSIS ====================
+
+    /**
+     * Index terms for a piece of text, in order (stop words dropped)
+     */
+    public static List<String> tokenize(String text) {
+        List<String> terms = new ArrayList<>();
+        if (text == null) {
+            return terms;
+        }
+        for (String word : words(text)) {
+            if (!STOP_WORDS.contains(word)) {
+                terms.add(stem(word));
+            }
+        }
+        return terms;
+    }
+
+    /**
+     * Lower-cased runs of letters and digits
+     */
+    private static List<String> words(String text) {
+        List<String> words = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c)) {
+                current.append(Character.toLowerCase(c));
+            } else if (c != '\'' && current.length() > 0) {
+                words.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (current.length() > 0) {
+            words.add(current.toString());
+        }
+        return words;
+    }
+
+    /**
+     * Two adjacent words as one term ("air" + "pods" -> "airpod"), or null if
+     * either is a stop word, a number or the result is implausibly long
+     */
+    private static String joinedTerm(String first, String second) {
+        if (STOP_WORDS.contains(first) || STOP_WORDS.contains(second)
+                || !isAlphabetic(first) || !isAlphabetic(second)
+                || first.length() + second.length() > MAX_JOINED_LENGTH) {
+            return null;
+        }
+        return stem(first + second);
+    }
+
+    private static boolean isAlphabetic(String word) {
+        for (int i = 0; i < word.length(); i++) {
+            if (!Character.isLetter(word.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Light English suffix stripping: plurals, -ing and -ed. Applied the same
+     * way to items and queries, so only consistency matters, not real roots.
+     */
+    static String stem(String word) {
+        int n = word.length();
+        if (n <= 3 || !isAlphabetic(word)) {
+            return word;
+        }
+        if (word.endsWith("ies") && n > 4) {
+            return word.substring(0, n - 3) + "y";
+        }
+        if (word.endsWith("sses") || word.endsWith("xes") || word.endsWith("ches") || word.endsWith("shes")) {
+            return word.substring(0, n - 2);
+        }
+        if (word.endsWith("s") && !word.endsWith("ss") && !word.endsWith("us") && !word.endsWith("is")) {
+            return word.substring(0, n - 1);
+        }
+        if (word.endsWith("ing") && n > 5) {
+            return word.substring(0, n - 3);
+        }
+        if (word.endsWith("ed") && n > 4) {
+            return word.substring(0, n - 2);
+        }
+        return word;
+    }
+
+    /**
+     * Optimal string alignment distance (adjacent swaps count as one edit),
+     * or max + 1 as soon as it is known to exceed max
+     */
+    static int editDistance(String a, String b, int max) {
+        int[] prevPrev = new int[b.length() + 1];
+        int[] prev = new int[b.length() + 1];
+        int[] current = new int[b.length() + 1];
+        for (int j = 0; j <= b.length(); j++) {
+            prev[j] = j;
+        }
+        for (int i = 1; i <= a.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= b.length(); j++) {
+                int cost = a.charAt(i - 1) == b.charAt(j - 1) ? 0 : 1;
+                int d = Math.min(Math.min(prev[j] + 1, current[j - 1] + 1), prev[j - 1] + cost);
+                if (i > 1 && j > 1 && a.charAt(i - 1) == b.charAt(j - 2) && a.charAt(i - 2) == b.charAt(j - 1)) {
+                    d = Math.min(d, prevPrev[j - 2] + 1);
+                }
+                current[j] = d;
+                rowMin = Math.min(rowMin, d);
+            }
+            if (rowMin > max) {
+                return max + 1;
+            }
+            int[] recycled = prevPrev;
+            prevPrev = prev;
+            prev = current;
+            current = recycled;
+        }
+        return Math.min(prev[b.length()], max + 1);
+    }
+
+    // ==================== INNER CLASSES ====================
+
+    /**
+     * The index's side of ItemChangeFollower
+     */
+    private class IndexView implements ItemChangeFollower.View {
+        @Override
+        public List<Item> load(ItemDAO source) {
+            return source.findAll();
+        }
+
+        @Override
+        public void reset(List<Item> all) {
+            lock.writeLock().lock();
+            try {
+                postings.clear();
+                items.clear();
+                totalLength = 0;
+                for (Item item : all) {
+                    index(item);
+                }
+                version++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            LOGGER.info("Search index built: " + all.size() + " items, " + postings.size() + " terms");
+        }
+
+        @Override
+        public void apply(Item item) {
+            lock.writeLock().lock();
+            try {
+                index(item);
+                version++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+
+        @Override
+        public void discard(String mongoId) {
+            lock.writeLock().lock();
+            try {
+                unindex(mongoId);
+                version++;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+    }
+
+    private static class IndexedItem {
+        final Item item;
+        final Set<String> terms;
+        final float length;
+
+        IndexedItem(Item item, Set<String> terms, float length) {
+            this.item = item;
+            this.terms = terms;
+            this.length = length;
+        }
+    }
+
+    public static class SearchHit {
+        private final Item item;
+        private final double score;
+
+        SearchHit(Item item, double score) {
+            this.item = item;
+            this.score = score;
+        }
+
+        public Item getItem() { return item; }
+        public double getScore() { return score; }
+    }
+}
@@ -0,0 +1,266 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.Item.ItemStatus;
+import com.campus.lostfound.models.Item.ItemType;
+
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Open items partitioned by type and reporting week, for match candidates.
+ *
+ * ItemMatcher's time score drops to zero for items reported
+ * MATCH_WINDOW_DAYS or more apart, and claimed, cancelled or expired items
+ * never become matches. So candidates for an item are only the open items of
+ * the opposite type whose week buckets overlap its window, plus items
+ * without a reported date. Matching cost then follows the number of open
+ * items around that time, not the size of the whole history.
+ *
+ * Lost property that is worth a lot can turn up months later. A long-tail
+ * pass therefore optionally adds open items valued at HIGH_VALUE_THRESHOLD
+ * or more, whatever their date.
+ *
+ * The store loads the open items on first use and then follows the
+ * ItemDAO's writes (see ItemChangeFollower).
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class MatchCandidateStore {
+
+    private static final Logger LOGGER = Logger.getLogger(MatchCandidateStore.class.getName());
+
+    private static MatchCandidateStore instance;
+
+    /** Same cutoff as ItemMatcher's time score (two weeks) */
+    public static final int MATCH_WINDOW_DAYS = 14;
+
+    /** Estimated value from which open items are candidates at any date */
+    public static final double HIGH_VALUE_THRESHOLD = 500.0;
+
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+    private static final long WEEK_MS = 7 * DAY_MS;
+    private static final long WINDOW_MS = MATCH_WINDOW_DAYS * DAY_MS;
+
+    // ==================== STORE STATE ====================
+
+    private final ItemChangeFollower follower;
+
+    // Type -> week number -> item id -> item
+    private final Map<ItemType, TreeMap<Long, Map<String, Item>>> buckets = new EnumMap<>(ItemType.class);
+    // Open items without a reported date, by type
+    private final Map<ItemType, Map<String, Item>> undated = new EnumMap<>(ItemType.class);
+    // Open high-value items, by type
+    private final Map<ItemType, Map<String, Item>> longTail = new EnumMap<>(ItemType.class);
+    // Where each stored item is filed, so updates can move it
+    private final Map<String, Slot> slots = new HashMap<>();
+
+    // ==================== CONSTRUCTORS ====================
+
+    /**
+     * Constructor for testing with a store that is filled by hand
+     */
+    public MatchCandidateStore() {
+        initMaps();
+        this.follower = new ItemChangeFollower(null, new StoreView());
+    }
+
+    /**
+     * Constructor for testing with a specific DAO; loads from it on first use
+     * and follows its writes
+     */
+    public MatchCandidateStore(ItemDAO source) {
+        initMaps();
+        this.follower = new ItemChangeFollower(source, new StoreView());
+    }
+
+    public static synchronized MatchCandidateStore getInstance() {
+        if (instance == null) {
+            instance = new MatchCandidateStore(AppContext.getInstance().getItemDAO());
+        }
+        return instance;
+    }
+
+    private void initMaps() {
+        for (ItemType type : ItemType.values()) {
+            buckets.put(type, new TreeMap<>());
+            undated.put(type, new HashMap<>());
+            longTail.put(type, new HashMap<>());
+        }
+    }
+
+    // ==================== CANDIDATES ====================
+
+    /**
+     * Open items of the opposite type reported within MATCH_WINDOW_DAYS of the
+     * target, undated ones, and open high-value items of any date
+     */
+    public List<Item> candidatesFor(Item target) {
+        return candidatesFor(target, true);
+    }
+
+    /**
+     * Open items of the opposite type reported within MATCH_WINDOW_DAYS of the target
+     * @param includeLongTail Also return open high-value items of any date
+     */
+    public List<Item> candidatesFor(Item target, boolean includeLongTail) {
+        follower.ensureCurrent();
+        ItemType wanted = target.getType() == ItemType.LOST ? ItemType.FOUND : ItemType.LOST;
+        Date reported = target.getReportedDate();
+
+        Map<String, Item> candidates = new LinkedHashMap<>();
+        synchronized (this) {
+            TreeMap<Long, Map<String, Item>> weeks = buckets.get(wanted);
+            if (reported == null) {
+                weeks.values().forEach(candidates::putAll);
+            } else {
+                long time = reported.getTime();
+                for (Map<String, Item> week : weeks.subMap(week(time - WINDOW_MS), true,
+                        week(time + WINDOW_MS), true).values()) {
+                    for (Item item : week.values()) {
+                        Date date = item.getReportedDate();
+                        if (date != null && Math.abs(date.getTime() - time) < WINDOW_MS) {
+                            candidates.put(item.getMongoId(), item);
+                        }
+                    }
+                }
+            }
+            candidates.putAll(undated.get(wanted));
+            if (includeLongTail) {
+                candidates.putAll(longTail.get(wanted));
+            }
+        }
+        if (target.getMongoId() != null) {
+            candidates.remove(target.getMongoId());
+        }
+        return new ArrayList<>(candidates.values());
+    }
+
+    /**
+     * Number of open items held
+     */
+    public synchronized int size() {
+        return slots.size();
+    }
+
+    // ==================== UPDATES ====================
+
+    /**
+     * File (or re-file) an item; items that are no longer open are dropped
+     */
+    public void put(Item item) {
+        follower.put(item);
+    }
+
+    public void remove(String mongoId) {
+        follower.remove(mongoId);
+    }
+
+    /**
+     * Reload the open items from the source
+     */
+    public void rebuild() {
+        follower.rebuild();
+    }
+
+    // Callers hold the monitor
+    private void file(Item item) {
+        String id = item.getMongoId();
+        if (id == null) {
+            return;
+        }
+        unfile(id);
+        if (!isOpen(item) || item.getType() == null) {
+            return;
+        }
+        Long week = item.getReportedDate() != null ? week(item.getReportedDate().getTime()) : null;
+        slots.put(id, new Slot(item.getType(), week));
+        if (week == null) {
+            undated.get(item.getType()).put(id, item);
+        } else {
+            buckets.get(item.getType()).computeIfAbsent(week, k -> new HashMap<>()).put(id, item);
+        }
+        if (item.getEstimatedValue() >= HIGH_VALUE_THRESHOLD) {
+            longTail.get(item.getType()).put(id, item);
+        }
+    }
+
+    // Callers hold the monitor
+    private void unfile(String id) {
+        Slot slot = slots.remove(id);
+        if (slot == null) {
+            return;
+        }
+        if (slot.week == null) {
+            undated.get(slot.type).remove(id);
+        } else {
+            Map<String, Item> bucket = buckets.get(slot.type).get(slot.week);
+            if (bucket != null) {
+                bucket.remove(id);
+                if (bucket.isEmpty()) {
+                    buckets.get(slot.type).remove(slot.week);
+                }
+            }
+        }
+        longTail.get(slot.type).remove(id);
+    }
+
+    private static boolean isOpen(Item item) {
+        return item.getStatus() == ItemStatus.OPEN
+                || item.getStatus() == ItemStatus.PENDING_CLAIM
+                || item.getStatus() == ItemStatus.VERIFIED;
+    }
+
+    private static long week(long time) {
+        return Math.floorDiv(time, WEEK_MS);
+    }
+
+    /**
+     * The store's side of ItemChangeFollower
+     */
+    private class StoreView implements ItemChangeFollower.View {
+        @Override
+        public List<Item> load(ItemDAO source) {
+            return source.findByStatus(null);
+        }
+
+        @Override
+        public void reset(List<Item> open) {
+            synchronized (MatchCandidateStore.this) {
+                slots.clear();
+                buckets.values().forEach(Map::clear);
+                undated.values().forEach(Map::clear);
+                longTail.values().forEach(Map::clear);
+                for (Item item : open) {
+                    file(item);
+                }
+            }
+            LOGGER.info("Match candidate store built: " + open.size() + " open items");
+        }
+
+        @Override
+        public void apply(Item item) {
+            synchronized (MatchCandidateStore.this) {
+                file(item);
+            }
+        }
+
+        @Override
+        public void discard(String mongoId) {
+            synchronized (MatchCandidateStore.this) {
+                unfile(mongoId);
+            }
+        }
+    }
+
+    private static class Slot {
+        final ItemType type;
+        final Long week; // null for undated items
+
+        Slot(ItemType type, Long week) {
+            this.type = type;
+            this.week = week;
+        }
+    }
+}
@@ -18,26 +18,26 @@ import java.util.stream.Collectors;
  */
 public class NetworkAdminDataProvider implements AdminDataProvider {
     
-    private final MongoItemDAO itemDAO;
-    private final MongoUserDAO userDAO;
-    private final MongoEnterpriseDAO enterpriseDAO;
-    private final MongoOrganizationDAO organizationDAO;
-    private final MongoWorkRequestDAO workRequestDAO;
+    private final ItemDAO itemDAO;
+    private final UserDAO userDAO;
+    private final EnterpriseDAO enterpriseDAO;
+    private final OrganizationDAO organizationDAO;
+    private final WorkRequestDAO workRequestDAO;
     private final MongoBuildingDAO buildingDAO;
     
     public NetworkAdminDataProvider() {
-        this.itemDAO = new MongoItemDAO();
-        this.userDAO = new MongoUserDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestDAO = new MongoWorkRequestDAO();
-        this.buildingDAO = new MongoBuildingDAO();
+        this.itemDAO = AppContext.getInstance().getItemDAO();
+        this.userDAO = AppContext.getInstance().getUserDAO();
+        this.enterpriseDAO = AppContext.getInstance().getEnterpriseDAO();
+        this.organizationDAO = AppContext.getInstance().getOrganizationDAO();
+        this.workRequestDAO = AppContext.getInstance().getWorkRequestDAO();
+        this.buildingDAO = MongoBuildingDAO.getInstance();
     }
     
     // Constructor for dependency injection (testing)
-    public NetworkAdminDataProvider(MongoItemDAO itemDAO, MongoUserDAO userDAO,
-            MongoEnterpriseDAO enterpriseDAO, MongoOrganizationDAO organizationDAO,
-            MongoWorkRequestDAO workRequestDAO, MongoBuildingDAO buildingDAO) {
+    public NetworkAdminDataProvider(ItemDAO itemDAO, UserDAO userDAO,
+            EnterpriseDAO enterpriseDAO, OrganizationDAO organizationDAO,
+            WorkRequestDAO workRequestDAO, MongoBuildingDAO buildingDAO) {
         this.itemDAO = itemDAO;
         this.userDAO = userDAO;
         this.enterpriseDAO = enterpriseDAO;
@@ -7,6 +7,8 @@ import com.campus.lostfound.models.User.UserRole;
 import com.campus.lostfound.models.workrequest.WorkRequest;
 import com.campus.lostfound.models.workrequest.WorkRequest.*;
 import com.campus.lostfound.services.AnalyticsService.*;
+import com.campus.lostfound.utils.CsvStreamWriter;
+import com.campus.lostfound.utils.PdfReportWriter;
 
 import java.io.*;
 import java.nio.charset.StandardCharsets;
@@ -15,6 +17,14 @@ import java.text.SimpleDateFormat;
 import java.time.*;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
@@ -44,10 +54,10 @@ public class ReportExportService {
     
     private final AnalyticsService analyticsService;
     private final EnterpriseItemService enterpriseItemService;
-    private final MongoItemDAO itemDAO;
-    private final MongoUserDAO userDAO;
-    private final MongoWorkRequestDAO workRequestDAO;
-    private final MongoEnterpriseDAO enterpriseDAO;
+    private final ItemDAO itemDAO;
+    private final UserDAO userDAO;
+    private final WorkRequestDAO workRequestDAO;
+    private final EnterpriseDAO enterpriseDAO;
     
     // ==================== CONFIGURATION ====================
     
@@ -55,16 +65,17 @@ public class ReportExportService {
     private static final String CSV_DELIMITER = ",";
     private static final String DATE_FORMAT = "yyyy-MM-dd HH:mm:ss";
     private static final String FILE_DATE_FORMAT = "yyyyMMdd_HHmmss";
+    private static final int MAX_REPORT_THREADS = 8;
     
     // ==================== CONSTRUCTORS ====================
     
     public ReportExportService() {
-        this.analyticsService = new AnalyticsService();
-        this.enterpriseItemService = new EnterpriseItemService();
-        this.itemDAO = new MongoItemDAO();
-        this.userDAO = new MongoUserDAO();
-        this.workRequestDAO = new MongoWorkRequestDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
+        this.analyticsService = AppContext.getInstance().getAnalyticsService();
+        this.enterpriseItemService = AppContext.getInstance().getEnterpriseItemService();
+        this.itemDAO = AppContext.getInstance().getItemDAO();
+        this.userDAO = AppContext.getInstance().getUserDAO();
+        this.workRequestDAO = AppContext.getInstance().getWorkRequestDAO();
+        this.enterpriseDAO = AppContext.getInstance().getEnterpriseDAO();
     }
     
     /**
@@ -72,9 +83,9 @@ public class ReportExportService {
      */
     public ReportExportService(AnalyticsService analyticsService, 
                                EnterpriseItemService enterpriseItemService,
-                               MongoItemDAO itemDAO, MongoUserDAO userDAO,
-                               MongoWorkRequestDAO workRequestDAO,
-                               MongoEnterpriseDAO enterpriseDAO) {
+                               ItemDAO itemDAO, UserDAO userDAO,
+                               WorkRequestDAO workRequestDAO,
+                               EnterpriseDAO enterpriseDAO) {
         this.analyticsService = analyticsService;
         this.enterpriseItemService = enterpriseItemService;
         this.itemDAO = itemDAO;
@@ -87,6 +98,29 @@ public class ReportExportService {
     // CSV EXPORT METHODS
     // ====================================================================================
     
+    private static final String[] ITEM_HEADERS = {
+        "Item ID", "Title", "Description", "Category", "Type", "Status",
+        "Reported Date", "Resolved Date", "Reported By", "Reported By Email",
+        "Claimed By", "Location", "Enterprise", "Organization",
+        "Brand", "Color", "Estimated Value", "Serial Number", "Keywords"
+    };
+    
+    private static final String[] USER_HEADERS = {
+        "User ID", "Email", "Full Name", "Role", "Phone",
+        "Enterprise", "Organization", "Trust Score",
+        "Items Reported", "Items Returned", "Items Claimed",
+        "Successful Returns", "Created Date", "Active"
+    };
+    
+    private static final String[] WORK_REQUEST_HEADERS = {
+        "Request ID", "Type", "Status", "Priority",
+        "Requester ID", "Requester Name", "Requester Enterprise",
+        "Target Enterprise", "Description", "Notes",
+        "Approval Step", "Approvers", "Current Approver",
+        "Created At", "Last Updated", "Completed At",
+        "SLA Target Hours", "Is Overdue", "Summary"
+    };
+    
     /**
      * Export items to CSV file
      * @param items List of items to export
@@ -94,54 +128,14 @@ public class ReportExportService {
      * @return true if successful, false otherwise
      */
     public boolean exportItemsToCSV(List<Item> items, String filePath) {
-        try {
-            // Ensure directory exists
-            createParentDirectories(filePath);
-            
-            // Define headers
-            String[] headers = {
-                "Item ID", "Title", "Description", "Category", "Type", "Status",
-                "Reported Date", "Resolved Date", "Reported By", "Reported By Email",
-                "Claimed By", "Location", "Enterprise", "Organization",
-                "Brand", "Color", "Estimated Value", "Serial Number", "Keywords"
-            };
-            
-            List<String[]> rows = new ArrayList<>();
-            rows.add(headers);
-            
-            SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
-            
+        SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
+        return streamCSV(filePath, ITEM_HEADERS, items.size(), ExportProgress.NONE, sink -> {
             for (Item item : items) {
-                String[] row = new String[] {
-                    safeString(item.getMongoId()),
-                    safeString(item.getTitle()),
-                    escapeCSV(item.getDescription()),
-                    item.getCategory() != null ? item.getCategory().name() : "",
-                    item.getType() != null ? item.getType().name() : "",
-                    item.getStatus() != null ? item.getStatus().name() : "",
-                    item.getReportedDate() != null ? sdf.format(item.getReportedDate()) : "",
-                    item.getResolvedDate() != null ? sdf.format(item.getResolvedDate()) : "",
-                    item.getReportedBy() != null ? item.getReportedBy().getFullName() : "",
-                    item.getReportedBy() != null ? item.getReportedBy().getEmail() : "",
-                    item.getClaimedBy() != null ? item.getClaimedBy().getFullName() : "",
-                    item.getLocation() != null ? item.getLocation().getFullLocation() : "",
-                    getEnterpriseName(item.getEnterpriseId()),
-                    getOrganizationName(item.getOrganizationId()),
-                    safeString(item.getBrand()),
-                    safeString(item.getPrimaryColor()),
-                    String.format("%.2f", item.getEstimatedValue()),
-                    safeString(item.getSerialNumber()),
-                    item.getKeywords() != null ? String.join("; ", item.getKeywords()) : ""
-                };
-                rows.add(row);
+                if (!sink.accept(itemRow(item, sdf))) {
+                    break;
+                }
             }
-            
-            return writeCSV(filePath, rows);
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error exporting items to CSV: " + filePath, e);
-            return false;
-        }
+        });
     }
     
     /**
@@ -150,13 +144,54 @@ public class ReportExportService {
      * @return true if successful
      */
     public boolean exportAllItemsToCSV(String filePath) {
-        try {
-            List<Item> items = itemDAO.findAll();
-            return exportItemsToCSV(items, filePath);
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error exporting all items", e);
-            return false;
-        }
+        return exportAllItemsToCSV(filePath, ExportProgress.NONE);
+    }
+    
+    /**
+     * Export the full item history, streamed from the database in constant memory.
+     * A path ending in ".gz" is gzip-compressed.
+     * @param progress Progress callback (called from the exporting thread) and cancel check
+     * @return true if successful; false on error or cancellation (the partial file is removed)
+     */
+    public boolean exportAllItemsToCSV(String filePath, ExportProgress progress) {
+        return exportOrganizationItemsToCSV(null, null, filePath, progress);
+    }
+    
+    /**
+     * Stream one organization's items to CSV
+     * @param organizationId Organization to export, or null for all
+     * @param filter Extra condition on each item, or null for none
+     */
+    public boolean exportOrganizationItemsToCSV(String organizationId, Predicate<Item> filter,
+                                                String filePath, ExportProgress progress) {
+        SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
+        return streamCSV(filePath, ITEM_HEADERS, itemDAO.count(organizationId), progress, sink ->
+            itemDAO.forEachItem(organizationId, item ->
+                filter == null || filter.test(item) ? sink.accept(itemRow(item, sdf)) : sink.skip()));
+    }
+    
+    private String[] itemRow(Item item, SimpleDateFormat sdf) {
+        return new String[] {
+            item.getMongoId(),
+            item.getTitle(),
+            item.getDescription(),
+            item.getCategory() != null ? item.getCategory().name() : "",
+            item.getType() != null ? item.getType().name() : "",
+            item.getStatus() != null ? item.getStatus().name() : "",
+            item.getReportedDate() != null ? sdf.format(item.getReportedDate()) : "",
+            item.getResolvedDate() != null ? sdf.format(item.getResolvedDate()) : "",
+            item.getReportedBy() != null ? item.getReportedBy().getFullName() : "",
+            item.getReportedBy() != null ? item.getReportedBy().getEmail() : "",
+            item.getClaimedBy() != null ? item.getClaimedBy().getFullName() : "",
+            item.getLocation() != null ? item.getLocation().getFullLocation() : "",
+            getEnterpriseName(item.getEnterpriseId()),
+            getOrganizationName(item.getOrganizationId()),
+            item.getBrand(),
+            item.getPrimaryColor(),
+            String.format("%.2f", item.getEstimatedValue()),
+            item.getSerialNumber(),
+            item.getKeywords() != null ? String.join("; ", item.getKeywords()) : ""
+        };
     }
     
     /**
@@ -166,47 +201,14 @@ public class ReportExportService {
      * @return true if successful
      */
     public boolean exportUsersToCSV(List<User> users, String filePath) {
-        try {
-            createParentDirectories(filePath);
-            
-            String[] headers = {
-                "User ID", "Email", "Full Name", "Role", "Phone",
-                "Enterprise", "Organization", "Trust Score",
-                "Items Reported", "Items Returned", "Items Claimed",
-                "Successful Returns", "Created Date", "Active"
-            };
-            
-            List<String[]> rows = new ArrayList<>();
-            rows.add(headers);
-            
-            SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
-            
+        SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
+        return streamCSV(filePath, USER_HEADERS, users.size(), ExportProgress.NONE, sink -> {
             for (User user : users) {
-                String[] row = new String[] {
-                    safeString(user.getEmail()), // Use email as ID
-                    safeString(user.getEmail()),
-                    safeString(user.getFullName()),
-                    user.getRole() != null ? user.getRole().name() : "",
-                    safeString(user.getPhoneNumber()),
-                    getEnterpriseName(user.getEnterpriseId()),
-                    getOrganizationName(user.getOrganizationId()),
-                    String.format("%.1f", user.getTrustScore()),
-                    String.valueOf(user.getItemsReported()),
-                    String.valueOf(user.getItemsReturned()),
-                    "0", // Items claimed - not tracked in model
-                    String.valueOf(user.getItemsReturned()), // Use items returned as successful returns
-                    user.getJoinDate() != null ? sdf.format(user.getJoinDate()) : "",
-                    String.valueOf(user.getTrustScore() >= 25) // Active if not suspended
-                };
-                rows.add(row);
+                if (!sink.accept(userRow(user, sdf))) {
+                    break;
+                }
             }
-            
-            return writeCSV(filePath, rows);
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error exporting users to CSV: " + filePath, e);
-            return false;
-        }
+        });
     }
     
     /**
@@ -215,13 +217,35 @@ public class ReportExportService {
      * @return true if successful
      */
     public boolean exportAllUsersToCSV(String filePath) {
-        try {
-            List<User> users = userDAO.findAll();
-            return exportUsersToCSV(users, filePath);
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error exporting all users", e);
-            return false;
-        }
+        return exportAllUsersToCSV(filePath, ExportProgress.NONE);
+    }
+    
+    /**
+     * Export all active users, streamed from the database in constant memory
+     */
+    public boolean exportAllUsersToCSV(String filePath, ExportProgress progress) {
+        SimpleDateFormat sdf = new SimpleDateFormat(DATE_FORMAT);
+        return streamCSV(filePath, USER_HEADERS, userDAO.countActiveUsers(), progress, sink ->
+            userDAO.forEachActiveUser(user -> sink.accept(userRow(user, sdf))));
+    }
+    
+    private String[] userRow(User user, SimpleDateFormat sdf) {
+        return new String[] {
+            user.getEmail(), // Use email as ID
+            user.getEmail(),
+            user.getFullName(),
+            user.getRole() != null ? user.getRole().name() : "",
+            user.getPhoneNumber(),
+            getEnterpriseName(user.getEnterpriseId()),
+            getOrganizationName(user.getOrganizationId()),
+            String.format("%.1f", user.getTrustScore()),
+            String.valueOf(user.getItemsReported()),
+            String.valueOf(user.getItemsReturned()),
+            "0", // Items claimed - not tracked in model
+            String.valueOf(user.getItemsReturned()), // Use items returned as successful returns
+            user.getJoinDate() != null ? sdf.format(user.getJoinDate()) : "",
+            String.valueOf(user.getTrustScore() >= 25) // Active if not suspended
+        };
     }
     
     /**
@@ -231,54 +255,14 @@ public class ReportExportService {
      * @return true if successful
      */
     public boolean exportWorkRequestsToCSV(List<WorkRequest> requests, String filePath) {
-        try {
-            createParentDirectories(filePath);
-            
-            String[] headers = {
-                "Request ID", "Type", "Status", "Priority",
-                "Requester ID", "Requester Name", "Requester Enterprise",
-                "Target Enterprise", "Description", "Notes",
-                "Approval Step", "Approvers", "Current Approver",
-                "Created At", "Last Updated", "Completed At",
-                "SLA Target Hours", "Is Overdue", "Summary"
-            };
-            
-            List<String[]> rows = new ArrayList<>();
-            rows.add(headers);
-            
-            DateTimeFormatter dtf = DateTimeFormatter.ofPattern(DATE_FORMAT);
-            
+        DateTimeFormatter dtf = DateTimeFormatter.ofPattern(DATE_FORMAT);
+        return streamCSV(filePath, WORK_REQUEST_HEADERS, requests.size(), ExportProgress.NONE, sink -> {
             for (WorkRequest request : requests) {
-                String[] row = new String[] {
-                    safeString(request.getRequestId()),
-                    request.getRequestType() != null ? request.getRequestType().name() : "",
-                    request.getStatus() != null ? request.getStatus().name() : "",
-                    request.getPriority() != null ? request.getPriority().name() : "",
-                    safeString(request.getRequesterId()),
-                    safeString(request.getRequesterName()),
-                    getEnterpriseName(request.getRequesterEnterpriseId()),
-                    getEnterpriseName(request.getTargetEnterpriseId()),
-                    escapeCSV(request.getDescription()),
-                    escapeCSV(request.getNotes()),
-                    String.valueOf(request.getApprovalStep()),
-                    request.getApproverNames() != null ? String.join("; ", request.getApproverNames()) : "",
-                    safeString(request.getCurrentApproverId()),
-                    request.getCreatedAt() != null ? request.getCreatedAt().format(dtf) : "",
-                    request.getLastUpdatedAt() != null ? request.getLastUpdatedAt().format(dtf) : "",
-                    request.getCompletedAt() != null ? request.getCompletedAt().format(dtf) : "",
-                    String.valueOf(request.getSlaTargetHours()),
-                    String.valueOf(request.isOverdue()),
-                    escapeCSV(request.getRequestSummary())
-                };
-                rows.add(row);
+                if (!sink.accept(workRequestRow(request, dtf))) {
+                    break;
+                }
             }
-            
-            return writeCSV(filePath, rows);
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error exporting work requests to CSV: " + filePath, e);
-            return false;
-        }
+        });
     }
     
     /**
@@ -287,13 +271,40 @@ public class ReportExportService {
      * @return true if successful
      */
     public boolean exportAllWorkRequestsToCSV(String filePath) {
-        try {
-            List<WorkRequest> requests = workRequestDAO.findAll();
-            return exportWorkRequestsToCSV(requests, filePath);
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error exporting all work requests", e);
-            return false;
-        }
+        return exportAllWorkRequestsToCSV(filePath, ExportProgress.NONE);
+    }
+    
+    /**
+     * Export all work requests, streamed from the database in constant memory
+     */
+    public boolean exportAllWorkRequestsToCSV(String filePath, ExportProgress progress) {
+        DateTimeFormatter dtf = DateTimeFormatter.ofPattern(DATE_FORMAT);
+        return streamCSV(filePath, WORK_REQUEST_HEADERS, workRequestDAO.count(), progress, sink ->
+            workRequestDAO.forEachRequest(request -> sink.accept(workRequestRow(request, dtf))));
+    }
+    
+    private String[] workRequestRow(WorkRequest request, DateTimeFormatter dtf) {
+        return new String[] {
+            request.getRequestId(),
+            request.getRequestType() != null ? request.getRequestType().name() : "",
+            request.getStatus() != null ? request.getStatus().name() : "",
+            request.getPriority() != null ? request.getPriority().name() : "",
+            request.getRequesterId(),
+            request.getRequesterName(),
+            getEnterpriseName(request.getRequesterEnterpriseId()),
+            getEnterpriseName(request.getTargetEnterpriseId()),
+            request.getDescription(),
+            request.getNotes(),
+            String.valueOf(request.getApprovalStep()),
+            request.getApproverNames() != null ? String.join("; ", request.getApproverNames()) : "",
+            request.getCurrentApproverId(),
+            request.getCreatedAt() != null ? request.getCreatedAt().format(dtf) : "",
+            request.getLastUpdatedAt() != null ? request.getLastUpdatedAt().format(dtf) : "",
+            request.getCompletedAt() != null ? request.getCompletedAt().format(dtf) : "",
+            String.valueOf(request.getSlaTargetHours()),
+            String.valueOf(request.isOverdue()),
+            request.getRequestSummary()
+        };
     }
     
     /**
@@ -545,79 +556,258 @@ public class ReportExportService {
      */
     public ReportData generateEnterpriseReport(String enterpriseId) {
         try {
-            ReportData report = new ReportData();
-            report.generatedAt = LocalDateTime.now();
-            report.reportType = ReportType.ENTERPRISE;
-            
             // Get enterprise details
             Optional<Enterprise> enterpriseOpt = enterpriseDAO.findById(enterpriseId);
             if (enterpriseOpt.isEmpty()) {
                 return createErrorReport("Enterprise Report", "Enterprise not found: " + enterpriseId);
             }
-            Enterprise enterprise = enterpriseOpt.get();
-            
-            report.title = "Enterprise Report: " + enterprise.getName();
+            return buildEnterpriseReport(enterpriseOpt.get(), loadEnterpriseSnapshot());
             
-            // Get enterprise-specific stats
-            List<EnterpriseStats> allStats = analyticsService.getEnterpriseStats();
-            EnterpriseStats entStats = allStats.stream()
-                .filter(s -> s.enterpriseId.equals(enterpriseId))
-                .findFirst()
-                .orElse(null);
-            
-            // Overview section
-            ReportSection overview = new ReportSection("Enterprise Overview");
-            overview.addMetric("Enterprise Name", enterprise.getName());
-            overview.addMetric("Enterprise Type", enterprise.getType() != null ? enterprise.getType().name() : "N/A");
-            overview.addMetric("Active", String.valueOf(enterprise.isActive()));
-            report.sections.add(overview);
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error generating enterprise report", e);
+            return createErrorReport("Enterprise Report", e.getMessage());
+        }
+    }
+    
+    /**
+     * Network-wide data that every enterprise report reads, loaded once
+     */
+    private static class EnterpriseSnapshot {
+        final Map<String, EnterpriseStats> stats = new HashMap<>();
+        Map<String, BenchmarkResult> benchmarks;
+        Map<String, Long> pendingByName;
+    }
+    
+    private EnterpriseSnapshot loadEnterpriseSnapshot() {
+        EnterpriseSnapshot snapshot = new EnterpriseSnapshot();
+        List<EnterpriseStats> allStats = analyticsService.getEnterpriseStats();
+        for (EnterpriseStats stat : allStats) {
+            snapshot.stats.put(stat.enterpriseId, stat);
+        }
+        snapshot.benchmarks = analyticsService.benchmarkAllAgainstNetwork(allStats);
+        snapshot.pendingByName = analyticsService.getPendingRequestsByEnterprise();
+        return snapshot;
+    }
+    
+    private ReportData buildEnterpriseReport(Enterprise enterprise, EnterpriseSnapshot snapshot) {
+        String enterpriseId = enterprise.getEnterpriseId();
+        
+        ReportData report = new ReportData();
+        report.generatedAt = LocalDateTime.now();
+        report.reportType = ReportType.ENTERPRISE;
+        report.title = "Enterprise Report: " + enterprise.getName();
+        
+        EnterpriseStats entStats = snapshot.stats.get(enterpriseId);
+        
+        // Overview section
+        ReportSection overview = new ReportSection("Enterprise Overview");
+        overview.addMetric("Enterprise Name", enterprise.getName());
+        overview.addMetric("Enterprise Type", enterprise.getType() != null ? enterprise.getType().name() : "N/A");
+        overview.addMetric("Active", String.valueOf(enterprise.isActive()));
+        report.sections.add(overview);
+        
+        // Item Statistics section
+        if (entStats != null) {
+            ReportSection items = new ReportSection("Item Statistics");
+            items.addMetric("Total Items", String.valueOf(entStats.totalItems));
+            items.addMetric("Lost Items", String.valueOf(entStats.lostItems));
+            items.addMetric("Found Items", String.valueOf(entStats.foundItems));
+            items.addMetric("Claimed Items", String.valueOf(entStats.claimedItems));
+            items.addMetric("Open Items", String.valueOf(entStats.openItems));
+            items.addMetric("Recovery Rate", String.format("%.1f%%", entStats.recoveryRate * 100));
+            report.sections.add(items);
             
-            // Item Statistics section
-            if (entStats != null) {
-                ReportSection items = new ReportSection("Item Statistics");
-                items.addMetric("Total Items", String.valueOf(entStats.totalItems));
-                items.addMetric("Lost Items", String.valueOf(entStats.lostItems));
-                items.addMetric("Found Items", String.valueOf(entStats.foundItems));
-                items.addMetric("Claimed Items", String.valueOf(entStats.claimedItems));
-                items.addMetric("Open Items", String.valueOf(entStats.openItems));
-                items.addMetric("Recovery Rate", String.format("%.1f%%", entStats.recoveryRate * 100));
-                report.sections.add(items);
-                
-                ReportSection users = new ReportSection("User Statistics");
-                users.addMetric("Total Users", String.valueOf(entStats.userCount));
-                report.sections.add(users);
+            ReportSection users = new ReportSection("User Statistics");
+            users.addMetric("Total Users", String.valueOf(entStats.userCount));
+            report.sections.add(users);
+        }
+        
+        // Benchmark against network
+        BenchmarkResult benchmark = snapshot.benchmarks.get(enterpriseId);
+        if (benchmark != null && benchmark.enterpriseName != null) {
+            ReportSection benchSection = new ReportSection("Network Benchmark");
+            benchSection.addMetric("Performance Level", benchmark.performanceLevel);
+            benchSection.addMetric("Items vs Network Avg", String.format("%+.1f%%", benchmark.itemsDifferential * 100));
+            benchSection.addMetric("Recovery Rate vs Network", String.format("%+.1f%%", benchmark.recoveryRateDifferential * 100));
+            benchSection.addMetric("Users vs Network Avg", String.format("%+.1f%%", benchmark.usersDifferential * 100));
+            report.sections.add(benchSection);
+        }
+        
+        // Pending work requests
+        long pendingCount = snapshot.pendingByName.getOrDefault(enterprise.getName(), 0L);
+        
+        ReportSection workReqs = new ReportSection("Work Requests");
+        workReqs.addMetric("Pending Requests", String.valueOf(pendingCount));
+        report.sections.add(workReqs);
+        
+        // Status chart from the stats already aggregated above
+        if (entStats != null) {
+            ChartData chart = new ChartData("bar", "Item Status");
+            chart.addDataPoint(new ChartDataPoint("Lost", entStats.lostItems, null));
+            chart.addDataPoint(new ChartDataPoint("Found", entStats.foundItems, null));
+            chart.addDataPoint(new ChartDataPoint("Claimed", entStats.claimedItems, null));
+            chart.addDataPoint(new ChartDataPoint("Open", entStats.openItems, null));
+            report.charts.add(chart);
+        }
+        
+        // Item listing, streamed from the database only if the report is rendered
+        report.appendices.add(new ReportTable("Enterprise Items", ITEM_PDF_HEADERS, ITEM_PDF_WIDTHS,
+            sink -> itemDAO.forEachItemInEnterprise(enterpriseId, i -> sink.test(itemPdfRow(i)))));
+        
+        // Store raw data
+        report.rawData.put("enterprise", enterprise);
+        report.rawData.put("stats", entStats);
+        report.rawData.put("benchmark", benchmark);
+        
+        return report;
+    }
+    
+    /**
+     * Generate reports for every enterprise at once. Network-wide data is loaded
+     * once and shared; the per-enterprise work runs in parallel.
+     * @param timeout How long each enterprise's report may take, counted from
+     *                when a report thread picks it up; late ones are cancelled
+     *                and listed in the batch failures
+     * @return Reports that completed, plus failures by enterprise
+     */
+    public EnterpriseReportBatch generateAllEnterpriseReports(Duration timeout) {
+        return fanOutEnterpriseReports(null, timeout);
+    }
+    
+    /**
+     * Generate and render a PDF report for every enterprise in parallel
+     * @param directory Target directory (null for the default export directory)
+     * @param timeout How long each enterprise's report and PDF may take once started
+     * @return Reports and files that completed, plus failures by enterprise
+     */
+    public EnterpriseReportBatch exportAllEnterpriseReportsToPDF(String directory, Duration timeout) {
+        return fanOutEnterpriseReports(directory != null ? directory : getDefaultExportPath(), timeout);
+    }
+    
+    private EnterpriseReportBatch fanOutEnterpriseReports(String pdfDirectory, Duration timeout) {
+        EnterpriseReportBatch batch = new EnterpriseReportBatch();
+        long start = System.nanoTime();
+        
+        List<Enterprise> enterprises;
+        EnterpriseSnapshot snapshot;
+        try {
+            enterprises = enterpriseDAO.findAll();
+            snapshot = loadEnterpriseSnapshot();
+        } catch (Exception e) {
+            LOGGER.log(Level.SEVERE, "Error loading enterprise data for reports", e);
+            batch.failures.put("*", "Could not load enterprise data: " + e.getMessage());
+            return batch;
+        }
+        if (enterprises.isEmpty()) {
+            return batch;
+        }
+        
+        int threads = Math.min(MAX_REPORT_THREADS, enterprises.size());
+        ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+            Thread thread = new Thread(r, "enterprise-report");
+            thread.setDaemon(true);
+            return thread;
+        });
+        try {
+            Map<Enterprise, EnterpriseTask> tasks = new LinkedHashMap<>();
+            for (Enterprise enterprise : enterprises) {
+                EnterpriseTask task = new EnterpriseTask();
+                tasks.put(enterprise, task);
+                task.future = executor.submit(() -> {
+                    task.startedAt = System.nanoTime();
+                    task.started = true;
+                    ReportData report = buildEnterpriseReport(enterprise, snapshot);
+                    String file = null;
+                    if (pdfDirectory != null) {
+                        String filename = generateUniqueFilename(sanitizeFileName(report.title), "pdf");
+                        file = exportReportToPDF(report, Path.of(pdfDirectory, filename).toString());
+                        if (file == null) {
+                            throw new IOException("PDF export failed");
+                        }
+                    }
+                    return new EnterpriseReportResult(report, file);
+                });
             }
             
-            // Benchmark against network
-            BenchmarkResult benchmark = analyticsService.benchmarkAgainstNetwork(enterpriseId);
-            if (benchmark != null && benchmark.enterpriseName != null) {
-                ReportSection benchSection = new ReportSection("Network Benchmark");
-                benchSection.addMetric("Performance Level", benchmark.performanceLevel);
-                benchSection.addMetric("Items vs Network Avg", String.format("%+.1f%%", benchmark.itemsDifferential * 100));
-                benchSection.addMetric("Recovery Rate vs Network", String.format("%+.1f%%", benchmark.recoveryRateDifferential * 100));
-                benchSection.addMetric("Users vs Network Avg", String.format("%+.1f%%", benchmark.usersDifferential * 100));
-                report.sections.add(benchSection);
+            // Each report's clock starts when a thread picks it up. Queued ones wait for a
+            // thread, but no longer than every round of reports could take (a report that
+            // ignores cancellation keeps its thread)
+            long rounds = (enterprises.size() + threads - 1) / threads;
+            long queueDeadline = System.nanoTime() + (rounds + 1) * timeout.toNanos();
+            for (Map.Entry<Enterprise, EnterpriseTask> entry : tasks.entrySet()) {
+                String enterpriseId = entry.getKey().getEnterpriseId();
+                EnterpriseTask task = entry.getValue();
+                try {
+                    EnterpriseReportResult result = task.await(timeout.toNanos(), queueDeadline);
+                    batch.reports.put(enterpriseId, result.report);
+                    if (result.file != null) {
+                        batch.files.put(enterpriseId, result.file);
+                    }
+                } catch (TimeoutException e) {
+                    task.future.cancel(true);
+                    batch.failures.put(enterpriseId, task.started
+                        ? "Timed out after " + timeout.toSeconds() + "s"
+                        : "Not started: every report thread was busy");
+                } catch (ExecutionException e) {
+                    LOGGER.log(Level.WARNING, "Report failed for " + entry.getKey().getName(), e.getCause());
+                    batch.failures.put(enterpriseId, String.valueOf(e.getCause().getMessage()));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    batch.failures.put(enterpriseId, "Interrupted");
+                }
             }
-            
-            // Pending work requests
-            Map<String, Long> pendingByEnt = analyticsService.getPendingRequestsByEnterprise();
-            String entName = enterprise.getName();
-            long pendingCount = pendingByEnt.getOrDefault(entName, 0L);
-            
-            ReportSection workReqs = new ReportSection("Work Requests");
-            workReqs.addMetric("Pending Requests", String.valueOf(pendingCount));
-            report.sections.add(workReqs);
-            
-            // Store raw data
-            report.rawData.put("enterprise", enterprise);
-            report.rawData.put("stats", entStats);
-            report.rawData.put("benchmark", benchmark);
-            
-            return report;
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error generating enterprise report", e);
-            return createErrorReport("Enterprise Report", e.getMessage());
+        } finally {
+            executor.shutdownNow();
+        }
+        
+        batch.elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        LOGGER.info(String.format("Enterprise reports: %d done, %d failed in %d ms on %d threads",
+            batch.reports.size(), batch.failures.size(), batch.elapsedMillis, threads));
+        return batch;
+    }
+    
+    /**
+     * One enterprise's report in the pool, and when a thread picked it up
+     */
+    private static class EnterpriseTask {
+        // How often a queued report is checked for having been picked up
+        private static final long QUEUE_POLL_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+        
+        Future<EnterpriseReportResult> future;
+        volatile boolean started;
+        volatile long startedAt;
+        
+        /**
+         * Wait for the report: up to timeoutNanos once started, and until
+         * queueDeadline for a thread to pick it up
+         */
+        EnterpriseReportResult await(long timeoutNanos, long queueDeadline)
+                throws InterruptedException, ExecutionException, TimeoutException {
+            while (true) {
+                long now = System.nanoTime();
+                long wait = started ? startedAt + timeoutNanos - now
+                                    : Math.min(queueDeadline - now, QUEUE_POLL_NANOS);
+                try {
+                    return future.get(Math.max(0, wait), TimeUnit.NANOSECONDS);
+                } catch (TimeoutException e) {
+                    // Still queued, or picked up while we waited: wait for its own deadline
+                    now = System.nanoTime();
+                    boolean late = started ? now - startedAt >= timeoutNanos : now >= queueDeadline;
+                    if (late) {
+                        throw e;
+                    }
+                }
+            }
+        }
+    }
+    
+    private static class EnterpriseReportResult {
+        final ReportData report;
+        final String file;
+        
+        EnterpriseReportResult(ReportData report, String file) {
+            this.report = report;
+            this.file = file;
         }
     }
     
@@ -807,69 +997,71 @@ public class ReportExportService {
             report.periodStart = criteria.startDate;
             report.periodEnd = criteria.endDate;
             
-            // Filter items by date range
-            List<Item> allItems = itemDAO.findAll();
-            List<Item> filteredItems = allItems.stream()
-                .filter(i -> i.getReportedDate() != null)
-                .filter(i -> {
-                    if (criteria.startDate == null && criteria.endDate == null) return true;
-                    LocalDate itemDate = i.getReportedDate().toInstant()
-                        .atZone(ZoneId.systemDefault()).toLocalDate();
-                    if (criteria.startDate != null && itemDate.isBefore(criteria.startDate)) return false;
-                    if (criteria.endDate != null && itemDate.isAfter(criteria.endDate)) return false;
+            // Aggregate in one pass over a cursor; the date range is applied by the database
+            Date from = criteria.startDate != null
+                ? Date.from(criteria.startDate.atStartOfDay(ZoneId.systemDefault()).toInstant()) : null;
+            Date to = criteria.endDate != null
+                ? Date.from(criteria.endDate.plusDays(1).atStartOfDay(ZoneId.systemDefault()).toInstant()) : null;
+            Predicate<Item> matches = i -> 
+                (criteria.enterpriseIds == null || criteria.enterpriseIds.isEmpty() 
+                    || criteria.enterpriseIds.contains(i.getEnterpriseId()))
+                && (criteria.categories == null || criteria.categories.isEmpty() 
+                    || criteria.categories.contains(i.getCategory()));
+            
+            long[] counts = new long[6]; // total, lost, found, claimed, open, high value
+            double[] values = new double[2]; // total, max
+            Map<ItemCategory, Long> catCounts = new EnumMap<>(ItemCategory.class);
+            Map<String, Long> entCounts = new HashMap<>();
+            itemDAO.forEachItemReportedBetween(from, to, i -> {
+                if (!matches.test(i)) {
                     return true;
-                })
-                .filter(i -> {
-                    if (criteria.enterpriseIds == null || criteria.enterpriseIds.isEmpty()) return true;
-                    return criteria.enterpriseIds.contains(i.getEnterpriseId());
-                })
-                .filter(i -> {
-                    if (criteria.categories == null || criteria.categories.isEmpty()) return true;
-                    return criteria.categories.contains(i.getCategory());
-                })
-                .collect(Collectors.toList());
+                }
+                counts[0]++;
+                if (i.getType() == ItemType.LOST) counts[1]++;
+                if (i.getType() == ItemType.FOUND) counts[2]++;
+                if (i.getStatus() == ItemStatus.CLAIMED) counts[3]++;
+                if (i.getStatus() == ItemStatus.OPEN) counts[4]++;
+                if (i.getEstimatedValue() >= 500) counts[5]++;
+                values[0] += i.getEstimatedValue();
+                values[1] = Math.max(values[1], i.getEstimatedValue());
+                if (i.getCategory() != null) catCounts.merge(i.getCategory(), 1L, Long::sum);
+                if (i.getEnterpriseId() != null) entCounts.merge(i.getEnterpriseId(), 1L, Long::sum);
+                return true;
+            });
+            long total = counts[0];
             
             // Summary section
             ReportSection summary = new ReportSection("Report Summary");
             summary.addMetric("Report Period", (criteria.startDate != null ? criteria.startDate.toString() : "All") 
                 + " to " + (criteria.endDate != null ? criteria.endDate.toString() : "Present"));
-            summary.addMetric("Total Items Matching", String.valueOf(filteredItems.size()));
+            summary.addMetric("Total Items Matching", String.valueOf(total));
             report.sections.add(summary);
             
             // Item Statistics
-            long lost = filteredItems.stream().filter(i -> i.getType() == ItemType.LOST).count();
-            long found = filteredItems.stream().filter(i -> i.getType() == ItemType.FOUND).count();
-            long claimed = filteredItems.stream().filter(i -> i.getStatus() == ItemStatus.CLAIMED).count();
-            long open = filteredItems.stream().filter(i -> i.getStatus() == ItemStatus.OPEN).count();
-            double recoveryRate = filteredItems.size() > 0 ? (double) claimed / filteredItems.size() : 0;
+            double recoveryRate = total > 0 ? (double) counts[3] / total : 0;
             
             ReportSection items = new ReportSection("Item Statistics");
-            items.addMetric("Lost Items", String.valueOf(lost));
-            items.addMetric("Found Items", String.valueOf(found));
-            items.addMetric("Claimed Items", String.valueOf(claimed));
-            items.addMetric("Open Items", String.valueOf(open));
+            items.addMetric("Lost Items", String.valueOf(counts[1]));
+            items.addMetric("Found Items", String.valueOf(counts[2]));
+            items.addMetric("Claimed Items", String.valueOf(counts[3]));
+            items.addMetric("Open Items", String.valueOf(counts[4]));
             items.addMetric("Recovery Rate", String.format("%.1f%%", recoveryRate * 100));
             report.sections.add(items);
             
             // Category breakdown
             if (criteria.includeCategories) {
-                Map<ItemCategory, Long> catCounts = filteredItems.stream()
-                    .filter(i -> i.getCategory() != null)
-                    .collect(Collectors.groupingBy(Item::getCategory, Collectors.counting()));
-                
                 ReportSection categories = new ReportSection("Category Breakdown");
+                ChartData chart = new ChartData("bar", "Items by Category");
                 for (Map.Entry<ItemCategory, Long> entry : catCounts.entrySet()) {
                     categories.addMetric(entry.getKey().name(), String.valueOf(entry.getValue()));
+                    chart.addDataPoint(new ChartDataPoint(entry.getKey().name(), entry.getValue(), null));
                 }
                 report.sections.add(categories);
+                report.charts.add(chart);
             }
             
             // Enterprise breakdown
             if (criteria.includeEnterprises) {
-                Map<String, Long> entCounts = filteredItems.stream()
-                    .filter(i -> i.getEnterpriseId() != null)
-                    .collect(Collectors.groupingBy(Item::getEnterpriseId, Collectors.counting()));
-                
                 ReportSection enterprises = new ReportSection("Enterprise Breakdown");
                 for (Map.Entry<String, Long> entry : entCounts.entrySet()) {
                     String entName = getEnterpriseName(entry.getKey());
@@ -880,21 +1072,21 @@ public class ReportExportService {
             
             // Value analysis
             if (criteria.includeValueAnalysis) {
-                double totalValue = filteredItems.stream().mapToDouble(Item::getEstimatedValue).sum();
-                double avgValue = filteredItems.stream().mapToDouble(Item::getEstimatedValue).average().orElse(0);
-                double maxValue = filteredItems.stream().mapToDouble(Item::getEstimatedValue).max().orElse(0);
-                long highValueCount = filteredItems.stream().filter(i -> i.getEstimatedValue() >= 500).count();
-                
                 ReportSection value = new ReportSection("Value Analysis");
-                value.addMetric("Total Estimated Value", String.format("$%.2f", totalValue));
-                value.addMetric("Average Item Value", String.format("$%.2f", avgValue));
-                value.addMetric("Highest Value Item", String.format("$%.2f", maxValue));
-                value.addMetric("High-Value Items (>$500)", String.valueOf(highValueCount));
+                value.addMetric("Total Estimated Value", String.format("$%.2f", values[0]));
+                value.addMetric("Average Item Value", String.format("$%.2f", total > 0 ? values[0] / total : 0));
+                value.addMetric("Highest Value Item", String.format("$%.2f", values[1]));
+                value.addMetric("High-Value Items (>$500)", String.valueOf(counts[5]));
                 report.sections.add(value);
             }
             
+            // Matching items, re-read from the database only if the report is rendered
+            report.appendices.add(new ReportTable("Matching Items", ITEM_PDF_HEADERS, ITEM_PDF_WIDTHS,
+                sink -> itemDAO.forEachItemReportedBetween(from, to,
+                    i -> !matches.test(i) || sink.test(itemPdfRow(i)))));
+            
             // Store raw data
-            report.rawData.put("filteredItems", filteredItems);
+            report.rawData.put("itemCount", total);
             report.rawData.put("criteria", criteria);
             
             return report;
@@ -1103,7 +1295,8 @@ public class ReportExportService {
     }
     
     /**
-     * Export report to PDF file
+     * Export report to PDF file. Appendix tables are pulled from their row
+     * sources while the pages are laid out, so they are never held in memory.
      * @param report Report data to export
      * @param filePath Target file path (optional, will generate if null)
      * @return File path where report was saved, or null if failed
@@ -1115,136 +1308,35 @@ public class ReportExportService {
                 filePath = getExportFilePath(filename);
             }
             
-            createParentDirectories(filePath);
-            
-            try (PDDocument document = new PDDocument()) {
-                PDPage page = new PDPage(PDRectangle.LETTER);
-                document.addPage(page);
-                
-                PDPageContentStream contentStream = new PDPageContentStream(document, page);
-                
-                float margin = 50;
-                float yPosition = page.getMediaBox().getHeight() - margin;
-                float pageWidth = page.getMediaBox().getWidth();
-                float contentWidth = pageWidth - 2 * margin;
-                
-                // Title
-                contentStream.beginText();
-                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 18);
-                contentStream.newLineAtOffset(margin, yPosition);
-                contentStream.showText(report.title);
-                contentStream.endText();
-                yPosition -= 25;
-                
-                // Subtitle line
-                contentStream.setStrokingColor(0, 102, 204); // Blue line
-                contentStream.setLineWidth(2);
-                contentStream.moveTo(margin, yPosition);
-                contentStream.lineTo(pageWidth - margin, yPosition);
-                contentStream.stroke();
-                yPosition -= 20;
+            try (PdfReportWriter pdf = new PdfReportWriter(Path.of(filePath))) {
+                pdf.title(report.title,
+                    "Generated: " + report.generatedAt.format(DateTimeFormatter.ofPattern(DATE_FORMAT)),
+                    report.periodStart != null && report.periodEnd != null
+                        ? "Period: " + report.periodStart + " to " + report.periodEnd : null);
                 
-                // Generated timestamp
-                contentStream.beginText();
-                contentStream.setFont(PDType1Font.HELVETICA, 10);
-                contentStream.setNonStrokingColor(100, 100, 100); // Gray
-                contentStream.newLineAtOffset(margin, yPosition);
-                contentStream.showText("Generated: " + report.generatedAt.format(DateTimeFormatter.ofPattern(DATE_FORMAT)));
-                contentStream.endText();
-                yPosition -= 15;
-                
-                // Period if available
-                if (report.periodStart != null && report.periodEnd != null) {
-                    contentStream.beginText();
-                    contentStream.setFont(PDType1Font.HELVETICA, 10);
-                    contentStream.newLineAtOffset(margin, yPosition);
-                    contentStream.showText("Period: " + report.periodStart + " to " + report.periodEnd);
-                    contentStream.endText();
-                    yPosition -= 15;
-                }
-                
-                yPosition -= 20; // Extra spacing before sections
-                
-                // Reset color to black
-                contentStream.setNonStrokingColor(0, 0, 0);
-                
-                // Sections
                 for (ReportSection section : report.sections) {
-                    // Check if we need a new page
-                    if (yPosition < 100) {
-                        contentStream.close();
-                        page = new PDPage(PDRectangle.LETTER);
-                        document.addPage(page);
-                        contentStream = new PDPageContentStream(document, page);
-                        yPosition = page.getMediaBox().getHeight() - margin;
-                    }
-                    
-                    // Section header with background
-                    contentStream.setNonStrokingColor(240, 240, 240); // Light gray background
-                    contentStream.addRect(margin, yPosition - 5, contentWidth, 20);
-                    contentStream.fill();
-                    
-                    contentStream.setNonStrokingColor(0, 0, 0); // Black text
-                    contentStream.beginText();
-                    contentStream.setFont(PDType1Font.HELVETICA_BOLD, 12);
-                    contentStream.newLineAtOffset(margin + 5, yPosition);
-                    contentStream.showText(truncateText(section.title, 70));
-                    contentStream.endText();
-                    yPosition -= 25;
-                    
-                    // Section metrics
-                    contentStream.setFont(PDType1Font.HELVETICA, 10);
+                    pdf.section(section.title);
                     for (Map.Entry<String, String> metric : section.metrics.entrySet()) {
-                        if (yPosition < 50) {
-                            contentStream.close();
-                            page = new PDPage(PDRectangle.LETTER);
-                            document.addPage(page);
-                            contentStream = new PDPageContentStream(document, page);
-                            yPosition = page.getMediaBox().getHeight() - margin;
-                        }
-                        
-                        // Metric name (bold)
-                        contentStream.beginText();
-                        contentStream.setFont(PDType1Font.HELVETICA_BOLD, 10);
-                        contentStream.newLineAtOffset(margin + 10, yPosition);
-                        String metricName = truncateText(metric.getKey(), 40);
-                        contentStream.showText(metricName + ":");
-                        contentStream.endText();
-                        
-                        // Metric value
-                        contentStream.beginText();
-                        contentStream.setFont(PDType1Font.HELVETICA, 10);
-                        contentStream.newLineAtOffset(margin + 200, yPosition);
-                        String metricValue = truncateText(metric.getValue(), 50);
-                        contentStream.showText(metricValue);
-                        contentStream.endText();
-                        
-                        yPosition -= 15;
+                        pdf.metric(metric.getKey(), metric.getValue());
                     }
-                    
-                    yPosition -= 10; // Extra spacing between sections
+                    pdf.space(10);
                 }
                 
-                // Footer
-                yPosition = 30;
-                contentStream.setStrokingColor(200, 200, 200);
-                contentStream.setLineWidth(1);
-                contentStream.moveTo(margin, yPosition + 10);
-                contentStream.lineTo(pageWidth - margin, yPosition + 10);
-                contentStream.stroke();
+                if (!report.charts.isEmpty()) {
+                    pdf.section("Charts");
+                    for (ChartData chart : report.charts) {
+                        drawChart(pdf, chart);
+                    }
+                }
                 
-                contentStream.beginText();
-                contentStream.setFont(PDType1Font.HELVETICA, 8);
-                contentStream.setNonStrokingColor(128, 128, 128);
-                contentStream.newLineAtOffset(margin, yPosition);
-                contentStream.showText("Greater Boston Lost & Found Recovery Ecosystem");
-                contentStream.endText();
+                for (ReportTable table : report.appendices) {
+                    pdf.section(table.title);
+                    drawTable(pdf, table);
+                }
                 
-                contentStream.close();
-                document.save(filePath);
+                pdf.save();
+                LOGGER.info("PDF exported successfully (" + pdf.getPageCount() + " pages): " + filePath);
             }
-            
-            LOGGER.info("PDF exported successfully: " + filePath);
             return filePath;
             
         } catch (Exception e) {
@@ -1261,107 +1353,28 @@ public class ReportExportService {
      * @return File path where PDF was saved
      */
     public String exportItemsToPDF(List<Item> items, String title, String filePath) {
+        return exportItemsToPDF(sink -> {
+            for (Item item : items) {
+                if (!sink.test(itemPdfRow(item))) {
+                    return;
+                }
+            }
+        }, items.size(), title, filePath);
+    }
+    
+    private String exportItemsToPDF(RowSource rows, long total, String title, String filePath) {
         try {
             if (filePath == null || filePath.isEmpty()) {
                 String filename = generateUniqueFilename("Items_Report", "pdf");
                 filePath = getExportFilePath(filename);
             }
             
-            createParentDirectories(filePath);
-            
-            try (PDDocument document = new PDDocument()) {
-                PDPage page = new PDPage(PDRectangle.LETTER);
-                document.addPage(page);
-                
-                PDPageContentStream contentStream = new PDPageContentStream(document, page);
-                
-                float margin = 50;
-                float yPosition = page.getMediaBox().getHeight() - margin;
-                float pageWidth = page.getMediaBox().getWidth();
-                
-                // Title
-                contentStream.beginText();
-                contentStream.setFont(PDType1Font.HELVETICA_BOLD, 16);
-                contentStream.newLineAtOffset(margin, yPosition);
-                contentStream.showText(title != null ? title : "Items Report");
-                contentStream.endText();
-                yPosition -= 20;
-                
-                // Summary
-                contentStream.beginText();
-                contentStream.setFont(PDType1Font.HELVETICA, 10);
-                contentStream.newLineAtOffset(margin, yPosition);
-                contentStream.showText("Total Items: " + items.size() + " | Generated: " + 
-                    LocalDateTime.now().format(DateTimeFormatter.ofPattern(DATE_FORMAT)));
-                contentStream.endText();
-                yPosition -= 25;
-                
-                // Table header
-                drawTableHeader(contentStream, margin, yPosition, pageWidth);
-                yPosition -= 20;
-                
-                // Table rows
-                SimpleDateFormat sdf = new SimpleDateFormat("MM/dd/yyyy");
-                int rowCount = 0;
-                
-                for (Item item : items) {
-                    if (yPosition < 60) {
-                        contentStream.close();
-                        page = new PDPage(PDRectangle.LETTER);
-                        document.addPage(page);
-                        contentStream = new PDPageContentStream(document, page);
-                        yPosition = page.getMediaBox().getHeight() - margin;
-                        
-                        // Redraw header on new page
-                        drawTableHeader(contentStream, margin, yPosition, pageWidth);
-                        yPosition -= 20;
-                    }
-                    
-                    // Alternating row colors
-                    if (rowCount % 2 == 0) {
-                        contentStream.setNonStrokingColor(248, 248, 248);
-                        contentStream.addRect(margin, yPosition - 3, pageWidth - 2 * margin, 15);
-                        contentStream.fill();
-                    }
-                    contentStream.setNonStrokingColor(0, 0, 0);
-                    
-                    contentStream.beginText();
-                    contentStream.setFont(PDType1Font.HELVETICA, 8);
-                    contentStream.newLineAtOffset(margin + 5, yPosition);
-                    contentStream.showText(truncateText(item.getTitle(), 25));
-                    contentStream.endText();
-                    
-                    contentStream.beginText();
-                    contentStream.newLineAtOffset(margin + 130, yPosition);
-                    contentStream.showText(item.getCategory() != null ? truncateText(item.getCategory().name(), 12) : "");
-                    contentStream.endText();
-                    
-                    contentStream.beginText();
-                    contentStream.newLineAtOffset(margin + 210, yPosition);
-                    contentStream.showText(item.getType() != null ? item.getType().name() : "");
-                    contentStream.endText();
-                    
-                    contentStream.beginText();
-                    contentStream.newLineAtOffset(margin + 270, yPosition);
-                    contentStream.showText(item.getStatus() != null ? truncateText(item.getStatus().name(), 12) : "");
-                    contentStream.endText();
-                    
-                    contentStream.beginText();
-                    contentStream.newLineAtOffset(margin + 350, yPosition);
-                    contentStream.showText(item.getReportedDate() != null ? sdf.format(item.getReportedDate()) : "");
-                    contentStream.endText();
-                    
-                    contentStream.beginText();
-                    contentStream.newLineAtOffset(margin + 430, yPosition);
-                    contentStream.showText(String.format("$%.0f", item.getEstimatedValue()));
-                    contentStream.endText();
-                    
-                    yPosition -= 15;
-                    rowCount++;
-                }
-                
-                contentStream.close();
-                document.save(filePath);
+            try (PdfReportWriter pdf = new PdfReportWriter(Path.of(filePath))) {
+                pdf.title(title != null ? title : "Items Report",
+                    "Total Items: " + total + " | Generated: " +
+                        LocalDateTime.now().format(DateTimeFormatter.ofPattern(DATE_FORMAT)));
+                drawTable(pdf, new ReportTable(null, ITEM_PDF_HEADERS, ITEM_PDF_WIDTHS, rows));
+                pdf.save();
             }
             
             LOGGER.info("Items PDF exported successfully: " + filePath);
@@ -1526,8 +1539,8 @@ public class ReportExportService {
      * @return File path where PDF was saved
      */
     public String exportAllItemsToPDF(String filePath) {
-        List<Item> items = itemDAO.findAll();
-        return exportItemsToPDF(items, "All Items Report", filePath);
+        RowSource rows = sink -> itemDAO.forEachItem(null, item -> sink.test(itemPdfRow(item)));
+        return exportItemsToPDF(rows, itemDAO.count(null), "All Items Report", filePath);
     }
     
     /**
@@ -1570,49 +1583,61 @@ public class ReportExportService {
         return exportReportToPDF(report, filePath);
     }
     
+    private static final String[] ITEM_PDF_HEADERS = {"Title", "Category", "Type", "Status", "Date", "Value"};
+    private static final float[] ITEM_PDF_WIDTHS = {125, 80, 60, 80, 80, 70};
+    
     /**
-     * Helper method to draw table header for items PDF
+     * Item columns for PDF tables
      */
-    private void drawTableHeader(PDPageContentStream contentStream, float margin, float yPosition, float pageWidth) throws IOException {
-        // Header background
-        contentStream.setNonStrokingColor(52, 73, 94); // Dark blue
-        contentStream.addRect(margin, yPosition - 5, pageWidth - 2 * margin, 18);
-        contentStream.fill();
-        
-        // Header text
-        contentStream.setNonStrokingColor(255, 255, 255); // White
-        contentStream.beginText();
-        contentStream.setFont(PDType1Font.HELVETICA_BOLD, 9);
-        contentStream.newLineAtOffset(margin + 5, yPosition);
-        contentStream.showText("Title");
-        contentStream.endText();
-        
-        contentStream.beginText();
-        contentStream.newLineAtOffset(margin + 130, yPosition);
-        contentStream.showText("Category");
-        contentStream.endText();
-        
-        contentStream.beginText();
-        contentStream.newLineAtOffset(margin + 210, yPosition);
-        contentStream.showText("Type");
-        contentStream.endText();
-        
-        contentStream.beginText();
-        contentStream.newLineAtOffset(margin + 270, yPosition);
-        contentStream.showText("Status");
-        contentStream.endText();
-        
-        contentStream.beginText();
-        contentStream.newLineAtOffset(margin + 350, yPosition);
-        contentStream.showText("Date");
-        contentStream.endText();
-        
-        contentStream.beginText();
-        contentStream.newLineAtOffset(margin + 430, yPosition);
-        contentStream.showText("Value");
-        contentStream.endText();
-        
-        contentStream.setNonStrokingColor(0, 0, 0); // Reset to black
+    private String[] itemPdfRow(Item item) {
+        return new String[] {
+            item.getTitle(),
+            item.getCategory() != null ? item.getCategory().name() : "",
+            item.getType() != null ? item.getType().name() : "",
+            item.getStatus() != null ? item.getStatus().name() : "",
+            item.getReportedDate() != null ? new SimpleDateFormat("MM/dd/yyyy").format(item.getReportedDate()) : "",
+            String.format("$%.0f", item.getEstimatedValue())
+        };
+    }
+    
+    /**
+     * Lay out a table, pulling its rows as pages are filled
+     */
+    private void drawTable(PdfReportWriter pdf, ReportTable table) throws IOException {
+        pdf.beginTable(table.headers, table.columnWidths);
+        IOException[] failure = new IOException[1];
+        table.rows.forEachRow(row -> {
+            if (Thread.currentThread().isInterrupted()) {
+                failure[0] = new InterruptedIOException("Report rendering cancelled");
+                return false;
+            }
+            try {
+                pdf.row(row);
+                return true;
+            } catch (IOException e) {
+                failure[0] = e;
+                return false;
+            }
+        });
+        if (failure[0] != null) {
+            throw failure[0];
+        }
+        pdf.endTable();
+    }
+    
+    /**
+     * Draw a chart from its (already aggregated) data points as horizontal bars
+     */
+    private void drawChart(PdfReportWriter pdf, ChartData chart) throws IOException {
+        List<String> labels = new ArrayList<>();
+        List<Double> values = new ArrayList<>();
+        List<java.awt.Color> colors = new ArrayList<>();
+        for (ChartDataPoint point : chart.dataPoints) {
+            labels.add(point.label);
+            values.add(point.value);
+            colors.add(point.color);
+        }
+        pdf.barChart(chart.title, labels, values, colors);
     }
     
     /**
@@ -1669,6 +1694,102 @@ public class ReportExportService {
         }
     }
     
+    /**
+     * Write a CSV file row by row. The producer pushes rows into the sink and
+     * stops when the sink returns false (cancelled or write error).
+     */
+    private boolean streamCSV(String filePath, String[] headers, long expectedRows,
+                              ExportProgress progress, Consumer<RowSink> producer) {
+        Path path = Path.of(filePath);
+        RowSink sink = null;
+        try {
+            createParentDirectories(filePath);
+            try (CsvStreamWriter writer = new CsvStreamWriter(path)) {
+                writer.writeRow(headers);
+                sink = new RowSink(writer, progress, expectedRows);
+                producer.accept(sink);
+            }
+            if (sink.failure != null) {
+                throw sink.failure;
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.SEVERE, "Error writing CSV: " + filePath, e);
+            deleteQuietly(path);
+            return false;
+        } catch (RuntimeException e) {
+            // The database cursor failed part way: don't leave a truncated export behind
+            LOGGER.log(Level.SEVERE, "Error reading rows for CSV: " + filePath, e);
+            deleteQuietly(path);
+            return false;
+        }
+        
+        if (sink.cancelled) {
+            LOGGER.info("CSV export cancelled after " + sink.rows + " rows: " + filePath);
+            deleteQuietly(path);
+            return false;
+        }
+        progress.onProgress(sink.rows, sink.rows);
+        LOGGER.info("CSV exported successfully (" + sink.rows + " rows): " + filePath);
+        return true;
+    }
+    
+    private void deleteQuietly(Path path) {
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not remove partial export " + path, e);
+        }
+    }
+    
+    /**
+     * Receives rows from a streaming export and tracks progress and cancellation
+     */
+    private static class RowSink {
+        private static final int PROGRESS_INTERVAL = 500;
+        
+        private final CsvStreamWriter writer;
+        private final ExportProgress progress;
+        private final long expectedRows;
+        long rows = 0;
+        long visited = 0;
+        boolean cancelled = false;
+        IOException failure;
+        
+        RowSink(CsvStreamWriter writer, ExportProgress progress, long expectedRows) {
+            this.writer = writer;
+            this.progress = progress;
+            this.expectedRows = expectedRows;
+        }
+        
+        /** Write a row; false means stop producing */
+        boolean accept(String[] row) {
+            if (!skip()) {
+                return false;
+            }
+            try {
+                writer.writeRow(row);
+                rows++;
+                return true;
+            } catch (IOException e) {
+                failure = e;
+                return false;
+            }
+        }
+        
+        /** Account for a record that was read but filtered out; false means stop producing */
+        boolean skip() {
+            visited++;
+            if (visited % PROGRESS_INTERVAL == 0) {
+                progress.onProgress(visited, expectedRows);
+            }
+            if (progress.isCancelled()) {
+                cancelled = true;
+                return false;
+            }
+            return true;
+        }
+    }
+    
     /**
      * Create parent directories for a file path
      */
@@ -1763,6 +1884,21 @@ public class ReportExportService {
     // INNER CLASSES
     // ====================================================================================
     
+    /**
+     * Progress and cancellation hook for long-running exports.
+     * Called from the exporting thread; UI implementations must hop to the EDT.
+     */
+    public interface ExportProgress {
+        /** Records processed so far; expected is an estimate and may be -1 if unknown */
+        void onProgress(long processed, long expected);
+        
+        default boolean isCancelled() {
+            return false;
+        }
+        
+        ExportProgress NONE = (processed, expected) -> { };
+    }
+    
     /**
      * Report data container
      */
@@ -1775,6 +1911,8 @@ public class ReportExportService {
         public List<ReportSection> sections = new ArrayList<>();
         public List<ChartData> charts = new ArrayList<>();
         public Map<String, Object> rawData = new HashMap<>();
+        // Large tables, rendered in PDF exports only
+        public List<ReportTable> appendices = new ArrayList<>();
         
         /**
          * Get report as formatted string
@@ -1840,12 +1978,34 @@ public class ReportExportService {
             return html.toString();
         }
         
+        /**
+         * Whether this is the placeholder returned when generation failed
+         */
+        public boolean isError() {
+            return title != null && title.endsWith(" - Error");
+        }
+        
         @Override
         public String toString() {
             return toFormattedString();
         }
     }
     
+    /**
+     * Outcome of a multi-enterprise report run. Enterprises that failed or timed
+     * out are listed in failures; the rest are usable as-is.
+     */
+    public static class EnterpriseReportBatch {
+        public Map<String, ReportData> reports = new LinkedHashMap<>();   // enterprise ID -> report
+        public Map<String, String> files = new LinkedHashMap<>();         // enterprise ID -> PDF path
+        public Map<String, String> failures = new LinkedHashMap<>();      // enterprise ID -> reason
+        public long elapsedMillis;
+        
+        public boolean isComplete() {
+            return failures.isEmpty();
+        }
+    }
+    
     /**
      * Report section with metrics
      */
@@ -1894,6 +2054,33 @@ public class ReportExportService {
         }
     }
     
+    /**
+     * Table whose rows are produced on demand (typically from a database cursor)
+     * so that large listings are not held in memory
+     */
+    public static class ReportTable {
+        public String title;
+        public String[] headers;
+        public float[] columnWidths; // relative, or null for equal widths
+        public RowSource rows;
+        
+        public ReportTable(String title, String[] headers, float[] columnWidths, RowSource rows) {
+            this.title = title;
+            this.headers = headers;
+            this.columnWidths = columnWidths;
+            this.rows = rows;
+        }
+    }
+    
+    /**
+     * Producer of table rows
+     */
+    @FunctionalInterface
+    public interface RowSource {
+        /** Push rows into the sink until it returns false or the rows run out */
+        void forEachRow(Predicate<String[]> sink);
+    }
+    
     /**
      * Report type enumeration
      */
@@ -0,0 +1,357 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.dao.UserDAO;
+import com.campus.lostfound.dao.WorkRequestDAO;
+import com.campus.lostfound.services.ReportExportService.ReportData;
+import com.campus.lostfound.services.ReportExportService.ReportType;
+
+import java.io.File;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Background generation and caching of the periodic reports (executive
+ * summary, weekly and monthly).
+ *
+ * Each report is rebuilt off-hours on a daily (optionally day-of-week) schedule
+ * and kept together with its exported files. A cached report is reused while
+ * its parameters (report type and day) and the data watermark (item, work
+ * request and user counts plus latest modification times) are unchanged; when
+ * either moves, the next request rebuilds it once, even if several admins ask
+ * at the same moment.
+ *
+ * Typical use:
+ * <pre>
+ *   ReportScheduler.getInstance().start();                       // at startup
+ *   ReportData weekly = ReportScheduler.getInstance().getReport(ReportType.WEEKLY);
+ *   String pdf = ReportScheduler.getInstance().getArtifact(ReportType.WEEKLY, "pdf");
+ * </pre>
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class ReportScheduler {
+
+    private static final Logger LOGGER = Logger.getLogger(ReportScheduler.class.getName());
+
+    private static ReportScheduler instance;
+
+    public static final LocalTime DEFAULT_RUN_TIME = LocalTime.of(2, 0);
+    public static final List<String> ARTIFACT_FORMATS = List.of("pdf", "csv", "txt");
+    private static final String CACHE_DIRECTORY = "exports/cache";
+
+    private ReportExportService reportService;
+    private Supplier<String> watermark;
+    private final Clock clock;
+    private final File cacheDirectory;
+
+    private final Map<ReportType, CachedReport> cache = new ConcurrentHashMap<>();
+    private final Map<ReportType, Object> locks = new EnumMap<>(ReportType.class);
+    private final Map<ReportType, Schedule> schedules = new EnumMap<>(ReportType.class);
+    private ScheduledExecutorService executor;
+
+    // ==================== CONSTRUCTORS ====================
+
+    private ReportScheduler() {
+        this(null, null, Clock.systemDefaultZone(), new File(CACHE_DIRECTORY));
+        LocalTime at = DEFAULT_RUN_TIME;
+        for (ReportType type : List.of(ReportType.EXECUTIVE_SUMMARY, ReportType.WEEKLY, ReportType.MONTHLY)) {
+            schedule(type, at);
+            at = at.plusMinutes(10);
+        }
+    }
+
+    /**
+     * Constructor for testing with a fixed report service, watermark and clock.
+     * No reports are scheduled until {@link #schedule} is called.
+     */
+    public ReportScheduler(ReportExportService reportService, Supplier<String> watermark,
+                           Clock clock, File cacheDirectory) {
+        this.reportService = reportService;
+        this.watermark = watermark;
+        this.clock = clock;
+        this.cacheDirectory = cacheDirectory;
+        for (ReportType type : ReportType.values()) {
+            locks.put(type, new Object());
+        }
+    }
+
+    public static synchronized ReportScheduler getInstance() {
+        if (instance == null) {
+            instance = new ReportScheduler();
+        }
+        return instance;
+    }
+
+    // ==================== SCHEDULING ====================
+
+    /**
+     * Precompute a report every day at the given time, or only on the given days
+     */
+    public synchronized void schedule(ReportType type, LocalTime at, DayOfWeek... days) {
+        schedules.put(type, new Schedule(at, days));
+        if (executor != null) {
+            scheduleNext(type);
+        }
+    }
+
+    /**
+     * Start the background thread. Safe to call more than once.
+     */
+    public synchronized void start() {
+        if (executor != null) {
+            return;
+        }
+        executor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "report-scheduler");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        for (ReportType type : schedules.keySet()) {
+            scheduleNext(type);
+        }
+        LOGGER.info("Report scheduler started for " + schedules.keySet());
+    }
+
+    public synchronized void stop() {
+        if (executor != null) {
+            executor.shutdownNow();
+            executor = null;
+        }
+    }
+
+    private synchronized void scheduleNext(ReportType type) {
+        Schedule schedule = schedules.get(type);
+        if (executor == null || schedule == null) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now(clock);
+        long delay = Duration.between(now, schedule.nextRun(now)).toMillis();
+        executor.schedule(() -> {
+            try {
+                refresh(type);
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Scheduled " + type + " report failed", e);
+            } finally {
+                scheduleNext(type);
+            }
+        }, delay, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Rebuild a report and its exports now if the data changed since it was cached
+     */
+    public void refresh(ReportType type) {
+        getReport(type);
+        for (String format : ARTIFACT_FORMATS) {
+            getArtifact(type, format);
+        }
+    }
+
+    // ==================== CACHED ACCESS ====================
+
+    /**
+     * Get a periodic report, from the cache when its inputs are unchanged
+     * @param type EXECUTIVE_SUMMARY, WEEKLY or MONTHLY
+     */
+    public ReportData getReport(ReportType type) {
+        return current(type).report;
+    }
+
+    /**
+     * Get the exported file for a periodic report, exporting it once per cached report
+     * @param format "pdf", "csv" or "txt"
+     * @return File path, or null if the export failed
+     */
+    public String getArtifact(ReportType type, String format) {
+        CachedReport cached = current(type);
+        synchronized (cached) {
+            String path = cached.artifacts.get(format);
+            if (path != null && new File(path).exists()) {
+                return path;
+            }
+            path = new File(cacheDirectory, cached.fileStem() + "." + format).getPath();
+            String written = export(cached.report, format, path);
+            if (written != null) {
+                cached.artifacts.put(format, written);
+            }
+            return written;
+        }
+    }
+
+    /**
+     * Drop every cached report and its files
+     */
+    public void invalidateAll() {
+        for (ReportType type : ReportType.values()) {
+            CachedReport removed = cache.remove(type);
+            if (removed != null) {
+                removed.deleteArtifacts();
+            }
+        }
+    }
+
+    public boolean isCached(ReportType type) {
+        CachedReport cached = cache.get(type);
+        return cached != null && cached.key.equals(keyFor(type, currentWatermark()));
+    }
+
+    private CachedReport current(ReportType type) {
+        if (type != ReportType.EXECUTIVE_SUMMARY && type != ReportType.WEEKLY && type != ReportType.MONTHLY) {
+            throw new IllegalArgumentException("Not a periodic report: " + type);
+        }
+        String mark = currentWatermark();
+        String key = keyFor(type, mark);
+        synchronized (locks.get(type)) {
+            CachedReport cached = cache.get(type);
+            // Without a watermark (database unreachable) keep serving today's copy
+            if (cached != null && (cached.key.equals(key)
+                    || (mark == null && cached.day.equals(LocalDate.now(clock))))) {
+                return cached;
+            }
+
+            long start = System.nanoTime();
+            ReportData report = generate(type);
+            CachedReport fresh = new CachedReport(type, LocalDate.now(clock), key, report);
+            if (!report.isError() && mark != null) {
+                cache.put(type, fresh);
+                if (cached != null) {
+                    cached.deleteArtifacts();
+                }
+            }
+            LOGGER.info(String.format("Generated %s report in %d ms", type,
+                    TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)));
+            return fresh;
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private ReportData generate(ReportType type) {
+        ReportExportService service = service();
+        switch (type) {
+            case WEEKLY:
+                return service.generateWeeklyReport();
+            case MONTHLY:
+                return service.generateMonthlyReport();
+            default:
+                return service.generateExecutiveSummary();
+        }
+    }
+
+    private String export(ReportData report, String format, String path) {
+        ReportExportService service = service();
+        switch (format) {
+            case "pdf":
+                return service.exportReportToPDF(report, path);
+            case "csv":
+                return service.exportReportToCSV(report, path);
+            case "txt":
+                return service.exportReportToText(report, path);
+            default:
+                throw new IllegalArgumentException("Unsupported report format: " + format);
+        }
+    }
+
+    private String keyFor(ReportType type, String mark) {
+        return type + "|" + LocalDate.now(clock) + "|" + mark;
+    }
+
+    private String currentWatermark() {
+        return watermarkSupplier().get();
+    }
+
+    // Created on first use so that starting the scheduler does not touch the database
+    private synchronized ReportExportService service() {
+        if (reportService == null) {
+            reportService = AppContext.getInstance().getReportExportService();
+        }
+        return reportService;
+    }
+
+    private synchronized Supplier<String> watermarkSupplier() {
+        if (watermark == null) {
+            ItemDAO itemDAO = AppContext.getInstance().getItemDAO();
+            WorkRequestDAO workRequestDAO = AppContext.getInstance().getWorkRequestDAO();
+            UserDAO userDAO = AppContext.getInstance().getUserDAO();
+            watermark = () -> {
+                String items = itemDAO.getDataWatermark();
+                String requests = workRequestDAO.getDataWatermark();
+                String users = userDAO.getDataWatermark();
+                if (items == null || requests == null || users == null) {
+                    return null;
+                }
+                return items + "/" + requests + "/" + users;
+            };
+        }
+        return watermark;
+    }
+
+    /**
+     * Daily run time, optionally restricted to some days of the week
+     */
+    private static class Schedule {
+        final LocalTime at;
+        final Set<DayOfWeek> days;
+
+        Schedule(LocalTime at, DayOfWeek... days) {
+            this.at = at;
+            this.days = days.length == 0 ? EnumSet.allOf(DayOfWeek.class) : EnumSet.copyOf(Arrays.asList(days));
+        }
+
+        LocalDateTime nextRun(LocalDateTime now) {
+            LocalDateTime next = now.toLocalDate().atTime(at);
+            if (!next.isAfter(now)) {
+                next = next.plusDays(1);
+            }
+            while (!days.contains(next.getDayOfWeek())) {
+                next = next.plusDays(1);
+            }
+            return next;
+        }
+    }
+
+    /**
+     * A generated report with the inputs it was built from and its exported files
+     */
+    private class CachedReport {
+        final ReportType type;
+        final LocalDate day;
+        final String key;
+        final ReportData report;
+        final Map<String, String> artifacts = new HashMap<>();
+
+        CachedReport(ReportType type, LocalDate day, String key, ReportData report) {
+            this.type = type;
+            this.day = day;
+            this.key = key;
+            this.report = report;
+        }
+
+        String fileStem() {
+            return type.name().toLowerCase() + "_" + day + "_" + Integer.toHexString(key.hashCode());
+        }
+
+        synchronized void deleteArtifacts() {
+            for (String path : artifacts.values()) {
+                if (!new File(path).delete()) {
+                    LOGGER.fine("Cached report file already gone: " + path);
+                }
+            }
+            artifacts.clear();
+        }
+    }
+}
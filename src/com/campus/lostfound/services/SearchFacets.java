@@ -0,0 +1,224 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.Item.ItemCategory;
+import com.campus.lostfound.models.Item.ItemStatus;
+import com.campus.lostfound.models.Item.ItemType;
+import com.campus.lostfound.services.EnterpriseItemService.SearchCriteria;
+
+import java.util.*;
+
+/**
+ * Filters items against SearchCriteria and counts facets in the same pass.
+ *
+ * Facets are enterprise, organization, category, type, status and reported
+ * date. Each facet counts the items that pass every other filter, so while
+ * "Clothing" is selected the category list can still show "Electronics (42)":
+ * what picking Electronics instead would return. An item failing exactly one
+ * facet's filter is counted for that facet only; an item failing two or more
+ * is not counted at all. Value range, includeResolved and openOnly are
+ * plain filters with no counts.
+ *
+ * The query text is not looked at; callers pass in the text hits.
+ *
+ * <pre>
+ *   SearchFacets facets = new SearchFacets(criteria);
+ *   for (Item item : candidates) {
+ *       if (facets.add(item)) results.add(item);
+ *   }
+ *   facets.getCategoryCounts().get(ItemCategory.ELECTRONICS);
+ * </pre>
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class SearchFacets {
+
+    /**
+     * Reported-date windows, counted cumulatively (the last 7 days include the last 24 hours)
+     */
+    public enum DateRange {
+        LAST_24_HOURS("Last 24 hours", 1),
+        LAST_7_DAYS("Last 7 days", 7),
+        LAST_30_DAYS("Last 30 days", 30);
+
+        private final String label;
+        private final int days;
+
+        DateRange(String label, int days) {
+            this.label = label;
+            this.days = days;
+        }
+
+        public String getLabel() { return label; }
+        public int getDays() { return days; }
+    }
+
+    private enum Facet { ENTERPRISE, ORGANIZATION, CATEGORY, TYPE, STATUS, DATE }
+
+    private static final long DAY_MS = 24L * 60 * 60 * 1000;
+    private static final Set<ItemStatus> OPEN_STATUSES =
+            EnumSet.of(ItemStatus.OPEN, ItemStatus.PENDING_CLAIM, ItemStatus.VERIFIED);
+
+    private final SearchCriteria criteria;
+    private final long now;
+    private final Set<String> enterpriseIds;
+    private final Set<String> organizationIds;
+
+    private final Map<String, Long> enterpriseCounts = new HashMap<>();
+    private final Map<String, Long> organizationCounts = new HashMap<>();
+    private final Map<ItemCategory, Long> categoryCounts = new EnumMap<>(ItemCategory.class);
+    private final Map<ItemType, Long> typeCounts = new EnumMap<>(ItemType.class);
+    private final Map<ItemStatus, Long> statusCounts = new EnumMap<>(ItemStatus.class);
+    private final Map<DateRange, Long> dateCounts = new EnumMap<>(DateRange.class);
+    private int matchCount = 0;
+
+    public SearchFacets(SearchCriteria criteria) {
+        this.criteria = criteria;
+        this.now = System.currentTimeMillis();
+        this.enterpriseIds = criteria.getEnterpriseIds() != null && !criteria.getEnterpriseIds().isEmpty()
+                ? new HashSet<>(criteria.getEnterpriseIds()) : null;
+        this.organizationIds = criteria.getOrganizationIds() != null && !criteria.getOrganizationIds().isEmpty()
+                ? new HashSet<>(criteria.getOrganizationIds()) : null;
+    }
+
+    // ==================== FILTERING ====================
+
+    /**
+     * Count the item and report whether it matches every filter
+     */
+    public boolean add(Item item) {
+        if (!passesPlainFilters(item)) {
+            return false;
+        }
+
+        Facet failed = null;
+        int failures = 0;
+        if (enterpriseIds != null && !enterpriseIds.contains(item.getEnterpriseId())) {
+            failed = Facet.ENTERPRISE;
+            failures++;
+        }
+        if (organizationIds != null && !organizationIds.contains(item.getOrganizationId())) {
+            failed = Facet.ORGANIZATION;
+            failures++;
+        }
+        if (criteria.getCategory() != null && item.getCategory() != criteria.getCategory()) {
+            failed = Facet.CATEGORY;
+            failures++;
+        }
+        if (criteria.getType() != null && item.getType() != criteria.getType()) {
+            failed = Facet.TYPE;
+            failures++;
+        }
+        if (criteria.getStatus() != null && item.getStatus() != criteria.getStatus()) {
+            failed = Facet.STATUS;
+            failures++;
+        }
+        if (!inDateRange(item)) {
+            failed = Facet.DATE;
+            failures++;
+        }
+
+        if (failures == 0) {
+            for (Facet facet : Facet.values()) {
+                count(facet, item);
+            }
+            matchCount++;
+            return true;
+        }
+        if (failures == 1) {
+            count(failed, item);
+        }
+        return false;
+    }
+
+    private boolean passesPlainFilters(Item item) {
+        if (criteria.getMinValue() != null && item.getEstimatedValue() < criteria.getMinValue()) {
+            return false;
+        }
+        if (criteria.getMaxValue() != null && item.getEstimatedValue() > criteria.getMaxValue()) {
+            return false;
+        }
+        if (criteria.isOpenOnly() && !OPEN_STATUSES.contains(item.getStatus())) {
+            return false;
+        }
+        return criteria.isIncludeResolved()
+                || (item.getStatus() != ItemStatus.CLAIMED && item.getStatus() != ItemStatus.EXPIRED);
+    }
+
+    private boolean inDateRange(Item item) {
+        Date reported = item.getReportedDate();
+        if (reported == null) {
+            return true;
+        }
+        if (criteria.getDateFrom() != null && reported.before(criteria.getDateFrom())) {
+            return false;
+        }
+        return criteria.getDateTo() == null || !reported.after(criteria.getDateTo());
+    }
+
+    private void count(Facet facet, Item item) {
+        switch (facet) {
+            case ENTERPRISE:
+                if (item.getEnterpriseId() != null) {
+                    enterpriseCounts.merge(item.getEnterpriseId(), 1L, Long::sum);
+                }
+                break;
+            case ORGANIZATION:
+                if (item.getOrganizationId() != null) {
+                    organizationCounts.merge(item.getOrganizationId(), 1L, Long::sum);
+                }
+                break;
+            case CATEGORY:
+                if (item.getCategory() != null) {
+                    categoryCounts.merge(item.getCategory(), 1L, Long::sum);
+                }
+                break;
+            case TYPE:
+                if (item.getType() != null) {
+                    typeCounts.merge(item.getType(), 1L, Long::sum);
+                }
+                break;
+            case STATUS:
+                if (item.getStatus() != null) {
+                    statusCounts.merge(item.getStatus(), 1L, Long::sum);
+                }
+                break;
+            case DATE:
+                if (item.getReportedDate() != null) {
+                    long age = now - item.getReportedDate().getTime();
+                    for (DateRange range : DateRange.values()) {
+                        if (age <= range.days * DAY_MS) {
+                            dateCounts.merge(range, 1L, Long::sum);
+                        }
+                    }
+                }
+                break;
+        }
+    }
+
+    // ==================== COUNTS ====================
+
+    /**
+     * Items that passed every filter
+     */
+    public int getMatchCount() { return matchCount; }
+
+    public Map<String, Long> getEnterpriseCounts() { return Collections.unmodifiableMap(enterpriseCounts); }
+    public Map<String, Long> getOrganizationCounts() { return Collections.unmodifiableMap(organizationCounts); }
+    public Map<ItemCategory, Long> getCategoryCounts() { return Collections.unmodifiableMap(categoryCounts); }
+    public Map<ItemType, Long> getTypeCounts() { return Collections.unmodifiableMap(typeCounts); }
+    public Map<ItemStatus, Long> getStatusCounts() { return Collections.unmodifiableMap(statusCounts); }
+    public Map<DateRange, Long> getDateCounts() { return Collections.unmodifiableMap(dateCounts); }
+
+    /**
+     * Total of one facet's counts: what choosing "All" for it would return
+     * (items without a value for the facet are left out)
+     */
+    public static long total(Map<?, Long> counts) {
+        long total = 0;
+        for (long count : counts.values()) {
+            total += count;
+        }
+        return total;
+    }
+}
@@ -1,7 +1,7 @@
 package com.campus.lostfound.services;
 
-import com.campus.lostfound.dao.MongoTrustScoreDAO;
-import com.campus.lostfound.dao.MongoUserDAO;
+import com.campus.lostfound.dao.TrustScoreDAO;
+import com.campus.lostfound.dao.UserDAO;
 import com.campus.lostfound.models.User;
 import com.campus.lostfound.models.trustscore.TrustScore;
 import com.campus.lostfound.models.trustscore.TrustScore.ScoreLevel;
@@ -29,22 +29,28 @@ public class TrustScoreService {
     
     private static final Logger LOGGER = Logger.getLogger(TrustScoreService.class.getName());
     
-    private final MongoTrustScoreDAO trustScoreDAO;
-    private final MongoUserDAO userDAO;
+    private final TrustScoreDAO trustScoreDAO;
+    private final UserDirectory users;
     
     // ==================== CONSTRUCTORS ====================
     
     public TrustScoreService() {
-        this.trustScoreDAO = new MongoTrustScoreDAO();
-        this.userDAO = new MongoUserDAO();
+        this(AppContext.getInstance().getTrustScoreDAO(), AppContext.getInstance().getUserDirectory());
     }
     
     /**
      * Constructor for testing with mock DAOs
      */
-    public TrustScoreService(MongoTrustScoreDAO trustScoreDAO, MongoUserDAO userDAO) {
+    public TrustScoreService(TrustScoreDAO trustScoreDAO, UserDAO userDAO) {
+        this(trustScoreDAO, AppContext.getInstance().getUserDirectory(userDAO));
+    }
+    
+    /**
+     * Constructor sharing a user directory
+     */
+    public TrustScoreService(TrustScoreDAO trustScoreDAO, UserDirectory users) {
         this.trustScoreDAO = trustScoreDAO;
-        this.userDAO = userDAO;
+        this.users = users;
     }
     
     // ==================== SCORE MANAGEMENT ====================
@@ -76,8 +82,8 @@ public class TrustScoreService {
             // Create new score for user
             score = new TrustScore(userId);
             
-            // Try to get user details for context
-            Optional<User> userOpt = userDAO.findByEmail(userId);
+            // Try to get user details for context (by email or ID)
+            Optional<User> userOpt = users.find(userId);
             if (userOpt.isPresent()) {
                 User user = userOpt.get();
                 score.setUserName(user.getFullName());
@@ -86,21 +92,6 @@ public class TrustScoreService {
                 if (user.getTrustScore() > 0) {
                     score.setCurrentScore(user.getTrustScore());
                 }
-            } else {
-                // Try finding by ID
-                try {
-                    userOpt = userDAO.findById(userId);
-                    if (userOpt.isPresent()) {
-                        User user = userOpt.get();
-                        score.setUserName(user.getFullName());
-                        score.setUserEmail(user.getEmail());
-                        if (user.getTrustScore() > 0) {
-                            score.setCurrentScore(user.getTrustScore());
-                        }
-                    }
-                } catch (Exception e) {
-                    // userId might not be a valid ObjectId, that's okay
-                }
             }
             
             // Save the new score
@@ -194,9 +185,6 @@ public class TrustScoreService {
             event.setRecordedById(adminId);
             trustScoreDAO.saveEvent(event);
             
-            // Sync to User model
-            syncScoreToUser(userId, newScore);
-            
             LOGGER.info("Manual score update for " + userId + ": " + oldScore + " -> " + newScore + 
                        " by admin " + adminId + " reason: " + reason);
             
@@ -304,9 +292,6 @@ public class TrustScoreService {
             // Save updated score
             trustScoreDAO.saveTrustScore(score);
             
-            // Sync to User model
-            syncScoreToUser(score.getUserId(), newScore);
-            
             LOGGER.info("Recorded event: " + eventType + " for user: " + score.getUserId() + 
                        " points: " + (points >= 0 ? "+" : "") + points +
                        " score: " + previousScore + " -> " + newScore);
@@ -327,20 +312,6 @@ public class TrustScoreService {
         return eventType.getDefaultPoints();
     }
     
-    /**
-     * Sync trust score to the User model
-     */
-    private void syncScoreToUser(String userId, double newScore) {
-        try {
-            // Try by email first
-            if (userId != null && userId.contains("@")) {
-                userDAO.updateTrustScoreByEmail(userId, "SYNC");
-            }
-        } catch (Exception e) {
-            LOGGER.log(Level.WARNING, "Could not sync score to user model: " + userId, e);
-        }
-    }
-    
     // ==================== BUSINESS RULE CHECKS ====================
     
     /**
@@ -650,13 +621,28 @@ public class TrustScoreService {
      * Get statistics summary for dashboard
      */
     public TrustScoreStats getStatistics() {
+        return getStatistics(null);
+    }
+    
+    /**
+     * Get statistics summary for dashboard, scoped to one enterprise.
+     * All score figures come from one aggregation round-trip.
+     * 
+     * @param enterpriseId Enterprise to scope to, or null for the whole network
+     */
+    public TrustScoreStats getStatistics(String enterpriseId) {
         TrustScoreStats stats = new TrustScoreStats();
+        TrustScoreDAO.ScoreAggregate aggregate = trustScoreDAO.getScoreAggregate(enterpriseId);
         
-        stats.totalUsers = trustScoreDAO.getTotalScoresCount();
+        stats.totalUsers = aggregate.getCount();
+        stats.averageScore = aggregate.getAverage();
+        stats.medianScore = aggregate.getMedian();
+        stats.percentile10 = aggregate.getPercentile(10);
+        stats.percentile90 = aggregate.getPercentile(90);
+        stats.flaggedUsers = aggregate.getFlaggedCount();
+        stats.usersUnderInvestigation = aggregate.getInvestigationCount();
+        stats.scoreDistribution = aggregate.getLevelCounts();
         stats.totalEvents = trustScoreDAO.getTotalEventsCount();
-        stats.averageScore = trustScoreDAO.getAverageScore();
-        stats.flaggedUsers = trustScoreDAO.getFlaggedUsersCount();
-        stats.scoreDistribution = trustScoreDAO.getScoreDistribution();
         stats.eventTypeDistribution = trustScoreDAO.getEventTypeDistribution();
         
         return stats;
@@ -669,7 +655,11 @@ public class TrustScoreService {
         public long totalUsers;
         public long totalEvents;
         public double averageScore;
+        public double medianScore;
+        public double percentile10;
+        public double percentile90;
         public long flaggedUsers;
+        public long usersUnderInvestigation;
         public Map<ScoreLevel, Long> scoreDistribution;
         public Map<EventType, Long> eventTypeDistribution;
         
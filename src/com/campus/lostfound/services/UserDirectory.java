@@ -0,0 +1,179 @@
+package com.campus.lostfound.services;
+
+import com.campus.lostfound.dao.UserDAO;
+import com.campus.lostfound.models.User;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Shared cache of user accounts, keyed by both email and Mongo id.
+ *
+ * Services resolve the users behind request, approver and trust score ids
+ * here instead of querying the user DAO on every check. The login screen
+ * seeds it with the signed-in user. Entries are dropped when the user DAO
+ * reports a change to the account, and all of them every minute for changes
+ * made by other clients.
+ *
+ * The directory keeps its own copies and hands out fresh ones, so a caller
+ * changing a user it got (or the login screen's session user) never changes
+ * what other services see; only a write through the user DAO does.
+ */
+public class UserDirectory implements UserDAO.WriteListener {
+
+    private static final Logger LOGGER = Logger.getLogger(UserDirectory.class.getName());
+    private static final long CACHE_TTL = 60 * 1000; // 1 minute
+
+    private final UserDAO userDAO;
+    private final Map<String, User> byEmail = new ConcurrentHashMap<>();
+    private final Map<String, User> byId = new ConcurrentHashMap<>();
+    private volatile long cacheRefreshTime = System.currentTimeMillis();
+    // Bumped on every user change, so a user loaded while one happened isn't cached
+    private final AtomicLong userChanges = new AtomicLong();
+
+    public UserDirectory(UserDAO userDAO) {
+        this.userDAO = userDAO;
+        userDAO.addWriteListener(this);
+    }
+
+    // ==================== LOOKUPS ====================
+
+    /**
+     * Find a user by email or Mongo id
+     * @param userId Email (anything containing "@") or Mongo id
+     */
+    public Optional<User> find(String userId) {
+        if (userId == null || userId.isEmpty()) {
+            return Optional.empty();
+        }
+        expireIfStale();
+
+        User user = userId.contains("@") ? byEmail.get(userId) : byId.get(userId);
+        if (user != null) {
+            return Optional.of(new User(user));
+        }
+
+        long changes = userChanges.get();
+        user = load(userId);
+        if (user != null) {
+            // Cache first, then check: a change noticed after the check removes what was cached
+            User cached = cache(user);
+            if (userChanges.get() != changes) {
+                forget(cached);
+            }
+        }
+        return Optional.ofNullable(user);
+    }
+
+    /**
+     * Find a user by email
+     */
+    public Optional<User> findByEmail(String email) {
+        return email != null && email.contains("@") ? find(email) : Optional.empty();
+    }
+
+    /**
+     * Cache a copy of a user that was just read from the user DAO, e.g. at login
+     */
+    public void remember(User user) {
+        cache(user);
+    }
+
+    /**
+     * Drop every cached user
+     */
+    public void clear() {
+        userChanges.incrementAndGet();
+        byEmail.clear();
+        byId.clear();
+    }
+
+    /**
+     * Stop following the user DAO's writes, for a directory that is no longer used
+     */
+    public void close() {
+        userDAO.removeWriteListener(this);
+        clear();
+    }
+
+    /**
+     * Number of users cached
+     */
+    public int size() {
+        return byId.size();
+    }
+
+    // ==================== WRITE EVENTS ====================
+
+    @Override
+    public void userChanged(String mongoId, String email) {
+        userChanges.incrementAndGet();
+        // The event may know only one of the keys; the cached user knows both
+        User cached = email != null ? byEmail.remove(email) : null;
+        if (cached == null && mongoId != null) {
+            cached = byId.get(mongoId);
+        }
+        if (mongoId != null) {
+            byId.remove(mongoId);
+        }
+        if (cached != null) {
+            if (cached.getMongoId() != null) {
+                byId.remove(cached.getMongoId());
+            }
+            if (cached.getEmail() != null) {
+                byEmail.remove(cached.getEmail());
+            }
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private User cache(User user) {
+        User copy = new User(user);
+        if (copy.getEmail() != null) {
+            byEmail.put(copy.getEmail(), copy);
+        }
+        if (copy.getMongoId() != null) {
+            byId.put(copy.getMongoId(), copy);
+        }
+        return copy;
+    }
+
+    // Only the entries still holding this copy
+    private void forget(User copy) {
+        if (copy.getEmail() != null) {
+            byEmail.remove(copy.getEmail(), copy);
+        }
+        if (copy.getMongoId() != null) {
+            byId.remove(copy.getMongoId(), copy);
+        }
+    }
+
+    private User load(String userId) {
+        try {
+            if (userId.contains("@")) {
+                return userDAO.findByEmail(userId).orElse(null);
+            }
+            return userDAO.findById(userId).orElse(null);
+        } catch (IllegalArgumentException e) {
+            // Not an email and not a valid ObjectId
+            return null;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error loading user: " + userId, e);
+            return null;
+        }
+    }
+
+    private void expireIfStale() {
+        long now = System.currentTimeMillis();
+        if (now - cacheRefreshTime > CACHE_TTL) {
+            cacheRefreshTime = now;
+            byEmail.clear();
+            byId.clear();
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.campus.lostfound.services;
 
-import com.campus.lostfound.dao.MongoVerificationDAO;
-import com.campus.lostfound.dao.MongoUserDAO;
-import com.campus.lostfound.dao.MongoItemDAO;
+import com.campus.lostfound.dao.VerificationDAO;
+import com.campus.lostfound.dao.UserDAO;
+import com.campus.lostfound.dao.ItemDAO;
 import com.campus.lostfound.models.User;
 import com.campus.lostfound.models.Item;
 import com.campus.lostfound.models.verification.VerificationRequest;
@@ -40,21 +40,24 @@ public class VerificationService {
     public static final double LOW_TRUST_THRESHOLD = 50.0;        // Users below 50 need extra verification
     public static final double HIGH_TRUST_THRESHOLD = 85.0;       // Users above 85 can skip some verification
     
-    private final MongoVerificationDAO verificationDAO;
-    private final MongoUserDAO userDAO;
-    private final MongoItemDAO itemDAO;
+    private final VerificationDAO verificationDAO;
+    private final UserDAO userDAO;
+    private final UserDirectory users;
+    private final ItemDAO itemDAO;
     private TrustScoreService trustScoreService;
+    private final VerificationDispatchQueue dispatchQueue;
     
     // ==================== CONSTRUCTORS ====================
     
     public VerificationService() {
-        this.verificationDAO = new MongoVerificationDAO();
-        this.userDAO = new MongoUserDAO();
-        this.itemDAO = new MongoItemDAO();
+        this.verificationDAO = AppContext.getInstance().getVerificationDAO();
+        this.userDAO = AppContext.getInstance().getUserDAO();
+        this.users = AppContext.getInstance().getUserDirectory();
+        this.itemDAO = AppContext.getInstance().getItemDAO();
+        this.dispatchQueue = new VerificationDispatchQueue(verificationDAO);
         
-        // Lazy load TrustScoreService to avoid circular dependency
         try {
-            this.trustScoreService = new TrustScoreService();
+            this.trustScoreService = AppContext.getInstance().getTrustScoreService();
         } catch (Exception e) {
             LOGGER.warning("Could not initialize TrustScoreService: " + e.getMessage());
         }
@@ -63,14 +66,27 @@ public class VerificationService {
     /**
      * Constructor for testing with mock DAOs
      */
-    public VerificationService(MongoVerificationDAO verificationDAO, 
-                               MongoUserDAO userDAO, 
-                               MongoItemDAO itemDAO,
+    public VerificationService(VerificationDAO verificationDAO, 
+                               UserDAO userDAO, 
+                               ItemDAO itemDAO,
+                               TrustScoreService trustScoreService) {
+        this(verificationDAO, userDAO, AppContext.getInstance().getUserDirectory(userDAO), itemDAO, trustScoreService);
+    }
+    
+    /**
+     * Constructor sharing a user directory
+     */
+    public VerificationService(VerificationDAO verificationDAO, 
+                               UserDAO userDAO, 
+                               UserDirectory users,
+                               ItemDAO itemDAO,
                                TrustScoreService trustScoreService) {
         this.verificationDAO = verificationDAO;
         this.userDAO = userDAO;
+        this.users = users;
         this.itemDAO = itemDAO;
         this.trustScoreService = trustScoreService;
+        this.dispatchQueue = new VerificationDispatchQueue(verificationDAO);
     }
     
     // ==================== REQUEST CREATION ====================
@@ -340,20 +356,13 @@ public class VerificationService {
     public boolean assignVerifier(String requestId, String verifierId, 
                                    String verifierName, String verifierRole) {
         try {
-            VerificationRequest request = verificationDAO.findById(requestId);
+            VerificationRequest request = verificationDAO.assignIfProcessable(
+                requestId, verifierId, verifierName, verifierRole);
             if (request == null) {
-                LOGGER.warning("Request not found: " + requestId);
-                return false;
-            }
-            
-            if (!request.canProcess()) {
-                LOGGER.warning("Request cannot be processed: " + request.getStatus());
+                LOGGER.warning("Request not found or cannot be processed: " + requestId);
                 return false;
             }
             
-            request.assignTo(verifierId, verifierName, verifierRole);
-            verificationDAO.update(request);
-            
             LOGGER.info("Assigned verification " + request.getVisibleId() + 
                        " to " + verifierName);
             return true;
@@ -369,20 +378,12 @@ public class VerificationService {
      */
     public boolean completeVerification(String requestId, String notes) {
         try {
-            VerificationRequest request = verificationDAO.findById(requestId);
+            VerificationRequest request = verificationDAO.completeIfProcessable(requestId, notes);
             if (request == null) {
-                LOGGER.warning("Request not found: " + requestId);
+                LOGGER.warning("Request not found or cannot be completed: " + requestId);
                 return false;
             }
             
-            if (!request.canProcess()) {
-                LOGGER.warning("Request cannot be completed: " + request.getStatus());
-                return false;
-            }
-            
-            request.complete(notes);
-            verificationDAO.update(request);
-            
             // Update trust score for verified user
             if (request.getSubjectUserId() != null && trustScoreService != null) {
                 // Successful verification is a positive event
@@ -405,20 +406,12 @@ public class VerificationService {
      */
     public boolean failVerification(String requestId, String reason) {
         try {
-            VerificationRequest request = verificationDAO.findById(requestId);
+            VerificationRequest request = verificationDAO.failIfProcessable(requestId, reason);
             if (request == null) {
-                LOGGER.warning("Request not found: " + requestId);
-                return false;
-            }
-            
-            if (!request.canProcess()) {
-                LOGGER.warning("Request cannot be failed: " + request.getStatus());
+                LOGGER.warning("Request not found or cannot be failed: " + requestId);
                 return false;
             }
             
-            request.fail(reason);
-            verificationDAO.update(request);
-            
             // Failed verification may affect trust score
             if (request.getSubjectUserId() != null && trustScoreService != null) {
                 LOGGER.info("Verification failed - trust score impact pending for: " + 
@@ -440,14 +433,11 @@ public class VerificationService {
      */
     public boolean cancelVerification(String requestId, String reason) {
         try {
-            VerificationRequest request = verificationDAO.findById(requestId);
+            VerificationRequest request = verificationDAO.cancelRequest(requestId, reason);
             if (request == null) {
                 return false;
             }
             
-            request.cancel(reason);
-            verificationDAO.update(request);
-            
             LOGGER.info("Cancelled verification: " + request.getVisibleId());
             return true;
             
@@ -519,20 +509,18 @@ public class VerificationService {
      */
     public boolean recordApproval(String requestId, String approverId, String approverName) {
         try {
-            VerificationRequest request = verificationDAO.findById(requestId);
+            VerificationRequest request = verificationDAO.recordApprovalIfActive(
+                requestId, approverId, approverName);
             if (request == null) {
                 return false;
             }
             
-            boolean allApproved = request.recordApproval(approverId, approverName);
-            verificationDAO.update(request);
-            
             LOGGER.info("Recorded approval for " + request.getVisibleId() + 
                        " from " + approverName + 
                        " (" + request.getCurrentApprovals() + "/" + 
                        request.getRequiredApprovals() + ")");
             
-            return allApproved;
+            return request.getCurrentApprovals() >= request.getRequiredApprovals();
             
         } catch (Exception e) {
             LOGGER.log(Level.SEVERE, "Error recording approval", e);
@@ -551,40 +539,16 @@ public class VerificationService {
      * Update request to awaiting documents
      */
     public boolean setAwaitingDocuments(String requestId, String notes) {
-        try {
-            VerificationRequest request = verificationDAO.findById(requestId);
-            if (request == null) {
-                return false;
-            }
-            
-            request.awaitDocuments(notes);
-            verificationDAO.update(request);
-            return true;
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error setting awaiting documents", e);
-            return false;
-        }
+        return verificationDAO.setAwaitingStatus(
+            requestId, VerificationStatus.AWAITING_DOCUMENTS, notes) != null;
     }
     
     /**
      * Update request to awaiting external response
      */
     public boolean setAwaitingResponse(String requestId, String notes) {
-        try {
-            VerificationRequest request = verificationDAO.findById(requestId);
-            if (request == null) {
-                return false;
-            }
-            
-            request.awaitResponse(notes);
-            verificationDAO.update(request);
-            return true;
-            
-        } catch (Exception e) {
-            LOGGER.log(Level.SEVERE, "Error setting awaiting response", e);
-            return false;
-        }
+        return verificationDAO.setAwaitingStatus(
+            requestId, VerificationStatus.AWAITING_RESPONSE, notes) != null;
     }
     
     // ==================== QUERIES ====================
@@ -603,6 +567,20 @@ public class VerificationService {
         return verificationDAO.findUnassignedPending();
     }
     
+    /**
+     * Get unassigned pending requests ranked for dispatch (SLA aging, priority, value)
+     */
+    public List<VerificationRequest> getPrioritizedUnassignedRequests() {
+        return dispatchQueue.getQueue();
+    }
+    
+    /**
+     * Get the shared dispatch queue for claiming work
+     */
+    public VerificationDispatchQueue getDispatchQueue() {
+        return dispatchQueue;
+    }
+    
     /**
      * Get verification status
      */
@@ -873,14 +851,7 @@ public class VerificationService {
         try {
             // Subject user
             if (subjectUserId != null) {
-                Optional<User> subjectOpt = userDAO.findByEmail(subjectUserId);
-                if (subjectOpt.isEmpty()) {
-                    try {
-                        subjectOpt = userDAO.findById(subjectUserId);
-                    } catch (Exception e) {
-                        // Not a valid ObjectId
-                    }
-                }
+                Optional<User> subjectOpt = users.find(subjectUserId);
                 if (subjectOpt.isPresent()) {
                     User subject = subjectOpt.get();
                     request.setSubjectUserName(subject.getFullName());
@@ -890,14 +861,7 @@ public class VerificationService {
             
             // Requester
             if (requesterId != null) {
-                Optional<User> requesterOpt = userDAO.findByEmail(requesterId);
-                if (requesterOpt.isEmpty()) {
-                    try {
-                        requesterOpt = userDAO.findById(requesterId);
-                    } catch (Exception e) {
-                        // Not a valid ObjectId
-                    }
-                }
+                Optional<User> requesterOpt = users.find(requesterId);
                 if (requesterOpt.isPresent()) {
                     User requester = requesterOpt.get();
                     request.setRequesterName(requester.getFullName());
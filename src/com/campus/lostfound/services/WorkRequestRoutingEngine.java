@@ -1,10 +1,11 @@
 package com.campus.lostfound.services;
 
-import com.campus.lostfound.dao.MongoUserDAO;
+import com.campus.lostfound.dao.UserDAO;
 import com.campus.lostfound.models.User;
 import com.campus.lostfound.models.workrequest.WorkRequest;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.logging.Logger;
 import java.util.stream.Collectors;
 
@@ -15,16 +16,16 @@ import java.util.stream.Collectors;
 public class WorkRequestRoutingEngine {
     
     private static final Logger LOGGER = Logger.getLogger(WorkRequestRoutingEngine.class.getName());
-    private final MongoUserDAO userDAO;
+    private final UserDAO userDAO;
     
     // Track workload per approver for load balancing
-    private final Map<String, Integer> approverWorkload = new HashMap<>();
+    private final Map<String, Integer> approverWorkload = new ConcurrentHashMap<>();
     
     public WorkRequestRoutingEngine() {
-        this.userDAO = new MongoUserDAO();
+        this.userDAO = AppContext.getInstance().getUserDAO();
     }
     
-    public WorkRequestRoutingEngine(MongoUserDAO userDAO) {
+    public WorkRequestRoutingEngine(UserDAO userDAO) {
         this.userDAO = userDAO;
     }
     
@@ -140,17 +141,14 @@ public class WorkRequestRoutingEngine {
      */
     private void incrementWorkload(User user) {
         String userId = String.valueOf(user.getUserId());
-        approverWorkload.put(userId, getWorkload(user) + 1);
+        approverWorkload.merge(userId, 1, Integer::sum);
     }
     
     /**
      * Decrement workload when a request is completed/rejected.
      */
     public void releaseWorkload(String userId) {
-        int current = approverWorkload.getOrDefault(userId, 0);
-        if (current > 0) {
-            approverWorkload.put(userId, current - 1);
-        }
+        approverWorkload.computeIfPresent(userId, (id, current) -> current > 0 ? current - 1 : null);
     }
     
     /**
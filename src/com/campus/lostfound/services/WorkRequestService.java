@@ -1,12 +1,13 @@
 package com.campus.lostfound.services;
 
-import com.campus.lostfound.dao.MongoWorkRequestDAO;
-import com.campus.lostfound.dao.MongoUserDAO;
-import com.campus.lostfound.dao.MongoItemDAO;
+import com.campus.lostfound.dao.WorkRequestDAO;
+import com.campus.lostfound.dao.UserDAO;
+import com.campus.lostfound.dao.ItemDAO;
 import com.campus.lostfound.models.User;
 import com.campus.lostfound.models.Item;
 import com.campus.lostfound.models.workrequest.*;
 import com.campus.lostfound.models.trustscore.TrustScoreEvent.EventType;
+import com.campus.lostfound.utils.Instrumentation;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -23,25 +24,39 @@ import java.time.LocalDateTime;
 public class WorkRequestService {
     
     private static final Logger LOGGER = Logger.getLogger(WorkRequestService.class.getName());
-    private final MongoWorkRequestDAO requestDAO;
-    private final MongoUserDAO userDAO;
-    private final MongoItemDAO itemDAO;
+    private final WorkRequestDAO requestDAO;
+    private final UserDAO userDAO;
+    private final UserDirectory users;
+    private final ItemDAO itemDAO;
     private final WorkRequestRoutingEngine routingEngine;
     private final TrustScoreService trustScoreService;
     
     public WorkRequestService() {
-        this.requestDAO = new MongoWorkRequestDAO();
-        this.userDAO = new MongoUserDAO();
-        this.itemDAO = new MongoItemDAO();
-        this.routingEngine = new WorkRequestRoutingEngine(userDAO);
-        this.trustScoreService = new TrustScoreService();
+        this(AppContext.getInstance().getWorkRequestDAO(), AppContext.getInstance().getUserDAO(),
+             AppContext.getInstance().getUserDirectory(), AppContext.getInstance().getRoutingEngine(),
+             AppContext.getInstance().getTrustScoreService());
+    }
+    
+    /**
+     * Constructor sharing a user directory, routing engine (and its approver
+     * workload) and trust score service
+     */
+    public WorkRequestService(WorkRequestDAO requestDAO, UserDAO userDAO, UserDirectory users,
+                              WorkRequestRoutingEngine routingEngine, TrustScoreService trustScoreService) {
+        this.requestDAO = requestDAO;
+        this.userDAO = userDAO;
+        this.users = users;
+        this.itemDAO = AppContext.getInstance().getItemDAO();
+        this.routingEngine = routingEngine;
+        this.trustScoreService = trustScoreService;
     }
     
     // For testing with mock DAOs
-    public WorkRequestService(MongoWorkRequestDAO requestDAO, MongoUserDAO userDAO) {
+    public WorkRequestService(WorkRequestDAO requestDAO, UserDAO userDAO) {
         this.requestDAO = requestDAO;
         this.userDAO = userDAO;
-        this.itemDAO = new MongoItemDAO();
+        this.users = AppContext.getInstance().getUserDirectory(userDAO);
+        this.itemDAO = AppContext.getInstance().getItemDAO();
         this.routingEngine = new WorkRequestRoutingEngine(userDAO);
         this.trustScoreService = new TrustScoreService();
     }
@@ -170,7 +185,7 @@ public class WorkRequestService {
             return;
         }
         
-        Optional<User> requesterOpt = userDAO.findByEmail(requesterEmail);
+        Optional<User> requesterOpt = users.findByEmail(requesterEmail);
         if (!requesterOpt.isPresent()) {
             return;
         }
@@ -194,6 +209,14 @@ public class WorkRequestService {
      * @return true if approval successful, false otherwise
      */
     public boolean approveRequest(String requestId, String approverId) {
+        try (Instrumentation.Timer timer = Instrumentation.getInstance().start("WorkRequestService.approveRequest")) {
+            boolean approved = applyApproval(requestId, approverId);
+            timer.stop(approved ? 1 : 0);
+            return approved;
+        }
+    }
+
+    private boolean applyApproval(String requestId, String approverId) {
         try {
             // Load request
             WorkRequest request = requestDAO.findById(requestId);
@@ -215,7 +238,7 @@ public class WorkRequestService {
             }
             
             // Get approver details (use email for lookup)
-            Optional<User> approverOpt = userDAO.findByEmail(approverId);
+            Optional<User> approverOpt = users.findByEmail(approverId);
             if (!approverOpt.isPresent()) {
                 LOGGER.warning("Approver not found by email: " + approverId);
                 return false;
@@ -308,7 +331,7 @@ public class WorkRequestService {
             }
             
             // Get approver details (use email for lookup)
-            Optional<User> approverOpt = userDAO.findByEmail(approverId);
+            Optional<User> approverOpt = users.findByEmail(approverId);
             String approverName = approverOpt.isPresent() ? approverOpt.get().getFullName() : "Unknown";
             
             // Reject request
@@ -609,7 +632,7 @@ public class WorkRequestService {
      */
     private boolean canUserApprove(String userEmail, WorkRequest request) {
         // Check if user has the required role (use email for lookup)
-        Optional<User> userOpt = userDAO.findByEmail(userEmail);
+        Optional<User> userOpt = users.findByEmail(userEmail);
         if (!userOpt.isPresent()) {
             return false;
         }
@@ -6,7 +6,11 @@ package com.campus.lostfound.ui;
 
 import com.campus.lostfound.dao.MongoUserDAO;
 import com.campus.lostfound.models.User;
+import com.campus.lostfound.services.AppContext;
+import com.campus.lostfound.services.ReportScheduler;
 import com.campus.lostfound.ui.panels.*;
+import com.campus.lostfound.utils.ImageStore;
+import com.campus.lostfound.utils.StartupTimer;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.event.*;
@@ -23,15 +27,36 @@ public class LoginFrame extends JFrame {
     private JButton loginButton;
     private JButton registerButton;
     private JLabel statusLabel;
-    private MongoUserDAO userDAO;
 
     public LoginFrame() {
-        userDAO = new MongoUserDAO();
         initComponents();
         setLocationRelativeTo(null);
 
         // Set Enter key to trigger login
         getRootPane().setDefaultButton(loginButton);
+
+        StartupTimer.endOnFirstPaint(this, StartupTimer.LOGIN_SCREEN);
+        warmUpConnection();
+    }
+
+    /**
+     * Open the database connection while the user is typing, so the window
+     * never waits on it and sign-in does not pay for it
+     */
+    private void warmUpConnection() {
+        Thread thread = new Thread(() -> {
+            try {
+                MongoUserDAO.getInstance();
+            } catch (Exception e) {
+                // Reported again, with a message, when the user signs in
+            }
+        }, "connection-warmup");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    private MongoUserDAO userDAO() {
+        return MongoUserDAO.getInstance();
     }
 
     private void initComponents() {
@@ -194,6 +219,7 @@ public class LoginFrame extends JFrame {
         loginButton.setText("Signing in...");
         statusLabel.setText("Authenticating...");
         statusLabel.setForeground(new Color(52, 152, 219));
+        StartupTimer.begin(StartupTimer.LOGIN);
 
         // Perform login in background thread
         SwingWorker<Boolean, Void> worker = new SwingWorker<Boolean, Void>() {
@@ -201,11 +227,13 @@ public class LoginFrame extends JFrame {
 
             @Override
             protected Boolean doInBackground() throws Exception {
-                boolean authenticated = userDAO.authenticate(email, password);
+                boolean authenticated = userDAO().authenticate(email, password);
                 if (authenticated) {
-                    Optional<User> userOpt = userDAO.findByEmail(email);
+                    Optional<User> userOpt = userDAO().findByEmail(email);
                     if (userOpt.isPresent()) {
                         authenticatedUser = userOpt.get();
+                        // Services resolve the signed-in user from the directory (it keeps a copy)
+                        AppContext.getInstance().getUserDirectory().remember(authenticatedUser);
                         return true;
                     }
                 }
@@ -399,7 +427,7 @@ public class LoginFrame extends JFrame {
             }
 
             // Check if user already exists
-            Optional<User> existing = userDAO.findByEmail(email);
+            Optional<User> existing = userDAO().findByEmail(email);
             if (existing.isPresent()) {
                 JOptionPane.showMessageDialog(dialog, "An account with this email already exists", "Error", JOptionPane.ERROR_MESSAGE);
                 return;
@@ -422,7 +450,7 @@ public class LoginFrame extends JFrame {
             newUser.setEnterpriseId(selectedEnterprise.getEnterpriseId());
             newUser.setOrganizationId(selectedOrg.getOrganizationId());
 
-            String userId = userDAO.create(newUser, password);
+            String userId = userDAO().create(newUser, password);
             if (userId != null) {
                 JOptionPane.showMessageDialog(dialog, "Account created successfully! You can now login.", "Success", JOptionPane.INFORMATION_MESSAGE);
                 emailField.setText(email);
@@ -647,6 +675,7 @@ public class LoginFrame extends JFrame {
                 break;
         }
         
+        StartupTimer.endOnFirstPaint(frame, StartupTimer.LOGIN);
         frame.setVisible(true);
     }
     
@@ -697,6 +726,11 @@ public class LoginFrame extends JFrame {
         // Apply global emoji font to all Swing components
         UIConstants.applyGlobalEmojiFont();
 
+        // Precompute the periodic reports off-hours (daemon thread)
+        ReportScheduler.getInstance().start();
+        // Sweep orphaned photos every few hours (daemon thread)
+        ImageStore.startGarbageCollector();
+
         SwingUtilities.invokeLater(() -> {
             LoginFrame frame = new LoginFrame();
             frame.setVisible(true);
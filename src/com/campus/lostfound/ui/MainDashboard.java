@@ -45,8 +45,8 @@ public class MainDashboard extends JFrame {
 
     public MainDashboard(User user) {
         this.currentUser = user;
-        this.itemDAO = new MongoItemDAO();
-        this.userDAO = new MongoUserDAO();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
 
         initComponents();
         loadStats();
@@ -286,12 +286,12 @@ public class MainDashboard extends JFrame {
             @Override
             protected Integer doInBackground() throws Exception {
                 // 🔥 FIX: Use the same logic as the panel to count claims
-                List<Item> userItems = new MongoItemDAO().findByUser(currentUser.getEmail());
+                List<Item> userItems = MongoItemDAO.getInstance().findByUser(currentUser.getEmail());
                 int totalPendingClaims = 0;
 
                 for (Item item : userItems) {
                     if (item.getType() == Item.ItemType.FOUND) {
-                        MongoClaimDAO claimDAO = new MongoClaimDAO();
+                        MongoClaimDAO claimDAO = MongoClaimDAO.getInstance();
                         totalPendingClaims += claimDAO.countPendingClaims(item.getItemId());
                     }
                 }
@@ -4,21 +4,24 @@ import com.campus.lostfound.models.Item;
 import com.campus.lostfound.models.User;
 import com.campus.lostfound.models.Enterprise;
 import com.campus.lostfound.models.Organization;
-import com.campus.lostfound.dao.MongoItemDAO;
 import com.campus.lostfound.dao.MongoEnterpriseDAO;
 import com.campus.lostfound.dao.MongoOrganizationDAO;
+import com.campus.lostfound.services.AppContext;
+import com.campus.lostfound.services.EnterpriseItemService.SearchCriteria;
+import com.campus.lostfound.services.SearchFacets;
 import com.campus.lostfound.ui.UIConstants;
+import com.campus.lostfound.utils.ThumbnailCache;
 
 import javax.swing.*;
 import javax.swing.border.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.*;
 import java.util.List;
 import java.util.function.Consumer;
-import java.util.stream.Collectors;
 
 /**
  * Cross-enterprise search panel for finding items across all organizations.
@@ -39,10 +42,12 @@ public class EnterpriseItemSearchPanel extends JPanel {
     private Map<String, Organization> organizationMap;
 
     // DAOs
-    private MongoItemDAO itemDAO;
     private MongoEnterpriseDAO enterpriseDAO;
     private MongoOrganizationDAO organizationDAO;
 
+    // Debounced search over the shared item index
+    private ItemSearchPipeline searchPipeline;
+
     // UI Components - Search Controls
     private JTextField searchField;
     private JButton searchButton;
@@ -63,11 +68,20 @@ public class EnterpriseItemSearchPanel extends JPanel {
     private Item selectedItem;
     private JPanel selectedCard;
 
+    // Paging of the result cards
+    private int renderedCount = 0;
+    private JButton showMoreButton;
+    // Text of the last search started, so focus changes do not search again
+    private String lastSearchText = "";
+    // Counts shown next to the filter options; null until a search completes
+    private SearchFacets facets;
+
     // Callbacks
     private Consumer<Item> onItemSelected;
     private Consumer<Item> onItemDoubleClicked;
 
     // Constants
+    private static final String SEARCH_PLACEHOLDER = "Search by title, description, keywords...";
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("MMM dd, yyyy");
     private static final Color CARD_SELECTED_BG = new Color(232, 244, 253);
     private static final Color CARD_HOVER_BG = new Color(248, 249, 250);
@@ -87,9 +101,10 @@ public class EnterpriseItemSearchPanel extends JPanel {
      */
     public EnterpriseItemSearchPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
+        this.searchPipeline = new ItemSearchPipeline(AppContext.getInstance().getItemSearchIndex(),
+                new SearchResultsListener());
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
         this.searchResults = new ArrayList<>();
         this.enterpriseMap = new HashMap<>();
         this.organizationMap = new HashMap<>();
@@ -185,12 +200,12 @@ public class EnterpriseItemSearchPanel extends JPanel {
         searchField.addActionListener(e -> performSearch());
 
         // Placeholder text
-        searchField.setText("Search by title, description, keywords...");
+        searchField.setText(SEARCH_PLACEHOLDER);
         searchField.setForeground(Color.GRAY);
         searchField.addFocusListener(new FocusAdapter() {
             @Override
             public void focusGained(FocusEvent e) {
-                if (searchField.getText().equals("Search by title, description, keywords...")) {
+                if (searchField.getText().equals(SEARCH_PLACEHOLDER)) {
                     searchField.setText("");
                     searchField.setForeground(Color.BLACK);
                 }
@@ -199,11 +214,28 @@ public class EnterpriseItemSearchPanel extends JPanel {
             @Override
             public void focusLost(FocusEvent e) {
                 if (searchField.getText().isEmpty()) {
-                    searchField.setText("Search by title, description, keywords...");
+                    searchField.setText(SEARCH_PLACEHOLDER);
                     searchField.setForeground(Color.GRAY);
                 }
             }
         });
+        // Search as you type
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                scheduleSearch();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                scheduleSearch();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                scheduleSearch();
+            }
+        });
 
         searchRow.add(searchField, BorderLayout.CENTER);
 
@@ -239,8 +271,19 @@ public class EnterpriseItemSearchPanel extends JPanel {
             enterpriseCombo.addItem(new EnterpriseOption(e, getEnterpriseIcon(e.getType()) + " " + e.getName()));
         }
         enterpriseCombo.setPreferredSize(new Dimension(180, 28));
+        enterpriseCombo.setRenderer(new FacetCountRenderer(value -> {
+            if (facets == null) {
+                return null;
+            }
+            Enterprise enterprise = ((EnterpriseOption) value).enterprise;
+            return enterprise == null ? SearchFacets.total(facets.getEnterpriseCounts())
+                    : facets.getEnterpriseCounts().getOrDefault(enterprise.getEnterpriseId(), 0L);
+        }));
         enterpriseCombo.setEnabled(false); // Disabled when "Search all" is checked
-        enterpriseCombo.addActionListener(e -> updateOrganizationCombo());
+        enterpriseCombo.addActionListener(e -> {
+            updateOrganizationCombo();
+            performSearch();
+        });
         filterRow.add(enterpriseCombo);
 
         filterRow.add(Box.createHorizontalStrut(10));
@@ -257,7 +300,16 @@ public class EnterpriseItemSearchPanel extends JPanel {
             organizationCombo.addItem(new OrganizationOption(org, org.getName()));
         }
         organizationCombo.setPreferredSize(new Dimension(180, 28));
+        organizationCombo.setRenderer(new FacetCountRenderer(value -> {
+            if (facets == null) {
+                return null;
+            }
+            Organization organization = ((OrganizationOption) value).organization;
+            return organization == null ? SearchFacets.total(facets.getOrganizationCounts())
+                    : facets.getOrganizationCounts().getOrDefault(organization.getOrganizationId(), 0L);
+        }));
         organizationCombo.setEnabled(false); // Disabled when "Search all" is checked
+        organizationCombo.addActionListener(e -> performSearch());
         filterRow.add(organizationCombo);
 
         filterRow.add(Box.createHorizontalStrut(10));
@@ -273,6 +325,15 @@ public class EnterpriseItemSearchPanel extends JPanel {
             categoryCombo.addItem(cat.getEmoji() + " " + cat.getDisplayName());
         }
         categoryCombo.setPreferredSize(new Dimension(180, 28));
+        categoryCombo.setRenderer(new FacetCountRenderer(value -> {
+            if (facets == null) {
+                return null;
+            }
+            Item.ItemCategory category = categoryFor((String) value);
+            return category == null ? SearchFacets.total(facets.getCategoryCounts())
+                    : facets.getCategoryCounts().getOrDefault(category, 0L);
+        }));
+        categoryCombo.addActionListener(e -> performSearch());
         filterRow.add(categoryCombo);
 
         filterRow.add(Box.createHorizontalStrut(10));
@@ -284,6 +345,15 @@ public class EnterpriseItemSearchPanel extends JPanel {
 
         typeCombo = new JComboBox<>(new String[]{"All Types", "❌ Lost Items", "✅ Found Items"});
         typeCombo.setPreferredSize(new Dimension(130, 28));
+        typeCombo.setRenderer(new FacetCountRenderer(value -> {
+            if (facets == null) {
+                return null;
+            }
+            Item.ItemType type = typeFor((String) value);
+            return type == null ? SearchFacets.total(facets.getTypeCounts())
+                    : facets.getTypeCounts().getOrDefault(type, 0L);
+        }));
+        typeCombo.addActionListener(e -> performSearch());
         filterRow.add(typeCombo);
 
         filterRow.add(Box.createHorizontalStrut(10));
@@ -295,6 +365,15 @@ public class EnterpriseItemSearchPanel extends JPanel {
 
         statusCombo = new JComboBox<>(new String[]{"All Statuses", "Open", "Pending Claim", "Verified"});
         statusCombo.setPreferredSize(new Dimension(130, 28));
+        statusCombo.setRenderer(new FacetCountRenderer(value -> {
+            if (facets == null) {
+                return null;
+            }
+            Item.ItemStatus status = statusFor((String) value);
+            return status == null ? SearchFacets.total(facets.getStatusCounts())
+                    : facets.getStatusCounts().getOrDefault(status, 0L);
+        }));
+        statusCombo.addActionListener(e -> performSearch());
         filterRow.add(statusCombo);
 
         panel.add(filterRow);
@@ -353,38 +432,8 @@ public class EnterpriseItemSearchPanel extends JPanel {
      */
     public void performSearch() {
         setLoading(true);
-
-        SwingWorker<List<Item>, Void> worker = new SwingWorker<>() {
-            @Override
-            protected List<Item> doInBackground() {
-                // Get search text
-                String searchText = searchField.getText();
-                if (searchText.equals("Search by title, description, keywords...")) {
-                    searchText = "";
-                }
-
-                // Get all items
-                List<Item> allItems = itemDAO.findAll();
-
-                // Apply filters
-                return filterItems(allItems, searchText);
-            }
-
-            @Override
-            protected void done() {
-                try {
-                    searchResults = get();
-                    displayResults(searchResults);
-                } catch (Exception e) {
-                    showError("Search failed: " + e.getMessage());
-                    searchResults = new ArrayList<>();
-                    displayResults(searchResults);
-                } finally {
-                    setLoading(false);
-                }
-            }
-        };
-        worker.execute();
+        lastSearchText = currentSearchText();
+        searchPipeline.searchNow(currentCriteria());
     }
 
     /**
@@ -446,7 +495,7 @@ public class EnterpriseItemSearchPanel extends JPanel {
      * Clear search and results.
      */
     public void clear() {
-        searchField.setText("Search by title, description, keywords...");
+        searchField.setText(SEARCH_PLACEHOLDER);
         searchField.setForeground(Color.GRAY);
         enterpriseCombo.setSelectedIndex(0);
         organizationCombo.setSelectedIndex(0);
@@ -456,6 +505,10 @@ public class EnterpriseItemSearchPanel extends JPanel {
         crossEnterpriseCheckbox.setSelected(true);
         enterpriseCombo.setEnabled(false);
         organizationCombo.setEnabled(false);
+        searchPipeline.cancel();
+        setLoading(false);
+        lastSearchText = "";
+        facets = null;
         searchResults = new ArrayList<>();
         selectedItem = null;
         selectedCard = null;
@@ -463,81 +516,103 @@ public class EnterpriseItemSearchPanel extends JPanel {
     }
 
     // ==================== PRIVATE HELPERS ====================
-    private List<Item> filterItems(List<Item> items, String searchText) {
-        return items.stream()
-                .filter(item -> matchesSearchText(item, searchText))
-                .filter(this::matchesEnterpriseFilter)
-                .filter(this::matchesOrganizationFilter)
-                .filter(this::matchesCategoryFilter)
-                .filter(this::matchesTypeFilter)
-                .filter(this::matchesStatusFilter)
-                .sorted((a, b) -> b.getReportedDate().compareTo(a.getReportedDate()))
-                .collect(Collectors.toList());
-    }
-
-    private boolean matchesSearchText(Item item, String searchText) {
-        if (searchText == null || searchText.isEmpty()) {
-            return true;
+    /**
+     * Restart the debounce wait when the text actually changed (not for the placeholder)
+     */
+    private void scheduleSearch() {
+        String text = currentSearchText();
+        if (text.equals(lastSearchText)) {
+            return;
         }
+        lastSearchText = text;
+        setLoading(true);
+        searchPipeline.schedule(currentCriteria());
+    }
 
-        String lowerSearch = searchText.toLowerCase();
-
-        // Check title
-        if (item.getTitle() != null && item.getTitle().toLowerCase().contains(lowerSearch)) {
-            return true;
-        }
+    private String currentSearchText() {
+        String text = searchField.getText();
+        return text.equals(SEARCH_PLACEHOLDER) ? "" : text;
+    }
 
-        // Check description
-        if (item.getDescription() != null && item.getDescription().toLowerCase().contains(lowerSearch)) {
-            return true;
-        }
+    /**
+     * Snapshot of the search text and filter combos, safe to read off the EDT
+     */
+    private SearchCriteria currentCriteria() {
+        SearchCriteria criteria = new SearchCriteria().withQuery(lastSearchText);
 
-        // Check keywords
-        if (item.getKeywords() != null) {
-            for (String keyword : item.getKeywords()) {
-                if (keyword.toLowerCase().contains(lowerSearch)) {
-                    return true;
-                }
+        if (!crossEnterpriseCheckbox.isSelected()) {
+            EnterpriseOption enterprise = (EnterpriseOption) enterpriseCombo.getSelectedItem();
+            if (enterprise != null && enterprise.enterprise != null) {
+                criteria.withEnterpriseIds(Collections.singletonList(enterprise.enterprise.getEnterpriseId()));
+            }
+            OrganizationOption organization = (OrganizationOption) organizationCombo.getSelectedItem();
+            if (organization != null && organization.organization != null) {
+                criteria.withOrganizationIds(Collections.singletonList(organization.organization.getOrganizationId()));
             }
         }
 
-        // Check brand
-        if (item.getBrand() != null && item.getBrand().toLowerCase().contains(lowerSearch)) {
-            return true;
-        }
-
-        // Check color
-        if (item.getPrimaryColor() != null && item.getPrimaryColor().toLowerCase().contains(lowerSearch)) {
-            return true;
-        }
-
-        return false;
+        // "All Statuses" really means all, resolved items included
+        return criteria
+                .withCategory(categoryFor((String) categoryCombo.getSelectedItem()))
+                .withType(typeFor((String) typeCombo.getSelectedItem()))
+                .withStatus(statusFor((String) statusCombo.getSelectedItem()))
+                .includeResolved(true);
     }
 
-    private boolean matchesEnterpriseFilter(Item item) {
-        if (crossEnterpriseCheckbox.isSelected()) {
-            return true;
+    private Item.ItemCategory categoryFor(String selection) {
+        for (Item.ItemCategory cat : Item.ItemCategory.values()) {
+            if ((cat.getEmoji() + " " + cat.getDisplayName()).equals(selection)) {
+                return cat;
+            }
         }
+        return null;
+    }
 
-        EnterpriseOption selected = (EnterpriseOption) enterpriseCombo.getSelectedItem();
-        if (selected == null || selected.enterprise == null) {
-            return true;
+    private Item.ItemType typeFor(String selection) {
+        if (selection != null && selection.contains("Lost")) {
+            return Item.ItemType.LOST;
+        } else if (selection != null && selection.contains("Found")) {
+            return Item.ItemType.FOUND;
         }
-
-        return selected.enterprise.getEnterpriseId().equals(item.getEnterpriseId());
+        return null;
     }
 
-    private boolean matchesOrganizationFilter(Item item) {
-        if (crossEnterpriseCheckbox.isSelected()) {
-            return true;
-        }
+    private Item.ItemStatus statusFor(String selection) {
+        return selection == null ? null : switch (selection) {
+            case "Open" ->
+                Item.ItemStatus.OPEN;
+            case "Pending Claim" ->
+                Item.ItemStatus.PENDING_CLAIM;
+            case "Verified" ->
+                Item.ItemStatus.VERIFIED;
+            default ->
+                null;
+        };
+    }
 
-        OrganizationOption selected = (OrganizationOption) organizationCombo.getSelectedItem();
-        if (selected == null || selected.organization == null) {
-            return true;
+    /**
+     * Result count followed by how many of the results are recent
+     */
+    private String resultsSummary(int count) {
+        StringBuilder summary = new StringBuilder(count + " item" + (count != 1 ? "s" : "") + " found");
+        if (facets != null && count > 0) {
+            for (SearchFacets.DateRange range : SearchFacets.DateRange.values()) {
+                summary.append(" · ").append(facets.getDateCounts().getOrDefault(range, 0L))
+                        .append(" in ").append(range.getLabel().toLowerCase());
+            }
         }
+        return summary.toString();
+    }
 
-        return selected.organization.getOrganizationId().equals(item.getOrganizationId());
+    /**
+     * Redraw the filter combos so their counts follow the latest facets
+     */
+    private void repaintFilterCounts() {
+        enterpriseCombo.repaint();
+        organizationCombo.repaint();
+        categoryCombo.repaint();
+        typeCombo.repaint();
+        statusCombo.repaint();
     }
 
     /**
@@ -565,76 +640,18 @@ public class EnterpriseItemSearchPanel extends JPanel {
         }
     }
 
-    private boolean matchesCategoryFilter(Item item) {
-        String selected = (String) categoryCombo.getSelectedItem();
-        if (selected == null || selected.equals("All Categories")) {
-            return true;
-        }
-
-        for (Item.ItemCategory cat : Item.ItemCategory.values()) {
-            String catString = cat.getEmoji() + " " + cat.getDisplayName();
-            if (catString.equals(selected)) {
-                return item.getCategory() == cat;
-            }
-        }
-        return true;
-    }
-
-    private boolean matchesTypeFilter(Item item) {
-        String selected = (String) typeCombo.getSelectedItem();
-        if (selected == null || selected.equals("All Types")) {
-            return true;
-        }
-
-        if (selected.contains("Lost")) {
-            return item.getType() == Item.ItemType.LOST;
-        }
-        if (selected.contains("Found")) {
-            return item.getType() == Item.ItemType.FOUND;
-        }
-        return true;
-    }
-
-    private boolean matchesStatusFilter(Item item) {
-        String selected = (String) statusCombo.getSelectedItem();
-        if (selected == null || selected.equals("All Statuses")) {
-            return true;
-        }
-
-        return switch (selected) {
-            case "Open" ->
-                item.getStatus() == Item.ItemStatus.OPEN;
-            case "Pending Claim" ->
-                item.getStatus() == Item.ItemStatus.PENDING_CLAIM;
-            case "Verified" ->
-                item.getStatus() == Item.ItemStatus.VERIFIED;
-            default ->
-                true;
-        };
-    }
-
     private void displayResults(List<Item> items) {
         resultsPanel.removeAll();
         selectedItem = null;
         selectedCard = null;
+        renderedCount = 0;
 
         if (items.isEmpty()) {
             showEmptyState("No items found matching your search criteria");
             resultsCountLabel.setText("0 items found");
         } else {
-            resultsCountLabel.setText(items.size() + " item" + (items.size() != 1 ? "s" : "") + " found");
-
-            // Group by enterprise for display
-            Map<String, List<Item>> byEnterprise = items.stream()
-                    .collect(Collectors.groupingBy(
-                            item -> item.getEnterpriseId() != null ? item.getEnterpriseId() : "unknown"
-                    ));
-
-            for (Item item : items) {
-                JPanel card = createItemCard(item);
-                resultsPanel.add(card);
-                resultsPanel.add(Box.createVerticalStrut(10));
-            }
+            resultsCountLabel.setText(resultsSummary(items.size()));
+            appendPage(items);
         }
 
         resultsPanel.revalidate();
@@ -644,6 +661,36 @@ public class EnterpriseItemSearchPanel extends JPanel {
         SwingUtilities.invokeLater(() -> scrollPane.getVerticalScrollBar().setValue(0));
     }
 
+    /**
+     * Add the next page of cards, and a "Show more" button if any remain
+     */
+    private void appendPage(List<Item> items) {
+        if (showMoreButton != null) {
+            resultsPanel.remove(showMoreButton);
+            showMoreButton = null;
+        }
+
+        int end = Math.min(items.size(), renderedCount + ItemSearchPipeline.FIRST_PAGE_SIZE);
+        for (Item item : items.subList(renderedCount, end)) {
+            JPanel card = createItemCard(item);
+            resultsPanel.add(card);
+            resultsPanel.add(Box.createVerticalStrut(10));
+        }
+        renderedCount = end;
+
+        if (renderedCount < items.size()) {
+            showMoreButton = new JButton("Show more (" + (items.size() - renderedCount) + " remaining)");
+            showMoreButton.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+            showMoreButton.setAlignmentX(Component.LEFT_ALIGNMENT);
+            showMoreButton.addActionListener(e -> {
+                appendPage(items);
+                resultsPanel.revalidate();
+                resultsPanel.repaint();
+            });
+            resultsPanel.add(showMoreButton);
+        }
+    }
+
     private JPanel createItemCard(Item item) {
         JPanel card = new JPanel(new BorderLayout(15, 0));
         card.setBackground(Color.WHITE);
@@ -839,27 +886,13 @@ public class EnterpriseItemSearchPanel extends JPanel {
         label.setOpaque(true);
         label.setBackground(new Color(248, 249, 250));
 
-        // Try to load image
-        if (item.getImagePaths() != null && !item.getImagePaths().isEmpty()) {
-            String imagePath = item.getImagePaths().get(0);
-            File imageFile = new File(System.getProperty("user.dir"), imagePath);
-
-            if (imageFile.exists()) {
-                try {
-                    ImageIcon icon = new ImageIcon(imageFile.getAbsolutePath());
-                    Image img = icon.getImage().getScaledInstance(80, 80, Image.SCALE_SMOOTH);
-                    label.setIcon(new ImageIcon(img));
-                    label.setText("");
-                    return label;
-                } catch (Exception e) {
-                    // Fall through to emoji
-                }
-            }
-        }
-
-        // Fallback to category emoji
+        // Category emoji until the thumbnail has been decoded in the background
         label.setText(item.getCategory().getEmoji());
         label.setFont(UIConstants.getEmojiFont(Font.PLAIN, 32));
+
+        if (item.getImagePaths() != null && !item.getImagePaths().isEmpty()) {
+            ThumbnailCache.getInstance().loadInto(label, item.getImagePaths().get(0), 80);
+        }
         return label;
     }
 
@@ -946,13 +979,8 @@ public class EnterpriseItemSearchPanel extends JPanel {
     }
 
     private void setLoading(boolean loading) {
+        // Controls stay usable: a new search simply replaces the running one
         loadingBar.setVisible(loading);
-        searchButton.setEnabled(!loading);
-        enterpriseCombo.setEnabled(!loading && !crossEnterpriseCheckbox.isSelected());
-        organizationCombo.setEnabled(!loading && !crossEnterpriseCheckbox.isSelected());
-        categoryCombo.setEnabled(!loading);
-        typeCombo.setEnabled(!loading);
-        statusCombo.setEnabled(!loading);
     }
 
     private void showError(String message) {
@@ -970,6 +998,49 @@ public class EnterpriseItemSearchPanel extends JPanel {
     }
 
     // ==================== INNER CLASS ====================
+    /**
+     * Shows the first page as soon as it arrives, then the full count and the
+     * facet counts.
+     */
+    private class SearchResultsListener implements ItemSearchPipeline.Listener {
+
+        private boolean firstPageShown = false;
+
+        @Override
+        public void firstPage(List<Item> page) {
+            displayResults(page);
+            resultsCountLabel.setText("Showing first " + page.size() + " items, counting the rest...");
+            firstPageShown = true;
+        }
+
+        @Override
+        public void completed(List<Item> results, SearchFacets searchFacets) {
+            searchResults = results;
+            facets = searchFacets;
+            repaintFilterCounts();
+            if (firstPageShown) {
+                // The first page is already on screen; just add the count and the rest
+                resultsCountLabel.setText(resultsSummary(results.size()));
+                appendPage(results);
+                resultsPanel.revalidate();
+                resultsPanel.repaint();
+            } else {
+                displayResults(results);
+            }
+            firstPageShown = false;
+            setLoading(false);
+        }
+
+        @Override
+        public void failed(Exception e) {
+            firstPageShown = false;
+            setLoading(false);
+            showError("Search failed: " + e.getMessage());
+            searchResults = new ArrayList<>();
+            displayResults(searchResults);
+        }
+    }
+
     /**
      * Wrapper for enterprise combo box items.
      */
@@ -0,0 +1,55 @@
+package com.campus.lostfound.ui.components;
+
+import com.campus.lostfound.services.ReportExportService.ExportProgress;
+
+import javax.swing.*;
+import java.awt.*;
+
+/**
+ * Swing progress dialog for streaming exports.
+ *
+ * Pass it to a ReportExportService export running in a SwingWorker; progress
+ * updates are forwarded to the EDT and the dialog's Cancel button stops the
+ * export at the next row.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class ExportProgressMonitor implements ExportProgress {
+
+    private final ProgressMonitor monitor;
+    private volatile boolean cancelled = false;
+
+    public ExportProgressMonitor(Component parent, String message) {
+        this.monitor = new ProgressMonitor(parent, message, "Starting...", 0, 100);
+        this.monitor.setMillisToDecideToPopup(300);
+        this.monitor.setMillisToPopup(500);
+    }
+
+    @Override
+    public void onProgress(long processed, long expected) {
+        SwingUtilities.invokeLater(() -> {
+            if (monitor.isCanceled()) {
+                cancelled = true;
+                return;
+            }
+            if (expected > 0) {
+                monitor.setProgress((int) Math.min(99, processed * 100 / expected));
+                monitor.setNote(String.format("%,d of ~%,d records", processed, expected));
+            } else {
+                monitor.setNote(String.format("%,d records", processed));
+            }
+        });
+    }
+
+    @Override
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    /**
+     * Close the dialog (call from done())
+     */
+    public void close() {
+        monitor.close();
+    }
+}
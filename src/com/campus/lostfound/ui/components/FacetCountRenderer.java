@@ -0,0 +1,37 @@
+package com.campus.lostfound.ui.components;
+
+import javax.swing.*;
+import java.awt.*;
+import java.util.function.Function;
+
+/**
+ * Combo box renderer that appends a facet count to each option, e.g.
+ * "Electronics (42)". Options the count lookup returns null for (or every
+ * option, before the first search has finished) are shown unchanged.
+ *
+ * @author Developer 2 - UI Components
+ */
+public class FacetCountRenderer extends DefaultListCellRenderer {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Function<Object, Long> counts;
+
+    /**
+     * @param counts Count for a combo option, or null to show no count
+     */
+    public FacetCountRenderer(Function<Object, Long> counts) {
+        this.counts = counts;
+    }
+
+    @Override
+    public Component getListCellRendererComponent(JList<?> list, Object value, int index,
+            boolean isSelected, boolean cellHasFocus) {
+        super.getListCellRendererComponent(list, value, index, isSelected, cellHasFocus);
+        Long count = value == null ? null : counts.apply(value);
+        if (count != null) {
+            setText(getText() + " (" + count + ")");
+        }
+        return this;
+    }
+}
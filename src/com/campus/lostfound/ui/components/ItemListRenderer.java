@@ -6,15 +6,10 @@ package com.campus.lostfound.ui.components;
 
 import com.campus.lostfound.models.Item;
 import com.campus.lostfound.ui.UIConstants;
-import com.campus.lostfound.utils.ImageHandler;
+import com.campus.lostfound.utils.ThumbnailCache;
 import javax.swing.*;
 import java.awt.*;
-import java.awt.image.BufferedImage;
-import javax.imageio.ImageIO;
-import java.io.File;
 import java.text.SimpleDateFormat;
-import java.util.HashMap;
-import java.util.Map;
 
 /**
  *
@@ -26,8 +21,7 @@ public class ItemListRenderer extends JPanel implements ListCellRenderer<Item> {
     private static final Color HOVER_BG = new Color(245, 245, 245);
     private static final Color DEFAULT_BG = Color.WHITE;
     private static final SimpleDateFormat DATE_FORMAT = new SimpleDateFormat("MMM dd, yyyy");
-    private static final Map<String, ImageIcon> imageCache = new HashMap<>();
-    private static final int MAX_CACHE_SIZE = 100;
+    private static final int THUMBNAIL_SIZE = 80;
     
     // Emoji-capable fonts
     private static final Font EMOJI_FONT = UIConstants.getEmojiFont(Font.PLAIN, 12);
@@ -143,36 +137,16 @@ public class ItemListRenderer extends JPanel implements ListCellRenderer<Item> {
             ));
         }
 
-        // Load and scale photo
+        // Photo: cached thumbnail, or placeholder while it decodes in the background
+        ImageIcon icon = null;
         if (item.getImagePaths() != null && !item.getImagePaths().isEmpty()) {
-            String imagePath = item.getImagePaths().get(0);
-
-            // Use ImageHandler to load
-            ImageIcon icon = imageCache.get(imagePath);
-            //ImageIcon icon = ImageHandler.loadImage(imagePath, 80, 80);
-
-            if (icon == null) {
-                // 2. Not in cache → try to load (using your ImageHandler or whatever you use)
-                icon = ImageHandler.loadImage(imagePath, 80, 80);
-
-                if (icon != null && icon.getIconWidth() > 0) {
-                    // 3. Put into cache (with size cap)
-                    if (imageCache.size() < MAX_CACHE_SIZE) {
-                        imageCache.put(imagePath, icon);
-                    }
-                    photoLabel.setIcon(icon);
-                    photoLabel.setText("");
-                } else {
-                    // Failed to load → show placeholder
-                    showPlaceholder(item);
-                }
-            } else {
-                // 4. Use cached image
-                photoLabel.setIcon(icon);
-                photoLabel.setText("");
-            }
+            icon = ThumbnailCache.getInstance().getOrRequest(
+                    item.getImagePaths().get(0), THUMBNAIL_SIZE, list::repaint);
+        }
+        if (icon != null) {
+            photoLabel.setIcon(icon);
+            photoLabel.setText("");
         } else {
-            // No image paths → placeholder
             showPlaceholder(item);
         }
 
@@ -256,15 +230,4 @@ public class ItemListRenderer extends JPanel implements ListCellRenderer<Item> {
         photoLabel.setFont(EMOJI_FONT_LARGE);
         photoLabel.setIcon(null);
     }
-
-    private ImageIcon loadAndScaleImage(String path, int width, int height) {
-        try {
-            BufferedImage img = ImageIO.read(new File(path));
-            Image scaled = img.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-            return new ImageIcon(scaled);
-        } catch (Exception e) {
-            // Return default icon if image can't be loaded
-            return new ImageIcon();
-        }
-    }
 }
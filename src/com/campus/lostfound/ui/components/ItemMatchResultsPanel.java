@@ -2,15 +2,16 @@ package com.campus.lostfound.ui.components;
 
 import com.campus.lostfound.models.Item;
 import com.campus.lostfound.models.User;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.ItemMatcher;
 import com.campus.lostfound.services.ItemMatcher.PotentialMatch;
 import com.campus.lostfound.dao.MongoItemDAO;
+import com.campus.lostfound.utils.ThumbnailCache;
 
 import javax.swing.*;
 import javax.swing.border.*;
 import java.awt.*;
 import java.awt.event.*;
-import java.io.File;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
 import java.util.List;
@@ -72,8 +73,8 @@ public class ItemMatchResultsPanel extends JPanel {
      */
     public ItemMatchResultsPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemMatcher = new ItemMatcher();
-        this.itemDAO = new MongoItemDAO();
+        this.itemMatcher = AppContext.getInstance().getItemMatcher();
+        this.itemDAO = MongoItemDAO.getInstance();
         this.matches = new ArrayList<>();
         
         initComponents();
@@ -238,10 +239,8 @@ public class ItemMatchResultsPanel extends JPanel {
         SwingWorker<List<PotentialMatch>, Void> worker = new SwingWorker<>() {
             @Override
             protected List<PotentialMatch> doInBackground() {
-                // Get all items from database
-                List<Item> allItems = itemDAO.findAll();
-                // Find matches
-                return itemMatcher.findMatches(item, allItems);
+                // Find matches among open items from around the same time
+                return itemMatcher.findMatches(item);
             }
             
             @Override
@@ -578,27 +577,13 @@ public class ItemMatchResultsPanel extends JPanel {
         label.setOpaque(true);
         label.setBackground(new Color(248, 249, 250));
         
-        // Try to load image
-        if (item.getImagePaths() != null && !item.getImagePaths().isEmpty()) {
-            String imagePath = item.getImagePaths().get(0);
-            File imageFile = new File(System.getProperty("user.dir"), imagePath);
-            
-            if (imageFile.exists()) {
-                try {
-                    ImageIcon icon = new ImageIcon(imageFile.getAbsolutePath());
-                    Image img = icon.getImage().getScaledInstance(90, 90, Image.SCALE_SMOOTH);
-                    label.setIcon(new ImageIcon(img));
-                    label.setText("");
-                    return label;
-                } catch (Exception e) {
-                    // Fall through to emoji
-                }
-            }
-        }
-        
-        // Fallback to category emoji
+        // Category emoji until the thumbnail has been decoded in the background
         label.setText(item.getCategory().getEmoji());
         label.setFont(new Font("Segoe UI", Font.PLAIN, 36));
+
+        if (item.getImagePaths() != null && !item.getImagePaths().isEmpty()) {
+            ThumbnailCache.getInstance().loadInto(label, item.getImagePaths().get(0), 90);
+        }
         return label;
     }
     
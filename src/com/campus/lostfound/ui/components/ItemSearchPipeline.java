@@ -0,0 +1,193 @@
+package com.campus.lostfound.ui.components;
+
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.services.EnterpriseItemService.SearchCriteria;
+import com.campus.lostfound.services.ItemSearchIndex;
+import com.campus.lostfound.services.SearchFacets;
+
+import javax.swing.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+
+/**
+ * Debounced, cancellable item search behind the search-as-you-type panels.
+ *
+ * Keystrokes are collected for {@link #DEBOUNCE_MS} before a search starts.
+ * Starting a search cancels the one still running, and results from a
+ * superseded search are never delivered. The text part of the last search
+ * (ranked index hits, or every item for an empty query) is kept, so a search
+ * that only changes the filters - narrowing by type, category, enterprise and
+ * so on - re-filters that set in memory instead of querying again. The first
+ * page of results is handed over as soon as it is found, before the rest are
+ * counted. Facet counts for the filter combos are collected in the same pass
+ * (see {@link SearchFacets}).
+ *
+ * Call from the EDT; listener callbacks also arrive on the EDT.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class ItemSearchPipeline {
+
+    public static final int DEBOUNCE_MS = 150;
+    public static final int FIRST_PAGE_SIZE = 50;
+    // Items filtered between checks for cancellation
+    private static final int CANCEL_CHECK_INTERVAL = 1024;
+
+    /**
+     * Receives the results of the latest search only
+     */
+    public interface Listener {
+        /**
+         * The first FIRST_PAGE_SIZE results, while the rest are still being
+         * found; not called when there are fewer
+         */
+        void firstPage(List<Item> page);
+
+        void completed(List<Item> results, SearchFacets facets);
+
+        void failed(Exception e);
+    }
+
+    private final ItemSearchIndex index;
+    private final Listener listener;
+    private final Timer debounceTimer;
+
+    private SearchCriteria pendingCriteria;
+    private SearchWorker running;
+    private int generation = 0;
+
+    // Text hits of the most recent query, reused while the index is unchanged
+    private volatile TextHits lastHits;
+
+    public ItemSearchPipeline(ItemSearchIndex index, Listener listener) {
+        this.index = index;
+        this.listener = listener;
+        this.debounceTimer = new Timer(DEBOUNCE_MS, e -> start(pendingCriteria));
+        this.debounceTimer.setRepeats(false);
+    }
+
+    // ==================== PUBLIC API ====================
+
+    /**
+     * Search once typing pauses; each call restarts the wait
+     * @param criteria Read off the EDT, so it must not be changed afterwards
+     */
+    public void schedule(SearchCriteria criteria) {
+        pendingCriteria = criteria;
+        debounceTimer.restart();
+    }
+
+    /**
+     * Search immediately (Enter, the search button, a filter change)
+     * @param criteria Read off the EDT, so it must not be changed afterwards
+     */
+    public void searchNow(SearchCriteria criteria) {
+        debounceTimer.stop();
+        start(criteria);
+    }
+
+    /**
+     * Drop any pending or running search
+     */
+    public void cancel() {
+        debounceTimer.stop();
+        generation++;
+        if (running != null) {
+            running.cancel(false);
+            running = null;
+        }
+    }
+
+    // ==================== SEARCH ====================
+
+    private void start(SearchCriteria criteria) {
+        cancel();
+        String text = criteria.getQuery();
+        running = new SearchWorker(generation, text == null || text.trim().isEmpty() ? "" : text, criteria);
+        running.execute();
+    }
+
+    /**
+     * Ranked index hits for the text, or every item for an empty text
+     */
+    private List<Item> textHits(String text) {
+        long version = index.getVersion();
+        TextHits last = lastHits;
+        if (last != null && last.text.equals(text) && last.version == version) {
+            return last.items;
+        }
+        List<Item> items = text.isEmpty() ? index.allItems() : index.search(text);
+        lastHits = new TextHits(text, version, items);
+        return items;
+    }
+
+    private class SearchWorker extends SwingWorker<List<Item>, List<Item>> {
+        private final int searchGeneration;
+        private final String text;
+        private final SearchFacets facets;
+
+        SearchWorker(int searchGeneration, String text, SearchCriteria criteria) {
+            this.searchGeneration = searchGeneration;
+            this.text = text;
+            this.facets = new SearchFacets(criteria);
+        }
+
+        @Override
+        protected List<Item> doInBackground() {
+            List<Item> hits = textHits(text);
+            List<Item> results = new ArrayList<>();
+            int seen = 0;
+            for (Item item : hits) {
+                if (++seen % CANCEL_CHECK_INTERVAL == 0 && isCancelled()) {
+                    return results;
+                }
+                if (facets.add(item)) {
+                    results.add(item);
+                    if (results.size() == FIRST_PAGE_SIZE) {
+                        publish(new ArrayList<>(results));
+                    }
+                }
+            }
+            return results;
+        }
+
+        @Override
+        protected void process(List<List<Item>> pages) {
+            if (isCurrent()) {
+                listener.firstPage(pages.get(0));
+            }
+        }
+
+        @Override
+        protected void done() {
+            if (!isCurrent()) {
+                return;
+            }
+            running = null;
+            try {
+                listener.completed(get(), facets);
+            } catch (ExecutionException e) {
+                listener.failed(e.getCause() instanceof Exception ? (Exception) e.getCause() : e);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private boolean isCurrent() {
+            return !isCancelled() && searchGeneration == generation;
+        }
+    }
+
+    private static class TextHits {
+        final String text;
+        final long version;
+        final List<Item> items;
+
+        TextHits(String text, long version, List<Item> items) {
+            this.text = text;
+            this.version = version;
+            this.items = items;
+        }
+    }
+}
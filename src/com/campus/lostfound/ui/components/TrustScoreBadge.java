@@ -2,6 +2,7 @@ package com.campus.lostfound.ui.components;
 
 import com.campus.lostfound.models.trustscore.TrustScore;
 import com.campus.lostfound.models.trustscore.TrustScore.ScoreLevel;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.TrustScoreService;
 
 import javax.swing.*;
@@ -84,7 +85,7 @@ public class TrustScoreBadge extends JPanel {
         this.userId = userId;
         this.score = score;
         this.compactMode = compactMode;
-        this.trustScoreService = new TrustScoreService();
+        this.trustScoreService = AppContext.getInstance().getTrustScoreService();
         
         if (userId != null) {
             loadScore();
@@ -5,6 +5,7 @@ import com.campus.lostfound.models.User;
 import com.campus.lostfound.models.workrequest.WorkRequest;
 import com.campus.lostfound.models.workrequest.WorkRequest.RequestStatus;
 import com.campus.lostfound.models.workrequest.WorkRequest.RequestPriority;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.WorkRequestService;
 import com.campus.lostfound.ui.UIConstants;
 
@@ -78,8 +79,8 @@ public class WorkQueueTablePanel extends JPanel {
      */
     public WorkQueueTablePanel(User currentUser) {
         this.currentUser = currentUser;
-        this.workRequestService = new WorkRequestService();
-        this.userDAO = new MongoUserDAO();  // Use UserDAO to get trust scores from users collection
+        this.workRequestService = AppContext.getInstance().getWorkRequestService();
+        this.userDAO = MongoUserDAO.getInstance();  // Use UserDAO to get trust scores from users collection
         this.allRequests = new ArrayList<>();
         this.filteredRequests = new ArrayList<>();
         this.trustScoreCache = new java.util.HashMap<>();
@@ -45,9 +45,9 @@ public class ClaimReviewDialog extends JDialog {
         super(owner, "Review Claims - " + item.getTitle(), ModalityType.APPLICATION_MODAL);
         this.item = item;
         this.currentUser = currentUser;
-        this.claimDAO = new MongoClaimDAO();
-        this.userDAO = new MongoUserDAO();
-        this.itemDAO = new MongoItemDAO();
+        this.claimDAO = MongoClaimDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.itemDAO = MongoItemDAO.getInstance();
         
         initComponents();
         loadClaims();
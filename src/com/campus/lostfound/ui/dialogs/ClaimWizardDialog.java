@@ -78,7 +78,7 @@ class ClaimWizardDialog extends JDialog {
         super(owner, "Claim Item - " + item.getTitle(), ModalityType.APPLICATION_MODAL);
         this.item = item;
         this.claimant = claimant;
-        this.claimDAO = new MongoClaimDAO();
+        this.claimDAO = MongoClaimDAO.getInstance();
 
         initComponents();
 
@@ -12,6 +12,7 @@ import com.campus.lostfound.models.Message;
 import com.campus.lostfound.models.User;
 import com.campus.lostfound.ui.UIConstants;
 import com.campus.lostfound.utils.ImageHandler;
+import com.campus.lostfound.utils.ThumbnailCache;
 import javax.swing.*;
 import java.awt.*;
 import java.io.File;
@@ -46,8 +47,8 @@ public class ItemDetailDialog extends JDialog {
         super(owner, "Item Details - " + item.getTitle(), ModalityType.APPLICATION_MODAL);
         this.item = item;
         this.currentUser = currentUser;
-        this.claimDAO = new MongoClaimDAO();
-        this.userDAO = new MongoUserDAO(); // 🔥 Initialize
+        this.claimDAO = MongoClaimDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance(); // 🔥 Initialize
 
         initComponents();
         loadItemData();
@@ -130,51 +131,12 @@ public class ItemDetailDialog extends JDialog {
         photoLabel.setBackground(Color.WHITE);
         photoLabel.setOpaque(true);
 
-        boolean imageLoaded = false;
+        // Category emoji until the image has been decoded in the background
+        photoLabel.setText(item.getCategory().getEmoji());
+        photoLabel.setFont(EMOJI_FONT_LARGE);
 
-        // Try to load image if present
         if (item.getImagePaths() != null && !item.getImagePaths().isEmpty()) {
-            String imagePath = item.getImagePaths().get(0);
-            System.out.println("Attempting to load image: " + imagePath);
-
-            // NEW simple loading method (replaces ImageHandler)
-            File imageFile = new File(System.getProperty("user.dir"), imagePath);
-
-            if (imageFile.exists()) {
-                try {
-                    ImageIcon icon = new ImageIcon(imageFile.getAbsolutePath());
-
-                    Image img = icon.getImage();
-                    Image scaled = img.getScaledInstance(240, 240, Image.SCALE_DEFAULT);
-
-                    photoLabel.setIcon(new ImageIcon(scaled));
-                    photoLabel.setText("");
-                    imageLoaded = true;
-
-                    System.out.println("Image loaded successfully (simple loader).");
-
-                } catch (Exception e) {
-                    System.err.println("Error loading image: " + e.getMessage());
-                    e.printStackTrace();
-                }
-            } else {
-                System.err.println("Image file does NOT exist at: " + imageFile.getAbsolutePath());
-            }
-        }
-
-        // If no image or loading failed, show placeholder
-        if (!imageLoaded) {
-            if (item.getImagePaths() != null && !item.getImagePaths().isEmpty()) {
-                // Image path exists but couldn't load
-                photoLabel.setText(
-                        "<html><center>📷<br>Image loading error<br><small>File exists but couldn't display</small></center></html>"
-                );
-                photoLabel.setFont(new Font("Arial", Font.PLAIN, 12));
-            } else {
-                // No image uploaded → show category emoji
-                photoLabel.setText(item.getCategory().getEmoji());
-                photoLabel.setFont(EMOJI_FONT_LARGE);
-            }
+            ThumbnailCache.getInstance().loadInto(photoLabel, item.getImagePaths().get(0), 240);
         }
 
         panel.add(photoLabel, BorderLayout.CENTER);
@@ -540,7 +502,7 @@ public class ItemDetailDialog extends JDialog {
 
         if (result == JOptionPane.OK_OPTION && !messageArea.getText().trim().isEmpty()) {
             // Send actual message using DAO
-            MongoMessageDAO messageDAO = new MongoMessageDAO();
+            MongoMessageDAO messageDAO = MongoMessageDAO.getInstance();
             Message msg = new Message(
                     item.getMongoId(),
                     currentUser.getEmail(),
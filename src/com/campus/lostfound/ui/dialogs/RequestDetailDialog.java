@@ -7,6 +7,7 @@ import com.campus.lostfound.models.Enterprise;
 import com.campus.lostfound.models.Organization;
 import com.campus.lostfound.models.User;
 import com.campus.lostfound.models.workrequest.*;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.TrustScoreService;
 import com.campus.lostfound.services.WorkRequestService;
 import com.campus.lostfound.ui.UIConstants;
@@ -75,11 +76,11 @@ public class RequestDetailDialog extends JDialog {
         super(owner, "Work Request Details", ModalityType.APPLICATION_MODAL);
         this.request = request;
         this.currentUser = currentUser;
-        this.workRequestService = new WorkRequestService();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.userDAO = new MongoUserDAO();  // For trust score lookups from users collection
-        this.trustScoreService = new TrustScoreService();
+        this.workRequestService = AppContext.getInstance().getWorkRequestService();
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();  // For trust score lookups from users collection
+        this.trustScoreService = AppContext.getInstance().getTrustScoreService();
         
         initComponents();
         populateDetails();
@@ -8,6 +8,8 @@ import com.campus.lostfound.models.Enterprise.EnterpriseType;
 import com.campus.lostfound.models.Organization.OrganizationType;
 import com.campus.lostfound.services.*;
 import com.campus.lostfound.services.AnalyticsService.*;
+import com.campus.lostfound.services.ReportExportService.ReportType;
+import com.campus.lostfound.utils.Instrumentation;
 
 import javax.swing.*;
 import javax.swing.border.*;
@@ -83,6 +85,15 @@ public class AdminPanel extends JPanel {
     private JTable collectionStatsTable;
     private JTextArea systemLogArea;
 
+    // Performance tab components
+    private JCheckBox instrumentationCheckBox;
+    private JTable methodStatsTable;
+    private JTextArea driverMetricsArea;
+
+    private static final String[] PERFORMANCE_COLUMNS = {
+            "Method", "Calls", "Errors", "Documents", "Total", "Mean", "p95", "p99", "Max"
+    };
+
     // ==================== COLORS ====================
     private static final Color PRIMARY_BLUE = new Color(52, 152, 219);
     private static final Color SUCCESS_GREEN = new Color(46, 204, 113);
@@ -101,16 +112,16 @@ public class AdminPanel extends JPanel {
     }
 
     private void initializeDAOs() {
-        this.itemDAO = new MongoItemDAO();
-        this.userDAO = new MongoUserDAO();
-        this.buildingDAO = new MongoBuildingDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestDAO = new MongoWorkRequestDAO();
-        this.trustScoreDAO = new MongoTrustScoreDAO();
-        this.analyticsService = new AnalyticsService();
-        this.reportExportService = new ReportExportService();
-        this.trustScoreService = new TrustScoreService();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.buildingDAO = MongoBuildingDAO.getInstance();
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
+        this.workRequestDAO = MongoWorkRequestDAO.getInstance();
+        this.trustScoreDAO = MongoTrustScoreDAO.getInstance();
+        this.analyticsService = AppContext.getInstance().getAnalyticsService();
+        this.reportExportService = AppContext.getInstance().getReportExportService();
+        this.trustScoreService = AppContext.getInstance().getTrustScoreService();
     }
 
     private void initComponents() {
@@ -132,6 +143,7 @@ public class AdminPanel extends JPanel {
         mainTabbedPane.addTab("User Management", createUserManagementTab());
         mainTabbedPane.addTab("Advanced Reports", createAdvancedReportsTab());
         mainTabbedPane.addTab("System Health", createSystemHealthTab());
+        mainTabbedPane.addTab("Performance", createPerformanceTab());
 
         // Tab change listener to refresh data
         mainTabbedPane.addChangeListener(e -> {
@@ -152,6 +164,9 @@ public class AdminPanel extends JPanel {
                 case 5:
                     loadSystemHealthData();
                     break;
+                case 6:
+                    loadPerformanceData();
+                    break;
             }
         });
 
@@ -973,6 +988,78 @@ public class AdminPanel extends JPanel {
         return card;
     }
 
+    // ==================== TAB 7: PERFORMANCE ====================
+    private JPanel createPerformanceTab() {
+        JPanel panel = new JPanel(new BorderLayout(10, 10));
+        panel.setBackground(LIGHT_GRAY);
+        panel.setBorder(BorderFactory.createEmptyBorder(15, 15, 15, 15));
+
+        // Top - Instrumentation controls
+        JPanel controlsPanel = new JPanel(new FlowLayout(FlowLayout.LEFT, 10, 5));
+        controlsPanel.setOpaque(false);
+
+        instrumentationCheckBox = new JCheckBox("Record DAO and service timings");
+        instrumentationCheckBox.setFont(new Font("Segoe UI", Font.PLAIN, 12));
+        instrumentationCheckBox.setOpaque(false);
+        instrumentationCheckBox.setSelected(Instrumentation.getInstance().isEnabled());
+        instrumentationCheckBox.addActionListener(e -> {
+            Instrumentation.getInstance().setEnabled(instrumentationCheckBox.isSelected());
+            loadPerformanceData();
+        });
+        controlsPanel.add(instrumentationCheckBox);
+
+        JButton refreshBtn = createStyledButton("Refresh", PRIMARY_BLUE);
+        refreshBtn.addActionListener(e -> loadPerformanceData());
+        controlsPanel.add(refreshBtn);
+
+        JButton resetBtn = createStyledButton("Reset", new Color(149, 165, 166));
+        resetBtn.addActionListener(e -> {
+            Instrumentation.getInstance().reset();
+            MongoMetrics metrics = driverMetrics();
+            if (metrics != null) {
+                metrics.reset();
+            }
+            loadPerformanceData();
+        });
+        controlsPanel.add(resetBtn);
+
+        panel.add(controlsPanel, BorderLayout.NORTH);
+
+        // Center - Method timings over driver metrics
+        JSplitPane splitPane = new JSplitPane(JSplitPane.VERTICAL_SPLIT);
+        splitPane.setResizeWeight(0.6);
+        splitPane.setBorder(null);
+
+        JPanel methodsPanel = new JPanel(new BorderLayout(5, 5));
+        methodsPanel.setBackground(Color.WHITE);
+        methodsPanel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createTitledBorder("Method Timings (ms)"),
+                BorderFactory.createEmptyBorder(10, 10, 10, 10)
+        ));
+        methodStatsTable = new JTable(new Object[0][PERFORMANCE_COLUMNS.length], PERFORMANCE_COLUMNS);
+        styleTable(methodStatsTable);
+        methodsPanel.add(new JScrollPane(methodStatsTable), BorderLayout.CENTER);
+        splitPane.setTopComponent(methodsPanel);
+
+        JPanel driverPanel = new JPanel(new BorderLayout(5, 5));
+        driverPanel.setBackground(Color.WHITE);
+        driverPanel.setBorder(BorderFactory.createCompoundBorder(
+                BorderFactory.createTitledBorder("MongoDB Driver"),
+                BorderFactory.createEmptyBorder(10, 10, 10, 10)
+        ));
+        driverMetricsArea = new JTextArea();
+        driverMetricsArea.setFont(new Font("Consolas", Font.PLAIN, 11));
+        driverMetricsArea.setEditable(false);
+        driverMetricsArea.setBackground(new Color(40, 44, 52));
+        driverMetricsArea.setForeground(new Color(171, 178, 191));
+        driverPanel.add(new JScrollPane(driverMetricsArea), BorderLayout.CENTER);
+        splitPane.setBottomComponent(driverPanel);
+
+        panel.add(splitPane, BorderLayout.CENTER);
+
+        return panel;
+    }
+
     // ==================== DATA LOADING METHODS ====================
     private void loadAllData() {
         loadDashboardData();
@@ -1254,6 +1341,43 @@ public class AdminPanel extends JPanel {
         worker.execute();
     }
 
+    private void loadPerformanceData() {
+        instrumentationCheckBox.setSelected(Instrumentation.getInstance().isEnabled());
+
+        List<Instrumentation.MethodStats> methodStats = Instrumentation.getInstance().getMethodStats();
+        Object[][] rows = new Object[methodStats.size()][];
+        for (int i = 0; i < rows.length; i++) {
+            Instrumentation.MethodStats m = methodStats.get(i);
+            rows[i] = new Object[]{m.getName(), m.getCalls(), m.getErrors(), m.getDocuments(),
+                    String.format("%.0f", m.getTotalMillis()), String.format("%.1f", m.getMeanMillis()),
+                    String.format("%.1f", m.getP95Millis()), String.format("%.1f", m.getP99Millis()),
+                    String.format("%.1f", m.getMaxMillis())};
+        }
+        methodStatsTable.setModel(new DefaultTableModel(rows, PERFORMANCE_COLUMNS) {
+            @Override
+            public boolean isCellEditable(int row, int column) {
+                return false;
+            }
+        });
+
+        MongoMetrics metrics = driverMetrics();
+        if (metrics != null) {
+            driverMetricsArea.setText(metrics.formatReport(15));
+        } else if (AppContext.getInstance().isInMemory()) {
+            driverMetricsArea.setText("No driver metrics: running on the in-memory DAOs (-Dlostfound.dao=memory).");
+        } else {
+            driverMetricsArea.setText("Driver metrics are disabled (mongodb.metrics.enabled=false in mongodb.properties).");
+        }
+        driverMetricsArea.setCaretPosition(0);
+    }
+
+    /**
+     * The MongoDB driver metrics, or null if disabled or running without MongoDB
+     */
+    private MongoMetrics driverMetrics() {
+        return AppContext.getInstance().isInMemory() ? null : MongoDBConnection.getInstance().getMetrics();
+    }
+
     private boolean testDatabaseConnection() {
         try {
             itemDAO.findAll();
@@ -1732,20 +1856,20 @@ public class AdminPanel extends JPanel {
 
         try {
             switch (reportType) {
+                // Periodic reports are precomputed off-hours and cached until the data changes
                 case "Executive Summary":
-                    ExecutiveSummary summary = analyticsService.getExecutiveSummary();
-                    preview.append(summary.getHighlightsSummary());
+                    preview.append(ReportScheduler.getInstance()
+                            .getReport(ReportType.EXECUTIVE_SUMMARY).toFormattedString());
                     break;
 
                 case "Weekly Activity":
-                    List<WeeklyTrend> weekly = analyticsService.getWeeklyTrends(4);
-                    preview.append("Weekly Activity Report\n\n");
-                    for (WeeklyTrend trend : weekly) {
-                        preview.append(trend.getWeekLabel()).append(":\n");
-                        preview.append("  Items: ").append(trend.itemsReported);
-                        preview.append(" | Recovered: ").append(trend.recovered);
-                        preview.append(" | Rate: ").append(String.format("%.0f%%", trend.recoveryRate * 100)).append("\n");
-                    }
+                    preview.append(ReportScheduler.getInstance()
+                            .getReport(ReportType.WEEKLY).toFormattedString());
+                    break;
+
+                case "Monthly Summary":
+                    preview.append(ReportScheduler.getInstance()
+                            .getReport(ReportType.MONTHLY).toFormattedString());
                     break;
 
                 case "Enterprise Report":
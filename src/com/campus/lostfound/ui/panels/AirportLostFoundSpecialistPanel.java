@@ -4,6 +4,7 @@ import com.campus.lostfound.dao.*;
 import com.campus.lostfound.ui.UIConstants;
 import com.campus.lostfound.models.*;
 import com.campus.lostfound.models.workrequest.*;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.ItemMatcher;
 import com.campus.lostfound.services.ItemMatcher.PotentialMatch;
 import com.campus.lostfound.services.WorkRequestService;
@@ -13,6 +14,8 @@ import com.campus.lostfound.services.AnalyticsService;
 import com.campus.lostfound.services.ReportExportService;
 import com.campus.lostfound.ui.components.*;
 import com.campus.lostfound.ui.dialogs.RequestDetailDialog;
+import com.campus.lostfound.utils.ImageHandler;
+import com.campus.lostfound.utils.ThumbnailCache;
 
 import javax.swing.*;
 import javax.swing.border.*;
@@ -178,17 +181,17 @@ public class AirportLostFoundSpecialistPanel extends JPanel {
      */
     public AirportLostFoundSpecialistPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
-        this.buildingDAO = new MongoBuildingDAO();
-        this.userDAO = new MongoUserDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestService = new WorkRequestService();
-        this.itemMatcher = new ItemMatcher();
-        this.enterpriseItemService = new EnterpriseItemService();
-        this.enterpriseItemMatcher = new EnterpriseItemMatcher();
-        this.analyticsService = new AnalyticsService();
-        this.reportExportService = new ReportExportService();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.buildingDAO = MongoBuildingDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
+        this.workRequestService = AppContext.getInstance().getWorkRequestService();
+        this.itemMatcher = AppContext.getInstance().getItemMatcher();
+        this.enterpriseItemService = AppContext.getInstance().getEnterpriseItemService();
+        this.enterpriseItemMatcher = AppContext.getInstance().getEnterpriseItemMatcher();
+        this.analyticsService = AppContext.getInstance().getAnalyticsService();
+        this.reportExportService = AppContext.getInstance().getReportExportService();
         this.intakeImagePaths = new ArrayList<>();
         
         initComponents();
@@ -2768,12 +2771,8 @@ public class AirportLostFoundSpecialistPanel extends JPanel {
                     .filter(i -> i.getStatus() == Item.ItemStatus.OPEN)
                     .collect(Collectors.toList());
                 
-                List<Item> allLostItems = itemDAO.findAll().stream()
-                    .filter(i -> i.getType() == Item.ItemType.LOST)
-                    .collect(Collectors.toList());
-                
                 for (Item foundItem : myFoundItems) {
-                    List<PotentialMatch> matches = itemMatcher.findMatches(foundItem, allLostItems);
+                    List<PotentialMatch> matches = itemMatcher.findMatches(foundItem);
                     if (!matches.isEmpty()) {
                         allMatches.put(foundItem, matches);
                     }
@@ -3540,20 +3539,23 @@ public class AirportLostFoundSpecialistPanel extends JPanel {
         if (chooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
             File file = chooser.getSelectedFile();
             
+            ExportProgressMonitor progress = new ExportProgressMonitor(this, "Exporting items...");
+            
             SwingWorker<Boolean, Void> worker = new SwingWorker<>() {
                 @Override
                 protected Boolean doInBackground() {
-                    List<Item> items = itemDAO.findAll().stream()
-                        .filter(i -> i.getOrganizationId() != null && 
-                                    i.getOrganizationId().equals(currentUser.getOrganizationId()))
-                        .collect(Collectors.toList());
-                    
-                    return reportExportService.exportItemsToCSV(items, file.getAbsolutePath());
+                    // Streamed from the database; the full item history never sits in memory
+                    return reportExportService.exportOrganizationItemsToCSV(
+                        currentUser.getOrganizationId(), null, file.getAbsolutePath(), progress);
                 }
                 
                 @Override
                 protected void done() {
+                    progress.close();
                     try {
+                        if (progress.isCancelled()) {
+                            return;
+                        }
                         if (get()) {
                             JOptionPane.showMessageDialog(AirportLostFoundSpecialistPanel.this,
                                 "Report exported successfully!\n" + file.getAbsolutePath(),
@@ -3597,18 +3599,20 @@ public class AirportLostFoundSpecialistPanel extends JPanel {
         if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             File file = chooser.getSelectedFile();
             try {
-                String destPath = "items/images/" + System.currentTimeMillis() + "_" + file.getName();
-                File destFile = new File(System.getProperty("user.dir"), destPath);
-                destFile.getParentFile().mkdirs();
-                java.nio.file.Files.copy(file.toPath(), destFile.toPath());
+                // Store in the shared image store (identical photos are kept once)
+                String destPath = ImageHandler.saveImage(file);
+                if (destPath == null) {
+                    showError("Failed to upload image");
+                    return;
+                }
                 
                 intakeImagePaths.clear();
                 intakeImagePaths.add(destPath);
                 
-                ImageIcon icon = new ImageIcon(destFile.getAbsolutePath());
-                Image img = icon.getImage().getScaledInstance(90, 90, Image.SCALE_SMOOTH);
-                intakeImagePreviewLabel.setIcon(new ImageIcon(img));
-                intakeImagePreviewLabel.setText("");
+                // Show preview once decoded
+                intakeImagePreviewLabel.setIcon(null);
+                intakeImagePreviewLabel.setText("📷");
+                ThumbnailCache.getInstance().loadInto(intakeImagePreviewLabel, destPath, 90);
             } catch (Exception e) {
                 showError("Failed to upload image: " + e.getMessage());
             }
@@ -3,12 +3,15 @@ package com.campus.lostfound.ui.panels;
 import com.campus.lostfound.dao.*;
 import com.campus.lostfound.models.*;
 import com.campus.lostfound.models.workrequest.*;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.ItemMatcher;
 import com.campus.lostfound.services.ItemMatcher.PotentialMatch;
 import com.campus.lostfound.services.WorkRequestService;
 import com.campus.lostfound.ui.UIConstants;
 import com.campus.lostfound.ui.components.*;
 import com.campus.lostfound.ui.dialogs.RequestDetailDialog;
+import com.campus.lostfound.utils.ImageHandler;
+import com.campus.lostfound.utils.ThumbnailCache;
 
 import javax.swing.*;
 import javax.swing.border.*;
@@ -114,13 +117,13 @@ public class CampusCoordinatorPanel extends JPanel {
      */
     public CampusCoordinatorPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
-        this.buildingDAO = new MongoBuildingDAO();
-        this.userDAO = new MongoUserDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestService = new WorkRequestService();
-        this.itemMatcher = new ItemMatcher();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.buildingDAO = MongoBuildingDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
+        this.workRequestService = AppContext.getInstance().getWorkRequestService();
+        this.itemMatcher = AppContext.getInstance().getItemMatcher();
         this.foundImagePaths = new ArrayList<>();
         
         initComponents();
@@ -1368,8 +1371,7 @@ public class CampusCoordinatorPanel extends JPanel {
         if (itemOpt.isEmpty()) return;
         
         Item foundItem = itemOpt.get();
-        List<Item> allItems = itemDAO.findAll();
-        List<ItemMatcher.PotentialMatch> matches = itemMatcher.findMatches(foundItem, allItems);
+        List<ItemMatcher.PotentialMatch> matches = itemMatcher.findMatches(foundItem);
         
         if (matches.isEmpty()) {
             JOptionPane.showMessageDialog(this,
@@ -1439,18 +1441,20 @@ public class CampusCoordinatorPanel extends JPanel {
         if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             File file = chooser.getSelectedFile();
             try {
-                String destPath = "items/images/" + System.currentTimeMillis() + "_" + file.getName();
-                File destFile = new File(System.getProperty("user.dir"), destPath);
-                destFile.getParentFile().mkdirs();
-                java.nio.file.Files.copy(file.toPath(), destFile.toPath());
+                // Store in the shared image store (identical photos are kept once)
+                String destPath = ImageHandler.saveImage(file);
+                if (destPath == null) {
+                    showError("Failed to upload image");
+                    return;
+                }
                 
                 foundImagePaths.clear();
                 foundImagePaths.add(destPath);
                 
-                ImageIcon icon = new ImageIcon(destFile.getAbsolutePath());
-                Image img = icon.getImage().getScaledInstance(90, 90, Image.SCALE_SMOOTH);
-                foundImagePreviewLabel.setIcon(new ImageIcon(img));
-                foundImagePreviewLabel.setText("");
+                // Show preview once decoded
+                foundImagePreviewLabel.setIcon(null);
+                foundImagePreviewLabel.setText("📷");
+                ThumbnailCache.getInstance().loadInto(foundImagePreviewLabel, destPath, 90);
             } catch (Exception e) {
                 showError("Failed to upload image: " + e.getMessage());
             }
@@ -1610,14 +1614,8 @@ public class CampusCoordinatorPanel extends JPanel {
         SwingWorker<List<PotentialMatch>, Void> worker = new SwingWorker<>() {
             @Override
             protected List<PotentialMatch> doInBackground() {
-                // Get all LOST items from all organizations (cross-org matching)
-                List<Item> allLostItems = itemDAO.findAll().stream()
-                    .filter(i -> i.getType() == Item.ItemType.LOST)
-                    .filter(i -> i.getStatus() == Item.ItemStatus.OPEN || 
-                                i.getStatus() == Item.ItemStatus.PENDING_CLAIM)
-                    .collect(Collectors.toList());
-                
-                return itemMatcher.findMatches(selectedItem.item, allLostItems);
+                // Open LOST items from all organizations (cross-org matching)
+                return itemMatcher.findMatches(selectedItem.item);
             }
             
             @Override
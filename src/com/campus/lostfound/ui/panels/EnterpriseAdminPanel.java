@@ -125,10 +125,10 @@ public class EnterpriseAdminPanel extends JPanel {
     }
 
     private void initializeDAOs() {
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.userDAO = new MongoUserDAO();
-        this.analyticsService = new AnalyticsService();
-        this.reportExportService = new ReportExportService();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.analyticsService = AppContext.getInstance().getAnalyticsService();
+        this.reportExportService = AppContext.getInstance().getReportExportService();
     }
 
     private void initComponents() {
@@ -4,6 +4,7 @@ import com.campus.lostfound.dao.*;
 import com.campus.lostfound.ui.UIConstants;
 import com.campus.lostfound.models.*;
 import com.campus.lostfound.models.workrequest.*;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.ItemMatcher;
 import com.campus.lostfound.services.ItemMatcher.PotentialMatch;
 import com.campus.lostfound.services.WorkRequestService;
@@ -148,13 +149,13 @@ public class MBTAStationManagerPanel extends JPanel {
      */
     public MBTAStationManagerPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
-        this.buildingDAO = new MongoBuildingDAO();
-        this.userDAO = new MongoUserDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestService = new WorkRequestService();
-        this.itemMatcher = new ItemMatcher();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.buildingDAO = MongoBuildingDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
+        this.workRequestService = AppContext.getInstance().getWorkRequestService();
+        this.itemMatcher = AppContext.getInstance().getItemMatcher();
         
         initComponents();
         loadDashboardData();
@@ -1227,13 +1228,9 @@ public class MBTAStationManagerPanel extends JPanel {
                 
                 // Count potential matches (items with matches to university lost items)
                 int potentialMatches = 0;
-                List<Item> allLostItems = itemDAO.findAll().stream()
-                    .filter(i -> i.getType() == Item.ItemType.LOST)
-                    .collect(Collectors.toList());
-                
                 for (Item foundItem : myItems) {
                     if (foundItem.getStatus() == Item.ItemStatus.OPEN) {
-                        List<PotentialMatch> matches = itemMatcher.findMatches(foundItem, allLostItems);
+                        List<PotentialMatch> matches = itemMatcher.findMatches(foundItem);
                         if (!matches.isEmpty()) {
                             potentialMatches++;
                         }
@@ -1758,12 +1755,8 @@ public class MBTAStationManagerPanel extends JPanel {
                     .filter(i -> i.getStatus() == Item.ItemStatus.OPEN)
                     .collect(Collectors.toList());
                 
-                List<Item> allLostItems = itemDAO.findAll().stream()
-                    .filter(i -> i.getType() == Item.ItemType.LOST)
-                    .collect(Collectors.toList());
-                
                 for (Item foundItem : myFoundItems) {
-                    List<PotentialMatch> matches = itemMatcher.findMatches(foundItem, allLostItems);
+                    List<PotentialMatch> matches = itemMatcher.findMatches(foundItem);
                     if (!matches.isEmpty()) {
                         allMatches.put(foundItem, matches);
                     }
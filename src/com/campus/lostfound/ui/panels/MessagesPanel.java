@@ -35,9 +35,9 @@ public class MessagesPanel extends JPanel {
 
     public MessagesPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.messageDAO = new MongoMessageDAO();
-        this.itemDAO = new MongoItemDAO();
-        this.userDAO = new MongoUserDAO();
+        this.messageDAO = MongoMessageDAO.getInstance();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
 
         initComponents();
         loadConversations();
@@ -30,7 +30,7 @@ public class MyItemsPanel extends JPanel {
 
     public MyItemsPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
+        this.itemDAO = MongoItemDAO.getInstance();
 
         initComponents();
         loadUserItems();
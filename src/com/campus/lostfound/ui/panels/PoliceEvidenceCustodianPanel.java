@@ -112,16 +112,16 @@ public class PoliceEvidenceCustodianPanel extends JPanel {
         this.currentUser = currentUser;
         
         // Initialize services
-        this.trustScoreService = new TrustScoreService();
-        this.verificationService = new VerificationService();
-        this.authorityService = new AuthorityService();
-        this.workRequestService = new WorkRequestService();
+        this.trustScoreService = AppContext.getInstance().getTrustScoreService();
+        this.verificationService = AppContext.getInstance().getVerificationService();
+        this.authorityService = AppContext.getInstance().getAuthorityService();
+        this.workRequestService = AppContext.getInstance().getWorkRequestService();
         
         // Initialize DAOs
-        this.userDAO = new MongoUserDAO();
-        this.itemDAO = new MongoItemDAO();
-        this.trustScoreDAO = new MongoTrustScoreDAO();
-        this.verificationDAO = new MongoVerificationDAO();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.trustScoreDAO = MongoTrustScoreDAO.getInstance();
+        this.verificationDAO = MongoVerificationDAO.getInstance();
         
         // Initialize sample data
         initializeSampleData();
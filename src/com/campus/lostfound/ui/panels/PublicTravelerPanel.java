@@ -4,6 +4,7 @@ import com.campus.lostfound.dao.*;
 import com.campus.lostfound.models.*;
 import com.campus.lostfound.models.workrequest.*;
 import com.campus.lostfound.models.workrequest.MultiEnterpriseDisputeResolution.*;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.ItemMatcher;
 import com.campus.lostfound.services.ItemMatcher.PotentialMatch;
 import com.campus.lostfound.services.WorkRequestService;
@@ -137,11 +138,11 @@ public class PublicTravelerPanel extends JPanel {
      */
     public PublicTravelerPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestService = new WorkRequestService();
-        this.itemMatcher = new ItemMatcher();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
+        this.workRequestService = AppContext.getInstance().getWorkRequestService();
+        this.itemMatcher = AppContext.getInstance().getItemMatcher();
         this.currentSearchResults = new ArrayList<>();
         this.currentDisputes = new ArrayList<>();
         
@@ -866,7 +867,7 @@ public class PublicTravelerPanel extends JPanel {
                     currentUser.getEmail(), currentUser.getRole().name());
                 
                 // Also find disputes where user is a claimant
-                List<WorkRequest> allDisputes = new MongoWorkRequestDAO()
+                List<WorkRequest> allDisputes = MongoWorkRequestDAO.getInstance()
                     .findByType(WorkRequest.RequestType.MULTI_ENTERPRISE_DISPUTE);
                 
                 List<MultiEnterpriseDisputeResolution> userDisputes = new ArrayList<>();
@@ -1674,7 +1675,7 @@ public class PublicTravelerPanel extends JPanel {
                     }
                     
                     // Save updated dispute
-                    MongoWorkRequestDAO dao = new MongoWorkRequestDAO();
+                    MongoWorkRequestDAO dao = MongoWorkRequestDAO.getInstance();
                     String result = dao.save(dispute);
                     return result != null;
                 } catch (Exception e) {
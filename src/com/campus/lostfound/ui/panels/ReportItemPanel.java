@@ -47,9 +47,9 @@ public class ReportItemPanel extends JPanel {
 
     public ReportItemPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
-        this.buildingDAO = new MongoBuildingDAO();
-        this.userDAO = new MongoUserDAO();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.buildingDAO = MongoBuildingDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
         this.imagePaths = new ArrayList<>();
 
         initComponents();
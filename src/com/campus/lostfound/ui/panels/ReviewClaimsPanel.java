@@ -7,6 +7,7 @@ package com.campus.lostfound.ui.panels;
 import com.campus.lostfound.dao.*;
 import com.campus.lostfound.models.*;
 import com.campus.lostfound.ui.dialogs.ClaimReviewDialog;
+import com.campus.lostfound.utils.ThumbnailCache;
 import javax.swing.*;
 import java.awt.*;
 import java.text.SimpleDateFormat;
@@ -33,8 +34,8 @@ public class ReviewClaimsPanel extends JPanel {
     
     public ReviewClaimsPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
-        this.claimDAO = new MongoClaimDAO();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.claimDAO = MongoClaimDAO.getInstance();
         
         initComponents();
         loadItemsWithClaims();
@@ -375,28 +376,15 @@ public class ReviewClaimsPanel extends JPanel {
                 ));
             }
             
-            // Load photo
+            // Load photo (decoded in the background; repaint the list once ready)
+            ImageIcon photo = null;
             if (item.getImagePaths() != null && !item.getImagePaths().isEmpty()) {
-                String imagePath = item.getImagePaths().get(0);
-                java.io.File imageFile = new java.io.File(System.getProperty("user.dir"), imagePath);
-                
-                if (imageFile.exists()) {
-                    try {
-                        ImageIcon icon = new ImageIcon(imageFile.getAbsolutePath());
-                        Image img = icon.getImage();
-                        Image scaled = img.getScaledInstance(90, 90, Image.SCALE_SMOOTH);
-                        photoLabel.setIcon(new ImageIcon(scaled));
-                        photoLabel.setText("");
-                    } catch (Exception e) {
-                        photoLabel.setText(item.getCategory().getEmoji());
-                        photoLabel.setFont(new Font("Arial", Font.PLAIN, 40));
-                        photoLabel.setIcon(null);
-                    }
-                } else {
-                    photoLabel.setText(item.getCategory().getEmoji());
-                    photoLabel.setFont(new Font("Arial", Font.PLAIN, 40));
-                    photoLabel.setIcon(null);
-                }
+                photo = ThumbnailCache.getInstance().getOrRequest(
+                    item.getImagePaths().get(0), 90, list::repaint);
+            }
+            if (photo != null) {
+                photoLabel.setIcon(photo);
+                photoLabel.setText("");
             } else {
                 photoLabel.setText(item.getCategory().getEmoji());
                 photoLabel.setFont(new Font("Arial", Font.PLAIN, 40));
@@ -3,16 +3,22 @@ package com.campus.lostfound.ui.panels;
 
 import com.campus.lostfound.dao.*;
 import com.campus.lostfound.models.*;
+import com.campus.lostfound.services.AppContext;
+import com.campus.lostfound.services.EnterpriseItemService.SearchCriteria;
 import com.campus.lostfound.services.ItemMatcher;
-import com.campus.lostfound.services.EnterpriseItemService;
+import com.campus.lostfound.services.SearchFacets;
 import com.campus.lostfound.ui.UIConstants;
+import com.campus.lostfound.ui.components.FacetCountRenderer;
 import com.campus.lostfound.ui.components.ItemListRenderer;
+import com.campus.lostfound.ui.components.ItemSearchPipeline;
 import com.campus.lostfound.ui.dialogs.ItemDetailDialog;
 import com.mongodb.client.MongoCollection;
 import org.bson.Document;
 
 import javax.swing.*;
 import javax.swing.border.*;
+import javax.swing.event.DocumentEvent;
+import javax.swing.event.DocumentListener;
 import java.awt.*;
 import java.awt.event.*;
 import java.util.*;
@@ -54,24 +60,31 @@ public class SearchBrowsePanel extends JPanel {
     private MongoCollection<Document> buildingsCollection;
     
     // Enterprise services
-    private EnterpriseItemService enterpriseItemService;
+    private Map<String, String> enterpriseIdsByName = new HashMap<>();
+
+    // Debounced search over the shared item index
+    private ItemSearchPipeline searchPipeline;
+    private String lastSearchText = "";
+    // Counts shown next to the filter options; null until a search completes
+    private SearchFacets facets;
     private MongoEnterpriseDAO enterpriseDAO;
     private JComboBox<String> enterpriseFilter;
 
     public SearchBrowsePanel(User currentUser) {
         this.currentUser = currentUser;
-        this.matcher = new ItemMatcher();
+        this.matcher = AppContext.getInstance().getItemMatcher();
         this.allItems = new ArrayList<>();
         this.filteredItems = new ArrayList<>();
 
         // Initialize MongoDB DAOs
-        this.itemDAO = new MongoItemDAO();
-        this.userDAO = new MongoUserDAO();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
         this.buildingsCollection = MongoDBConnection.getInstance().getCollection("buildings");
         
         // Initialize enterprise services
-        this.enterpriseItemService = new EnterpriseItemService();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.searchPipeline = new ItemSearchPipeline(AppContext.getInstance().getItemSearchIndex(),
+                new SearchResultsListener());
 
         setLayout(new BorderLayout());
         initComponents();
@@ -84,7 +97,8 @@ public class SearchBrowsePanel extends JPanel {
             @Override
             protected List<Item> doInBackground() throws Exception {
                 searchProgress.setVisible(true);
-                return itemDAO.findAll();
+                // Same in-memory copy the searches use
+                return AppContext.getInstance().getItemSearchIndex().allItems();
             }
 
             @Override
@@ -186,7 +200,7 @@ public class SearchBrowsePanel extends JPanel {
         JPanel searchPanel = new JPanel(new BorderLayout(5, 0));
         searchPanel.setBorder(BorderFactory.createTitledBorder("Search"));
         searchField = new JTextField();
-        searchField.setToolTipText("MongoDB full-text search");
+        searchField.setToolTipText("Search as you type (ranked, matches word starts and small typos)");
         searchField.addKeyListener(new KeyAdapter() {
             @Override
             public void keyReleased(KeyEvent e) {
@@ -195,6 +209,22 @@ public class SearchBrowsePanel extends JPanel {
                 }
             }
         });
+        searchField.getDocument().addDocumentListener(new DocumentListener() {
+            @Override
+            public void insertUpdate(DocumentEvent e) {
+                scheduleSearch();
+            }
+
+            @Override
+            public void removeUpdate(DocumentEvent e) {
+                scheduleSearch();
+            }
+
+            @Override
+            public void changedUpdate(DocumentEvent e) {
+                scheduleSearch();
+            }
+        });
         searchPanel.add(searchField, BorderLayout.CENTER);
         searchButton = new JButton("🔍");
         searchButton.setFont(EMOJI_FONT);
@@ -207,6 +237,14 @@ public class SearchBrowsePanel extends JPanel {
         JPanel typePanel = new JPanel(new BorderLayout());
         typePanel.setBorder(BorderFactory.createTitledBorder("Item Type"));
         typeFilter = new JComboBox<>(new String[]{"All", "Lost Items", "Found Items"});
+        typeFilter.setRenderer(new FacetCountRenderer(value -> {
+            if (facets == null) {
+                return null;
+            }
+            Item.ItemType type = typeFor((String) value);
+            return type == null ? SearchFacets.total(facets.getTypeCounts())
+                    : facets.getTypeCounts().getOrDefault(type, 0L);
+        }));
         typeFilter.addActionListener(e -> applyFilters());
         typePanel.add(typeFilter);
         panel.add(typePanel);
@@ -231,6 +269,11 @@ public class SearchBrowsePanel extends JPanel {
                     Item.ItemCategory cat = (Item.ItemCategory) value;
                     setText(cat.getEmoji() + " " + cat.getDisplayName());
                 }
+                if (facets != null) {
+                    long count = value == null ? SearchFacets.total(facets.getCategoryCounts())
+                            : facets.getCategoryCounts().getOrDefault((Item.ItemCategory) value, 0L);
+                    setText(getText() + " (" + count + ")");
+                }
                 return this;
             }
         });
@@ -270,11 +313,24 @@ public class SearchBrowsePanel extends JPanel {
         Vector<String> enterprises = new Vector<>();
         enterprises.add("All Enterprises");
         try {
-            enterpriseDAO.findAll().forEach(e -> enterprises.add(e.getName()));
+            enterpriseDAO.findAll().forEach(e -> {
+                enterprises.add(e.getName());
+                enterpriseIdsByName.put(e.getName(), e.getEnterpriseId());
+            });
         } catch (Exception e) {
             System.err.println("Error loading enterprises: " + e.getMessage());
         }
         enterpriseFilter = new JComboBox<>(enterprises);
+        enterpriseFilter.setRenderer(new FacetCountRenderer(value -> {
+            if (facets == null) {
+                return null;
+            }
+            if ("All Enterprises".equals(value)) {
+                return SearchFacets.total(facets.getEnterpriseCounts());
+            }
+            String enterpriseId = enterpriseIdsByName.get((String) value);
+            return enterpriseId == null ? null : facets.getEnterpriseCounts().getOrDefault(enterpriseId, 0L);
+        }));
         enterpriseFilter.addActionListener(e -> applyFilters());
         enterprisePanel.add(enterpriseFilter);
         panel.add(enterprisePanel);
@@ -375,85 +431,90 @@ public class SearchBrowsePanel extends JPanel {
 
     private void performMongoSearch() {
         searchProgress.setVisible(true);
+        lastSearchText = searchField.getText();
+        searchPipeline.searchNow(currentCriteria());
+    }
 
-        SwingWorker<List<Item>, Void> worker = new SwingWorker<List<Item>, Void>() {
-            @Override
-            protected List<Item> doInBackground() throws Exception {
-                String query = searchField.getText();
-
-                // Get selected type
-                Item.ItemType type = null;
-                String typeSelection = (String) typeFilter.getSelectedItem();
-                if ("Lost Items".equals(typeSelection)) {
-                    type = Item.ItemType.LOST;
-                } else if ("Found Items".equals(typeSelection)) {
-                    type = Item.ItemType.FOUND;
-                }
+    /**
+     * Restart the debounce wait when the text actually changed
+     */
+    private void scheduleSearch() {
+        String text = searchField.getText();
+        if (text.equals(lastSearchText)) {
+            return;
+        }
+        lastSearchText = text;
+        searchProgress.setVisible(true);
+        searchPipeline.schedule(currentCriteria());
+    }
 
-                // Get selected category
-                Item.ItemCategory category = (Item.ItemCategory) categoryFilter.getSelectedItem();
-                
-                // Get selected enterprise
-                String enterpriseSelection = (String) enterpriseFilter.getSelectedItem();
-                
-                // Use enterprise service for cross-enterprise search
-                List<Item> results;
-                if ("All Enterprises".equals(enterpriseSelection) || enterpriseSelection == null) {
-                    // Search all enterprises
-                    results = enterpriseItemService.searchAllEnterprises(
-                        query.isEmpty() ? null : query, 
-                        category
-                    );
-                } else {
-                    // Search specific enterprise by name
-                    results = itemDAO.searchItems(query.isEmpty() ? null : query, type, category);
-                    // Filter by enterprise name
-                    final String entName = enterpriseSelection;
-                    results = results.stream()
-                        .filter(item -> {
-                            String itemEntId = item.getEnterpriseId();
-                            if (itemEntId == null) return false;
-                            return enterpriseDAO.findAll().stream()
-                                .anyMatch(e -> e.getEnterpriseId().equals(itemEntId) && e.getName().equals(entName));
-                        })
-                        .collect(Collectors.toList());
-                }
-                
-                // Apply type filter if needed
-                if (type != null) {
-                    final Item.ItemType finalType = type;
-                    results = results.stream()
-                        .filter(item -> item.getType() == finalType)
-                        .collect(Collectors.toList());
-                }
-                
-                return results;
-            }
+    /**
+     * Snapshot of the search text and filters, safe to read off the EDT. A
+     * specific enterprise shows only its open items, as the database search did.
+     */
+    private SearchCriteria currentCriteria() {
+        SearchCriteria criteria = new SearchCriteria()
+            .withQuery(lastSearchText)
+            .withType(typeFor((String) typeFilter.getSelectedItem()))
+            .withCategory((Item.ItemCategory) categoryFilter.getSelectedItem())
+            .includeResolved(true);
+
+        String enterpriseSelection = (String) enterpriseFilter.getSelectedItem();
+        if (enterpriseSelection != null && !"All Enterprises".equals(enterpriseSelection)) {
+            String enterpriseId = enterpriseIdsByName.get(enterpriseSelection);
+            criteria.withEnterpriseIds(Collections.singletonList(enterpriseId != null ? enterpriseId : ""))
+                .openOnly(true);
+        }
 
-            @Override
-            protected void done() {
-                try {
-                    List<Item> results = get();
-                    filteredItems = results;
-                    updateResultsList(results);
-                    searchProgress.setVisible(false);
+        return criteria;
+    }
 
-                    if (results.isEmpty()) {
-                        matchingStatusLabel.setText("No items found in MongoDB");
-                    } else {
-                        matchingStatusLabel.setText("Found " + results.size() + " items");
-                    }
-                } catch (Exception e) {
-                    searchProgress.setVisible(false);
-                    JOptionPane.showMessageDialog(SearchBrowsePanel.this,
-                            "Search error: " + e.getMessage(),
-                            "MongoDB Error",
-                            JOptionPane.ERROR_MESSAGE);
-                }
+    private Item.ItemType typeFor(String selection) {
+        if ("Lost Items".equals(selection)) {
+            return Item.ItemType.LOST;
+        } else if ("Found Items".equals(selection)) {
+            return Item.ItemType.FOUND;
+        }
+        return null;
+    }
+
+    /**
+     * Shows the first page as soon as it arrives, then the full list and the
+     * facet counts.
+     */
+    private class SearchResultsListener implements ItemSearchPipeline.Listener {
+
+        @Override
+        public void firstPage(List<Item> page) {
+            updateResultsList(page);
+            resultsCountLabel.setText("Showing first " + page.size() + " items...");
+        }
+
+        @Override
+        public void completed(List<Item> results, SearchFacets searchFacets) {
+            facets = searchFacets;
+            typeFilter.repaint();
+            categoryFilter.repaint();
+            enterpriseFilter.repaint();
+            filteredItems = results;
+            updateResultsList(results);
+            searchProgress.setVisible(false);
+
+            if (results.isEmpty()) {
+                matchingStatusLabel.setText("No items found");
+            } else {
+                matchingStatusLabel.setText("Found " + results.size() + " items");
             }
-        };
+        }
 
-        worker.execute();
+        @Override
+        public void failed(Exception e) {
+            searchProgress.setVisible(false);
+            JOptionPane.showMessageDialog(SearchBrowsePanel.this,
+                    "Search error: " + e.getMessage(),
+                    "Search Error",
+                    JOptionPane.ERROR_MESSAGE);
+        }
     }
 
     private List<Building> loadBuildingsFromMongoDB() {
@@ -480,10 +541,11 @@ public class SearchBrowsePanel extends JPanel {
     }
 
     private void updateResultsList(List<Item> items) {
-        listModel.clear();
-        for (Item item : items) {
-            listModel.addElement(item);
-        }
+        // Swap in a filled model: one change event instead of one per item
+        DefaultListModel<Item> model = new DefaultListModel<>();
+        model.addAll(items);
+        listModel = model;
+        itemList.setModel(model);
 
         resultsCountLabel.setText(items.size() + " item" + (items.size() != 1 ? "s" : "") + " found");
     }
@@ -491,6 +553,7 @@ public class SearchBrowsePanel extends JPanel {
     private void filterMyItems() {
         if (myItemsToggle.isSelected()) {
             matchingToggle.setSelected(false);
+            searchPipeline.cancel();
 
             searchProgress.setVisible(true);
             SwingWorker<List<Item>, Void> worker = new SwingWorker<List<Item>, Void>() {
@@ -520,6 +583,7 @@ public class SearchBrowsePanel extends JPanel {
     private void findMatches() {
         if (matchingToggle.isSelected()) {
             myItemsToggle.setSelected(false);
+            searchPipeline.cancel();
 
             searchProgress.setVisible(true);
             SwingWorker<List<Item>, Void> worker = new SwingWorker<List<Item>, Void>() {
@@ -536,13 +600,10 @@ public class SearchBrowsePanel extends JPanel {
                         return new ArrayList<>();
                     }
 
-                    // Find all found items
-                    List<Item> foundItems = itemDAO.searchItems(null, Item.ItemType.FOUND, null);
-
-                    // Find matches
+                    // Find matches among open found items from around the same time
                     List<Item> matchedItems = new ArrayList<>();
                     for (Item lostItem : userLostItems) {
-                        List<ItemMatcher.PotentialMatch> matches = matcher.findMatches(lostItem, foundItems);
+                        List<ItemMatcher.PotentialMatch> matches = matcher.findMatches(lostItem);
                         for (ItemMatcher.PotentialMatch match : matches) {
                             Item matchedItem = match.getItem();
                             matchedItem.setMatchScore(match.getScore());
@@ -592,6 +653,9 @@ public class SearchBrowsePanel extends JPanel {
         myItemsToggle.setSelected(false);
         matchingToggle.setSelected(false);
         filteredItems.clear();
+        searchPipeline.cancel();
+        lastSearchText = "";
+        facets = null;
         loadItemsFromMongoDB();
     }
 
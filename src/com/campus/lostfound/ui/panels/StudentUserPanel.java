@@ -3,12 +3,15 @@ package com.campus.lostfound.ui.panels;
 import com.campus.lostfound.dao.*;
 import com.campus.lostfound.models.*;
 import com.campus.lostfound.models.workrequest.*;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.ItemMatcher;
 import com.campus.lostfound.services.ItemMatcher.PotentialMatch;
 import com.campus.lostfound.services.WorkRequestService;
 import com.campus.lostfound.ui.UIConstants;
 import com.campus.lostfound.ui.components.*;
 import com.campus.lostfound.ui.dialogs.RequestDetailDialog;
+import com.campus.lostfound.utils.ImageHandler;
+import com.campus.lostfound.utils.ThumbnailCache;
 
 import javax.swing.*;
 import javax.swing.border.*;
@@ -107,12 +110,12 @@ public class StudentUserPanel extends JPanel {
      */
     public StudentUserPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
-        this.buildingDAO = new MongoBuildingDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestService = new WorkRequestService();
-        this.itemMatcher = new ItemMatcher();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.buildingDAO = MongoBuildingDAO.getInstance();
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
+        this.workRequestService = AppContext.getInstance().getWorkRequestService();
+        this.itemMatcher = AppContext.getInstance().getItemMatcher();
         this.imagePaths = new ArrayList<>();
         
         initComponents();
@@ -1321,20 +1324,20 @@ public class StudentUserPanel extends JPanel {
         if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             File file = chooser.getSelectedFile();
             try {
-                // Copy to items folder
-                String destPath = "items/images/" + System.currentTimeMillis() + "_" + file.getName();
-                File destFile = new File(System.getProperty("user.dir"), destPath);
-                destFile.getParentFile().mkdirs();
-                java.nio.file.Files.copy(file.toPath(), destFile.toPath());
+                // Store in the shared image store (identical photos are kept once)
+                String destPath = ImageHandler.saveImage(file);
+                if (destPath == null) {
+                    showError("Failed to upload image");
+                    return;
+                }
                 
                 imagePaths.clear();
                 imagePaths.add(destPath);
                 
-                // Show preview
-                ImageIcon icon = new ImageIcon(destFile.getAbsolutePath());
-                Image img = icon.getImage().getScaledInstance(90, 90, Image.SCALE_SMOOTH);
-                imagePreviewLabel.setIcon(new ImageIcon(img));
-                imagePreviewLabel.setText("");
+                // Show preview once decoded
+                imagePreviewLabel.setIcon(null);
+                imagePreviewLabel.setText("📷");
+                ThumbnailCache.getInstance().loadInto(imagePreviewLabel, destPath, 90);
             } catch (Exception e) {
                 showError("Failed to upload image: " + e.getMessage());
             }
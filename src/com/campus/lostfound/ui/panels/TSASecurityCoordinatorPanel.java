@@ -4,11 +4,15 @@ import com.campus.lostfound.dao.*;
 import com.campus.lostfound.ui.UIConstants;
 import com.campus.lostfound.models.*;
 import com.campus.lostfound.models.workrequest.*;
+import com.campus.lostfound.services.AppContext;
 import com.campus.lostfound.services.WorkRequestService;
 import com.campus.lostfound.services.EnterpriseItemService;
 import com.campus.lostfound.services.AnalyticsService;
 import com.campus.lostfound.services.ReportExportService;
+import com.campus.lostfound.ui.components.ExportProgressMonitor;
 import com.campus.lostfound.ui.dialogs.RequestDetailDialog;
+import com.campus.lostfound.utils.ImageHandler;
+import com.campus.lostfound.utils.ThumbnailCache;
 
 import javax.swing.*;
 import javax.swing.border.*;
@@ -154,14 +158,14 @@ public class TSASecurityCoordinatorPanel extends JPanel {
      */
     public TSASecurityCoordinatorPanel(User currentUser) {
         this.currentUser = currentUser;
-        this.itemDAO = new MongoItemDAO();
-        this.userDAO = new MongoUserDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.workRequestService = new WorkRequestService();
-        this.enterpriseItemService = new EnterpriseItemService();
-        this.analyticsService = new AnalyticsService();
-        this.reportExportService = new ReportExportService();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.enterpriseDAO = MongoEnterpriseDAO.getInstance();
+        this.organizationDAO = MongoOrganizationDAO.getInstance();
+        this.workRequestService = AppContext.getInstance().getWorkRequestService();
+        this.enterpriseItemService = AppContext.getInstance().getEnterpriseItemService();
+        this.analyticsService = AppContext.getInstance().getAnalyticsService();
+        this.reportExportService = AppContext.getInstance().getReportExportService();
         this.checkpointImagePaths = new ArrayList<>();
         
         initComponents();
@@ -1848,18 +1852,20 @@ public class TSASecurityCoordinatorPanel extends JPanel {
         if (chooser.showOpenDialog(this) == JFileChooser.APPROVE_OPTION) {
             File file = chooser.getSelectedFile();
             try {
-                String destPath = "items/images/tsa_" + System.currentTimeMillis() + "_" + file.getName();
-                File destFile = new File(System.getProperty("user.dir"), destPath);
-                destFile.getParentFile().mkdirs();
-                java.nio.file.Files.copy(file.toPath(), destFile.toPath());
+                // Store in the shared image store (identical photos are kept once)
+                String destPath = ImageHandler.saveImage(file);
+                if (destPath == null) {
+                    showError("Failed to upload image");
+                    return;
+                }
                 
                 checkpointImagePaths.clear();
                 checkpointImagePaths.add(destPath);
                 
-                ImageIcon icon = new ImageIcon(destFile.getAbsolutePath());
-                Image img = icon.getImage().getScaledInstance(90, 90, Image.SCALE_SMOOTH);
-                checkpointImagePreviewLabel.setIcon(new ImageIcon(img));
-                checkpointImagePreviewLabel.setText("");
+                // Show preview once decoded
+                checkpointImagePreviewLabel.setIcon(null);
+                checkpointImagePreviewLabel.setText("📷");
+                ThumbnailCache.getInstance().loadInto(checkpointImagePreviewLabel, destPath, 90);
             } catch (Exception e) {
                 showError("Failed to upload image: " + e.getMessage());
             }
@@ -2032,30 +2038,42 @@ public class TSASecurityCoordinatorPanel extends JPanel {
         if (chooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
             File file = chooser.getSelectedFile();
             
-            // Export compliance data
-            try {
-                List<Item> items = itemDAO.findAll().stream()
-                    .filter(i -> i.getOrganizationId() != null && 
-                                i.getOrganizationId().equals(currentUser.getOrganizationId()))
-                    .filter(i -> i.getKeywords() != null && 
-                                i.getKeywords().stream().anyMatch(k -> k.toLowerCase().contains("tsa")))
-                    .collect(Collectors.toList());
-                
-                boolean success = reportExportService.exportItemsToCSV(items, file.getAbsolutePath());
+            ExportProgressMonitor progress = new ExportProgressMonitor(this, "Exporting compliance report...");
+            
+            // Stream this organization's TSA-tagged items straight to the file
+            SwingWorker<Boolean, Void> worker = new SwingWorker<>() {
+                @Override
+                protected Boolean doInBackground() {
+                    return reportExportService.exportOrganizationItemsToCSV(
+                        currentUser.getOrganizationId(),
+                        i -> i.getKeywords() != null &&
+                             i.getKeywords().stream().anyMatch(k -> k.toLowerCase().contains("tsa")),
+                        file.getAbsolutePath(), progress);
+                }
                 
-                if (success) {
-                    JOptionPane.showMessageDialog(this,
-                        "Compliance report exported successfully!\n" + file.getAbsolutePath(),
-                        "Export Complete",
-                        JOptionPane.INFORMATION_MESSAGE);
-                    
-                    addAuditEntry("Report Exported", "Compliance report: " + file.getName());
-                } else {
-                    showError("Failed to export report.");
+                @Override
+                protected void done() {
+                    progress.close();
+                    try {
+                        if (progress.isCancelled()) {
+                            return;
+                        }
+                        if (get()) {
+                            JOptionPane.showMessageDialog(TSASecurityCoordinatorPanel.this,
+                                "Compliance report exported successfully!\n" + file.getAbsolutePath(),
+                                "Export Complete",
+                                JOptionPane.INFORMATION_MESSAGE);
+                            
+                            addAuditEntry("Report Exported", "Compliance report: " + file.getName());
+                        } else {
+                            showError("Failed to export report.");
+                        }
+                    } catch (Exception e) {
+                        showError("Export error: " + e.getMessage());
+                    }
                 }
-            } catch (Exception e) {
-                showError("Export error: " + e.getMessage());
-            }
+            };
+            worker.execute();
         }
     }
     
@@ -106,15 +106,15 @@ public class TransitSecurityInspectorPanel extends JPanel {
         this.currentUser = currentUser;
         
         // Initialize services
-        this.trustScoreService = new TrustScoreService();
-        this.verificationService = new VerificationService();
-        this.authorityService = new AuthorityService();
+        this.trustScoreService = AppContext.getInstance().getTrustScoreService();
+        this.verificationService = AppContext.getInstance().getVerificationService();
+        this.authorityService = AppContext.getInstance().getAuthorityService();
         
         // Initialize DAOs
-        this.userDAO = new MongoUserDAO();
-        this.itemDAO = new MongoItemDAO();
-        this.trustScoreDAO = new MongoTrustScoreDAO();
-        this.verificationDAO = new MongoVerificationDAO();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.trustScoreDAO = MongoTrustScoreDAO.getInstance();
+        this.verificationDAO = MongoVerificationDAO.getInstance();
         
         // Initialize sample data
         initializeSampleData();
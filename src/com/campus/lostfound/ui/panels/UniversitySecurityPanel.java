@@ -98,15 +98,15 @@ public class UniversitySecurityPanel extends JPanel {
         this.currentUser = currentUser;
         
         // Initialize services
-        this.trustScoreService = new TrustScoreService();
-        this.verificationService = new VerificationService();
-        this.authorityService = new AuthorityService();
+        this.trustScoreService = AppContext.getInstance().getTrustScoreService();
+        this.verificationService = AppContext.getInstance().getVerificationService();
+        this.authorityService = AppContext.getInstance().getAuthorityService();
         
         // Initialize DAOs
-        this.userDAO = new MongoUserDAO();
-        this.itemDAO = new MongoItemDAO();
-        this.trustScoreDAO = new MongoTrustScoreDAO();
-        this.verificationDAO = new MongoVerificationDAO();
+        this.userDAO = MongoUserDAO.getInstance();
+        this.itemDAO = MongoItemDAO.getInstance();
+        this.trustScoreDAO = MongoTrustScoreDAO.getInstance();
+        this.verificationDAO = MongoVerificationDAO.getInstance();
         
         initComponents();
         loadDashboardData();
@@ -420,6 +420,13 @@ public class UniversitySecurityPanel extends JPanel {
         refreshBtn.addActionListener(e -> loadVerificationQueue());
         filterPanel.add(refreshBtn);
         
+        JButton claimNextBtn = new JButton("Claim Next");
+        claimNextBtn.setBackground(PRIMARY_COLOR);
+        claimNextBtn.setForeground(Color.WHITE);
+        claimNextBtn.setToolTipText("Take the most urgent unassigned request from the shared queue");
+        claimNextBtn.addActionListener(e -> claimNextVerification());
+        filterPanel.add(claimNextBtn);
+        
         headerPanel.add(filterPanel, BorderLayout.EAST);
         panel.add(headerPanel, BorderLayout.NORTH);
         
@@ -810,6 +817,32 @@ public class UniversitySecurityPanel extends JPanel {
         worker.execute();
     }
     
+    private void claimNextVerification() {
+        SwingWorker<VerificationRequest, Void> worker = new SwingWorker<>() {
+            @Override
+            protected VerificationRequest doInBackground() {
+                return verificationService.getDispatchQueue().claimNext(currentUser.getEmail());
+            }
+            
+            @Override
+            protected void done() {
+                try {
+                    VerificationRequest claimed = get();
+                    if (claimed == null) {
+                        JOptionPane.showMessageDialog(UniversitySecurityPanel.this,
+                            "No unassigned verification requests are waiting.",
+                            "Queue Empty", JOptionPane.INFORMATION_MESSAGE);
+                        return;
+                    }
+                    showVerificationProcessDialog(claimed);
+                } catch (Exception e) {
+                    e.printStackTrace();
+                }
+            }
+        };
+        worker.execute();
+    }
+    
     private void populateVerificationTable(List<VerificationRequest> requests) {
         verificationTableModel.setRowCount(0);
         
@@ -1144,11 +1177,13 @@ public class UniversitySecurityPanel extends JPanel {
         SwingWorker<List<Item>, Void> worker = new SwingWorker<>() {
             @Override
             protected List<Item> doInBackground() {
-                return itemDAO.findAll().stream()
+                List<Item> highValue = itemDAO.findAll().stream()
                     .filter(i -> i.getEstimatedValue() >= HIGH_VALUE_THRESHOLD)
                     .filter(i -> i.getType() == Item.ItemType.FOUND)
                     .sorted((a, b) -> Double.compare(b.getEstimatedValue(), a.getEstimatedValue()))
                     .collect(Collectors.toList());
+                // Only items this officer may see
+                return authorityService.filterViewable(currentUser.getEmail(), highValue);
             }
             
             @Override
@@ -1433,8 +1468,20 @@ public class UniversitySecurityPanel extends JPanel {
                 assignBtn.setBackground(PRIMARY_COLOR);
                 assignBtn.setForeground(Color.WHITE);
                 assignBtn.addActionListener(e -> {
-                    verificationService.assignVerifier(request.getRequestId(), 
-                        currentUser.getEmail(), currentUser.getFullName(), currentUser.getRole().getDisplayName());
+                    boolean assigned;
+                    if (currentUser.getEmail().equals(request.getLeaseOwnerId())) {
+                        // Claimed from the dispatch queue - start it only if our lease still holds
+                        assigned = verificationService.getDispatchQueue().startClaimed(request.getRequestId(),
+                            currentUser.getEmail(), currentUser.getFullName(), currentUser.getRole().getDisplayName());
+                    } else {
+                        assigned = verificationService.assignVerifier(request.getRequestId(), 
+                            currentUser.getEmail(), currentUser.getFullName(), currentUser.getRole().getDisplayName());
+                    }
+                    if (!assigned) {
+                        JOptionPane.showMessageDialog(dialog,
+                            "This request was claimed by someone else or can no longer be processed.",
+                            "Not Assigned", JOptionPane.WARNING_MESSAGE);
+                    }
                     dialog.dispose();
                     loadVerificationQueue();
                 });
@@ -411,15 +411,15 @@ public class AuthorityServiceTest {
         
         // Test isLawEnforcement
         assertTrue("Police Custodian is law enforcement", 
-            service.isLawEnforcement(UserRole.POLICE_EVIDENCE_CUSTODIAN));
+            AuthorityService.isLawEnforcement(UserRole.POLICE_EVIDENCE_CUSTODIAN));
         assertTrue("Detective is law enforcement", 
-            service.isLawEnforcement(UserRole.DETECTIVE));
+            AuthorityService.isLawEnforcement(UserRole.DETECTIVE));
         assertTrue("Police Admin is law enforcement", 
-            service.isLawEnforcement(UserRole.POLICE_ADMIN));
+            AuthorityService.isLawEnforcement(UserRole.POLICE_ADMIN));
         assertFalse("Student is not law enforcement", 
-            service.isLawEnforcement(UserRole.STUDENT));
+            AuthorityService.isLawEnforcement(UserRole.STUDENT));
         assertFalse("Campus Security is not law enforcement", 
-            service.isLawEnforcement(UserRole.CAMPUS_SECURITY));
+            AuthorityService.isLawEnforcement(UserRole.CAMPUS_SECURITY));
         
         // Test isSecurityRole
         assertTrue("Campus Security is security role", 
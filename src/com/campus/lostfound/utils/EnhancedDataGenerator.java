@@ -8,6 +8,7 @@ import com.campus.lostfound.models.trustscore.TrustScoreEvent.EventType;
 import com.campus.lostfound.models.workrequest.*;
 import com.campus.lostfound.services.TrustScoreService;
 import com.github.javafaker.Faker;
+import org.bson.types.ObjectId;
 
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
@@ -118,19 +119,77 @@ public class EnhancedDataGenerator {
         "Patagonia", "Fjallraven", "Swiss Gear"
     };
 
+    // Building data: name, code, type (campus) or description, latitude, longitude
+    private static final String[][] NEU_BUILDINGS = {
+        {"Snell Library", "SL", "LIBRARY", "42.338478", "-71.088024"},
+        {"Curry Student Center", "CSC", "STUDENT_CENTER", "42.339015", "-71.087214"},
+        {"Ell Hall", "EH", "ACADEMIC", "42.339832", "-71.088229"}
+    };
+    
+    private static final String[][] BU_BUILDINGS = {
+        {"Mugar Memorial Library", "MML", "LIBRARY", "42.351056", "-71.107861"},
+        {"George Sherman Union", "GSU", "STUDENT_CENTER", "42.350950", "-71.108850"},
+        {"College of Arts & Sciences", "CAS", "ACADEMIC", "42.350336", "-71.104056"}
+    };
+    
+    private static final String[][] MBTA_STATIONS = {
+        {"Park Street Station", "PKS", "Green/Red Line hub", "42.356395", "-71.062424"},
+        {"South Station", "SS", "Commuter Rail terminal", "42.352271", "-71.055242"},
+        {"North Station", "NS", "Commuter Rail terminal", "42.365577", "-71.061290"},
+        {"Back Bay Station", "BB", "Orange Line/Commuter Rail", "42.347312", "-71.075367"},
+        {"Harvard Station", "HRV", "Red Line", "42.373362", "-71.118956"},
+        {"Northeastern Station", "NEU", "Green Line E Branch", "42.340401", "-71.088806"},
+        {"Ruggles Station", "RUG", "Orange Line/Commuter Rail", "42.336377", "-71.089040"},
+        {"Downtown Crossing", "DTC", "Red/Orange Line hub", "42.355518", "-71.060225"}
+    };
+    
+    private static final String[][] AIRPORT_TERMINALS = {
+        {"Terminal A", "TA", "Delta, United domestic", "42.364758", "-71.016856"},
+        {"Terminal B", "TB", "American, United", "42.363500", "-71.019500"},
+        {"Terminal C", "TC", "JetBlue hub", "42.366700", "-71.017300"},
+        {"Terminal E", "TE", "International terminal", "42.369000", "-71.020300"},
+        {"Central Parking Garage", "CPG", "Main parking facility", "42.365700", "-71.018600"}
+    };
+    
+    private static final String[][] POLICE_STATIONS = {
+        {"District A-1 Station", "A1", "Downtown", "42.361700", "-71.060100"},
+        {"District D-4 Station", "D4", "Back Bay/South End", "42.339400", "-71.069300"},
+        {"Evidence Warehouse", "EW", "Central Evidence Storage", "42.333600", "-71.073000"}
+    };
+
     public EnhancedDataGenerator() {
-        this.faker = new Faker();
-        this.random = new Random();
-        
-        this.networkDAO = new MongoNetworkDAO();
-        this.enterpriseDAO = new MongoEnterpriseDAO();
-        this.organizationDAO = new MongoOrganizationDAO();
-        this.userDAO = new MongoUserDAO();
-        this.buildingDAO = new MongoBuildingDAO();
-        this.itemDAO = new MongoItemDAO();
-        this.workRequestDAO = new MongoWorkRequestDAO();
-        this.trustScoreDAO = new MongoTrustScoreDAO();
-        this.trustScoreService = new TrustScoreService();
+        this(new Random(), true);
+    }
+
+    /**
+     * Generator with a fixed seed: the same seed gives the same names, items
+     * and requests on every run (reported dates stay relative to now)
+     */
+    public EnhancedDataGenerator(long seed) {
+        this(new Random(seed), true);
+    }
+
+    /**
+     * Seeded generator without a database connection, for the in-memory
+     * datasets only (see DETACHED DATASETS)
+     */
+    public static EnhancedDataGenerator detached(long seed) {
+        return new EnhancedDataGenerator(new Random(seed), false);
+    }
+
+    private EnhancedDataGenerator(Random random, boolean connect) {
+        this.faker = new Faker(random);
+        this.random = random;
+        
+        this.networkDAO = connect ? new MongoNetworkDAO() : null;
+        this.enterpriseDAO = connect ? new MongoEnterpriseDAO() : null;
+        this.organizationDAO = connect ? new MongoOrganizationDAO() : null;
+        this.userDAO = connect ? new MongoUserDAO() : null;
+        this.buildingDAO = connect ? new MongoBuildingDAO() : null;
+        this.itemDAO = connect ? new MongoItemDAO() : null;
+        this.workRequestDAO = connect ? new MongoWorkRequestDAO() : null;
+        this.trustScoreDAO = connect ? new MongoTrustScoreDAO() : null;
+        this.trustScoreService = connect ? new TrustScoreService() : null;
         
         this.enterprises = new HashMap<>();
         this.organizations = new HashMap<>();
@@ -147,6 +206,9 @@ public class EnhancedDataGenerator {
      * Call this to create all test data.
      */
     public void generateFullEcosystem() {
+        if (itemDAO == null) {
+            throw new IllegalStateException("A detached generator cannot write to the database");
+        }
         LOGGER.info("🚀 Starting Enhanced Data Generation with JavaFaker...");
         long startTime = System.currentTimeMillis();
 
@@ -546,14 +608,10 @@ public class EnhancedDataGenerator {
 
         // NEU Buildings (assigned to first org - Northeastern University)
         Organization neuOrg = orgs.get(0);
-        String[][] neuBuildings = {
-            {"Snell Library", "SL", "LIBRARY"},
-            {"Curry Student Center", "CSC", "STUDENT_CENTER"},
-            {"Ell Hall", "EH", "ACADEMIC"}
-        };
-        
-        for (String[] data : neuBuildings) {
+        for (String[] data : NEU_BUILDINGS) {
             Building building = new Building(data[0], data[1], Building.BuildingType.valueOf(data[2]));
+            building.setLatitude(Double.parseDouble(data[3]));
+            building.setLongitude(Double.parseDouble(data[4]));
             building.setEnterpriseId(enterprise.getEnterpriseId());
             building.setOrganizationId(neuOrg.getOrganizationId());
             buildingDAO.create(building);
@@ -562,14 +620,10 @@ public class EnhancedDataGenerator {
 
         // BU Buildings (assigned to second org - Boston University)
         Organization buOrg = orgs.get(1);
-        String[][] buBuildings = {
-            {"Mugar Memorial Library", "MML", "LIBRARY"},
-            {"George Sherman Union", "GSU", "STUDENT_CENTER"},
-            {"College of Arts & Sciences", "CAS", "ACADEMIC"}
-        };
-        
-        for (String[] data : buBuildings) {
+        for (String[] data : BU_BUILDINGS) {
             Building building = new Building(data[0], data[1], Building.BuildingType.valueOf(data[2]));
+            building.setLatitude(Double.parseDouble(data[3]));
+            building.setLongitude(Double.parseDouble(data[4]));
             building.setEnterpriseId(enterprise.getEnterpriseId());
             building.setOrganizationId(buOrg.getOrganizationId());
             buildingDAO.create(building);
@@ -585,19 +639,10 @@ public class EnhancedDataGenerator {
         List<Organization> orgs = organizations.get("mbta");
         List<Building> buildings = new ArrayList<>();
 
-        String[][] stationData = {
-            {"Park Street Station", "PKS", "Green/Red Line hub"},
-            {"South Station", "SS", "Commuter Rail terminal"},
-            {"North Station", "NS", "Commuter Rail terminal"},
-            {"Back Bay Station", "BB", "Orange Line/Commuter Rail"},
-            {"Harvard Station", "HRV", "Red Line"},
-            {"Northeastern Station", "NEU", "Green Line E Branch"},
-            {"Ruggles Station", "RUG", "Orange Line/Commuter Rail"},
-            {"Downtown Crossing", "DTC", "Red/Orange Line hub"}
-        };
-
-        for (String[] data : stationData) {
+        for (String[] data : MBTA_STATIONS) {
             Building building = new Building(data[0], data[1], Building.BuildingType.ADMINISTRATIVE);
+            building.setLatitude(Double.parseDouble(data[3]));
+            building.setLongitude(Double.parseDouble(data[4]));
             building.setEnterpriseId(enterprise.getEnterpriseId());
             building.setOrganizationId(orgs.get(0).getOrganizationId());
             buildingDAO.create(building);
@@ -613,16 +658,10 @@ public class EnhancedDataGenerator {
         List<Organization> orgs = organizations.get("airport");
         List<Building> buildings = new ArrayList<>();
 
-        String[][] terminalData = {
-            {"Terminal A", "TA", "Delta, United domestic"},
-            {"Terminal B", "TB", "American, United"},
-            {"Terminal C", "TC", "JetBlue hub"},
-            {"Terminal E", "TE", "International terminal"},
-            {"Central Parking Garage", "CPG", "Main parking facility"}
-        };
-
-        for (String[] data : terminalData) {
+        for (String[] data : AIRPORT_TERMINALS) {
             Building building = new Building(data[0], data[1], Building.BuildingType.ADMINISTRATIVE);
+            building.setLatitude(Double.parseDouble(data[3]));
+            building.setLongitude(Double.parseDouble(data[4]));
             building.setEnterpriseId(enterprise.getEnterpriseId());
             building.setOrganizationId(orgs.get(random.nextInt(orgs.size())).getOrganizationId());
             buildingDAO.create(building);
@@ -638,14 +677,10 @@ public class EnhancedDataGenerator {
         List<Organization> orgs = organizations.get("police");
         List<Building> buildings = new ArrayList<>();
 
-        String[][] stationData = {
-            {"District A-1 Station", "A1", "Downtown"},
-            {"District D-4 Station", "D4", "Back Bay/South End"},
-            {"Evidence Warehouse", "EW", "Central Evidence Storage"}
-        };
-
-        for (String[] data : stationData) {
+        for (String[] data : POLICE_STATIONS) {
             Building building = new Building(data[0], data[1], Building.BuildingType.ADMINISTRATIVE);
+            building.setLatitude(Double.parseDouble(data[3]));
+            building.setLongitude(Double.parseDouble(data[4]));
             building.setEnterpriseId(enterprise.getEnterpriseId());
             building.setOrganizationId(orgs.get(random.nextInt(orgs.size())).getOrganizationId());
             buildingDAO.create(building);
@@ -680,35 +715,39 @@ public class EnhancedDataGenerator {
             Building building = allBuildings.get(random.nextInt(allBuildings.size()));
             User reporter = allUsers.get(random.nextInt(allUsers.size()));
             
-            // Generate item data
-            String name = generateItemName(category);
-            String description = generateItemDescription(category, name);
-            Item.ItemType type = random.nextBoolean() ? Item.ItemType.LOST : Item.ItemType.FOUND;
-            
-            // Create location
-            String room = String.valueOf(100 + random.nextInt(400));
-            String area = generateArea(building);
-            Location location = new Location(building, room, area);
-            
-            // Create item
-            Item item = new Item(name, description, category, type, location, reporter);
-            item.setEnterpriseId(building.getEnterpriseId());
-            item.setOrganizationId(building.getOrganizationId());
-            
-            // Set random status
-            Item.ItemStatus status = getRandomItemStatus();
-            item.setStatus(status);
-            
-            // Set value for certain categories
-            if (category == Item.ItemCategory.ELECTRONICS || category == Item.ItemCategory.JEWELRY) {
-                item.setEstimatedValue(generateItemValue(category));
-            }
-            
+            Item item = newItem(category, building, reporter);
             itemDAO.create(item);
             allItems.add(item);
         }
     }
 
+    private Item newItem(Item.ItemCategory category, Building building, User reporter) {
+        // Generate item data
+        String name = generateItemName(category);
+        String description = generateItemDescription(category, name);
+        Item.ItemType type = random.nextBoolean() ? Item.ItemType.LOST : Item.ItemType.FOUND;
+        
+        // Create location
+        String room = String.valueOf(100 + random.nextInt(400));
+        String area = generateArea(building);
+        Location location = new Location(building, room, area);
+        
+        // Create item
+        Item item = new Item(name, description, category, type, location, reporter);
+        item.setEnterpriseId(building.getEnterpriseId());
+        item.setOrganizationId(building.getOrganizationId());
+        
+        // Set random status
+        Item.ItemStatus status = getRandomItemStatus();
+        item.setStatus(status);
+        
+        // Set value for certain categories
+        if (category == Item.ItemCategory.ELECTRONICS || category == Item.ItemCategory.JEWELRY) {
+            item.setEstimatedValue(generateItemValue(category));
+        }
+        return item;
+    }
+
     private String generateItemName(Item.ItemCategory category) {
         String color = COLORS[random.nextInt(COLORS.length)];
         String item = switch (category) {
@@ -1485,12 +1524,133 @@ public class EnhancedDataGenerator {
         return allWorkRequests.stream().filter(r -> r.getRequestType() == type).count();
     }
 
+    // ==================== DETACHED DATASETS ====================
+    // In-memory data for benchmarks: nothing is written to the database, and
+    // these work on detached generators. Seeded generators return the same data.
+
+    /**
+     * All the generator's buildings, with coordinates. Enterprise ids are the
+     * enterprise keys ("higher_ed", "mbta", "airport", "police") and each
+     * campus or agency is one organization.
+     */
+    public List<Building> generateDetachedBuildings() {
+        List<Building> buildings = new ArrayList<>();
+        addDetachedBuildings(buildings, NEU_BUILDINGS, "higher_ed", "higher_ed-neu", true);
+        addDetachedBuildings(buildings, BU_BUILDINGS, "higher_ed", "higher_ed-bu", true);
+        addDetachedBuildings(buildings, MBTA_STATIONS, "mbta", "mbta-transit-police", false);
+        addDetachedBuildings(buildings, AIRPORT_TERMINALS, "airport", "airport-massport", false);
+        addDetachedBuildings(buildings, POLICE_STATIONS, "police", "police-bpd", false);
+        return buildings;
+    }
+
+    private void addDetachedBuildings(List<Building> buildings, String[][] table,
+                                      String enterpriseId, String organizationId, boolean campus) {
+        for (String[] data : table) {
+            Building building = new Building(data[0], data[1],
+                campus ? Building.BuildingType.valueOf(data[2]) : Building.BuildingType.ADMINISTRATIVE);
+            building.setBuildingId(buildings.size() + 1);
+            building.setLatitude(Double.parseDouble(data[3]));
+            building.setLongitude(Double.parseDouble(data[4]));
+            building.setEnterpriseId(enterpriseId);
+            building.setOrganizationId(organizationId);
+            buildings.add(building);
+        }
+    }
+
+    /**
+     * Reporters spread over the buildings' enterprises and organizations
+     */
+    public List<User> generateDetachedUsers(int count, List<Building> buildings) {
+        return generateDetachedUsers(0, count, buildings);
+    }
+
+    /**
+     * Users numbered from {@code first}; emails and user ids are unique across
+     * calls with non-overlapping ranges
+     */
+    public List<User> generateDetachedUsers(int first, int count, List<Building> buildings) {
+        List<User> users = new ArrayList<>();
+        for (int i = first; i < first + count; i++) {
+            Building building = buildings.get(random.nextInt(buildings.size()));
+            String firstName = faker.name().firstName();
+            String lastName = faker.name().lastName();
+            String email = (firstName + "." + lastName + i).toLowerCase().replaceAll("[^a-z0-9.]", "")
+                + "@" + building.getEnterpriseId().replace('_', '-') + ".example";
+
+            User user = new User(email, firstName, lastName, User.UserRole.STUDENT);
+            user.setUserId(i + 1);
+            user.setEnterpriseId(building.getEnterpriseId());
+            user.setOrganizationId(building.getOrganizationId());
+            user.setTrustScore(50 + random.nextDouble() * 50);
+            users.add(user);
+        }
+        return users;
+    }
+
+    /**
+     * Items like the ones generateFullEcosystem() saves, with ObjectId-style
+     * ids and reported dates spread over the last {@code days} days
+     */
+    public List<Item> generateDetachedItems(int count, int days, List<Building> buildings, List<User> reporters) {
+        Item.ItemCategory[] categories = Item.ItemCategory.values();
+        long now = System.currentTimeMillis();
+        long span = days * 24L * 60 * 60 * 1000;
+
+        List<Item> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Building building = buildings.get(random.nextInt(buildings.size()));
+            User reporter = reporters.get(random.nextInt(reporters.size()));
+            Item item = newItem(categories[random.nextInt(categories.length)], building, reporter);
+
+            Date reported = new Date(now - (long) (random.nextDouble() * span));
+            // Timestamp plus a counter, so ids are stable across runs too
+            ObjectId id = new ObjectId(String.format("%08x%016x", reported.getTime() / 1000, i));
+            item.setMongoId(id.toHexString());
+            item.setItemId(id.toHexString().hashCode());
+            item.setReportedDate(reported);
+            items.add(item);
+        }
+        return items;
+    }
+
+    /**
+     * One item of the category like generateFullEcosystem() saves (random
+     * status, value for electronics and jewelry), without an id
+     */
+    public Item generateDetachedItem(Item.ItemCategory category, Building building, User reporter) {
+        return newItem(category, building, reporter);
+    }
+
+    /**
+     * Restart the random sequence, Faker's included, so a detached generator
+     * reused for several batches gives the same batch for the same seed
+     */
+    public void reseed(long seed) {
+        random.setSeed(seed);
+    }
+
+    /**
+     * Detached items over all the generator's buildings and {@code count / 20}
+     * reporters (at least 10)
+     */
+    public List<Item> generateDetachedItems(int count, int days) {
+        List<Building> buildings = generateDetachedBuildings();
+        return generateDetachedItems(count, days, buildings,
+            generateDetachedUsers(Math.max(10, count / 20), buildings));
+    }
+
     // ==================== MAIN ====================
 
+    /**
+     * Usage: EnhancedDataGenerator [seed]. Pass a seed to generate the same
+     * data on every run (for example a benchmark database).
+     */
     public static void main(String[] args) {
         System.out.println("🚀 Starting Enhanced Data Generator...\n");
         
-        EnhancedDataGenerator generator = new EnhancedDataGenerator();
+        EnhancedDataGenerator generator = args.length > 0
+            ? new EnhancedDataGenerator(Long.parseLong(args[0]))
+            : new EnhancedDataGenerator();
         generator.generateFullEcosystem();
         
         System.out.println("✅ Done! You can now run the application with realistic test data.");
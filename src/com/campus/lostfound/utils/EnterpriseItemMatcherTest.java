@@ -19,6 +19,8 @@ import com.campus.lostfound.models.Building;
 import com.campus.lostfound.services.EnterpriseItemMatcher;
 import com.campus.lostfound.services.EnterpriseItemMatcher.MatchReport;
 import com.campus.lostfound.services.EnterpriseItemService;
+import com.campus.lostfound.services.ImageFingerprintIndex;
+import com.campus.lostfound.services.ItemMatcher;
 
 import java.util.*;
 import java.util.stream.Collectors;
@@ -79,6 +81,7 @@ public class EnterpriseItemMatcherTest {
         testGetTopMatches();
         testBatchOperations();
         testMatchReport();
+        testPhotoMatching();
         testEdgeCases();
         
         // Print summary
@@ -772,6 +775,76 @@ public class EnterpriseItemMatcherTest {
         System.out.println("   ✓ Edge case tests passed\n");
     }
     
+    // ==================== PHOTO MATCHING TESTS ====================
+    
+    private void testPhotoMatching() {
+        System.out.println("📋 Testing perceptual-hash photo matching...");
+        
+        // A gradient photo, a slightly brightened copy, and an unrelated pattern
+        java.awt.image.BufferedImage photo = new java.awt.image.BufferedImage(
+            120, 90, java.awt.image.BufferedImage.TYPE_INT_RGB);
+        java.awt.image.BufferedImage brighter = new java.awt.image.BufferedImage(
+            120, 90, java.awt.image.BufferedImage.TYPE_INT_RGB);
+        java.awt.image.BufferedImage other = new java.awt.image.BufferedImage(
+            120, 90, java.awt.image.BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < 120; x++) {
+            for (int y = 0; y < 90; y++) {
+                int v = (int) (127 + 120 * Math.sin(x / 9.0) * Math.cos(y / 13.0));
+                int w = Math.min(255, v + 12);
+                int u = ((x / 15 + y / 15) % 2) * 255;
+                photo.setRGB(x, y, (v << 16) | (v << 8) | v);
+                brighter.setRGB(x, y, (w << 16) | (w << 8) | w);
+                other.setRGB(x, y, (u << 16) | (u << 8) | u);
+            }
+        }
+        long photoHash = PerceptualHash.dHash(photo);
+        long brighterHash = PerceptualHash.dHash(brighter);
+        long otherHash = PerceptualHash.dHash(other);
+        
+        assertTrue("Brightened copy is a near-duplicate",
+            PerceptualHash.distance(photoHash, brighterHash) <= PerceptualHash.NEAR_DUPLICATE_DISTANCE);
+        assertTrue("Different photo is not a near-duplicate",
+            PerceptualHash.distance(photoHash, otherHash) > PerceptualHash.NEAR_DUPLICATE_DISTANCE);
+        
+        // Fingerprint index lookup finds only the near-duplicate
+        Item lost = createMockItem("org-1", "ent-1");
+        lost.setImageFingerprints(new ArrayList<>(Collections.singletonList(photoHash)));
+        
+        Item samePhoto = createMockItem("org-2", "ent-2");
+        samePhoto.setType(ItemType.FOUND);
+        samePhoto.setMongoId("photo-same");
+        samePhoto.setImageFingerprints(new ArrayList<>(Collections.singletonList(brighterHash)));
+        
+        Item otherPhoto = createMockItem("org-2", "ent-2");
+        otherPhoto.setType(ItemType.FOUND);
+        otherPhoto.setMongoId("photo-other");
+        otherPhoto.setImageFingerprints(new ArrayList<>(Collections.singletonList(otherHash)));
+        
+        ImageFingerprintIndex index = new ImageFingerprintIndex();
+        index.putAll(Arrays.asList(samePhoto, otherPhoto));
+        Map<String, Integer> near = index.findWithin(
+            lost.getImageFingerprints(), PerceptualHash.NEAR_DUPLICATE_DISTANCE);
+        assertTrue("Index finds near-duplicate photo", near.containsKey("photo-same"));
+        assertTrue("Index skips unrelated photo", !near.containsKey("photo-other"));
+        
+        // Near-duplicate photo raises the base score; identical text otherwise
+        ItemMatcher photoMatcher = new ItemMatcher(index);
+        List<ItemMatcher.PotentialMatch> matches = photoMatcher.findMatches(
+            lost, Arrays.asList(samePhoto, otherPhoto));
+        assertTrue("Both candidates matched on text", matches.size() == 2);
+        if (matches.size() == 2) {
+            assertEqual("Photo match ranks first", "photo-same", matches.get(0).getItem().getMongoId());
+            assertTrue("Photo match scores higher", matches.get(0).getScore() > matches.get(1).getScore());
+        }
+        
+        assertTrue("Enterprise photo bonus applies to near-duplicate",
+            matcher.getPhotoBonus(lost, samePhoto) > 0);
+        assertEqual("No enterprise photo bonus for unrelated photo",
+            0.0, matcher.getPhotoBonus(lost, otherPhoto));
+        
+        System.out.println("   ✓ Photo matching tests passed\n");
+    }
+    
     // ==================== HELPER METHODS ====================
     
     /**
@@ -206,6 +206,15 @@ public class EnterpriseItemServiceTest {
             assertTrue("Item not expired", item.getStatus() != ItemStatus.EXPIRED);
         }
         
+        // Open items only (what Browse shows for one enterprise)
+        SearchCriteria openCriteria = new SearchCriteria()
+            .includeResolved(true)
+            .openOnly(true);
+        for (Item item : service.advancedSearch(openCriteria)) {
+            assertTrue("Item is open", item.getStatus() == ItemStatus.OPEN
+                || item.getStatus() == ItemStatus.PENDING_CLAIM || item.getStatus() == ItemStatus.VERIFIED);
+        }
+        
         // Test with value range
         SearchCriteria valueCriteria = new SearchCriteria()
             .withValueRange(100.0, 1000.0)
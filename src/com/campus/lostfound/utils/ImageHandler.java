@@ -4,13 +4,18 @@
  */
 package com.campus.lostfound.utils;
 
+import com.campus.lostfound.models.StoredImage;
 import javax.swing.*;
 import java.awt.*;
 import java.awt.image.BufferedImage;
 import java.io.*;
 import java.nio.file.*;
+import java.util.Iterator;
 import java.util.UUID;
 import javax.imageio.ImageIO;
+import javax.imageio.ImageReadParam;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
 
 /**
  *
@@ -18,9 +23,10 @@ import javax.imageio.ImageIO;
  */
 public class ImageHandler {
 
-    private static final String IMAGE_DIRECTORY = "uploaded_images";
-    private static final int MAX_WIDTH = 800;
-    private static final int MAX_HEIGHT = 600;
+    static final String IMAGE_DIRECTORY = "uploaded_images";
+
+    // Bounding box of the pre-generated thumbnail; covers list cells, cards and previews
+    public static final int THUMBNAIL_SIZE = 160;
 
     static {
         File dir = new File(IMAGE_DIRECTORY);
@@ -30,51 +36,18 @@ public class ImageHandler {
         }
     }
 
+    /**
+     * Save an uploaded image into the shared content-addressed store.
+     * Identical uploads resolve to the same stored file.
+     * @return Relative path to put in Item.imagePaths, or null on failure
+     */
     public static String saveImage(File sourceFile) {
         try {
-            // Read the image first to validate it's actually an image
-            BufferedImage originalImage = ImageIO.read(sourceFile);
-
-            if (originalImage == null) {
-                // If ImageIO can't read it, try copying as-is
-                System.out.println("Warning: File might not be a valid image, copying as-is");
-                return copyImageFile(sourceFile);
-            }
-
-            // Generate unique filename
-            String extension = getFileExtension(sourceFile.getName());
-            if (extension.isEmpty() || (!extension.equals("png") && !extension.equals("jpg") && !extension.equals("jpeg"))) {
-                extension = "png"; // Default to PNG
+            StoredImage stored = ImageStore.getInstance().ingest(sourceFile);
+            if (!stored.hasDimensions()) {
+                System.out.println("Warning: File might not be a valid image, stored as-is");
             }
-
-            String newFileName = UUID.randomUUID().toString() + "." + extension;
-            File destFile = new File(IMAGE_DIRECTORY, newFileName);
-
-            // Resize if needed
-            BufferedImage imageToSave = originalImage;
-            if (originalImage.getWidth() > MAX_WIDTH || originalImage.getHeight() > MAX_HEIGHT) {
-                double scale = Math.min(
-                        (double) MAX_WIDTH / originalImage.getWidth(),
-                        (double) MAX_HEIGHT / originalImage.getHeight()
-                );
-
-                int newWidth = (int) (originalImage.getWidth() * scale);
-                int newHeight = (int) (originalImage.getHeight() * scale);
-
-                imageToSave = resizeImage(originalImage, newWidth, newHeight);
-            }
-
-            // Save the image
-            boolean saved = ImageIO.write(imageToSave, extension.equals("png") ? "PNG" : "JPEG", destFile);
-
-            if (saved) {
-                System.out.println("Image saved successfully: " + destFile.getAbsolutePath());
-                return IMAGE_DIRECTORY + File.separator + newFileName;
-            } else {
-                System.err.println("Failed to save image");
-                return null;
-            }
-
+            return stored.getRelativePath();
         } catch (Exception e) {
             System.err.println("Error saving image: " + e.getMessage());
             e.printStackTrace();
@@ -124,12 +97,54 @@ public class ImageHandler {
             return null;
         }
 
-        // Try multiple approaches to load the image
-        // Approach 1: Direct file with multiple path formats
-        File imageFile = null;
+        File imageFile = resolveImageFile(relativePath);
+        if (imageFile == null) {
+            System.err.println("Image file not found: " + relativePath);
+            return null;
+        }
+
+        // Preferred: decode the stored thumbnail (or original for large sizes) through the shared cache
+        ImageIcon cached = ThumbnailCache.getInstance().loadNow(relativePath, Math.max(width, height));
+        if (cached != null) {
+            return cached;
+        }
+
+        // Fallback: formats ImageIO can't read but the AWT toolkit can
+        try {
+            Image img = Toolkit.getDefaultToolkit().getImage(imageFile.getAbsolutePath());
+
+            // Force load
+            MediaTracker tracker = new MediaTracker(new JLabel());
+            tracker.addImage(img, 0);
+            tracker.waitForID(0);
+
+            if (!tracker.isErrorID(0) && img.getWidth(null) > 0) {
+                BufferedImage buffered = new BufferedImage(img.getWidth(null), img.getHeight(null),
+                        BufferedImage.TYPE_INT_RGB);
+                Graphics2D g2d = buffered.createGraphics();
+                g2d.drawImage(img, 0, 0, null);
+                g2d.dispose();
+                return new ImageIcon(fitWithin(buffered, width, height));
+            }
+        } catch (Exception e) {
+            System.err.println("Toolkit approach failed: " + e.getMessage());
+        }
+
+        System.err.println("All image loading methods failed for: " + relativePath);
+        return null;
+    }
+
+    /**
+     * Resolve a stored image path against the working directory.
+     * @return The existing file, or null if it can't be found
+     */
+    public static File resolveImageFile(String relativePath) {
+        if (relativePath == null || relativePath.isEmpty()) {
+            return null;
+        }
 
         // Try as-is
-        imageFile = new File(relativePath);
+        File imageFile = new File(relativePath);
         if (!imageFile.exists()) {
             // Try with working directory
             imageFile = new File(System.getProperty("user.dir"), relativePath);
@@ -141,59 +156,108 @@ public class ImageHandler {
             imageFile = new File(System.getProperty("user.dir"), fixedPath);
         }
 
-        if (!imageFile.exists()) {
-            System.err.println("Image file not found: " + imageFile.getAbsolutePath());
-            return null;
-        }
-
-        System.out.println("Loading image from: " + imageFile.getAbsolutePath());
+        return imageFile.exists() ? imageFile : null;
+    }
 
-        // Approach 2: Read the file content and create image from bytes
+    /**
+     * Get the thumbnail for a stored image, generating it for uploads saved before
+     * thumbnails existed.
+     * @return The thumbnail file, or null if the original can't be decoded
+     */
+    public static File ensureThumbnail(File original) {
+        File thumbnail = thumbnailFileFor(original);
+        if (thumbnail.exists() && thumbnail.lastModified() >= original.lastModified()) {
+            return thumbnail;
+        }
         try {
-            byte[] imageData = Files.readAllBytes(imageFile.toPath());
-            ImageIcon originalIcon = new ImageIcon(imageData);
-
-            if (originalIcon.getIconWidth() > 0) {
-                // Successfully loaded, now scale it
-                Image img = originalIcon.getImage();
-                Image scaled = img.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-                return new ImageIcon(scaled);
+            BufferedImage image = readScaled(original, THUMBNAIL_SIZE);
+            if (image == null) {
+                return null;
             }
+            return writeThumbnail(image, original);
         } catch (IOException e) {
-            System.err.println("Failed to read image bytes: " + e.getMessage());
+            System.err.println("Failed to create thumbnail: " + e.getMessage());
+            return null;
         }
+    }
 
-        // Approach 3: Use ImageIO
+    static File thumbnailFileFor(File original) {
+        File parent = original.getAbsoluteFile().getParentFile();
+        String name = original.getName();
+        int lastDot = name.lastIndexOf('.');
+        String baseName = lastDot > 0 ? name.substring(0, lastDot) : name;
+        return new File(new File(parent, "thumbs"), baseName + ".png");
+    }
+
+    private static File writeThumbnail(BufferedImage image, File original) {
         try {
-            BufferedImage img = ImageIO.read(imageFile);
-            if (img != null) {
-                Image scaled = img.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-                return new ImageIcon(scaled);
+            File thumbnail = thumbnailFileFor(original);
+            File dir = thumbnail.getParentFile();
+            if (!dir.exists()) {
+                dir.mkdirs();
             }
+            ImageIO.write(fitWithin(image, THUMBNAIL_SIZE, THUMBNAIL_SIZE), "PNG", thumbnail);
+            return thumbnail;
         } catch (IOException e) {
-            System.err.println("ImageIO failed: " + e.getMessage());
+            System.err.println("Failed to write thumbnail: " + e.getMessage());
+            return null;
         }
+    }
 
-        // Approach 4: Use Toolkit
-        try {
-            Image img = Toolkit.getDefaultToolkit().getImage(imageFile.getAbsolutePath());
-            ImageIcon icon = new ImageIcon(img);
-
-            // Force load
-            MediaTracker tracker = new MediaTracker(new JLabel());
-            tracker.addImage(img, 0);
-            tracker.waitForID(0);
-
-            if (!tracker.isErrorID(0)) {
-                Image scaled = img.getScaledInstance(width, height, Image.SCALE_SMOOTH);
-                return new ImageIcon(scaled);
+    /**
+     * Decode an image at reduced resolution when it is much larger than needed.
+     * Subsampling skips source pixels while decoding, so a 4000px photo shown in a
+     * 240px box never materialises at full size.
+     * @return The decoded image (at least minSize on its shorter side when possible), or null
+     */
+    public static BufferedImage readScaled(File file, int minSize) throws IOException {
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            if (input == null) {
+                return null;
+            }
+            Iterator<ImageReader> readers = ImageIO.getImageReaders(input);
+            if (!readers.hasNext()) {
+                return null;
+            }
+            ImageReader reader = readers.next();
+            try {
+                reader.setInput(input, true, true);
+                int shorterSide = Math.min(reader.getWidth(0), reader.getHeight(0));
+                int step = Math.max(1, shorterSide / Math.max(1, minSize));
+
+                ImageReadParam param = reader.getDefaultReadParam();
+                if (step > 1) {
+                    param.setSourceSubsampling(step, step, 0, 0);
+                }
+                return reader.read(0, param);
+            } finally {
+                reader.dispose();
             }
-        } catch (Exception e) {
-            System.err.println("Toolkit approach failed: " + e.getMessage());
         }
+    }
 
-        System.err.println("All image loading methods failed for: " + relativePath);
-        return null;
+    /**
+     * Scale an image to fit inside a box, keeping its aspect ratio.
+     * Large reductions are done in halving steps, which looks as good as
+     * SCALE_SMOOTH at a fraction of the cost.
+     */
+    public static BufferedImage fitWithin(BufferedImage source, int maxWidth, int maxHeight) {
+        double scale = Math.min(1.0, Math.min(
+                (double) maxWidth / source.getWidth(),
+                (double) maxHeight / source.getHeight()));
+        int targetWidth = Math.max(1, (int) Math.round(source.getWidth() * scale));
+        int targetHeight = Math.max(1, (int) Math.round(source.getHeight() * scale));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = resizeImage(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+
+        return current;
     }
 
     private static String getFileExtension(String fileName) {
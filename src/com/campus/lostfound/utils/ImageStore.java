@@ -0,0 +1,438 @@
+package com.campus.lostfound.utils;
+
+import com.campus.lostfound.dao.MongoImageDAO;
+import com.campus.lostfound.models.StoredImage;
+
+import javax.imageio.ImageIO;
+import javax.imageio.ImageReader;
+import javax.imageio.stream.ImageInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Content-addressed store for uploaded item photos.
+ *
+ * - Each upload is copied through a buffer once, hashing (SHA-256) while it
+ *   streams, and filed under its hash: uploaded_images/objects/3f/a9/3fa9....jpg.
+ *   Two levels of hash-prefix directories keep every directory small.
+ * - The same photo uploaded by TSA, MBTA and campus staff is stored once;
+ *   items share it through a reference count kept in the "images" collection.
+ * - Format and dimensions are read from the image header at ingest and kept
+ *   with the reference count, so nothing has to decode a file to learn its size.
+ *   The perceptual hash used for photo matching is computed once here too.
+ * - Images whose count drops to zero (deleted items) are removed right away,
+ *   unless they were uploaded or attached within the grace period (someone
+ *   may be about to save an item with the same photo). Those, and uploads
+ *   that were never attached to an item, are swept by
+ *   {@link #collectGarbage()} once the grace period has passed; the
+ *   application runs it every few hours (see {@link #startGarbageCollector()}).
+ *
+ * Stored paths are relative and always use '/', so every client resolves them
+ * the same way through {@link ImageHandler#resolveImageFile(String)}.
+ *
+ * @author aksha
+ */
+public class ImageStore {
+
+    private static final Logger LOGGER = Logger.getLogger(ImageStore.class.getName());
+    private static ImageStore instance;
+
+    public static final String OBJECTS_DIRECTORY = ImageHandler.IMAGE_DIRECTORY + "/objects";
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+    private static final int HASH_LENGTH = 64;
+    private static final int METADATA_CACHE_SIZE = 1024;
+
+    /** Unattached uploads younger than this are left alone (the item may still be saved) */
+    public static final Duration GC_GRACE_PERIOD = Duration.ofHours(24);
+    /** How often the background sweep runs, and how long after startup it first runs */
+    public static final Duration GC_INTERVAL = Duration.ofHours(6);
+    private static final Duration GC_INITIAL_DELAY = Duration.ofMinutes(10);
+
+    private static ScheduledExecutorService collector;
+
+    private final MongoImageDAO imageDAO;
+    private final File objectsRoot;
+
+    // Metadata by hash, access-ordered for LRU eviction, guarded by this
+    private final LinkedHashMap<String, StoredImage> metadataCache =
+        new LinkedHashMap<String, StoredImage>(64, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, StoredImage> eldest) {
+                return size() > METADATA_CACHE_SIZE;
+            }
+        };
+
+    // ==================== CONSTRUCTORS ====================
+
+    private ImageStore() {
+        this(MongoImageDAO.getInstance(), new File(System.getProperty("user.dir"), OBJECTS_DIRECTORY));
+    }
+
+    /**
+     * Constructor for testing with a mock DAO and a scratch directory
+     */
+    public ImageStore(MongoImageDAO imageDAO, File objectsRoot) {
+        this.imageDAO = imageDAO;
+        this.objectsRoot = objectsRoot;
+        if (!objectsRoot.exists()) {
+            objectsRoot.mkdirs();
+        }
+    }
+
+    public static synchronized ImageStore getInstance() {
+        if (instance == null) {
+            instance = new ImageStore();
+        }
+        return instance;
+    }
+
+    // ==================== INGEST ====================
+
+    /**
+     * Store an uploaded file, reusing the existing copy if the same bytes were stored before.
+     * The returned image is not yet referenced; saving an item that lists its path adds the reference.
+     *
+     * @return Metadata of the stored image (its relative path goes into Item.imagePaths)
+     */
+    public StoredImage ingest(File source) throws IOException {
+        File temp = File.createTempFile("ingest-", ".tmp", objectsRoot);
+        try {
+            String hash = copyAndHash(source, temp);
+
+            StoredImage image = probe(temp);
+            image.setHash(hash);
+            image.setSizeBytes(temp.length());
+            image.setRelativePath(relativePathFor(hash, extensionFor(image.getFormat(), source.getName())));
+            if (image.hasDimensions()) {
+                image.setPerceptualHash(PerceptualHash.compute(temp));
+            }
+
+            synchronized (this) {
+                // Register first: refreshing updatedAt keeps a concurrent sweep away from this hash
+                imageDAO.register(image);
+
+                File target = fileFor(image.getRelativePath());
+                if (!target.exists()) {
+                    target.getParentFile().mkdirs();
+                    moveIntoPlace(temp, target);
+                    if (image.hasDimensions()) {
+                        ImageHandler.ensureThumbnail(target);
+                    }
+                    LOGGER.info("Stored image " + image.getRelativePath());
+                } else {
+                    LOGGER.info("Image already stored, reusing " + image.getRelativePath());
+                }
+                metadataCache.put(hash, image);
+            }
+            return image;
+        } finally {
+            Files.deleteIfExists(temp.toPath());
+        }
+    }
+
+    /**
+     * Copy source to target through one buffer, feeding the same bytes to the digest
+     * @return Hex SHA-256 of the content
+     */
+    private String copyAndHash(File source, File target) throws IOException {
+        MessageDigest digest = newDigest();
+        ByteBuffer buffer = ByteBuffer.allocateDirect(BUFFER_SIZE);
+
+        try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ);
+             FileChannel out = FileChannel.open(target.toPath(),
+                 StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (in.read(buffer) != -1) {
+                buffer.flip();
+                digest.update(buffer.duplicate());
+                while (buffer.hasRemaining()) {
+                    out.write(buffer);
+                }
+                buffer.clear();
+            }
+        }
+        return toHex(digest.digest());
+    }
+
+    /**
+     * Read format and dimensions from the image header without decoding pixels
+     */
+    private StoredImage probe(File file) {
+        StoredImage image = new StoredImage();
+        Date now = new Date();
+        image.setCreatedAt(now);
+        image.setUpdatedAt(now);
+
+        try (ImageInputStream input = ImageIO.createImageInputStream(file)) {
+            Iterator<ImageReader> readers = input != null
+                ? ImageIO.getImageReaders(input) : Collections.emptyIterator();
+            if (readers.hasNext()) {
+                ImageReader reader = readers.next();
+                try {
+                    reader.setInput(input, true, true);
+                    image.setFormat(reader.getFormatName().toLowerCase());
+                    image.setWidth(reader.getWidth(0));
+                    image.setHeight(reader.getHeight(0));
+                } finally {
+                    reader.dispose();
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not read image header, storing as-is", e);
+        }
+        return image;
+    }
+
+    private void moveIntoPlace(File temp, File target) throws IOException {
+        try {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    // ==================== METADATA ====================
+
+    /**
+     * Get metadata for a stored path
+     * @return Empty for paths outside the store (legacy uploads) or unknown hashes
+     */
+    public Optional<StoredImage> getMetadata(String relativePath) {
+        String hash = hashOf(relativePath);
+        if (hash == null) {
+            return Optional.empty();
+        }
+        synchronized (this) {
+            StoredImage cached = metadataCache.get(hash);
+            if (cached != null) {
+                return Optional.of(cached);
+            }
+        }
+        Optional<StoredImage> image = imageDAO.findByHash(hash);
+        image.ifPresent(found -> {
+            synchronized (this) {
+                metadataCache.put(hash, found);
+            }
+        });
+        return image;
+    }
+
+    /**
+     * Perceptual hashes for an item's photos, in path order. Stored images use the
+     * hash recorded at ingest; older uploads outside the store are hashed from the file.
+     */
+    public List<Long> getFingerprints(Collection<String> relativePaths) {
+        List<Long> fingerprints = new ArrayList<>();
+        if (relativePaths == null) {
+            return fingerprints;
+        }
+        for (String path : relativePaths) {
+            Long fingerprint;
+            if (hashOf(path) != null) {
+                fingerprint = getMetadata(path).map(StoredImage::getPerceptualHash).orElse(null);
+            } else {
+                File file = ImageHandler.resolveImageFile(path);
+                fingerprint = file != null ? PerceptualHash.compute(file) : null;
+            }
+            if (fingerprint != null) {
+                fingerprints.add(fingerprint);
+            }
+        }
+        return fingerprints;
+    }
+
+    /**
+     * Extract the content hash from a stored path, e.g.
+     * "uploaded_images/objects/3f/a9/3fa9...c1.jpg" -> "3fa9...c1"
+     * @return The hash, or null if the path is not in the store
+     */
+    public static String hashOf(String relativePath) {
+        if (relativePath == null) {
+            return null;
+        }
+        String path = relativePath.replace('\\', '/');
+        if (!path.contains("/objects/")) {
+            return null;
+        }
+        String name = path.substring(path.lastIndexOf('/') + 1);
+        int dot = name.indexOf('.');
+        String hash = dot > 0 ? name.substring(0, dot) : name;
+        return hash.length() == HASH_LENGTH && hash.matches("[0-9a-f]+") ? hash : null;
+    }
+
+    // ==================== REFERENCE COUNTING ====================
+
+    /**
+     * Add a reference for each stored path (paths outside the store are ignored)
+     */
+    public void acquire(Collection<String> relativePaths) {
+        List<String> hashes = hashesOf(relativePaths);
+        if (!hashes.isEmpty()) {
+            imageDAO.acquire(hashes);
+        }
+    }
+
+    /**
+     * Drop a reference for each stored path and delete images nothing refers
+     * to anymore (outside the grace period)
+     * @return Number of images deleted
+     */
+    public int release(Collection<String> relativePaths) {
+        List<String> hashes = hashesOf(relativePaths);
+        if (hashes.isEmpty()) {
+            return 0;
+        }
+        int deleted = 0;
+        Date cutoff = gracePeriodCutoff();
+        for (StoredImage image : imageDAO.release(hashes)) {
+            if (delete(image, cutoff)) {
+                deleted++;
+            }
+        }
+        return deleted;
+    }
+
+    // ==================== GARBAGE COLLECTION ====================
+
+    /**
+     * Delete unreferenced images older than the grace period: uploads whose
+     * item was never saved, and anything a failed delete left behind
+     * @return Number of images deleted
+     */
+    public int collectGarbage() {
+        Date cutoff = gracePeriodCutoff();
+        int deleted = 0;
+        for (StoredImage image : imageDAO.findUnreferenced(cutoff)) {
+            if (delete(image, cutoff)) {
+                deleted++;
+            }
+        }
+        if (deleted > 0) {
+            LOGGER.info("Image garbage collection removed " + deleted + " orphaned image(s)");
+        }
+        return deleted;
+    }
+
+    /**
+     * Sweep the shared store every {@link #GC_INTERVAL} on a daemon thread.
+     * The store (and its database connection) is only created when the first
+     * sweep runs. Safe to call more than once.
+     */
+    public static synchronized void startGarbageCollector() {
+        if (collector != null) {
+            return;
+        }
+        collector = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "image-gc");
+            thread.setDaemon(true);
+            thread.setPriority(Thread.MIN_PRIORITY);
+            return thread;
+        });
+        collector.scheduleWithFixedDelay(() -> {
+            try {
+                getInstance().collectGarbage();
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Image garbage collection failed", e);
+            }
+        }, GC_INITIAL_DELAY.toMillis(), GC_INTERVAL.toMillis(), TimeUnit.MILLISECONDS);
+    }
+
+    public static synchronized void stopGarbageCollector() {
+        if (collector != null) {
+            collector.shutdownNow();
+            collector = null;
+        }
+    }
+
+    private static Date gracePeriodCutoff() {
+        return new Date(System.currentTimeMillis() - GC_GRACE_PERIOD.toMillis());
+    }
+
+    private synchronized boolean delete(StoredImage image, Date untouchedSince) {
+        // The conditional delete loses to anyone who re-acquired or re-uploaded the image meanwhile
+        if (!imageDAO.deleteIfUnreferenced(image.getHash(), untouchedSince)) {
+            return false;
+        }
+        metadataCache.remove(image.getHash());
+
+        String path = image.getRelativePath() != null
+            ? image.getRelativePath() : relativePathFor(image.getHash(), "bin");
+        File file = fileFor(path);
+        try {
+            Files.deleteIfExists(ImageHandler.thumbnailFileFor(file).toPath());
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOGGER.log(Level.WARNING, "Could not delete image file " + file, e);
+        }
+        ThumbnailCache.getInstance().invalidate(path);
+        return true;
+    }
+
+    // ==================== PATHS ====================
+
+    private static String relativePathFor(String hash, String extension) {
+        return OBJECTS_DIRECTORY + "/" + hash.substring(0, 2) + "/" + hash.substring(2, 4)
+            + "/" + hash + "." + extension;
+    }
+
+    private File fileFor(String relativePath) {
+        // objectsRoot stands in for OBJECTS_DIRECTORY so tests can use a scratch directory
+        String withinStore = relativePath.substring(OBJECTS_DIRECTORY.length() + 1);
+        return new File(objectsRoot, withinStore);
+    }
+
+    private static String extensionFor(String format, String originalName) {
+        if (format != null) {
+            return format.equals("jpeg") ? "jpg" : format;
+        }
+        int dot = originalName.lastIndexOf('.');
+        if (dot > 0 && dot < originalName.length() - 1) {
+            return originalName.substring(dot + 1).toLowerCase();
+        }
+        return "bin";
+    }
+
+    private static List<String> hashesOf(Collection<String> relativePaths) {
+        List<String> hashes = new ArrayList<>();
+        if (relativePaths != null) {
+            for (String path : relativePaths) {
+                String hash = hashOf(path);
+                if (hash != null) {
+                    hashes.add(hash);
+                }
+            }
+        }
+        return hashes;
+    }
+
+    private static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    private static String toHex(byte[] bytes) {
+        StringBuilder sb = new StringBuilder(bytes.length * 2);
+        for (byte b : bytes) {
+            sb.append(String.format("%02x", b));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,279 @@
+package com.campus.lostfound.utils;
+
+import com.campus.lostfound.dao.MongoImageDAO;
+import com.campus.lostfound.models.StoredImage;
+
+import javax.imageio.ImageIO;
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.*;
+
+/**
+ * Test class for ImageStore garbage collection
+ * Tests that orphaned images older than the grace period are deleted (entry
+ * and file), while fresh orphans and referenced images are kept. Runs on an
+ * in-memory stand-in for the images collection (no database needed).
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class ImageStoreTest {
+
+    private static final long PAST_GRACE_MS = ImageStore.GC_GRACE_PERIOD.toMillis() + 60 * 60 * 1000;
+
+    private final FakeImageDAO imageDAO = new FakeImageDAO();
+    private File scratch;
+    private File objectsRoot;
+    private ImageStore store;
+
+    private int passedTests = 0;
+    private int failedTests = 0;
+
+    public void runAllTests() throws IOException {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🖼️ IMAGE STORE TESTS");
+        System.out.println("=".repeat(70) + "\n");
+
+        scratch = Files.createTempDirectory("image-store-test").toFile();
+        objectsRoot = new File(scratch, "objects");
+        store = new ImageStore(imageDAO, objectsRoot);
+        try {
+            testGarbageCollection();
+            testRelease();
+        } finally {
+            deleteRecursively(scratch);
+        }
+
+        printSummary();
+    }
+
+    // ==================== TEST DATA ====================
+
+    /**
+     * Ingest a small PNG filled with one color (distinct colors, distinct hashes)
+     */
+    private StoredImage ingest(Color color) throws IOException {
+        BufferedImage image = new BufferedImage(32, 32, BufferedImage.TYPE_INT_RGB);
+        Graphics2D g = image.createGraphics();
+        g.setColor(color);
+        g.fillRect(0, 0, 32, 32);
+        g.dispose();
+        File upload = new File(scratch, "upload-" + color.getRGB() + ".png");
+        ImageIO.write(image, "png", upload);
+        return store.ingest(upload);
+    }
+
+    private File fileOf(StoredImage image) {
+        return new File(objectsRoot, image.getRelativePath().substring(ImageStore.OBJECTS_DIRECTORY.length() + 1));
+    }
+
+    // ==================== GARBAGE COLLECTION TESTS ====================
+
+    private void testGarbageCollection() throws IOException {
+        System.out.println("📋 Testing Garbage Collection...");
+
+        StoredImage oldOrphan = ingest(Color.RED);
+        StoredImage freshOrphan = ingest(Color.GREEN);
+        StoredImage attached = ingest(Color.BLUE);
+        store.acquire(List.of(attached.getRelativePath()));
+        assertTrue("Uploads stored", fileOf(oldOrphan).exists() && fileOf(freshOrphan).exists());
+
+        imageDAO.age(oldOrphan.getHash(), PAST_GRACE_MS);
+        imageDAO.age(attached.getHash(), PAST_GRACE_MS);
+
+        assertTrue("One orphan collected", store.collectGarbage() == 1);
+        assertFalse("Old orphan's file deleted", fileOf(oldOrphan).exists());
+        assertFalse("Old orphan's entry deleted", imageDAO.findByHash(oldOrphan.getHash()).isPresent());
+        assertTrue("Fresh orphan kept (grace period)", fileOf(freshOrphan).exists());
+        assertTrue("Referenced image kept", fileOf(attached).exists());
+        assertTrue("Nothing left to collect", store.collectGarbage() == 0);
+
+        System.out.println("   ✓ Garbage collection tests passed\n");
+    }
+
+    // ==================== RELEASE TESTS ====================
+
+    private void testRelease() throws IOException {
+        System.out.println("📋 Testing Release...");
+
+        StoredImage photo = ingest(Color.ORANGE);
+        store.acquire(List.of(photo.getRelativePath(), photo.getRelativePath()));
+        imageDAO.age(photo.getHash(), PAST_GRACE_MS);
+
+        assertTrue("Still referenced once", store.release(List.of(photo.getRelativePath())) == 0);
+        assertTrue("Last reference deletes it", store.release(List.of(photo.getRelativePath())) == 1);
+        assertFalse("Released file deleted", fileOf(photo).exists());
+
+        StoredImage recent = ingest(Color.MAGENTA);
+        store.acquire(List.of(recent.getRelativePath()));
+        assertTrue("Recently attached image outlives its release",
+            store.release(List.of(recent.getRelativePath())) == 0 && fileOf(recent).exists());
+        imageDAO.age(recent.getHash(), PAST_GRACE_MS);
+        assertTrue("Collected once the grace period passed", store.collectGarbage() == 1);
+
+        System.out.println("   ✓ Release tests passed\n");
+    }
+
+    // ==================== FAKE DAO ====================
+
+    /**
+     * Images collection kept in a map, with the same conditions as the Mongo queries
+     */
+    private static class FakeImageDAO extends MongoImageDAO {
+        private final Map<String, StoredImage> images = new HashMap<>();
+
+        FakeImageDAO() {
+            super(null);
+        }
+
+        /**
+         * Move an image's last upload or attach back in time
+         */
+        synchronized void age(String hash, long millis) {
+            StoredImage image = images.get(hash);
+            image.setUpdatedAt(new Date(image.getUpdatedAt().getTime() - millis));
+        }
+
+        @Override
+        public synchronized boolean register(StoredImage image) {
+            StoredImage existing = images.get(image.getHash());
+            StoredImage entry = copyOf(image);
+            entry.setRefCount(existing != null ? existing.getRefCount() : 0);
+            entry.setCreatedAt(existing != null ? existing.getCreatedAt() : new Date());
+            entry.setUpdatedAt(new Date());
+            images.put(image.getHash(), entry);
+            return true;
+        }
+
+        @Override
+        public synchronized Optional<StoredImage> findByHash(String hash) {
+            return Optional.ofNullable(images.get(hash)).map(FakeImageDAO::copyOf);
+        }
+
+        @Override
+        public synchronized List<String> acquire(Collection<String> hashes) {
+            List<String> missing = new ArrayList<>();
+            for (String hash : hashes) {
+                StoredImage image = images.get(hash);
+                if (image == null) {
+                    missing.add(hash);
+                    image = new StoredImage(hash, null);
+                    image.setCreatedAt(new Date());
+                    images.put(hash, image);
+                }
+                image.setRefCount(image.getRefCount() + 1);
+                image.setUpdatedAt(new Date());
+            }
+            return missing;
+        }
+
+        @Override
+        public synchronized List<StoredImage> release(Collection<String> hashes) {
+            List<StoredImage> unreferenced = new ArrayList<>();
+            for (String hash : hashes) {
+                StoredImage image = images.get(hash);
+                if (image != null) {
+                    image.setRefCount(image.getRefCount() - 1);
+                }
+            }
+            for (String hash : new HashSet<>(hashes)) {
+                StoredImage image = images.get(hash);
+                if (image != null && image.getRefCount() <= 0) {
+                    unreferenced.add(copyOf(image));
+                }
+            }
+            return unreferenced;
+        }
+
+        @Override
+        public synchronized List<StoredImage> findUnreferenced(Date untouchedSince) {
+            List<StoredImage> found = new ArrayList<>();
+            for (StoredImage image : images.values()) {
+                if (image.getRefCount() <= 0 && image.getUpdatedAt().before(untouchedSince)) {
+                    found.add(copyOf(image));
+                }
+            }
+            return found;
+        }
+
+        @Override
+        public synchronized boolean deleteIfUnreferenced(String hash, Date untouchedSince) {
+            StoredImage image = images.get(hash);
+            if (image == null || image.getRefCount() > 0 || !image.getUpdatedAt().before(untouchedSince)) {
+                return false;
+            }
+            images.remove(hash);
+            return true;
+        }
+
+        private static StoredImage copyOf(StoredImage image) {
+            StoredImage copy = new StoredImage(image.getHash(), image.getRelativePath());
+            copy.setFormat(image.getFormat());
+            copy.setWidth(image.getWidth());
+            copy.setHeight(image.getHeight());
+            copy.setSizeBytes(image.getSizeBytes());
+            copy.setPerceptualHash(image.getPerceptualHash());
+            copy.setRefCount(image.getRefCount());
+            copy.setCreatedAt(image.getCreatedAt());
+            copy.setUpdatedAt(image.getUpdatedAt());
+            return copy;
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    private static void deleteRecursively(File file) {
+        File[] children = file.listFiles();
+        if (children != null) {
+            for (File child : children) {
+                deleteRecursively(child);
+            }
+        }
+        file.delete();
+    }
+
+    private void assertTrue(String message, boolean condition) {
+        if (condition) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected true");
+        }
+    }
+
+    private void assertFalse(String message, boolean condition) {
+        if (!condition) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected false");
+        }
+    }
+
+    private void printSummary() {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("📊 IMAGE STORE TEST SUMMARY");
+        System.out.println("=".repeat(70));
+        System.out.println("✅ Passed: " + passedTests);
+        System.out.println("❌ Failed: " + failedTests);
+        System.out.println("📈 Total:  " + (passedTests + failedTests));
+
+        if (failedTests == 0) {
+            System.out.println("\n🎉 ALL IMAGE STORE TESTS PASSED!");
+        } else {
+            System.out.println("\n⚠️  Some tests failed. Review the output above.");
+        }
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    // ==================== MAIN ====================
+
+    public static void main(String[] args) throws IOException {
+        System.out.println("Starting Image Store Tests...\n");
+        ImageStoreTest test = new ImageStoreTest();
+        test.runAllTests();
+    }
+}
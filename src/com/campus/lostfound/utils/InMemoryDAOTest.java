@@ -0,0 +1,362 @@
+package com.campus.lostfound.utils;
+
+import com.campus.lostfound.dao.InMemoryItemDAO;
+import com.campus.lostfound.dao.InMemoryTrustScoreDAO;
+import com.campus.lostfound.dao.InMemoryUserDAO;
+import com.campus.lostfound.dao.InMemoryVerificationDAO;
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.models.Building;
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.Location;
+import com.campus.lostfound.models.User;
+import com.campus.lostfound.models.trustscore.TrustScore;
+import com.campus.lostfound.models.trustscore.TrustScoreEvent;
+import com.campus.lostfound.models.verification.VerificationRequest;
+import com.campus.lostfound.models.verification.VerificationRequest.VerificationStatus;
+import com.campus.lostfound.models.verification.VerificationRequest.VerificationType;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntPredicate;
+
+/**
+ * Test class for the in-memory DAOs
+ * Tests that the conditional updates they reimplement (leases, status
+ * transitions, approval counts, authentication, trust score changes) behave
+ * like the MongoDB filters, including when several threads race for the
+ * same document, and that only real item writes are reported. No database
+ * needed.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class InMemoryDAOTest {
+
+    private static final int THREADS = 8;
+
+    private final InMemoryVerificationDAO verificationDAO = new InMemoryVerificationDAO();
+    private final InMemoryUserDAO userDAO = new InMemoryUserDAO();
+    private final InMemoryTrustScoreDAO trustScoreDAO = new InMemoryTrustScoreDAO(userDAO);
+    private final InMemoryItemDAO itemDAO = new InMemoryItemDAO();
+
+    private int passedTests = 0;
+    private int failedTests = 0;
+
+    public void runAllTests() {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🧪 IN-MEMORY DAO TESTS");
+        System.out.println("=".repeat(70) + "\n");
+
+        testLeases();
+        testStatusTransitions();
+        testClaimRace();
+        testApprovalCounts();
+        testAuthentication();
+        testTrustScores();
+        testConcurrentWriters();
+        testMissingItemUpdate();
+
+        printSummary();
+    }
+
+    // ==================== TEST DATA ====================
+
+    private VerificationRequest newRequest() {
+        VerificationRequest request = new VerificationRequest(
+            VerificationType.IDENTITY_VERIFICATION, "subject-user", "requester");
+        verificationDAO.save(request);
+        return request;
+    }
+
+    private Item newItem(String title) {
+        User reporter = new User("reporter@memory.test", "Riley", "Reporter", User.UserRole.STUDENT);
+        reporter.setUserId(1);
+        Location location = new Location(new Building("Library", "LIB", Building.BuildingType.LIBRARY), "101", "Front desk");
+        return new Item(title, "Left on a table", Item.ItemCategory.ELECTRONICS, Item.ItemType.FOUND, location, reporter);
+    }
+
+    /**
+     * Run the same action on THREADS threads at once; returns how many succeeded
+     */
+    private int race(IntPredicate action) {
+        CountDownLatch start = new CountDownLatch(1);
+        AtomicInteger successes = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < THREADS; i++) {
+            int index = i;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    if (action.test(index)) {
+                        successes.incrementAndGet();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            try {
+                thread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return successes.get();
+    }
+
+    // ==================== LEASE TESTS ====================
+
+    private void testLeases() {
+        System.out.println("📋 Testing Dispatch Leases...");
+
+        LocalDateTime later = LocalDateTime.now().plusMinutes(5);
+        VerificationRequest request = newRequest();
+        String id = request.getRequestId();
+
+        assertTrue("First verifier leases", verificationDAO.tryLease(id, "verifier-a", later) != null);
+        assertTrue("Second verifier cannot lease", verificationDAO.tryLease(id, "verifier-b", later) == null);
+        assertFalse("Leased request not a dispatch candidate", verificationDAO.findDispatchCandidates().stream()
+            .anyMatch(candidate -> id.equals(candidate.getRequestId())));
+        assertTrue("Other verifier cannot renew", verificationDAO.renewLease(id, "verifier-b", later) == null);
+        assertTrue("Holder renews", verificationDAO.renewLease(id, "verifier-a", later.plusMinutes(5)) != null);
+        assertFalse("Other verifier cannot release", verificationDAO.releaseLease(id, "verifier-b"));
+        assertTrue("Other verifier cannot assign a leased request",
+            verificationDAO.assignIfProcessable(id, "verifier-b", "B", "SECURITY") == null);
+        assertTrue("Other verifier cannot start the lease",
+            verificationDAO.assignLeased(id, "verifier-b", "B", "SECURITY") == null);
+
+        VerificationRequest started = verificationDAO.assignLeased(id, "verifier-a", "A", "SECURITY");
+        assertTrue("Holder starts the lease", started != null
+            && started.getStatus() == VerificationStatus.IN_PROGRESS && started.getLeaseOwnerId() == null);
+
+        // A lease that timed out is free for anyone
+        VerificationRequest expired = newRequest();
+        verificationDAO.tryLease(expired.getRequestId(), "verifier-a", LocalDateTime.now().minusMinutes(1));
+        assertTrue("Timed-out lease can be taken over",
+            verificationDAO.tryLease(expired.getRequestId(), "verifier-b", later) != null);
+        assertTrue("Holder releases", verificationDAO.releaseLease(expired.getRequestId(), "verifier-b"));
+        assertTrue("Released request is a dispatch candidate again", verificationDAO.findDispatchCandidates().stream()
+            .anyMatch(candidate -> expired.getRequestId().equals(candidate.getRequestId())));
+
+        System.out.println("   ✓ Lease tests passed\n");
+    }
+
+    // ==================== TRANSITION TESTS ====================
+
+    private void testStatusTransitions() {
+        System.out.println("📋 Testing Status Transitions...");
+
+        VerificationRequest request = newRequest();
+        String id = request.getRequestId();
+        assertTrue("Assign pending request", verificationDAO.assignIfProcessable(id, "verifier-a", "A", "SECURITY") != null);
+        assertTrue("Other verifier cannot take it over",
+            verificationDAO.assignIfProcessable(id, "verifier-b", "B", "SECURITY") == null);
+        assertTrue("Complete in-progress request", verificationDAO.completeIfProcessable(id, "Checked ID") != null);
+        assertTrue("Completed request cannot fail", verificationDAO.failIfProcessable(id, "Too late") == null);
+        assertTrue("Status is VERIFIED", verificationDAO.findById(id).getStatus() == VerificationStatus.VERIFIED);
+
+        VerificationRequest overdue = new VerificationRequest(
+            VerificationType.IDENTITY_VERIFICATION, "subject-user", "requester");
+        overdue.setExpiresAt(LocalDateTime.now().minusHours(1));
+        verificationDAO.save(overdue);
+        assertTrue("Expired request cannot be assigned",
+            verificationDAO.assignIfProcessable(overdue.getRequestId(), "verifier-a", "A", "SECURITY") == null);
+
+        System.out.println("   ✓ Transition tests passed\n");
+    }
+
+    // ==================== RACE TESTS ====================
+
+    private void testClaimRace() {
+        System.out.println("📋 Testing Verifiers Racing for One Request...");
+
+        LocalDateTime later = LocalDateTime.now().plusMinutes(5);
+        String leased = newRequest().getRequestId();
+        assertTrue("Exactly one concurrent lease succeeds", race(i ->
+            verificationDAO.tryLease(leased, "verifier-" + i, later) != null) == 1);
+
+        String assigned = newRequest().getRequestId();
+        assertTrue("Exactly one concurrent assign succeeds", race(i ->
+            verificationDAO.assignIfProcessable(assigned, "verifier-" + i, "V" + i, "SECURITY") != null) == 1);
+
+        System.out.println("   ✓ Race tests passed\n");
+    }
+
+    private void testApprovalCounts() {
+        System.out.println("📋 Testing Concurrent Approvals...");
+
+        VerificationRequest request = new VerificationRequest(
+            VerificationType.CROSS_ENTERPRISE_TRANSFER, "subject-user", "requester");
+        request.setRequiredApprovals(3);
+        verificationDAO.save(request);
+        String id = request.getRequestId();
+
+        int approved = race(i -> verificationDAO.recordApprovalIfActive(id, "approver-" + i, "Approver " + i) != null);
+        VerificationRequest after = verificationDAO.findById(id);
+        assertTrue("Only the required approvals are recorded (was " + approved + ")", approved == 3);
+        assertTrue("Approval count matches", after.getCurrentApprovals() == 3);
+        assertTrue("Every approver listed once", after.getApproverIds().split(",").length == 3);
+        assertTrue("Last approval verifies", after.getStatus() == VerificationStatus.VERIFIED);
+
+        System.out.println("   ✓ Approval count tests passed\n");
+    }
+
+    // ==================== USER TESTS ====================
+
+    private void testAuthentication() {
+        System.out.println("📋 Testing Authentication and Trust Updates...");
+
+        String email = "auth@memory.test";
+        userDAO.create(new User(email, "Avery", "Auth", User.UserRole.STUDENT), "secret");
+        assertTrue("Right password", userDAO.authenticate(email, "secret"));
+        assertFalse("Wrong password", userDAO.authenticate(email, "guess"));
+        assertFalse("Unknown user", userDAO.authenticate("nobody@memory.test", "secret"));
+
+        // Concurrent trust updates don't lose increments
+        race(i -> {
+            userDAO.updateTrustScoreByEmail(email, "REPORT");
+            return true;
+        });
+        assertTrue("Every concurrent report counted",
+            userDAO.findByEmail(email).get().getItemsReported() == THREADS);
+
+        userDAO.setUserActive(email, false);
+        assertFalse("Inactive user cannot sign in", userDAO.authenticate(email, "secret"));
+
+        System.out.println("   ✓ Authentication tests passed\n");
+    }
+
+    private void testTrustScores() {
+        System.out.println("📋 Testing Trust Scores...");
+
+        TrustScore score = new TrustScore("trust-user");
+        assertTrue("Score saved", trustScoreDAO.saveTrustScore(score) != null);
+        trustScoreDAO.updateScore("trust-user", 42.0);
+        assertTrue("Score updated", trustScoreDAO.findScoreByUserId("trust-user").getCurrentScore() == 42.0);
+        trustScoreDAO.flagUser("trust-user", "Suspicious claims");
+        assertTrue("User flagged", trustScoreDAO.getFlaggedUsersCount() == 1);
+
+        long before = trustScoreDAO.getTotalEventsCount();
+        race(i -> trustScoreDAO.saveEvent(
+            new TrustScoreEvent("trust-user", TrustScoreEvent.EventType.values()[0])) != null);
+        assertTrue("Every concurrent event saved", trustScoreDAO.getTotalEventsCount() == before + THREADS);
+
+        System.out.println("   ✓ Trust score tests passed\n");
+    }
+
+    // ==================== CONCURRENCY TESTS ====================
+
+    private void testConcurrentWriters() {
+        System.out.println("📋 Testing Concurrent Writers and Readers...");
+
+        int perThread = 50;
+        Set<String> ids = ConcurrentHashMap.newKeySet();
+        AtomicInteger readFailures = new AtomicInteger();
+        int writers = race(i -> {
+            for (int n = 0; n < perThread; n++) {
+                String id = itemDAO.create(newItem("Charger " + i + "-" + n));
+                if (id == null) {
+                    return false;
+                }
+                ids.add(id);
+                // Reads while others write must never fail or see half an item
+                try {
+                    for (Item item : itemDAO.findByStatus(null)) {
+                        if (item.getTitle() == null) {
+                            readFailures.incrementAndGet();
+                        }
+                    }
+                } catch (RuntimeException e) {
+                    readFailures.incrementAndGet();
+                }
+            }
+            return true;
+        });
+        assertTrue("Every writer finished", writers == THREADS);
+        assertTrue("Every item stored once", itemDAO.count(null) == (long) THREADS * perThread);
+        assertTrue("Ids are unique", ids.size() == THREADS * perThread);
+        assertTrue("No failed reads", readFailures.get() == 0);
+
+        System.out.println("   ✓ Concurrency tests passed\n");
+    }
+
+    private void testMissingItemUpdate() {
+        System.out.println("📋 Testing Updates of Missing Items...");
+
+        List<String> saved = new ArrayList<>();
+        ItemDAO.WriteListener listener = new ItemDAO.WriteListener() {
+            @Override
+            public void itemSaved(Item item) {
+                saved.add(item.getMongoId());
+            }
+
+            @Override
+            public void itemDeleted(String mongoId) {
+            }
+        };
+        Item item = newItem("Headphones");
+        itemDAO.create(item);
+        itemDAO.delete(item.getMongoId());
+        itemDAO.addWriteListener(listener);
+        try {
+            item.setTitle("Wireless headphones");
+            assertFalse("Update of a deleted item fails", itemDAO.update(item));
+            assertTrue("No save reported for it", saved.isEmpty());
+            assertFalse("Nothing stored", itemDAO.findById(item.getMongoId()).isPresent());
+        } finally {
+            itemDAO.removeWriteListener(listener);
+        }
+
+        System.out.println("   ✓ Missing item update tests passed\n");
+    }
+
+    // ==================== HELPERS ====================
+
+    private void assertTrue(String message, boolean condition) {
+        if (condition) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected true");
+        }
+    }
+
+    private void assertFalse(String message, boolean condition) {
+        if (!condition) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected false");
+        }
+    }
+
+    private void printSummary() {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("📊 IN-MEMORY DAO TEST SUMMARY");
+        System.out.println("=".repeat(70));
+        System.out.println("✅ Passed: " + passedTests);
+        System.out.println("❌ Failed: " + failedTests);
+        System.out.println("📈 Total:  " + (passedTests + failedTests));
+
+        if (failedTests == 0) {
+            System.out.println("\n🎉 ALL IN-MEMORY DAO TESTS PASSED!");
+        } else {
+            System.out.println("\n⚠️  Some tests failed. Review the output above.");
+        }
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    // ==================== MAIN ====================
+
+    public static void main(String[] args) {
+        System.out.println("Starting In-Memory DAO Tests...\n");
+        InMemoryDAOTest test = new InMemoryDAOTest();
+        test.runAllTests();
+    }
+}
@@ -0,0 +1,227 @@
+package com.campus.lostfound.utils;
+
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Call counts, latency percentiles, errors and documents returned for DAO
+ * methods and service entry points.
+ *
+ * Off by default; turn it on with -Dlostfound.instrumentation=true, from the
+ * admin panel's Performance tab, or through JMX. While it is off,
+ * {@link #start} returns a shared no-op timer, so an instrumented method
+ * costs one volatile read.
+ *
+ * Service entry points time themselves:
+ * <pre>
+ *   try (Instrumentation.Timer timer = Instrumentation.getInstance().start("ItemMatcher.findMatches")) {
+ *       List&lt;PotentialMatch&gt; matches = ...;
+ *       timer.stop(matches.size());   // without this, close() records an error
+ *       return matches;
+ *   }
+ * </pre>
+ * DAO methods are covered without code in each method: MongoMetrics
+ * attributes every database round trip to the Mongo*DAO method that issued
+ * it and records it here under "MongoItemDAO.findAll" and so on.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class Instrumentation implements InstrumentationMXBean {
+
+    private static final Logger LOGGER = Logger.getLogger(Instrumentation.class.getName());
+
+    private static Instrumentation instance;
+
+    public static final String OBJECT_NAME = "com.campus.lostfound:type=Instrumentation";
+    public static final String ENABLED_PROPERTY = "lostfound.instrumentation";
+
+    private volatile boolean enabled;
+    private final Map<String, Stats> stats = new ConcurrentHashMap<>();
+
+    // ==================== CONSTRUCTORS ====================
+
+    /**
+     * Constructor for testing with an unregistered instance
+     */
+    public Instrumentation(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public static synchronized Instrumentation getInstance() {
+        if (instance == null) {
+            instance = new Instrumentation(Boolean.getBoolean(ENABLED_PROPERTY));
+            try {
+                ManagementFactory.getPlatformMBeanServer().registerMBean(instance, new ObjectName(OBJECT_NAME));
+            } catch (Exception e) {
+                LOGGER.log(Level.WARNING, "Could not register instrumentation MBean", e);
+            }
+        }
+        return instance;
+    }
+
+    // ==================== RECORDING ====================
+
+    @Override
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    @Override
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        LOGGER.info("Instrumentation " + (enabled ? "enabled" : "disabled"));
+    }
+
+    /**
+     * Start timing a call; a no-op when instrumentation is off
+     */
+    public Timer start(String name) {
+        return enabled ? new Timer(this, name, System.nanoTime()) : Timer.NOOP;
+    }
+
+    /**
+     * Record one completed call
+     * @param documents Documents returned or affected, or -1 if not applicable
+     */
+    public void record(String name, long nanos, long documents, boolean failed) {
+        Stats s = stats.computeIfAbsent(name, k -> new Stats());
+        s.latency.recordNanos(nanos);
+        if (documents > 0) {
+            s.documents.add(documents);
+        }
+        if (failed) {
+            s.errors.increment();
+        }
+    }
+
+    @Override
+    public void reset() {
+        stats.clear();
+    }
+
+    // ==================== READING ====================
+
+    @Override
+    public List<MethodStats> getMethodStats() {
+        List<MethodStats> result = new ArrayList<>();
+        for (Map.Entry<String, Stats> entry : stats.entrySet()) {
+            result.add(new MethodStats(entry.getKey(), entry.getValue()));
+        }
+        result.sort(Comparator.comparingDouble(MethodStats::getTotalMillis).reversed());
+        return result;
+    }
+
+    public MethodStats getMethodStats(String name) {
+        Stats s = stats.get(name);
+        return s != null ? new MethodStats(name, s) : null;
+    }
+
+    @Override
+    public String getReport() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-50s %8s %6s %10s %10s %8s %8s %8s %8s%n",
+                "Method", "Calls", "Errors", "Documents", "Total ms", "Mean", "p95", "p99", "Max"));
+        for (MethodStats m : getMethodStats()) {
+            sb.append(String.format("%-50s %8d %6d %10d %10.0f %8.1f %8.1f %8.1f %8.1f%n",
+                    m.getName(), m.getCalls(), m.getErrors(), m.getDocuments(), m.getTotalMillis(),
+                    m.getMeanMillis(), m.getP95Millis(), m.getP99Millis(), m.getMaxMillis()));
+        }
+        return sb.toString();
+    }
+
+    // ==================== INNER CLASSES ====================
+
+    private static class Stats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+        final LongAdder documents = new LongAdder();
+    }
+
+    /**
+     * One in-progress call. Call {@link #stop} on success; {@link #close}
+     * records the call as failed if stop was not reached.
+     */
+    public static class Timer implements AutoCloseable {
+        static final Timer NOOP = new Timer(null, null, 0);
+
+        private final Instrumentation owner;
+        private final String name;
+        private final long startNanos;
+        private boolean recorded = false;
+
+        Timer(Instrumentation owner, String name, long startNanos) {
+            this.owner = owner;
+            this.name = name;
+            this.startNanos = startNanos;
+        }
+
+        /**
+         * @param documents Documents returned or affected, or -1 if not applicable
+         */
+        public void stop(long documents) {
+            finish(documents, false);
+        }
+
+        public void fail() {
+            finish(-1, true);
+        }
+
+        @Override
+        public void close() {
+            finish(-1, true);
+        }
+
+        private void finish(long documents, boolean failed) {
+            if (owner == null || recorded) {
+                return;
+            }
+            recorded = true;
+            owner.record(name, System.nanoTime() - startNanos, documents, failed);
+        }
+    }
+
+    /**
+     * Snapshot of one method's statistics (an open-type composite over JMX)
+     */
+    public static class MethodStats {
+        private final String name;
+        private final long calls;
+        private final long errors;
+        private final long documents;
+        private final double totalMillis;
+        private final double meanMillis;
+        private final double p50Millis;
+        private final double p95Millis;
+        private final double p99Millis;
+        private final double maxMillis;
+
+        MethodStats(String name, Stats stats) {
+            this.name = name;
+            this.calls = stats.latency.getCount();
+            this.errors = stats.errors.sum();
+            this.documents = stats.documents.sum();
+            this.totalMillis = stats.latency.getTotalMillis();
+            this.meanMillis = stats.latency.getMeanMillis();
+            this.p50Millis = stats.latency.getPercentileMillis(50);
+            this.p95Millis = stats.latency.getPercentileMillis(95);
+            this.p99Millis = stats.latency.getPercentileMillis(99);
+            this.maxMillis = stats.latency.getMaxMillis();
+        }
+
+        public String getName() { return name; }
+        public long getCalls() { return calls; }
+        public long getErrors() { return errors; }
+        public long getDocuments() { return documents; }
+        public double getTotalMillis() { return totalMillis; }
+        public double getMeanMillis() { return meanMillis; }
+        public double getP50Millis() { return p50Millis; }
+        public double getP95Millis() { return p95Millis; }
+        public double getP99Millis() { return p99Millis; }
+        public double getMaxMillis() { return maxMillis; }
+    }
+}
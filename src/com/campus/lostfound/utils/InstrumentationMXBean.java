@@ -0,0 +1,28 @@
+package com.campus.lostfound.utils;
+
+import java.util.List;
+
+/**
+ * JMX view of {@link Instrumentation}, registered as
+ * "com.campus.lostfound:type=Instrumentation" (visible in JConsole / VisualVM).
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public interface InstrumentationMXBean {
+
+    boolean isEnabled();
+
+    void setEnabled(boolean enabled);
+
+    /**
+     * Timed methods, the ones taking the most total time first
+     */
+    List<Instrumentation.MethodStats> getMethodStats();
+
+    /**
+     * Same statistics as a plain-text table
+     */
+    String getReport();
+
+    void reset();
+}
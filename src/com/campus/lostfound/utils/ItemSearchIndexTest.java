@@ -0,0 +1,330 @@
+package com.campus.lostfound.utils;
+
+import com.campus.lostfound.dao.InMemoryItemDAO;
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.models.Building;
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.Item.ItemCategory;
+import com.campus.lostfound.models.Item.ItemType;
+import com.campus.lostfound.models.Location;
+import com.campus.lostfound.models.User;
+import com.campus.lostfound.services.ItemSearchIndex;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.*;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for ItemSearchIndex
+ * Tests tokenizing, ranking, prefix and typo-tolerant matching on a
+ * hand-filled index, and following writes from this and other clients of an
+ * in-memory store (no database needed)
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class ItemSearchIndexTest {
+
+    private ItemSearchIndex index;
+    private Location location;
+    private User reporter;
+
+    private int passedTests = 0;
+    private int failedTests = 0;
+
+    public ItemSearchIndexTest() {
+        this.index = new ItemSearchIndex();
+        this.location = new Location(new Building("Test Building", "TST", Building.BuildingType.ACADEMIC),
+                "101", "Near entrance");
+        this.reporter = new User("test@test.com", "Test", "User", User.UserRole.STUDENT);
+    }
+
+    public void runAllTests() {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("🔎 ITEM SEARCH INDEX TESTS");
+        System.out.println("=".repeat(70) + "\n");
+
+        loadTestItems();
+
+        testTokenizer();
+        testCompoundWords();
+        testRanking();
+        testPrefixSearch();
+        testTypoTolerance();
+        testIncrementalUpdates();
+        testFollowingWrites();
+
+        printSummary();
+    }
+
+    // ==================== TEST DATA ====================
+
+    private void loadTestItems() {
+        addItem("1", "Apple AirPods Pro", "White charging case with a small scratch", "Apple", "White");
+        addItem("2", "Air Pods", "Left earbud only", "Apple", "White");
+        addItem("3", "Black leather wallet", "Contains student ID and two cards", "Coach", "Black");
+        addItem("4", "Blue water bottle", "Hydro Flask with stickers", "Hydro Flask", "Blue");
+        addItem("5", "Calculus textbook", "Stewart, 8th edition, name written inside", null, "Red");
+        addItem("6", "Car keys", "Toyota key fob on a lanyard", "Toyota", "Black");
+    }
+
+    private Item addItem(String id, String title, String description, String brand, String color) {
+        Item item = new Item(title, description, ItemCategory.OTHER, ItemType.FOUND, location, reporter);
+        item.setMongoId(id);
+        item.setBrand(brand);
+        item.setPrimaryColor(color);
+        index.put(item);
+        return item;
+    }
+
+    private List<String> ids(List<Item> items) {
+        List<String> ids = new ArrayList<>();
+        for (Item item : items) {
+            ids.add(item.getMongoId());
+        }
+        return ids;
+    }
+
+    // ==================== TESTS ====================
+
+    private void testTokenizer() {
+        System.out.println("📋 Testing tokenizer...");
+
+        assertEqual("Plural and case folded", Arrays.asList("airpod", "pro"), ItemSearchIndex.tokenize("AirPods Pro"));
+        assertEqual("Stop words dropped", Arrays.asList("key", "car"), ItemSearchIndex.tokenize("the keys of my car"));
+        assertEqual("-ies plural", Arrays.asList("battery"), ItemSearchIndex.tokenize("batteries"));
+        assertEqual("Punctuation splits", Arrays.asList("id", "card"), ItemSearchIndex.tokenize("ID-card!"));
+        assertEqual("Numbers kept", Arrays.asList("8th", "edition"), ItemSearchIndex.tokenize("8th edition"));
+
+        System.out.println("   ✓ Tokenizer tests passed\n");
+    }
+
+    private void testCompoundWords() {
+        System.out.println("📋 Testing compound words...");
+
+        for (String query : new String[]{"airpods", "air pods", "airpod", "AirPods "}) {
+            List<String> found = ids(index.search(query));
+            assertTrue("'" + query + "' finds AirPods Pro", found.contains("1"));
+            assertTrue("'" + query + "' finds Air Pods", found.contains("2"));
+        }
+
+        System.out.println("   ✓ Compound word tests passed\n");
+    }
+
+    private void testRanking() {
+        System.out.println("📋 Testing ranking...");
+
+        List<String> found = ids(index.search("black wallet "));
+        assertFalse("Wallet query finds something", found.isEmpty());
+        assertEqual("Item matching both words ranks first", "3", found.isEmpty() ? null : found.get(0));
+
+        List<ItemSearchIndex.SearchHit> hits = index.searchHits("white", 10);
+        for (int i = 1; i < hits.size(); i++) {
+            assertTrue("Scores descend", hits.get(i - 1).getScore() >= hits.get(i).getScore());
+        }
+
+        assertTrue("Empty query finds nothing", index.search("   ").isEmpty());
+        assertTrue("Unknown word finds nothing", index.search("zzzz ").isEmpty());
+
+        System.out.println("   ✓ Ranking tests passed\n");
+    }
+
+    private void testPrefixSearch() {
+        System.out.println("📋 Testing prefix search...");
+
+        assertTrue("'wal' finds wallet", ids(index.search("wal")).contains("3"));
+        assertTrue("'calc' finds calculus", ids(index.search("calc")).contains("5"));
+        assertTrue("'hydro fl' finds the bottle", ids(index.search("hydro fl")).contains("4"));
+        assertFalse("Prefix only applies to the last word", ids(index.search("wal ")).contains("3"));
+
+        System.out.println("   ✓ Prefix search tests passed\n");
+    }
+
+    private void testTypoTolerance() {
+        System.out.println("📋 Testing typo tolerance...");
+
+        assertTrue("'walet' finds wallet", ids(index.search("walet ")).contains("3"));
+        assertTrue("'airpdos' finds AirPods", ids(index.search("airpdos ")).contains("1"));
+        assertTrue("'texbook' finds textbook", ids(index.search("texbook ")).contains("5"));
+        assertTrue("'calculsu textbok' finds textbook", ids(index.search("calculsu textbok ")).contains("5"));
+        assertTrue("Short words are not fuzzed", index.search("kez ").isEmpty());
+
+        System.out.println("   ✓ Typo tolerance tests passed\n");
+    }
+
+    private void testIncrementalUpdates() {
+        System.out.println("📋 Testing incremental updates...");
+
+        Item umbrella = addItem("7", "Umbrella", "Folding, green handle", null, "Green");
+        assertEqual("New item indexed", 7, index.size());
+        assertTrue("New item searchable", ids(index.search("umbrella")).contains("7"));
+
+        umbrella.setTitle("Golf umbrella");
+        index.put(umbrella);
+        assertEqual("Re-indexing does not duplicate", 7, index.size());
+        assertTrue("Updated title searchable", ids(index.search("golf ")).contains("7"));
+
+        index.remove("7");
+        assertEqual("Removed item gone", 6, index.size());
+        assertTrue("Removed item not found", index.search("umbrella").isEmpty());
+
+        System.out.println("   ✓ Incremental update tests passed\n");
+    }
+
+    private void testFollowingWrites() {
+        System.out.println("📋 Testing writes from this and other clients...");
+
+        InMemoryItemDAO store = new InMemoryItemDAO();
+        AtomicInteger loads = new AtomicInteger();
+        ItemDAO local = client(store, loads);
+        ItemDAO other = client(store, new AtomicInteger());
+        ItemSearchIndex followed = new ItemSearchIndex(local, Duration.ZERO);
+
+        Item scarf = newItem("Red scarf");
+        Item gloves = newItem("Leather gloves");
+        local.create(scarf);
+        local.create(gloves);
+        assertTrue("Loaded on first search", ids(followed.search("scarf")).contains(scarf.getMongoId()));
+
+        pause();
+        gloves.setTitle("Wool gloves");
+        local.update(gloves);
+        assertTrue("Own update searchable", ids(followed.search("wool")).contains(gloves.getMongoId()));
+        assertEqual("Own writes don't reload", 1, loads.get());
+
+        // Another client's update lands first, then one of ours moves the watermark past it
+        pause();
+        scarf.setTitle("Silk scarf");
+        other.update(scarf);
+        pause();
+        local.create(newItem("Blue umbrella"));
+        assertTrue("Interleaved foreign update searchable", ids(followed.search("silk")).contains(scarf.getMongoId()));
+        assertEqual("Foreign update reloads", 2, loads.get());
+
+        // A foreign delete hidden by one of our creates: the count alone doesn't move
+        pause();
+        other.delete(gloves.getMongoId());
+        pause();
+        local.create(newItem("Canvas tote"));
+        assertTrue("Interleaved foreign delete gone", followed.search("gloves").isEmpty());
+        assertEqual("Foreign delete reloads", 3, loads.get());
+
+        System.out.println("   ✓ Write following tests passed\n");
+    }
+
+    private Item newItem(String title) {
+        User owner = new User("owner@test.com", "Owner", "User", User.UserRole.STUDENT);
+        owner.setUserId(1);
+        return new Item(title, "Left in the lobby", ItemCategory.OTHER, ItemType.FOUND, location, owner);
+    }
+
+    /**
+     * A client of the store whose writes reach only its own listeners, like
+     * another process sharing the database; counts findAll calls (index loads)
+     */
+    private ItemDAO client(InMemoryItemDAO store, AtomicInteger loads) {
+        List<ItemDAO.WriteListener> listeners = new CopyOnWriteArrayList<>();
+        return (ItemDAO) Proxy.newProxyInstance(ItemDAO.class.getClassLoader(), new Class<?>[] {ItemDAO.class},
+            (proxy, method, args) -> {
+                switch (method.getName()) {
+                    case "addWriteListener":
+                        listeners.add((ItemDAO.WriteListener) args[0]);
+                        return null;
+                    case "removeWriteListener":
+                        listeners.remove(args[0]);
+                        return null;
+                    case "findAll":
+                        loads.incrementAndGet();
+                        break;
+                    default:
+                        break;
+                }
+                Object result;
+                try {
+                    result = method.invoke(store, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+                for (ItemDAO.WriteListener listener : listeners) {
+                    if (method.getName().equals("create") && result != null) {
+                        listener.itemCreated((Item) args[0]);
+                    } else if (method.getName().equals("update") && Boolean.TRUE.equals(result)) {
+                        listener.itemSaved((Item) args[0]);
+                    } else if (method.getName().equals("delete") && Boolean.TRUE.equals(result)) {
+                        listener.itemDeleted((String) args[0]);
+                    }
+                }
+                return result;
+            });
+    }
+
+    /**
+     * Let the clock move on, so writes get distinct modification times
+     */
+    private void pause() {
+        try {
+            Thread.sleep(5);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // ==================== ASSERTIONS ====================
+
+    private void assertEqual(String message, Object expected, Object actual) {
+        if (expected == null && actual == null) {
+            passedTests++;
+            return;
+        }
+        if (expected != null && expected.equals(actual)) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected: " + expected + ", Got: " + actual);
+        }
+    }
+
+    private void assertTrue(String message, boolean condition) {
+        if (condition) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected true");
+        }
+    }
+
+    private void assertFalse(String message, boolean condition) {
+        if (!condition) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected false");
+        }
+    }
+
+    private void printSummary() {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("📊 ITEM SEARCH INDEX TEST SUMMARY");
+        System.out.println("=".repeat(70));
+        System.out.println("✅ Passed: " + passedTests);
+        System.out.println("❌ Failed: " + failedTests);
+        System.out.println("📈 Total:  " + (passedTests + failedTests));
+
+        if (failedTests == 0) {
+            System.out.println("\n🎉 ALL ITEM SEARCH INDEX TESTS PASSED!");
+        } else {
+            System.out.println("\n⚠️  Some tests failed. Review the output above.");
+        }
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    // ==================== MAIN ====================
+
+    public static void main(String[] args) {
+        System.out.println("Starting Item Search Index Tests...\n");
+        ItemSearchIndexTest test = new ItemSearchIndexTest();
+        test.runAllTests();
+    }
+}
@@ -0,0 +1,148 @@
+package com.campus.lostfound.utils;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Log-linear latency histogram that many threads can record into without locking.
+ *
+ * Durations are kept in microseconds. Below 16 us every value has its own
+ * bucket; above, each power of two is split into 16 equal sub-buckets (as in
+ * HdrHistogram), so a bucket is never wider than 1/16 of its lower bound.
+ * Percentiles are interpolated within their bucket, which keeps them within a
+ * few percent of the exact value from 1 us to about 19 hours (longer
+ * durations land in the last bucket; the max is always exact), at 528
+ * counters per histogram.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class LatencyHistogram {
+
+    private static final int SUB_BUCKET_BITS = 4;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    // Powers of two above the linear range, up to 2^36 us
+    private static final int MAGNITUDES = 36 - SUB_BUCKET_BITS;
+    private static final int BUCKET_COUNT = SUB_BUCKETS + MAGNITUDES * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKET_COUNT);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final LongAccumulator maxNanos = new LongAccumulator(Math::max, 0);
+
+    // ==================== RECORDING ====================
+
+    public void record(long duration, TimeUnit unit) {
+        long nanos = Math.max(0, unit.toNanos(duration));
+        buckets.incrementAndGet(bucketFor(nanos / 1_000));
+        count.increment();
+        totalNanos.add(nanos);
+        maxNanos.accumulate(nanos);
+    }
+
+    public void recordNanos(long nanos) {
+        record(nanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void reset() {
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            buckets.set(i, 0);
+        }
+        count.reset();
+        totalNanos.reset();
+        maxNanos.reset();
+    }
+
+    // ==================== READING ====================
+
+    public long getCount() {
+        return count.sum();
+    }
+
+    public double getTotalMillis() {
+        return totalNanos.sum() / 1_000_000.0;
+    }
+
+    public double getMeanMillis() {
+        long n = getCount();
+        return n == 0 ? 0 : getTotalMillis() / n;
+    }
+
+    public double getMaxMillis() {
+        return maxNanos.get() / 1_000_000.0;
+    }
+
+    /**
+     * The given percentile, interpolated within its bucket (capped at the max seen)
+     * @param percentile 0-100, e.g. 95 or 99.9
+     */
+    public double getPercentileMillis(double percentile) {
+        long n = getCount();
+        if (n == 0) {
+            return 0;
+        }
+        long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * n));
+        long seen = 0;
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            long inBucket = buckets.get(i);
+            if (inBucket > 0 && seen + inBucket >= rank) {
+                // Spread the bucket's values evenly over its range and take the rank-th
+                double lower = lowerBoundMicros(i);
+                double width = lowerBoundMicros(i + 1) - lower;
+                double micros = lower + width * (rank - seen - 0.5) / inBucket;
+                return Math.min(micros / 1_000.0, getMaxMillis());
+            }
+            seen += inBucket;
+        }
+        return getMaxMillis();
+    }
+
+    /**
+     * Per-bucket counts; index i counts durations below getBucketBoundMillis(i)
+     */
+    public long[] getBucketCounts() {
+        long[] counts = new long[BUCKET_COUNT];
+        for (int i = 0; i < BUCKET_COUNT; i++) {
+            counts[i] = buckets.get(i);
+        }
+        return counts;
+    }
+
+    /**
+     * Upper bound of a bucket in milliseconds (infinite for the last bucket)
+     */
+    public static double getBucketBoundMillis(int bucket) {
+        return bucket < BUCKET_COUNT - 1 ? lowerBoundMicros(bucket + 1) / 1_000.0 : Double.POSITIVE_INFINITY;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("n=%d mean=%.1fms p50=%.1fms p95=%.1fms p99=%.1fms max=%.1fms",
+                getCount(), getMeanMillis(), getPercentileMillis(50), getPercentileMillis(95),
+                getPercentileMillis(99), getMaxMillis());
+    }
+
+    // ==================== BUCKETS ====================
+
+    private static int bucketFor(long micros) {
+        if (micros < SUB_BUCKETS) {
+            return (int) micros;
+        }
+        int magnitude = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        if (magnitude >= MAGNITUDES) {
+            return BUCKET_COUNT - 1;
+        }
+        int subBucket = (int) (micros >>> magnitude) - SUB_BUCKETS;
+        return SUB_BUCKETS + magnitude * SUB_BUCKETS + subBucket;
+    }
+
+    private static long lowerBoundMicros(int bucket) {
+        if (bucket < SUB_BUCKETS) {
+            return bucket;
+        }
+        int magnitude = (bucket - SUB_BUCKETS) / SUB_BUCKETS;
+        int subBucket = (bucket - SUB_BUCKETS) % SUB_BUCKETS;
+        return (long) (SUB_BUCKETS + subBucket) << magnitude;
+    }
+}
@@ -0,0 +1,178 @@
+package com.campus.lostfound.utils;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Test class for LatencyHistogram
+ * Tests percentile accuracy against the exact percentiles of known
+ * distributions (uniform, exponential and a slow tail), exact counts, mean
+ * and max, and the bucket bounds. No database needed.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class LatencyHistogramTest {
+
+    // Log-linear buckets are at most 1/16 wide; interpolation does better than that
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 16;
+    private static final double[] PERCENTILES = {50, 90, 95, 99, 99.9};
+
+    private int passedTests = 0;
+    private int failedTests = 0;
+
+    public void runAllTests() {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("⏱️ LATENCY HISTOGRAM TESTS");
+        System.out.println("=".repeat(70) + "\n");
+
+        testUniform();
+        testExponential();
+        testSlowTail();
+        testSummary();
+        testBuckets();
+
+        printSummary();
+    }
+
+    // ==================== DISTRIBUTION TESTS ====================
+
+    private void testUniform() {
+        System.out.println("📋 Testing Uniform 1 us - 100 ms...");
+
+        long[] micros = new long[100_000];
+        for (int i = 0; i < micros.length; i++) {
+            micros[i] = 1 + (long) i * 100_000 / micros.length;
+        }
+        checkPercentiles("uniform", micros);
+
+        System.out.println("   ✓ Uniform tests passed\n");
+    }
+
+    private void testExponential() {
+        System.out.println("📋 Testing Exponential (mean 9 ms)...");
+
+        Random random = new Random(42);
+        long[] micros = new long[100_000];
+        for (int i = 0; i < micros.length; i++) {
+            micros[i] = 1 + (long) (-Math.log(1 - random.nextDouble()) * 9_000);
+        }
+        checkPercentiles("exponential", micros);
+
+        System.out.println("   ✓ Exponential tests passed\n");
+    }
+
+    private void testSlowTail() {
+        System.out.println("📋 Testing Fast Queries with a Slow Tail...");
+
+        // 98% around 2 ms, 2% around 1.5 s: p95 must stay near 2 ms, p99 near 1.5 s
+        Random random = new Random(7);
+        long[] micros = new long[50_000];
+        for (int i = 0; i < micros.length; i++) {
+            micros[i] = i % 50 == 0
+                    ? 1_400_000 + random.nextInt(200_000)
+                    : 1_800 + random.nextInt(400);
+        }
+        checkPercentiles("slow tail", micros);
+
+        System.out.println("   ✓ Slow tail tests passed\n");
+    }
+
+    private void testSummary() {
+        System.out.println("📋 Testing Count, Mean and Max...");
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(2, TimeUnit.MILLISECONDS);
+        histogram.record(4, TimeUnit.MILLISECONDS);
+        histogram.recordNanos(12_345_678);
+        assertTrue("Count", histogram.getCount() == 3);
+        assertTrue("Mean is exact", Math.abs(histogram.getMeanMillis() - (2 + 4 + 12.345678) / 3) < 1e-9);
+        assertTrue("Max is exact", histogram.getMaxMillis() == 12.345678);
+        assertTrue("p100 is the max", histogram.getPercentileMillis(100) == 12.345678);
+
+        histogram.record(3, TimeUnit.DAYS);
+        assertTrue("Beyond the last bucket still counted", histogram.getCount() == 4);
+        assertTrue("Max beyond the last bucket is exact",
+            histogram.getMaxMillis() == TimeUnit.DAYS.toMillis(3));
+
+        histogram.reset();
+        assertTrue("Reset empties it", histogram.getCount() == 0 && histogram.getPercentileMillis(99) == 0);
+
+        System.out.println("   ✓ Summary tests passed\n");
+    }
+
+    private void testBuckets() {
+        System.out.println("📋 Testing Bucket Bounds...");
+
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.record(1_000, TimeUnit.MICROSECONDS);
+        long[] counts = histogram.getBucketCounts();
+        int bucket = 0;
+        while (counts[bucket] == 0) {
+            bucket++;
+        }
+        double lower = bucket > 0 ? LatencyHistogram.getBucketBoundMillis(bucket - 1) : 0;
+        double upper = LatencyHistogram.getBucketBoundMillis(bucket);
+        assertTrue("1 ms lies in its bucket", lower <= 1.0 && 1.0 < upper);
+        assertTrue("Bucket no wider than 1/16", (upper - lower) / lower <= MAX_RELATIVE_ERROR);
+        assertTrue("Last bucket is open-ended",
+            LatencyHistogram.getBucketBoundMillis(counts.length - 1) == Double.POSITIVE_INFINITY);
+
+        System.out.println("   ✓ Bucket tests passed\n");
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Record the durations and compare each percentile with the exact one
+     */
+    private void checkPercentiles(String name, long[] micros) {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (long value : micros) {
+            histogram.record(value, TimeUnit.MICROSECONDS);
+        }
+        long[] sorted = micros.clone();
+        Arrays.sort(sorted);
+        for (double percentile : PERCENTILES) {
+            int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+            double exact = sorted[rank - 1] / 1_000.0;
+            double reported = histogram.getPercentileMillis(percentile);
+            double error = Math.abs(reported - exact) / exact;
+            assertTrue(String.format("%s p%s %.3f ms vs exact %.3f ms (%.1f%% off)",
+                    name, percentile, reported, exact, error * 100), error <= MAX_RELATIVE_ERROR);
+        }
+    }
+
+    private void assertTrue(String message, boolean condition) {
+        if (condition) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected true");
+        }
+    }
+
+    private void printSummary() {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("📊 LATENCY HISTOGRAM TEST SUMMARY");
+        System.out.println("=".repeat(70));
+        System.out.println("✅ Passed: " + passedTests);
+        System.out.println("❌ Failed: " + failedTests);
+        System.out.println("📈 Total:  " + (passedTests + failedTests));
+
+        if (failedTests == 0) {
+            System.out.println("\n🎉 ALL LATENCY HISTOGRAM TESTS PASSED!");
+        } else {
+            System.out.println("\n⚠️  Some tests failed. Review the output above.");
+        }
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    // ==================== MAIN ====================
+
+    public static void main(String[] args) {
+        System.out.println("Starting Latency Histogram Tests...\n");
+        LatencyHistogramTest test = new LatencyHistogramTest();
+        test.runAllTests();
+    }
+}
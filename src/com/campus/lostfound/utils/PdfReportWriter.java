@@ -0,0 +1,353 @@
+package com.campus.lostfound.utils;
+
+import org.apache.pdfbox.io.MemoryUsageSetting;
+import org.apache.pdfbox.pdmodel.PDDocument;
+import org.apache.pdfbox.pdmodel.PDPage;
+import org.apache.pdfbox.pdmodel.PDPageContentStream;
+import org.apache.pdfbox.pdmodel.common.PDRectangle;
+import org.apache.pdfbox.pdmodel.font.PDFont;
+import org.apache.pdfbox.pdmodel.font.PDType1Font;
+
+import java.awt.Color;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+/**
+ * Page-at-a-time PDF layout for reports.
+ *
+ * Content is laid out top to bottom as it arrives; when a page fills up its
+ * content stream is closed and the next page is started, so a table can be fed
+ * from a database cursor without holding its rows. The document is opened with
+ * a scratch-file memory setting, which keeps finished page streams on disk
+ * rather than on the heap.
+ *
+ * Fonts and colors are only written when they change, instead of being reset
+ * on every line, and each table row is one text object.
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class PdfReportWriter implements Closeable {
+
+    // Page streams beyond this much buffered data go to the scratch file
+    private static final long MAX_MAIN_MEMORY = 4L * 1024 * 1024;
+
+    private static final PDRectangle PAGE_SIZE = PDRectangle.LETTER;
+    private static final float MARGIN = 50;
+    private static final float BOTTOM = 55;
+    private static final float FOOTER_Y = 30;
+    private static final String FOOTER_TEXT = "Greater Boston Lost & Found Recovery Ecosystem";
+
+    private static final PDFont REGULAR = PDType1Font.HELVETICA;
+    private static final PDFont BOLD = PDType1Font.HELVETICA_BOLD;
+
+    private static final Color BLACK = Color.BLACK;
+    private static final Color GRAY = new Color(100, 100, 100);
+    private static final Color ACCENT = new Color(0, 102, 204);
+    private static final Color SECTION_FILL = new Color(240, 240, 240);
+    private static final Color HEADER_FILL = new Color(52, 73, 94);
+    private static final Color STRIPE_FILL = new Color(248, 248, 248);
+
+    private static final float TABLE_FONT_SIZE = 8;
+    private static final float ROW_HEIGHT = 15;
+    private static final float BAR_HEIGHT = 12;
+    private static final int MAX_BARS = 12;
+
+    private final Path path;
+    private final PDDocument document;
+    private final float pageWidth = PAGE_SIZE.getWidth();
+    private final float contentWidth = pageWidth - 2 * MARGIN;
+
+    private PDPageContentStream content;
+    private float y;
+    private int pageCount = 0;
+
+    // Graphics state of the current page, to skip redundant operators
+    private PDFont currentFont;
+    private float currentFontSize;
+    private Color currentFill;
+    private Color currentStroke;
+
+    // Open table, repeated on each new page
+    private String[] tableHeaders;
+    private float[] columnX;
+    private int[] columnChars;
+    private long tableRows;
+
+    public PdfReportWriter(Path path) throws IOException {
+        this.path = path;
+        this.document = new PDDocument(MemoryUsageSetting.setupMixed(MAX_MAIN_MEMORY));
+        newPage();
+    }
+
+    // ==================== BLOCKS ====================
+
+    /**
+     * Report title with an accent rule and gray subtitle lines
+     */
+    public void title(String title, String... subtitles) throws IOException {
+        text(MARGIN, y, BOLD, 18, BLACK, clean(title, 70));
+        y -= 25;
+        rule(ACCENT, 2);
+        y -= 20;
+        for (String subtitle : subtitles) {
+            if (subtitle != null) {
+                text(MARGIN, y, REGULAR, 10, GRAY, clean(subtitle, 100));
+                y -= 15;
+            }
+        }
+        y -= 20;
+    }
+
+    /**
+     * Shaded section heading
+     */
+    public void section(String title) throws IOException {
+        ensureSpace(50);
+        fillRect(MARGIN, y - 5, contentWidth, 20, SECTION_FILL);
+        text(MARGIN + 5, y, BOLD, 12, BLACK, clean(title, 70));
+        y -= 25;
+    }
+
+    /**
+     * "Name: value" line inside a section
+     */
+    public void metric(String name, String value) throws IOException {
+        ensureSpace(ROW_HEIGHT);
+        text(MARGIN + 10, y, BOLD, 10, BLACK, clean(name, 40) + ":");
+        text(MARGIN + 200, y, REGULAR, 10, BLACK, clean(value, 50));
+        y -= ROW_HEIGHT;
+    }
+
+    public void space(float points) {
+        y -= points;
+    }
+
+    /**
+     * Horizontal bar chart from already aggregated values. Only the first
+     * bars are drawn so the chart stays on one page.
+     * @param colors Bar colors (parallel to values), or null for the accent color
+     */
+    public void barChart(String title, List<String> labels, List<Double> values, List<Color> colors) throws IOException {
+        int bars = Math.min(MAX_BARS, Math.min(labels.size(), values.size()));
+        if (bars == 0) {
+            return;
+        }
+        ensureSpace(25 + bars * (BAR_HEIGHT + 4));
+        text(MARGIN + 10, y, BOLD, 10, BLACK, clean(title, 70));
+        y -= 18;
+
+        double max = 0;
+        for (int i = 0; i < bars; i++) {
+            max = Math.max(max, values.get(i));
+        }
+        float labelWidth = 140;
+        float barSpace = contentWidth - labelWidth - 60;
+        for (int i = 0; i < bars; i++) {
+            double value = values.get(i);
+            float width = max > 0 ? (float) (value / max * barSpace) : 0;
+            Color color = colors != null && i < colors.size() && colors.get(i) != null ? colors.get(i) : ACCENT;
+            text(MARGIN + 10, y, REGULAR, 9, BLACK, clean(labels.get(i), 26));
+            fillRect(MARGIN + labelWidth, y - 2, Math.max(width, 1), BAR_HEIGHT - 2, color);
+            text(MARGIN + labelWidth + width + 5, y, REGULAR, 9, GRAY, formatValue(value));
+            y -= BAR_HEIGHT + 4;
+        }
+        y -= 10;
+    }
+
+    // ==================== TABLES ====================
+
+    /**
+     * Start a table; rows are added with {@link #row(String...)}
+     * @param headers Column headers
+     * @param widths Relative column widths (null for equal widths)
+     */
+    public void beginTable(String[] headers, float[] widths) throws IOException {
+        float total = 0;
+        for (int i = 0; i < headers.length; i++) {
+            total += widths != null ? widths[i] : 1;
+        }
+        tableHeaders = headers;
+        columnX = new float[headers.length];
+        columnChars = new int[headers.length];
+        float x = MARGIN + 5;
+        for (int i = 0; i < headers.length; i++) {
+            float width = (widths != null ? widths[i] : 1) / total * (contentWidth - 5);
+            columnX[i] = x;
+            // Helvetica averages about half an em per character
+            columnChars[i] = Math.max(4, (int) ((width - 6) / (TABLE_FONT_SIZE * 0.5f)));
+            x += width;
+        }
+        tableRows = 0;
+        ensureSpace(ROW_HEIGHT * 3);
+        drawTableHeader();
+    }
+
+    public void row(String... cells) throws IOException {
+        if (y - ROW_HEIGHT < BOTTOM) {
+            newPage();
+            drawTableHeader();
+        }
+        if (tableRows % 2 == 0) {
+            fillRect(MARGIN, y - 3, contentWidth, ROW_HEIGHT, STRIPE_FILL);
+        }
+        textRow(cells, REGULAR, BLACK);
+        y -= ROW_HEIGHT;
+        tableRows++;
+    }
+
+    public void endTable() {
+        tableHeaders = null;
+        y -= 10;
+    }
+
+    private void drawTableHeader() throws IOException {
+        fillRect(MARGIN, y - 5, contentWidth, 18, HEADER_FILL);
+        textRow(tableHeaders, BOLD, Color.WHITE);
+        y -= 20;
+    }
+
+    /**
+     * One text object per row; cells are positioned relative to the previous one
+     */
+    private void textRow(String[] cells, PDFont font, Color color) throws IOException {
+        setFill(color);
+        content.beginText();
+        setFont(font, TABLE_FONT_SIZE);
+        content.newLineAtOffset(columnX[0], y);
+        for (int i = 0; i < columnX.length; i++) {
+            if (i > 0) {
+                content.newLineAtOffset(columnX[i] - columnX[i - 1], 0);
+            }
+            if (i < cells.length && cells[i] != null && !cells[i].isEmpty()) {
+                content.showText(clean(cells[i], columnChars[i]));
+            }
+        }
+        content.endText();
+    }
+
+    // ==================== OUTPUT ====================
+
+    public int getPageCount() {
+        return pageCount;
+    }
+
+    /**
+     * Finish the last page and write the document
+     */
+    public void save() throws IOException {
+        finishPage();
+        Path parent = path.getParent();
+        if (parent != null) {
+            Files.createDirectories(parent);
+        }
+        document.save(path.toFile());
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (content != null) {
+            content.close();
+            content = null;
+        }
+        document.close();
+    }
+
+    // ==================== PAGE HANDLING ====================
+
+    private void ensureSpace(float height) throws IOException {
+        if (y - height < BOTTOM) {
+            newPage();
+        }
+    }
+
+    private void newPage() throws IOException {
+        finishPage();
+        PDPage page = new PDPage(PAGE_SIZE);
+        document.addPage(page);
+        content = new PDPageContentStream(document, page);
+        pageCount++;
+        y = PAGE_SIZE.getHeight() - MARGIN;
+        currentFont = null;
+        currentFill = null;
+        currentStroke = null;
+    }
+
+    /**
+     * Draw the footer and close the page's content stream
+     */
+    private void finishPage() throws IOException {
+        if (content == null) {
+            return;
+        }
+        float saved = y;
+        y = FOOTER_Y + 10;
+        rule(new Color(200, 200, 200), 1);
+        text(MARGIN, FOOTER_Y, REGULAR, 8, new Color(128, 128, 128), FOOTER_TEXT);
+        text(pageWidth - MARGIN - 40, FOOTER_Y, REGULAR, 8, new Color(128, 128, 128), "Page " + pageCount);
+        y = saved;
+        content.close();
+        content = null;
+    }
+
+    // ==================== DRAWING PRIMITIVES ====================
+
+    private void text(float x, float atY, PDFont font, float size, Color color, String value) throws IOException {
+        setFill(color);
+        content.beginText();
+        setFont(font, size);
+        content.newLineAtOffset(x, atY);
+        content.showText(value);
+        content.endText();
+    }
+
+    private void fillRect(float x, float atY, float width, float height, Color color) throws IOException {
+        setFill(color);
+        content.addRect(x, atY, width, height);
+        content.fill();
+    }
+
+    private void rule(Color color, float lineWidth) throws IOException {
+        if (!color.equals(currentStroke)) {
+            content.setStrokingColor(color);
+            currentStroke = color;
+        }
+        content.setLineWidth(lineWidth);
+        content.moveTo(MARGIN, y);
+        content.lineTo(pageWidth - MARGIN, y);
+        content.stroke();
+    }
+
+    private void setFont(PDFont font, float size) throws IOException {
+        if (font != currentFont || size != currentFontSize) {
+            content.setFont(font, size);
+            currentFont = font;
+            currentFontSize = size;
+        }
+    }
+
+    private void setFill(Color color) throws IOException {
+        if (!color.equals(currentFill)) {
+            content.setNonStrokingColor(color);
+            currentFill = color;
+        }
+    }
+
+    // ==================== HELPERS ====================
+
+    /**
+     * Strip characters the standard fonts cannot encode and truncate
+     */
+    public static String clean(String text, int maxLength) {
+        if (text == null) return "";
+        text = text.replaceAll("[^\\x20-\\x7E]", "");
+        if (text.length() <= maxLength) return text;
+        return text.substring(0, maxLength - 3) + "...";
+    }
+
+    private static String formatValue(double value) {
+        return value == Math.rint(value) ? String.format("%,.0f", value) : String.format("%,.1f", value);
+    }
+}
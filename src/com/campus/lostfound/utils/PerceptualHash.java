@@ -0,0 +1,81 @@
+package com.campus.lostfound.utils;
+
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+
+/**
+ * 64-bit difference hash (dHash) of an image.
+ *
+ * The image is reduced to 9x8 grayscale and each bit records whether a pixel
+ * is brighter than its right-hand neighbour. Re-encoding, resizing, small crops
+ * and exposure changes flip only a few bits, so two photos of the same object
+ * taken from the same angle end up a small Hamming distance apart.
+ *
+ * @author aksha
+ */
+public final class PerceptualHash {
+
+    /** Hashes at or below this distance are treated as near-duplicates */
+    public static final int NEAR_DUPLICATE_DISTANCE = 10;
+
+    private static final int HASH_WIDTH = 9;
+    private static final int HASH_HEIGHT = 8;
+
+    // Decode at a small size; the hash only looks at a 9x8 grid
+    private static final int DECODE_SIZE = 64;
+
+    private PerceptualHash() {
+    }
+
+    /**
+     * Fingerprint an image file
+     * @return The hash, or null if the file can't be decoded as an image
+     */
+    public static Long compute(File file) {
+        try {
+            BufferedImage image = ImageHandler.readScaled(file, DECODE_SIZE);
+            return image != null ? dHash(image) : null;
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    public static long dHash(BufferedImage image) {
+        BufferedImage gray = new BufferedImage(HASH_WIDTH, HASH_HEIGHT, BufferedImage.TYPE_BYTE_GRAY);
+        Graphics2D g = gray.createGraphics();
+        g.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+        g.drawImage(image, 0, 0, HASH_WIDTH, HASH_HEIGHT, null);
+        g.dispose();
+
+        long hash = 0;
+        for (int y = 0; y < HASH_HEIGHT; y++) {
+            for (int x = 0; x < HASH_WIDTH - 1; x++) {
+                int left = gray.getRaster().getSample(x, y, 0);
+                int right = gray.getRaster().getSample(x + 1, y, 0);
+                hash = (hash << 1) | (left > right ? 1 : 0);
+            }
+        }
+        return hash;
+    }
+
+    /**
+     * Number of differing bits (0 = identical, 64 = inverted)
+     */
+    public static int distance(long a, long b) {
+        return Long.bitCount(a ^ b);
+    }
+
+    /**
+     * Similarity in [0, 1]: 1 for identical hashes, falling linearly to 0
+     * just past {@link #NEAR_DUPLICATE_DISTANCE}
+     */
+    public static double similarity(int distance) {
+        if (distance < 0 || distance > NEAR_DUPLICATE_DISTANCE) {
+            return 0.0;
+        }
+        return 1.0 - (double) distance / (NEAR_DUPLICATE_DISTANCE + 1);
+    }
+}
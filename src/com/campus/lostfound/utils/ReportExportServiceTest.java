@@ -8,7 +8,12 @@ import com.campus.lostfound.services.*;
 import com.campus.lostfound.services.AnalyticsService.*;
 import com.campus.lostfound.services.ReportExportService.*;
 
+import org.apache.pdfbox.pdmodel.PDDocument;
+
+import java.io.BufferedReader;
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.InputStreamReader;
 import java.nio.file.*;
 import java.time.LocalDate;
 import java.util.*;
@@ -197,6 +202,43 @@ public class ReportExportServiceTest {
             return result && new File(filePath).exists();
         });
         
+        // Test streamed, gzip-compressed export with progress
+        test("Stream all items to gzip CSV with progress", () -> {
+            String filePath = TEST_EXPORT_DIR + "/all_items_export.csv.gz";
+            long[] lastProgress = {-1};
+            boolean result = reportService.exportAllItemsToCSV(filePath,
+                (processed, expected) -> lastProgress[0] = processed);
+            if (!result) {
+                return false;
+            }
+            try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+                    new java.util.zip.GZIPInputStream(new FileInputStream(filePath)), "UTF-8"))) {
+                String header = reader.readLine();
+                long rows = reader.lines().count();
+                System.out.println("    Streamed rows: " + rows + ", last progress: " + lastProgress[0]);
+                return header != null && header.startsWith("Item ID") && lastProgress[0] >= 0;
+            }
+        });
+        
+        // Test cancellation removes the partial file
+        test("Cancelled streaming export leaves no file", () -> {
+            String filePath = TEST_EXPORT_DIR + "/cancelled_export.csv";
+            ReportExportService.ExportProgress cancelNow = new ReportExportService.ExportProgress() {
+                public void onProgress(long processed, long expected) { }
+                public boolean isCancelled() { return true; }
+            };
+            boolean result = reportService.exportAllItemsToCSV(filePath, cancelNow);
+            // With no items there is nothing to cancel and the export succeeds
+            return itemDAO.count(null) == 0 ? result : !result && !new File(filePath).exists();
+        });
+        
+        // Test CSV escaping
+        test("CSV escaping quotes delimiters and quotes", () ->
+            CsvStreamWriter.escape("a,b").equals("\"a,b\"")
+                && CsvStreamWriter.escape("say \"hi\"").equals("\"say \"\"hi\"\"\"")
+                && CsvStreamWriter.escape(null).isEmpty()
+                && CsvStreamWriter.escape("plain").equals("plain"));
+        
         // Test user export
         test("Export users to CSV", () -> {
             List<User> users = userDAO.findAll();
@@ -370,6 +412,16 @@ public class ReportExportServiceTest {
                    report.sections.size() > 0;
         });
         
+        // Test multi-enterprise fan-out
+        test("Generate all enterprise reports in parallel", () -> {
+            int enterpriseCount = new MongoEnterpriseDAO().findAll().size();
+            EnterpriseReportBatch batch = reportService.generateAllEnterpriseReports(java.time.Duration.ofSeconds(60));
+            
+            System.out.println("    Reports: " + batch.reports.size() + "/" + enterpriseCount +
+                " in " + batch.elapsedMillis + " ms, failures: " + batch.failures);
+            return batch.isComplete() && batch.reports.size() == enterpriseCount;
+        });
+        
         // Test enterprise report with invalid ID
         test("Generate enterprise report - invalid ID", () -> {
             ReportData report = reportService.generateEnterpriseReport("invalid-id-12345");
@@ -451,6 +503,50 @@ public class ReportExportServiceTest {
             return false;
         });
         
+        // Test PDF appendix streaming
+        test("Render 10,000-row appendix to PDF", () -> {
+            ReportData report = new ReportData();
+            report.title = "Appendix Test Report";
+            report.generatedAt = java.time.LocalDateTime.now();
+            report.reportType = ReportType.CUSTOM;
+            ReportSection section = new ReportSection("Summary");
+            section.addMetric("Rows", "10000");
+            report.sections.add(section);
+            report.appendices.add(new ReportTable("Rows", new String[] {"#", "Title", "Notes"}, null, sink -> {
+                for (int i = 0; i < 10_000; i++) {
+                    if (!sink.test(new String[] {String.valueOf(i), "Item " + i, "Row notes " + i})) {
+                        return;
+                    }
+                }
+            }));
+            
+            String filePath = reportService.exportReportToPDF(report, TEST_EXPORT_DIR + "/appendix_report.pdf");
+            if (filePath == null) {
+                return false;
+            }
+            try (PDDocument document = PDDocument.load(new File(filePath))) {
+                System.out.println("    Pages: " + document.getNumberOfPages());
+                return document.getNumberOfPages() > 200;
+            }
+        });
+        
+        // Test scheduled report cache
+        test("Periodic report cached until data watermark changes", () -> {
+            String[] watermark = {"v1"};
+            ReportScheduler scheduler = new ReportScheduler(reportService, () -> watermark[0],
+                java.time.Clock.systemDefaultZone(), new File(TEST_EXPORT_DIR, "cache"));
+            
+            ReportData first = scheduler.getReport(ReportType.WEEKLY);
+            ReportData repeat = scheduler.getReport(ReportType.WEEKLY);
+            String pdf = scheduler.getArtifact(ReportType.WEEKLY, "pdf");
+            boolean pdfReused = pdf != null && pdf.equals(scheduler.getArtifact(ReportType.WEEKLY, "pdf"));
+            
+            watermark[0] = "v2";
+            ReportData rebuilt = scheduler.getReport(ReportType.WEEKLY);
+            System.out.println("    Cached PDF: " + pdf);
+            return first == repeat && pdfReused && rebuilt != first && !new File(pdf).exists();
+        });
+        
         // Test export report to text with auto filename
         test("Export report to text - auto filename", () -> {
             ReportData report = reportService.generateWeeklyReport();
@@ -0,0 +1,93 @@
+package com.campus.lostfound.utils;
+
+import javax.swing.*;
+import java.awt.*;
+import java.lang.management.ManagementFactory;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Logger;
+
+/**
+ * Wall-clock timing of the start-up path, measured to the first paint of a
+ * window rather than to setVisible().
+ *
+ * A phase runs from {@link #begin} (or from JVM start if it was never begun)
+ * to {@link #end}; each phase is logged once. The phases recorded by the app:
+ * <ul>
+ *   <li>"login-screen": JVM start to the first paint of the login window</li>
+ *   <li>"login": Sign In click to the first paint of the user's dashboard</li>
+ * </ul>
+ *
+ * @author aksha
+ */
+public final class StartupTimer {
+
+    private static final Logger LOGGER = Logger.getLogger(StartupTimer.class.getName());
+
+    public static final String LOGIN_SCREEN = "login-screen";
+    public static final String LOGIN = "login";
+
+    private static final Map<String, Long> started = new ConcurrentHashMap<>();
+    private static final Map<String, Long> timings = new ConcurrentHashMap<>();
+
+    private StartupTimer() {
+    }
+
+    /**
+     * Start (or restart) timing a phase
+     */
+    public static void begin(String phase) {
+        started.put(phase, System.nanoTime());
+        timings.remove(phase);
+    }
+
+    /**
+     * Finish a phase and log its duration. Only the first call after begin counts.
+     * @return Milliseconds the phase took, or -1 if it was already recorded
+     */
+    public static long end(String phase) {
+        Long start = started.remove(phase);
+        long millis;
+        if (start != null) {
+            millis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        } else if (!timings.containsKey(phase)) {
+            millis = System.currentTimeMillis() - ManagementFactory.getRuntimeMXBean().getStartTime();
+        } else {
+            return -1;
+        }
+        timings.put(phase, millis);
+        LOGGER.info(String.format("Startup timing: %s took %d ms", phase, millis));
+        return millis;
+    }
+
+    /**
+     * End a phase when the frame is first painted. Uses the frame's glass pane,
+     * which is handed back (hidden) once the paint is seen.
+     */
+    public static void endOnFirstPaint(JFrame frame, String phase) {
+        JComponent probe = new JComponent() {
+            private boolean painted = false;
+
+            @Override
+            protected void paintComponent(Graphics g) {
+                if (!painted) {
+                    painted = true;
+                    end(phase);
+                    SwingUtilities.invokeLater(() -> setVisible(false));
+                }
+            }
+        };
+        probe.setOpaque(false);
+        frame.setGlassPane(probe);
+        probe.setVisible(true);
+    }
+
+    /**
+     * Recorded phases and their durations in milliseconds
+     */
+    public static Map<String, Long> getTimings() {
+        return new LinkedHashMap<>(timings);
+    }
+}
@@ -0,0 +1,276 @@
+package com.campus.lostfound.utils;
+
+import javax.swing.*;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import javax.imageio.ImageIO;
+
+/**
+ * Shared cache of decoded item thumbnails for list renderers, cards and dialogs.
+ *
+ * - Decoding happens on a small background pool, never on the EDT; callers
+ *   show their placeholder (usually the category emoji) until the image arrives.
+ * - Small sizes are decoded from the thumbnail ImageStore writes next to
+ *   each image when it is stored; older uploads without one get it
+ *   generated on first use.
+ * - Decoded icons are kept in an LRU bounded by pixel bytes rather than by
+ *   entry count, so a mix of 80px list cells and 240px previews shares one budget.
+ *
+ * Usage from a renderer (called on every paint):
+ * <pre>
+ *   ImageIcon icon = ThumbnailCache.getInstance().getOrRequest(path, 80, list::repaint);
+ *   if (icon == null) showPlaceholder();
+ * </pre>
+ *
+ * @author aksha
+ */
+public class ThumbnailCache {
+
+    private static final Logger LOGGER = Logger.getLogger(ThumbnailCache.class.getName());
+    private static ThumbnailCache instance;
+
+    /** Default memory budget for decoded thumbnails (ARGB, 4 bytes per pixel) */
+    public static final long DEFAULT_MAX_BYTES = 32L * 1024 * 1024;
+
+    private static final int DECODER_THREADS = 2;
+
+    private final long maxBytes;
+    private long currentBytes = 0;
+
+    // Access-ordered for LRU eviction, guarded by this
+    private final LinkedHashMap<String, ImageIcon> cache = new LinkedHashMap<>(64, 0.75f, true);
+    // Keys being decoded -> callbacks to run once done, guarded by this
+    private final Map<String, List<Consumer<ImageIcon>>> inFlight = new HashMap<>();
+    // Keys that failed to decode, so renderers don't retry on every paint
+    private final Set<String> failed = new HashSet<>();
+
+    private final ExecutorService decoder;
+
+    // ==================== CONSTRUCTORS ====================
+
+    private ThumbnailCache(long maxBytes) {
+        this.maxBytes = maxBytes;
+        this.decoder = Executors.newFixedThreadPool(DECODER_THREADS, r -> {
+            Thread t = new Thread(r, "thumbnail-decoder");
+            t.setDaemon(true);
+            t.setPriority(Thread.NORM_PRIORITY - 1);
+            return t;
+        });
+    }
+
+    public static synchronized ThumbnailCache getInstance() {
+        if (instance == null) {
+            instance = new ThumbnailCache(DEFAULT_MAX_BYTES);
+        }
+        return instance;
+    }
+
+    // ==================== LOOKUP ====================
+
+    /**
+     * Get a cached thumbnail, or start decoding it in the background.
+     *
+     * @param imagePath Stored image path (as saved in Item.getImagePaths)
+     * @param size Bounding box in pixels; the image is fitted inside keeping its aspect ratio
+     * @param onLoaded Run on the EDT once the image is available (e.g. list::repaint); may be null
+     * @return The icon if already cached, otherwise null (show a placeholder)
+     */
+    public ImageIcon getOrRequest(String imagePath, int size, Runnable onLoaded) {
+        return lookup(imagePath, size, onLoaded != null ? icon -> onLoaded.run() : null);
+    }
+
+    /**
+     * Shared lookup; the callback receives the decoded icon on the EDT
+     */
+    private ImageIcon lookup(String imagePath, int size, Consumer<ImageIcon> onLoaded) {
+        if (imagePath == null || imagePath.isEmpty()) {
+            return null;
+        }
+        String key = key(imagePath, size);
+
+        synchronized (this) {
+            ImageIcon cached = cache.get(key);
+            if (cached != null || failed.contains(key)) {
+                return cached;
+            }
+
+            List<Consumer<ImageIcon>> callbacks = inFlight.get(key);
+            if (callbacks != null) {
+                if (onLoaded != null) {
+                    callbacks.add(onLoaded);
+                }
+                return null;
+            }
+            callbacks = new ArrayList<>();
+            if (onLoaded != null) {
+                callbacks.add(onLoaded);
+            }
+            inFlight.put(key, callbacks);
+        }
+
+        decoder.submit(() -> decode(imagePath, size, key));
+        return null;
+    }
+
+    /**
+     * Show an item image on a label once it is decoded. The label keeps whatever
+     * placeholder the caller set (text/emoji) until then.
+     */
+    public void loadInto(JLabel label, String imagePath, int size) {
+        ImageIcon icon = lookup(imagePath, size, loaded -> {
+            if (loaded != null) {
+                label.setIcon(loaded);
+                label.setText("");
+            }
+        });
+        if (icon != null) {
+            label.setIcon(icon);
+            label.setText("");
+        }
+    }
+
+    /**
+     * Decode synchronously (for callers already off the EDT). Uses and fills the cache.
+     */
+    public ImageIcon loadNow(String imagePath, int size) {
+        if (imagePath == null || imagePath.isEmpty()) {
+            return null;
+        }
+        String key = key(imagePath, size);
+        synchronized (this) {
+            ImageIcon cached = cache.get(key);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        BufferedImage image = decodeScaled(imagePath, size);
+        if (image == null) {
+            return null;
+        }
+        ImageIcon icon = new ImageIcon(image);
+        synchronized (this) {
+            put(key, icon);
+        }
+        return icon;
+    }
+
+    /**
+     * Drop every cached size of an image (e.g. after the file was replaced or deleted)
+     */
+    public synchronized void invalidate(String imagePath) {
+        String prefix = imagePath + "@";
+        Iterator<Map.Entry<String, ImageIcon>> it = cache.entrySet().iterator();
+        while (it.hasNext()) {
+            Map.Entry<String, ImageIcon> entry = it.next();
+            if (entry.getKey().startsWith(prefix)) {
+                currentBytes -= bytesOf(entry.getValue());
+                it.remove();
+            }
+        }
+        failed.removeIf(k -> k.startsWith(prefix));
+    }
+
+    public synchronized void clear() {
+        cache.clear();
+        failed.clear();
+        currentBytes = 0;
+    }
+
+    public synchronized long getCurrentBytes() {
+        return currentBytes;
+    }
+
+    public synchronized int size() {
+        return cache.size();
+    }
+
+    // ==================== DECODING ====================
+
+    private void decode(String imagePath, int size, String key) {
+        ImageIcon icon = null;
+        try {
+            BufferedImage image = decodeScaled(imagePath, size);
+            if (image != null) {
+                icon = new ImageIcon(image);
+            }
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Error decoding thumbnail for " + imagePath, e);
+        }
+
+        List<Consumer<ImageIcon>> callbacks;
+        synchronized (this) {
+            callbacks = inFlight.remove(key);
+            if (icon != null) {
+                put(key, icon);
+            } else {
+                failed.add(key);
+            }
+        }
+
+        if (icon != null && callbacks != null && !callbacks.isEmpty()) {
+            ImageIcon result = icon;
+            SwingUtilities.invokeLater(() -> callbacks.forEach(cb -> cb.accept(result)));
+        }
+    }
+
+    /**
+     * Read the smallest stored rendition that covers the requested size and fit it in the box
+     */
+    private BufferedImage decodeScaled(String imagePath, int size) {
+        File original = ImageHandler.resolveImageFile(imagePath);
+        if (original == null) {
+            return null;
+        }
+
+        try {
+            BufferedImage source = null;
+            if (size <= ImageHandler.THUMBNAIL_SIZE) {
+                File thumbnail = ImageHandler.ensureThumbnail(original);
+                if (thumbnail != null) {
+                    source = ImageIO.read(thumbnail);
+                }
+            }
+            if (source == null) {
+                source = ImageHandler.readScaled(original, size);
+            }
+            return source != null ? ImageHandler.fitWithin(source, size, size) : null;
+        } catch (Exception e) {
+            LOGGER.log(Level.WARNING, "Could not decode image " + original, e);
+            return null;
+        }
+    }
+
+    // ==================== LRU ====================
+
+    private void put(String key, ImageIcon icon) {
+        ImageIcon previous = cache.put(key, icon);
+        if (previous != null) {
+            currentBytes -= bytesOf(previous);
+        }
+        currentBytes += bytesOf(icon);
+
+        Iterator<Map.Entry<String, ImageIcon>> it = cache.entrySet().iterator();
+        while (currentBytes > maxBytes && it.hasNext()) {
+            Map.Entry<String, ImageIcon> eldest = it.next();
+            if (eldest.getKey().equals(key)) {
+                continue;
+            }
+            currentBytes -= bytesOf(eldest.getValue());
+            it.remove();
+        }
+    }
+
+    private static long bytesOf(ImageIcon icon) {
+        return 4L * Math.max(0, icon.getIconWidth()) * Math.max(0, icon.getIconHeight());
+    }
+
+    private static String key(String imagePath, int size) {
+        return imagePath + "@" + size;
+    }
+}
@@ -0,0 +1,305 @@
+package com.campus.lostfound.utils;
+
+import com.campus.lostfound.dao.InMemoryItemDAO;
+import com.campus.lostfound.dao.InMemoryTrustScoreDAO;
+import com.campus.lostfound.dao.InMemoryUserDAO;
+import com.campus.lostfound.dao.InMemoryWorkRequestDAO;
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.dao.UserDAO;
+import com.campus.lostfound.models.Building;
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.Location;
+import com.campus.lostfound.models.User;
+import com.campus.lostfound.models.workrequest.ItemClaimRequest;
+import com.campus.lostfound.services.AppContext;
+import com.campus.lostfound.services.AuthorityService;
+import com.campus.lostfound.services.TrustScoreService;
+import com.campus.lostfound.services.UserDirectory;
+import com.campus.lostfound.services.WorkRequestRoutingEngine;
+import com.campus.lostfound.services.WorkRequestService;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Test class for UserDirectory
+ * Tests that services resolve users from the directory (counting reads on
+ * the user DAO), that callers only ever get copies, that user writes
+ * invalidate it, and that item checks on a cached authorization context read
+ * nothing. Runs on the in-memory DAOs (no database needed).
+ *
+ * @author Developer 4 - Cross-Enterprise Integration Lead
+ */
+public class UserDirectoryTest {
+
+    private static final String COORDINATOR = "coordinator@directory.test";
+    private static final String STUDENT = "student@directory.test";
+    private static final String MEMBER = "member@directory.test";
+    private static final String DETECTIVE = "detective@directory.test";
+
+    private final InMemoryUserDAO store = new InMemoryUserDAO();
+    private final AtomicInteger userReads = new AtomicInteger();
+    private final UserDAO userDAO = countingReads(UserDAO.class, store, userReads);
+    private final AtomicInteger itemReads = new AtomicInteger();
+    private final ItemDAO itemDAO = countingReads(ItemDAO.class, new InMemoryItemDAO(), itemReads);
+    private final UserDirectory directory = new UserDirectory(userDAO);
+
+    private int passedTests = 0;
+    private int failedTests = 0;
+
+    public void runAllTests() {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("👤 USER DIRECTORY TESTS");
+        System.out.println("=".repeat(70) + "\n");
+
+        createUsers();
+
+        testLookups();
+        testCopies();
+        testApprovalReads();
+        testWriteInvalidation();
+        testSharing();
+        testAuthorizationReads();
+
+        printSummary();
+    }
+
+    // ==================== TEST DATA ====================
+
+    private void createUsers() {
+        store.create(new User(COORDINATOR, "Casey", "Coordinator", User.UserRole.CAMPUS_COORDINATOR), "password");
+        store.create(new User(STUDENT, "Sam", "Student", User.UserRole.STUDENT), "password");
+        User member = new User(MEMBER, "Morgan", "Member", User.UserRole.STUDENT);
+        member.setOrganizationId("org-north");
+        store.create(member, "password");
+        store.create(new User(DETECTIVE, "Dana", "Detective", User.UserRole.DETECTIVE), "password");
+    }
+
+    /**
+     * The DAO, counting every find* / forEach* call
+     */
+    private <T> T countingReads(Class<T> type, T target, AtomicInteger reads) {
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type},
+            (proxy, method, args) -> {
+                if (method.getName().startsWith("find") || method.getName().startsWith("forEach")) {
+                    reads.incrementAndGet();
+                }
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getCause();
+                }
+            }));
+    }
+
+    private ItemClaimRequest claim(String itemId) {
+        ItemClaimRequest request = new ItemClaimRequest(STUDENT, "Sam Student", itemId, "Phone", 100.0);
+        request.setClaimDetails("Lost it in the library");
+        request.setIdentifyingFeatures("Cracked corner, blue case");
+        return request;
+    }
+
+    private Item item(String title, String organizationId) {
+        User reporter = new User("reporter@directory.test", "Riley", "Reporter", User.UserRole.STUDENT);
+        Location location = new Location(new Building("Library", "LIB", Building.BuildingType.LIBRARY), "101", "Front desk");
+        Item item = new Item(title, "Left on a table", Item.ItemCategory.ELECTRONICS, Item.ItemType.FOUND, location, reporter);
+        item.setMongoId(title.toLowerCase().replace(' ', '-'));
+        item.setOrganizationId(organizationId);
+        return item;
+    }
+
+    // ==================== LOOKUP TESTS ====================
+
+    private void testLookups() {
+        System.out.println("📋 Testing Lookups...");
+
+        userReads.set(0);
+        User byEmail = directory.find(COORDINATOR).orElse(null);
+        assertTrue("Found by email", byEmail != null && COORDINATOR.equals(byEmail.getEmail()));
+        assertTrue("Found by Mongo id", directory.find(byEmail.getMongoId()).isPresent());
+        assertTrue("One read for both keys", userReads.get() == 1);
+        assertFalse("Unknown email not found", directory.find("nobody@directory.test").isPresent());
+        assertFalse("Null id not found", directory.find(null).isPresent());
+
+        System.out.println("   ✓ Lookup tests passed\n");
+    }
+
+    // ==================== COPY TESTS ====================
+
+    private void testCopies() {
+        System.out.println("📋 Testing Copies...");
+
+        // A session user changed locally (e.g. an unsaved edit) must not leak to other services
+        User session = store.findByEmail(STUDENT).orElse(null);
+        directory.remember(session);
+        session.setRole(User.UserRole.SYSTEM_ADMIN);
+        assertTrue("Remembered user is a copy", directory.find(STUDENT).get().getRole() == User.UserRole.STUDENT);
+
+        User found = directory.find(STUDENT).get();
+        found.setFirstName("Changed");
+        assertTrue("Found user is a copy", "Sam".equals(directory.find(STUDENT).get().getFirstName()));
+
+        System.out.println("   ✓ Copy tests passed\n");
+    }
+
+    // ==================== APPROVAL TESTS ====================
+
+    private void testApprovalReads() {
+        System.out.println("📋 Testing User Reads per Approval...");
+
+        TrustScoreService trust = new TrustScoreService(new InMemoryTrustScoreDAO(store), directory);
+        WorkRequestService service = new WorkRequestService(new InMemoryWorkRequestDAO(), userDAO, directory,
+                new WorkRequestRoutingEngine(userDAO), trust);
+
+        String first = service.createRequest(claim("item-1"));
+        String second = service.createRequest(claim("item-2"));
+        assertTrue("Requests created", first != null && second != null);
+
+        directory.clear();
+        userReads.set(0);
+        assertTrue("First approval succeeds", service.approveRequest(first, COORDINATOR));
+        int firstReads = userReads.get();
+        assertTrue("First approval reads the approver", firstReads >= 1);
+
+        userReads.set(0);
+        assertTrue("Second approval succeeds", service.approveRequest(second, COORDINATOR));
+        assertTrue("Second approval does no user reads (was " + userReads.get() + ")", userReads.get() == 0);
+
+        System.out.println("   ✓ Approval read tests passed (" + firstReads + " read(s), then 0)\n");
+    }
+
+    // ==================== INVALIDATION TESTS ====================
+
+    private void testWriteInvalidation() {
+        System.out.println("📋 Testing Invalidation on User Writes...");
+
+        User student = directory.find(STUDENT).orElse(null);
+        assertTrue("Student cached", student != null);
+
+        User changed = store.findByEmail(STUDENT).orElse(null);
+        changed.setFirstName("Samantha");
+        store.update(changed);
+        assertTrue("Update seen by email", "Samantha".equals(directory.find(STUDENT).get().getFirstName()));
+        assertTrue("Update seen by Mongo id",
+            "Samantha".equals(directory.find(changed.getMongoId()).get().getFirstName()));
+
+        userReads.set(0);
+        store.updateTrustScoreByEmail(STUDENT, "SYNC");
+        directory.find(STUDENT);
+        assertTrue("Unknown trust action keeps the entry", userReads.get() == 0);
+
+        store.updateTrustScoreByEmail(STUDENT, "REPORT");
+        directory.find(STUDENT);
+        assertTrue("Trust score change drops the entry", userReads.get() == 1);
+
+        System.out.println("   ✓ Invalidation tests passed\n");
+    }
+
+    // ==================== SHARING TESTS ====================
+
+    private void testSharing() {
+        System.out.println("📋 Testing Shared Directory...");
+
+        AppContext context = AppContext.getInstance();
+        assertTrue("Shared user DAO gets the shared directory",
+            context.getUserDirectory(context.getUserDAO()) == context.getUserDirectory());
+        UserDirectory own = context.getUserDirectory(userDAO);
+        assertTrue("Other user DAO gets its own directory", own != context.getUserDirectory());
+
+        // A closed directory no longer follows writes, so it can be collected
+        own.find(STUDENT);
+        own.close();
+        User changed = store.findByEmail(STUDENT).orElse(null);
+        changed.setFirstName("Closed");
+        store.update(changed);
+        assertTrue("Closed directory is empty", own.size() == 0);
+
+        boolean created;
+        try {
+            new AuthorityService(null, null, null, null).close();
+            created = true;
+        } catch (RuntimeException e) {
+            created = false;
+        }
+        assertTrue("Authority service accepts a null user DAO", created);
+
+        System.out.println("   ✓ Sharing tests passed\n");
+    }
+
+    // ==================== AUTHORIZATION TESTS ====================
+
+    private void testAuthorizationReads() {
+        System.out.println("📋 Testing Reads per Authorization Check...");
+
+        AuthorityService authority = new AuthorityService(userDAO, itemDAO, null, null, directory);
+        Item north = item("North Laptop", "org-north");
+        Item south = item("South Laptop", "org-south");
+        List<Item> page = Arrays.asList(north, south);
+
+        assertTrue("Member sees own organization's items only",
+            authority.filterViewable(MEMBER, page).equals(Arrays.asList(north)));
+        assertTrue("Detective sees every item", authority.filterViewable(DETECTIVE, page).equals(page));
+
+        // Contexts are cached now: further checks must not touch the DAOs
+        userReads.set(0);
+        itemReads.set(0);
+        assertTrue("Member page filtered again", authority.filterViewable(MEMBER, page).size() == 1);
+        assertTrue("Member can view own organization's item", authority.canUserViewItem(MEMBER, north));
+        assertFalse("Member cannot view other organization's item", authority.canUserViewItem(MEMBER, south));
+        assertTrue("Detective can view any item", authority.canUserViewItem(DETECTIVE, south));
+        assertTrue("Cached checks read no users (was " + userReads.get() + ")", userReads.get() == 0);
+        assertTrue("Cached checks read no items (was " + itemReads.get() + ")", itemReads.get() == 0);
+        authority.close();
+
+        System.out.println("   ✓ Authorization read tests passed\n");
+    }
+
+    // ==================== HELPERS ====================
+
+    private void assertTrue(String message, boolean condition) {
+        if (condition) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected true");
+        }
+    }
+
+    private void assertFalse(String message, boolean condition) {
+        if (!condition) {
+            passedTests++;
+        } else {
+            failedTests++;
+            System.out.println("   ❌ FAIL: " + message + " - Expected false");
+        }
+    }
+
+    private void printSummary() {
+        System.out.println("\n" + "=".repeat(70));
+        System.out.println("📊 USER DIRECTORY TEST SUMMARY");
+        System.out.println("=".repeat(70));
+        System.out.println("✅ Passed: " + passedTests);
+        System.out.println("❌ Failed: " + failedTests);
+        System.out.println("📈 Total:  " + (passedTests + failedTests));
+
+        if (failedTests == 0) {
+            System.out.println("\n🎉 ALL USER DIRECTORY TESTS PASSED!");
+        } else {
+            System.out.println("\n⚠️  Some tests failed. Review the output above.");
+        }
+        System.out.println("=".repeat(70) + "\n");
+    }
+
+    // ==================== MAIN ====================
+
+    public static void main(String[] args) {
+        // The service's item DAO comes from AppContext
+        System.setProperty(AppContext.DAO_BACKEND_PROPERTY, "memory");
+        System.out.println("Starting User Directory Tests...\n");
+        UserDirectoryTest test = new UserDirectoryTest();
+        test.runAllTests();
+    }
+}
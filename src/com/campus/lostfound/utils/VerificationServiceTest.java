@@ -9,9 +9,11 @@ import com.campus.lostfound.models.verification.VerificationRequest;
 import com.campus.lostfound.models.verification.VerificationRequest.VerificationType;
 import com.campus.lostfound.models.verification.VerificationRequest.VerificationStatus;
 import com.campus.lostfound.models.verification.VerificationRequest.VerificationPriority;
+import com.campus.lostfound.services.VerificationDispatchQueue;
 import com.campus.lostfound.services.VerificationService;
 import com.campus.lostfound.services.TrustScoreService;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.logging.Logger;
 
@@ -58,6 +60,8 @@ public class VerificationServiceTest {
         testBusinessLogic();
         testPoliceCheckResults();
         testMultiPartyApproval();
+        testDispatchQueue();
+        testAssignmentRace();
         testStatistics();
         testThresholdConstants();
         
@@ -520,6 +524,135 @@ public class VerificationServiceTest {
         System.out.println("   ✓ Multi-party approval tests passed\n");
     }
     
+    // ==================== DISPATCH QUEUE TESTS ====================
+    
+    private void testDispatchQueue() {
+        System.out.println("📥 Testing Verification Dispatch Queue...");
+        
+        // Aging: an overdue LOW request outranks a fresh URGENT one
+        LocalDateTime now = LocalDateTime.now();
+        VerificationRequest freshUrgent = new VerificationRequest(VerificationType.IDENTITY_VERIFICATION);
+        freshUrgent.setPriority(VerificationPriority.URGENT);
+        freshUrgent.setCreatedAt(now);
+        VerificationRequest agedLow = new VerificationRequest(VerificationType.IDENTITY_VERIFICATION);
+        agedLow.setPriority(VerificationPriority.LOW);
+        agedLow.setCreatedAt(now.minusHours(VerificationPriority.LOW.getTargetHours() * 2L));
+        assertTrue("Aged LOW request outranks fresh URGENT",
+            VerificationDispatchQueue.dispatchScore(agedLow, now) 
+                > VerificationDispatchQueue.dispatchScore(freshUrgent, now));
+        
+        // Higher value ranks higher at equal priority and age
+        VerificationRequest valuable = new VerificationRequest(VerificationType.HIGH_VALUE_ITEM_CLAIM);
+        valuable.setCreatedAt(now);
+        valuable.setSubjectItemValue(VerificationService.VERY_HIGH_VALUE_THRESHOLD);
+        VerificationRequest cheap = new VerificationRequest(VerificationType.HIGH_VALUE_ITEM_CLAIM);
+        cheap.setCreatedAt(now);
+        assertTrue("Higher value ranks first",
+            VerificationDispatchQueue.dispatchScore(valuable, now) 
+                > VerificationDispatchQueue.dispatchScore(cheap, now));
+        
+        // Leases are exclusive
+        VerificationRequest request = service.createVerificationRequest(
+            VerificationType.IDENTITY_VERIFICATION,
+            "dispatch-test-" + System.currentTimeMillis(),
+            "dispatch-requester"
+        );
+        
+        if (request != null) {
+            createdRequestIds.add(request.getRequestId());
+            String first = "verifier-a-" + System.currentTimeMillis();
+            String second = "verifier-b-" + System.currentTimeMillis();
+            
+            VerificationRequest leased = verificationDAO.tryLease(
+                request.getRequestId(), first, LocalDateTime.now().plusMinutes(5));
+            assertNotNull("First verifier claims request", leased);
+            assertNull("Second verifier cannot claim same request", verificationDAO.tryLease(
+                request.getRequestId(), second, LocalDateTime.now().plusMinutes(5)));
+            
+            VerificationDispatchQueue queue = service.getDispatchQueue();
+            assertFalse("Other verifier cannot start a claim they don't hold",
+                queue.startClaimed(request.getRequestId(), second, "B", "SECURITY"));
+            assertTrue("Lease holder starts the claim",
+                queue.startClaimed(request.getRequestId(), first, "A", "SECURITY"));
+            
+            VerificationRequest started = service.getVerificationRequest(request.getRequestId());
+            assertEqual("Started claim is IN_PROGRESS", VerificationStatus.IN_PROGRESS, started.getStatus());
+            assertEqual("Started claim assigned to holder", first, started.getVerifierId());
+            assertNull("Lease cleared after start", started.getLeaseOwnerId());
+        }
+        
+        System.out.println("   ✓ Dispatch queue tests passed\n");
+    }
+    
+    // ==================== ASSIGNMENT RACE TESTS ====================
+    
+    private void testAssignmentRace() {
+        System.out.println("📋 Testing Assignment Between Two Verifiers...");
+        
+        String first = "verifier-a-" + System.currentTimeMillis();
+        String second = "verifier-b-" + System.currentTimeMillis();
+        
+        // "Assign to Me" cannot take a request another verifier has leased
+        VerificationRequest leased = service.createVerificationRequest(
+            VerificationType.IDENTITY_VERIFICATION,
+            "assign-lease-test-" + System.currentTimeMillis(),
+            "assign-requester"
+        );
+        if (leased != null) {
+            createdRequestIds.add(leased.getRequestId());
+            assertNotNull("First verifier leases request", verificationDAO.tryLease(
+                leased.getRequestId(), first, LocalDateTime.now().plusMinutes(5)));
+            assertFalse("Second verifier cannot assign a leased request",
+                service.assignVerifier(leased.getRequestId(), second, "B", "SECURITY"));
+            assertEqual("Lease still held by first verifier", first,
+                service.getVerificationRequest(leased.getRequestId()).getLeaseOwnerId());
+            assertTrue("Lease holder can assign to themselves",
+                service.assignVerifier(leased.getRequestId(), first, "A", "SECURITY"));
+            assertFalse("Second verifier cannot take an assigned request",
+                service.assignVerifier(leased.getRequestId(), second, "B", "SECURITY"));
+            assertEqual("Request stays with first verifier", first,
+                service.getVerificationRequest(leased.getRequestId()).getVerifierId());
+        }
+        
+        // Two verifiers pressing "Assign to Me" at once: exactly one wins
+        VerificationRequest contested = service.createVerificationRequest(
+            VerificationType.IDENTITY_VERIFICATION,
+            "assign-race-test-" + System.currentTimeMillis(),
+            "assign-requester"
+        );
+        if (contested != null) {
+            createdRequestIds.add(contested.getRequestId());
+            java.util.concurrent.CountDownLatch start = new java.util.concurrent.CountDownLatch(1);
+            java.util.concurrent.atomic.AtomicInteger wins = new java.util.concurrent.atomic.AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (String verifier : Arrays.asList(first, second)) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        if (service.assignVerifier(contested.getRequestId(), verifier, verifier, "SECURITY")) {
+                            wins.incrementAndGet();
+                        }
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                try {
+                    thread.join();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            assertEqual("Exactly one concurrent assign succeeds", 1, wins.get());
+        }
+        
+        System.out.println("   ✓ Assignment race tests passed\n");
+    }
+    
     // ==================== STATISTICS TESTS ====================
     
     private void testStatistics() {
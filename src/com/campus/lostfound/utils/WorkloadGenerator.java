@@ -0,0 +1,744 @@
+package com.campus.lostfound.utils;
+
+import com.campus.lostfound.dao.*;
+import com.campus.lostfound.models.*;
+import com.campus.lostfound.models.trustscore.TrustScoreEvent;
+import com.campus.lostfound.models.trustscore.TrustScoreEvent.EventType;
+import com.campus.lostfound.models.workrequest.*;
+import com.campus.lostfound.services.AppContext;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.temporal.ChronoUnit;
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+/**
+ * Synthetic metro-scale data set for load and capacity tests.
+ *
+ * Generates users, items, claims, transfers and trust events shaped like the
+ * real network: reports peak at move-in, finals and travel holidays, higher
+ * education and the MBTA carry most of the volume, a few buildings and a few
+ * users account for most reports, and older items and requests are mostly
+ * resolved. Everything goes through the DAOs' bulk methods in parallel
+ * batches of unordered inserts, so the same run fills MongoDB or, with
+ * -Dlostfound.dao=memory, the in-memory DAOs.
+ *
+ * The data depends only on the seed, the sizes and the current date: each
+ * batch reseeds its own generator, so the thread count doesn't change it.
+ * Trust score records are not written: TrustScoreService creates each one
+ * on first use, and until then users carry their generated score.
+ *
+ * Usage: WorkloadGenerator [scale] [seed] [threads]. Scale 1.0 is a year of
+ * the whole Greater Boston network, see {@link Sizes#metroArea}.
+ */
+public class WorkloadGenerator {
+
+    private static final Logger LOGGER = Logger.getLogger(WorkloadGenerator.class.getName());
+
+    public static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final String PASSWORD = "password123";
+    private static final double BUILDING_SKEW = 1.1;      // Zipf exponent over an enterprise's buildings
+    private static final double RESOLUTION_DAYS = 21;     // mean time for an item to be claimed or expire
+    private static final int DECIDED_AFTER_DAYS = 14;     // requests older than this have been decided
+    private static final int USERS_PER_APPROVER = 2000;
+
+    private static final String[][] ORGANIZATIONS = {
+        // building organization key, name, type
+        {"higher_ed-neu", "Northeastern University", "CAMPUS_OPERATIONS"},
+        {"higher_ed-bu", "Boston University", "CAMPUS_OPERATIONS"},
+        {"mbta-transit-police", "MBTA Station Operations", "STATION_OPERATIONS"},
+        {"airport-massport", "Massport Lost & Found", "AIRPORT_OPERATIONS"},
+        {"police-bpd", "BPD Evidence Management", "EVIDENCE_MANAGEMENT"}
+    };
+
+    private static final Item.ItemCategory[] CATEGORIES = Item.ItemCategory.values();
+    // ELECTRONICS, BOOKS, CLOTHING, IDS_CARDS, KEYS, BAGS, JEWELRY, SPORTS, UMBRELLAS, BOTTLES, OTHER
+    private static final double[] CATEGORY_WEIGHTS = cumulative(
+        .20, .06, .16, .14, .10, .12, .04, .03, .06, .06, .03);
+
+    private static final EventType[] EVENT_TYPES = {
+        EventType.REPORT_FOUND_ITEM, EventType.REPORT_LOST_ITEM, EventType.SUCCESSFUL_CLAIM,
+        EventType.ASSIST_RECOVERY, EventType.REQUEST_COMPLETED, EventType.GOOD_SAMARITAN,
+        EventType.CLAIM_REJECTED, EventType.NO_SHOW_PICKUP, EventType.FALSE_CLAIM,
+        EventType.SUSPICIOUS_ACTIVITY
+    };
+    private static final double[] EVENT_WEIGHTS = cumulative(
+        .28, .24, .12, .07, .07, .02, .10, .06, .03, .01);
+
+    /**
+     * The four enterprises with their share of items and users and their
+     * seasonality (month weights January to December, weekday weights Monday
+     * to Sunday)
+     */
+    private enum Segment {
+        // Move-in in September, finals and move-out in December and May, quiet summer
+        HIGHER_ED("higher_ed", "Higher Education", Enterprise.EnterpriseType.HIGHER_EDUCATION, .45, .55,
+            User.UserRole.CAMPUS_COORDINATOR, User.UserRole.STUDENT,
+            new double[]{1.2, 1.0, 0.9, 1.0, 1.4, 0.5, 0.4, 0.9, 1.8, 1.2, 1.1, 1.2},
+            new double[]{1.2, 1.2, 1.2, 1.2, 1.1, 0.6, 0.5}),
+        // Commuters: weekdays, a dip in summer
+        MBTA("mbta", "Public Transit (MBTA)", Enterprise.EnterpriseType.PUBLIC_TRANSIT, .30, .25,
+            User.UserRole.STATION_MANAGER, User.UserRole.PUBLIC_TRAVELER,
+            new double[]{1.0, 1.0, 1.0, 1.0, 1.0, 0.9, 0.85, 0.9, 1.1, 1.1, 1.0, 1.1},
+            new double[]{1.25, 1.25, 1.25, 1.25, 1.2, 0.6, 0.5}),
+        // Spring break, summer travel, Thanksgiving to New Year
+        AIRPORT("airport", "Logan Airport", Enterprise.EnterpriseType.AIRPORT, .18, .15,
+            User.UserRole.AIRPORT_LOST_FOUND_SPECIALIST, User.UserRole.PUBLIC_TRAVELER,
+            new double[]{0.8, 0.7, 1.1, 0.9, 1.0, 1.3, 1.5, 1.4, 0.9, 0.9, 1.3, 1.5},
+            new double[]{0.9, 0.8, 0.8, 0.9, 1.3, 1.0, 1.3}),
+        POLICE("police", "Law Enforcement", Enterprise.EnterpriseType.LAW_ENFORCEMENT, .07, .05,
+            User.UserRole.POLICE_EVIDENCE_CUSTODIAN, User.UserRole.PUBLIC_TRAVELER,
+            new double[]{0.9, 0.9, 1.0, 1.0, 1.0, 1.1, 1.2, 1.1, 1.0, 1.0, 0.9, 0.9},
+            new double[]{1.0, 1.0, 1.0, 1.0, 1.0, 1.0, 1.0});
+
+        final String key;
+        final String name;
+        final Enterprise.EnterpriseType type;
+        final double itemShare;
+        final double userShare;
+        final User.UserRole approverRole;
+        final User.UserRole publicRole;
+        final double[] months;
+        final double[] weekdays;
+        final double peak;
+
+        Segment(String key, String name, Enterprise.EnterpriseType type, double itemShare, double userShare,
+                User.UserRole approverRole, User.UserRole publicRole, double[] months, double[] weekdays) {
+            this.key = key;
+            this.name = name;
+            this.type = type;
+            this.itemShare = itemShare;
+            this.userShare = userShare;
+            this.approverRole = approverRole;
+            this.publicRole = publicRole;
+            this.months = months;
+            this.weekdays = weekdays;
+            this.peak = Arrays.stream(months).max().getAsDouble() * Arrays.stream(weekdays).max().getAsDouble();
+        }
+    }
+
+    private static final double[] ITEM_SHARES = cumulative(
+        Arrays.stream(Segment.values()).mapToDouble(s -> s.itemShare).toArray());
+
+    /**
+     * How much to generate. Every claim and transfer is for a distinct
+     * generated item, so together they can't outnumber the items.
+     */
+    public static class Sizes {
+        public final int users;
+        public final int items;
+        public final int claims;
+        public final int transfers;
+        public final int trustEvents;
+        public final int days;
+
+        public Sizes(int users, int items, int claims, int transfers, int trustEvents, int days) {
+            this.users = users;
+            this.items = items;
+            this.claims = claims;
+            this.transfers = transfers;
+            this.trustEvents = trustEvents;
+            this.days = days;
+        }
+
+        /**
+         * A year of the whole network: 250k users, 1M items, 150k claims,
+         * 40k transfers and 600k trust events at scale 1.0
+         */
+        public static Sizes metroArea(double scale) {
+            return new Sizes(scaled(250_000, scale), scaled(1_000_000, scale), scaled(150_000, scale),
+                scaled(40_000, scale), scaled(600_000, scale), 365);
+        }
+
+        private static int scaled(int count, double scale) {
+            return (int) Math.max(1, Math.round(count * scale));
+        }
+
+        @Override
+        public String toString() {
+            return String.format("%,d users, %,d items, %,d claims, %,d transfers, %,d trust events over %d days",
+                users, items, claims, transfers, trustEvents, days);
+        }
+    }
+
+    private final AppContext context;
+    private final ItemDAO itemDAO;
+    private final UserDAO userDAO;
+    private final WorkRequestDAO workRequestDAO;
+    private final TrustScoreDAO trustScoreDAO;
+    private final long seed;
+    private final int threads;
+    private final int batchSize;
+    private final Instrumentation instrumentation = new Instrumentation(true);
+    private final ThreadLocal<EnhancedDataGenerator> generators;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private final Map<Segment, Enterprise> enterprises = new EnumMap<>(Segment.class);
+    private final Map<String, Organization> organizations = new HashMap<>();     // by building organization key
+    private final Map<Segment, List<Building>> buildings = new EnumMap<>(Segment.class);
+    private final Map<Segment, double[]> buildingWeights = new EnumMap<>(Segment.class);
+    private final Map<Segment, List<User>> publicUsers = new EnumMap<>(Segment.class);
+    private final Map<String, List<User>> studentsByCampus = new HashMap<>();
+    private final Map<User.UserRole, List<User>> approvers = new EnumMap<>(User.UserRole.class);
+    private final Map<String, User> coordinatorByCampus = new HashMap<>();
+    private final List<Organization> campuses = new ArrayList<>();
+    private final List<User> allUsers = new ArrayList<>();
+
+    // ==================== CONSTRUCTORS ====================
+
+    public WorkloadGenerator(long seed, int threads) {
+        this(AppContext.getInstance(), seed, threads, DEFAULT_BATCH_SIZE);
+    }
+
+    public WorkloadGenerator(AppContext context, long seed, int threads, int batchSize) {
+        this.context = context;
+        this.itemDAO = context.getItemDAO();
+        this.userDAO = context.getUserDAO();
+        this.workRequestDAO = context.getWorkRequestDAO();
+        this.trustScoreDAO = context.getTrustScoreDAO();
+        this.seed = seed;
+        this.threads = threads;
+        this.batchSize = batchSize;
+        this.generators = ThreadLocal.withInitial(() -> EnhancedDataGenerator.detached(seed));
+    }
+
+    // ==================== GENERATION ====================
+
+    /**
+     * Write the whole data set. Enterprises and organizations are created
+     * first, then users, then items with their claims and transfers, then
+     * trust events.
+     */
+    public void generate(Sizes sizes) {
+        if (sizes.claims + sizes.transfers > sizes.items) {
+            throw new IllegalArgumentException("More claims and transfers than items: " + sizes);
+        }
+        LOGGER.info("Generating " + sizes + " with " + threads + " threads");
+        long started = System.nanoTime();
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            createEnterprises();
+            createUsers(pool, sizes);
+            createItemsAndRequests(pool, sizes);
+            createTrustEvents(pool, sizes);
+        } finally {
+            pool.shutdown();
+        }
+        printSummary(sizes, System.nanoTime() - started);
+    }
+
+    public Instrumentation getInstrumentation() {
+        return instrumentation;
+    }
+
+    private void createEnterprises() {
+        String networkId = null;
+        if (!context.isInMemory()) {
+            Network network = new Network();
+            network.setName("Greater Boston Lost & Found Network (workload " + seed + ")");
+            networkId = context.getNetworkDAO().create(network);
+        }
+
+        for (Segment segment : Segment.values()) {
+            Enterprise enterprise = new Enterprise(null, networkId, segment.name, segment.type);
+            enterprise.setEnterpriseId(context.getEnterpriseDAO().create(enterprise));
+            enterprises.put(segment, enterprise);
+        }
+        for (String[] data : ORGANIZATIONS) {
+            Segment segment = segmentOf(data[0]);
+            Organization org = new Organization(null, enterprises.get(segment).getEnterpriseId(), data[1],
+                Organization.OrganizationType.valueOf(data[2]));
+            org.setOrganizationId(context.getOrganizationDAO().create(org));
+            organizations.put(data[0], org);
+            if (segment == Segment.HIGHER_ED) {
+                campuses.add(org);
+            }
+        }
+
+        // Buildings keep their enterprise and organization keys; items are given the real ids.
+        // The busiest buildings are a seeded shuffle, so they aren't always the first in the table.
+        for (Building building : generators.get().generateDetachedBuildings()) {
+            buildings.computeIfAbsent(segmentOf(building.getOrganizationId()), s -> new ArrayList<>()).add(building);
+        }
+        Random random = new Random(seed);
+        for (Map.Entry<Segment, List<Building>> entry : buildings.entrySet()) {
+            Collections.shuffle(entry.getValue(), random);
+            double[] weights = new double[entry.getValue().size()];
+            for (int rank = 0; rank < weights.length; rank++) {
+                weights[rank] = 1 / Math.pow(rank + 1, BUILDING_SKEW);
+            }
+            buildingWeights.put(entry.getKey(), cumulative(weights));
+        }
+    }
+
+    private void createUsers(ExecutorService pool, Sizes sizes) {
+        // Approvers first: a few per organization, in every role an approval chain can ask for
+        int perOrganization = Math.max(2, sizes.users / USERS_PER_APPROVER / ORGANIZATIONS.length);
+        EnhancedDataGenerator generator = generators.get();
+        generator.reseed(seed);
+        int next = sizes.users;
+        for (String[] data : ORGANIZATIONS) {
+            Segment segment = segmentOf(data[0]);
+            List<User> staff = generator.generateDetachedUsers(next, perOrganization,
+                Collections.singletonList(buildings.get(segment).get(0)));
+            next += perOrganization;
+            for (User user : staff) {
+                user.setRole(segment.approverRole);
+                assignOrganization(user, data[0]);
+            }
+            write("users.createAll", staff.size(), () -> userDAO.createAll(staff, PASSWORD));
+            for (User user : staff) {
+                approvers.computeIfAbsent(segment.approverRole, r -> new ArrayList<>()).add(user);
+                if (segment == Segment.HIGHER_ED) {
+                    coordinatorByCampus.putIfAbsent(user.getOrganizationId(), user);
+                }
+            }
+        }
+
+        int first = 0;
+        for (Segment segment : Segment.values()) {
+            int count = segment == Segment.POLICE ? sizes.users - first : (int) Math.round(sizes.users * segment.userShare);
+            int offset = first;
+            List<List<User>> batches = runBatches(pool, "users-" + segment.key, count, (from, size, gen, random) -> {
+                List<User> users = gen.generateDetachedUsers(offset + from, size, buildings.get(segment));
+                for (User user : users) {
+                    user.setRole(segment.publicRole);
+                    assignOrganization(user, user.getOrganizationId());
+                }
+                write("users.createAll", users.size(), () -> userDAO.createAll(users, PASSWORD));
+                users.removeIf(user -> user.getMongoId() == null);
+                return users;
+            });
+            List<User> users = new ArrayList<>(count);
+            batches.forEach(users::addAll);
+            publicUsers.put(segment, users);
+            allUsers.addAll(users);
+            if (segment == Segment.HIGHER_ED) {
+                for (User user : users) {
+                    studentsByCampus.computeIfAbsent(user.getOrganizationId(), id -> new ArrayList<>()).add(user);
+                }
+            }
+            first += count;
+        }
+        approvers.values().forEach(allUsers::addAll);
+    }
+
+    private void createItemsAndRequests(ExecutorService pool, Sizes sizes) {
+        runBatches(pool, "items", sizes.items, (from, count, generator, random) -> {
+            List<Item> items = new ArrayList<>(count);
+            List<Segment> holders = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                Segment segment = Segment.values()[pick(ITEM_SHARES, random)];
+                items.add(newItem(segment, generator, random, sizes.days));
+                holders.add(segment);
+            }
+
+            // Exact share of the claims and transfers, each for a distinct item of this batch.
+            // Transfers are only for items held outside law enforcement.
+            int claims = share(sizes.claims, sizes.items, from, count);
+            int transfers = share(sizes.transfers, sizes.items, from, count);
+            List<Integer> order = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                order.add(i);
+            }
+            Collections.shuffle(order, random);
+
+            Map<Integer, WorkRequest> requests = new LinkedHashMap<>();
+            for (int i : order) {
+                if (claims == 0 && transfers == 0) {
+                    break;
+                }
+                if (transfers > 0 && holders.get(i) != Segment.POLICE) {
+                    requests.put(i, newTransfer(items.get(i), holders.get(i), random));
+                    transfers--;
+                } else if (claims > 0) {
+                    requests.put(i, newClaim(items.get(i), holders.get(i), random));
+                    claims--;
+                }
+            }
+
+            write("items.createAll", items.size(), () -> itemDAO.createAll(items));
+            List<WorkRequest> saved = new ArrayList<>(requests.size());
+            for (Map.Entry<Integer, WorkRequest> entry : requests.entrySet()) {
+                String itemId = items.get(entry.getKey()).getMongoId();
+                if (itemId != null) {
+                    setItemId(entry.getValue(), itemId);
+                    saved.add(entry.getValue());
+                }
+            }
+            if (!saved.isEmpty()) {
+                write("workRequests.saveAll", saved.size(), () -> workRequestDAO.saveAll(saved));
+            }
+            return Collections.emptyList();
+        });
+    }
+
+    private void createTrustEvents(ExecutorService pool, Sizes sizes) {
+        Map<String, Segment> segmentByEnterprise = new HashMap<>();
+        enterprises.forEach((segment, enterprise) -> segmentByEnterprise.put(enterprise.getEnterpriseId(), segment));
+
+        runBatches(pool, "events", sizes.trustEvents, (from, count, generator, random) -> {
+            List<TrustScoreEvent> events = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                User user = skewed(allUsers, random);
+                EventType type = EVENT_TYPES[pick(EVENT_WEIGHTS, random)];
+                TrustScoreEvent event = new TrustScoreEvent(user.getEmail(), type);
+                event.setUserName(user.getFullName());
+                event.setTimestamp(sampleTime(segmentByEnterprise.get(user.getEnterpriseId()), random, sizes.days));
+                event.setPreviousScore(user.getTrustScore());
+                event.setNewScore(Math.max(0, Math.min(100, user.getTrustScore() + type.getDefaultPoints())));
+                events.add(event);
+            }
+            write("trustEvents.saveEvents", events.size(), () -> trustScoreDAO.saveEvents(events));
+            return Collections.emptyList();
+        });
+    }
+
+    // ==================== ITEMS AND REQUESTS ====================
+
+    private Item newItem(Segment segment, EnhancedDataGenerator generator, Random random, int days) {
+        Building building = buildings.get(segment).get(pick(buildingWeights.get(segment), random));
+        // Three quarters of reports come from the enterprise's own public users, the rest from students
+        User reporter = skewed(random.nextDouble() < 0.75 ? publicUsers.get(segment) : publicUsers.get(Segment.HIGHER_ED), random);
+        Item item = generator.generateDetachedItem(CATEGORIES[pick(CATEGORY_WEIGHTS, random)], building, reporter);
+        item.setEnterpriseId(enterprises.get(segment).getEnterpriseId());
+        item.setOrganizationId(organizations.get(building.getOrganizationId()).getOrganizationId());
+
+        LocalDateTime reported = sampleTime(segment, random, days);
+        item.setReportedDate(toDate(reported));
+
+        // The older the item, the likelier it has been claimed or has expired
+        double age = ChronoUnit.HOURS.between(reported, now) / 24.0;
+        if (random.nextDouble() < 1 - Math.exp(-age / RESOLUTION_DAYS)) {
+            item.setStatus(random.nextDouble() < 0.6 ? Item.ItemStatus.CLAIMED : Item.ItemStatus.EXPIRED);
+            double resolvedAfter = Math.min(age, -Math.log(1 - random.nextDouble()) * RESOLUTION_DAYS);
+            item.setResolvedDate(toDate(reported.plusMinutes((long) (resolvedAfter * 24 * 60))));
+        } else {
+            item.setStatus(random.nextDouble() < 0.85 ? Item.ItemStatus.OPEN : Item.ItemStatus.PENDING_CLAIM);
+            item.setResolvedDate(null);
+        }
+        return item;
+    }
+
+    private ItemClaimRequest newClaim(Item item, Segment holder, Random random) {
+        // Students claim everywhere; elsewhere half the claimants are the enterprise's public users
+        User claimant = skewed(holder == Segment.HIGHER_ED || random.nextBoolean()
+            ? publicUsers.get(Segment.HIGHER_ED) : publicUsers.get(holder), random);
+        double value = item.getEstimatedValue() > 0 ? item.getEstimatedValue() : 10 + random.nextDouble() * 190;
+
+        ItemClaimRequest claim = new ItemClaimRequest(claimant.getEmail(), claimant.getFullName(),
+            null, item.getTitle(), value);
+        claim.setItemCategory(item.getCategory().name());
+        claim.setItemHoldingEnterpriseType(holder.type.name());
+        claim.setItemHoldingEnterpriseName(holder.name);
+        claim.setClaimDetails("Lost " + item.getTitle().toLowerCase() + " at "
+            + item.getLocation().getBuilding().getName());
+        claim.setIdentifyingFeatures(item.getDescription());
+        claim.setFoundLocationName(item.getLocation().getBuilding().getName());
+        claim.setRequesterOrganizationId(claimant.getOrganizationId());
+        claim.setRequesterEnterpriseId(claimant.getEnterpriseId());
+        claim.setTargetOrganizationId(item.getOrganizationId());
+        claim.setTargetEnterpriseId(item.getEnterpriseId());
+
+        item.setType(Item.ItemType.FOUND);
+        decide(claim, item, claimant, random);
+        return claim;
+    }
+
+    private WorkRequest newTransfer(Item item, Segment holder, Random random) {
+        String building = item.getLocation().getBuilding().getName();
+        User staff = skewed(approvers.get(holder.approverRole), random);
+        WorkRequest request;
+        User student;
+        Organization campus;
+
+        if (holder == Segment.HIGHER_ED) {
+            // From the campus holding the item to the student's campus
+            Organization source = campus(item.getOrganizationId());
+            campus = campuses.get((campuses.indexOf(source) + 1) % campuses.size());
+            student = skewed(studentsOf(campus), random);
+            staff = coordinatorByCampus.get(source.getOrganizationId());
+            CrossCampusTransferRequest transfer = new CrossCampusTransferRequest(staff.getEmail(), staff.getFullName(),
+                null, item.getTitle(), student.getEmail(), student.getFullName());
+            transfer.setSourceCampusName(source.getName());
+            transfer.setDestinationCampusName(campus.getName());
+            transfer.setSourceLocationName(building);
+            User destination = coordinatorByCampus.get(campus.getOrganizationId());
+            transfer.setDestinationCoordinatorId(destination.getEmail());
+            transfer.setDestinationCoordinatorName(destination.getFullName());
+            transfer.setStudentName(student.getFullName());
+            transfer.setStudentEmail(student.getEmail());
+            transfer.setPickupLocation(campus.getName() + " Lost & Found Office");
+            transfer.setTransferMethod(random.nextBoolean() ? "Courier" : "In-Person Pickup");
+            request = transfer;
+        } else {
+            campus = campuses.get(random.nextInt(campuses.size()));
+            student = skewed(studentsOf(campus), random);
+            User coordinator = coordinatorByCampus.get(campus.getOrganizationId());
+            if (holder == Segment.MBTA) {
+                TransitToUniversityTransferRequest transfer = new TransitToUniversityTransferRequest(
+                    staff.getEmail(), staff.getFullName(), null, item.getTitle(), student.getEmail(), student.getFullName());
+                transfer.setTransitType("Subway");
+                transfer.setStationName(building);
+                transfer.setMbtaIncidentNumber("MBTA-" + (1_000_000 + random.nextInt(9_000_000)));
+                transfer.setUniversityName(campus.getName());
+                transfer.setCampusCoordinatorId(coordinator.getEmail());
+                transfer.setCampusCoordinatorName(coordinator.getFullName());
+                transfer.setCampusPickupLocation(campus.getName() + " Lost & Found Office");
+                transfer.setStudentEmail(student.getEmail());
+                request = transfer;
+            } else {
+                AirportToUniversityTransferRequest transfer = new AirportToUniversityTransferRequest(
+                    staff.getEmail(), staff.getFullName(), null, item.getTitle(), student.getEmail(), student.getFullName());
+                transfer.setTerminalNumber(building);
+                transfer.setFoundLocation(item.getLocation().getSpecificLocation());
+                transfer.setAirportIncidentNumber("LOGAN-" + (1_000_000 + random.nextInt(9_000_000)));
+                transfer.setEstimatedValue(item.getEstimatedValue());
+                transfer.setUniversityName(campus.getName());
+                transfer.setCampusCoordinatorId(coordinator.getEmail());
+                transfer.setCampusCoordinatorName(coordinator.getFullName());
+                transfer.setCampusPickupLocation(campus.getName() + " Lost & Found Office");
+                transfer.setStudentEmail(student.getEmail());
+                request = transfer;
+            }
+        }
+        request.setRequesterOrganizationId(staff.getOrganizationId());
+        request.setRequesterEnterpriseId(staff.getEnterpriseId());
+        request.setTargetOrganizationId(campus.getOrganizationId());
+        request.setTargetEnterpriseId(campus.getEnterpriseId());
+        request.setPriority(WorkRequest.RequestPriority.HIGH);
+
+        item.setType(Item.ItemType.FOUND);
+        decide(request, item, student, random);
+        return request;
+    }
+
+    /**
+     * Date the request after its item and move it along its approval chain.
+     * Requests older than DECIDED_AFTER_DAYS are approved (70%), rejected or
+     * cancelled; newer ones wait at a random step. The item's status follows.
+     */
+    private void decide(WorkRequest request, Item item, User requester, Random random) {
+        LocalDateTime reported = LocalDateTime.ofInstant(item.getReportedDate().toInstant(), ZoneId.systemDefault());
+        long age = ChronoUnit.MINUTES.between(reported, now);
+        LocalDateTime created = reported.plusMinutes((long) (random.nextDouble() * Math.min(age, 5 * 24 * 60)));
+        List<String> chain = request.getApprovalChain();
+
+        if (ChronoUnit.DAYS.between(created, now) > DECIDED_AFTER_DAYS) {
+            double outcome = random.nextDouble();
+            if (outcome < 0.7) {
+                approve(request, chain.size(), requester, random);
+                item.setStatus(Item.ItemStatus.CLAIMED);
+                item.setResolvedDate(toDate(created.plusDays(1 + random.nextInt(DECIDED_AFTER_DAYS))));
+            } else if (outcome < 0.9) {
+                approve(request, random.nextInt(chain.size()), requester, random);
+                request.reject("Could not verify ownership");
+            } else {
+                request.setStatus(WorkRequest.RequestStatus.CANCELLED);
+            }
+            request.setLastUpdatedAt(created.plusHours(1 + random.nextInt(DECIDED_AFTER_DAYS * 24)));
+        } else {
+            approve(request, random.nextInt(chain.size()), requester, random);
+            if (!"STUDENT".equals(request.getNextRequiredRole())) {
+                request.setCurrentApproverId(approverFor(request, requester, random).getEmail());
+            }
+            item.setStatus(Item.ItemStatus.PENDING_CLAIM);
+            item.setResolvedDate(null);
+            request.setLastUpdatedAt(created.plusMinutes((long) (random.nextDouble() * ChronoUnit.MINUTES.between(created, now))));
+        }
+        request.setCreatedAt(created);
+    }
+
+    private void approve(WorkRequest request, int steps, User requester, Random random) {
+        for (int step = 0; step < steps; step++) {
+            User approver = approverFor(request, requester, random);
+            request.advanceApproval(approver.getEmail(), approver.getFullName());
+        }
+    }
+
+    /**
+     * Someone who may approve the request's next step: the student for a
+     * pickup confirmation, the source then destination coordinator for a
+     * cross-campus transfer, otherwise anyone with the role
+     */
+    private User approverFor(WorkRequest request, User requester, Random random) {
+        String role = request.getNextRequiredRole();
+        if ("STUDENT".equals(role)) {
+            return requester;
+        }
+        if (request instanceof CrossCampusTransferRequest) {
+            return coordinatorByCampus.get(request.getApprovalStep() == 0
+                ? request.getRequesterOrganizationId() : request.getTargetOrganizationId());
+        }
+        return skewed(approvers.get(User.UserRole.valueOf(role)), random);
+    }
+
+    private void setItemId(WorkRequest request, String itemId) {
+        if (request instanceof ItemClaimRequest) {
+            ((ItemClaimRequest) request).setItemId(itemId);
+        } else if (request instanceof CrossCampusTransferRequest) {
+            ((CrossCampusTransferRequest) request).setItemId(itemId);
+        } else if (request instanceof TransitToUniversityTransferRequest) {
+            ((TransitToUniversityTransferRequest) request).setItemId(itemId);
+        } else if (request instanceof AirportToUniversityTransferRequest) {
+            ((AirportToUniversityTransferRequest) request).setItemId(itemId);
+        }
+    }
+
+    // ==================== SAMPLING ====================
+
+    /**
+     * A time in the last {@code days} days, weighted by the segment's month
+     * and weekday, during waking hours and busiest around midday
+     */
+    private LocalDateTime sampleTime(Segment segment, Random random, int days) {
+        while (true) {
+            LocalDate day = now.toLocalDate().minusDays(random.nextInt(days));
+            double weight = segment.months[day.getMonthValue() - 1] * segment.weekdays[day.getDayOfWeek().getValue() - 1];
+            if (random.nextDouble() * segment.peak < weight) {
+                long minute = Math.round(Math.max(6 * 60, Math.min(23 * 60, 13.5 * 60 + random.nextGaussian() * 200)));
+                LocalDateTime time = day.atStartOfDay().plusMinutes(minute);
+                return time.isAfter(now) ? now.minusMinutes(random.nextInt(60)) : time;
+            }
+        }
+    }
+
+    /**
+     * An element biased towards the front of the list: the first 10% are picked
+     * about 30% of the time
+     */
+    private static <T> T skewed(List<T> list, Random random) {
+        double u = random.nextDouble();
+        return list.get((int) (list.size() * u * u));
+    }
+
+    private static int pick(double[] cumulative, Random random) {
+        int index = Arrays.binarySearch(cumulative, random.nextDouble() * cumulative[cumulative.length - 1]);
+        return Math.min(index >= 0 ? index + 1 : -index - 1, cumulative.length - 1);
+    }
+
+    private static double[] cumulative(double... weights) {
+        double[] result = new double[weights.length];
+        double sum = 0;
+        for (int i = 0; i < weights.length; i++) {
+            sum += weights[i];
+            result[i] = sum;
+        }
+        return result;
+    }
+
+    /**
+     * This batch's part of {@code total}, spread over {@code items} so the
+     * parts add up exactly
+     */
+    private static int share(int total, int items, int from, int count) {
+        return (int) ((long) total * (from + count) / items - (long) total * from / items);
+    }
+
+    // ==================== HELPERS ====================
+
+    private interface Batch<T> {
+        List<T> run(int from, int count, EnhancedDataGenerator generator, Random random);
+    }
+
+    /**
+     * Run {@code total} records in batches on the pool, each with this
+     * thread's generator reseeded for the batch, and return the batches'
+     * results in batch order
+     */
+    private <T> List<List<T>> runBatches(ExecutorService pool, String phase, int total, Batch<T> work) {
+        long started = System.nanoTime();
+        int batches = (total + batchSize - 1) / batchSize;
+        List<Future<List<T>>> futures = new ArrayList<>(batches);
+        for (int b = 0; b < batches; b++) {
+            int from = b * batchSize;
+            int count = Math.min(batchSize, total - from);
+            long batchSeed = seed * 0x9E3779B97F4A7C15L + phase.hashCode() * 1_000_003L + b;
+            futures.add(pool.submit(() -> {
+                EnhancedDataGenerator generator = generators.get();
+                generator.reseed(batchSeed);
+                return work.run(from, count, generator, new Random(~batchSeed));
+            }));
+        }
+
+        List<List<T>> results = new ArrayList<>(batches);
+        try {
+            for (Future<List<T>> future : futures) {
+                results.add(future.get());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted generating " + phase, e);
+        } catch (ExecutionException e) {
+            throw new IllegalStateException("Failed generating " + phase, e.getCause());
+        }
+        double seconds = (System.nanoTime() - started) / 1e9;
+        LOGGER.info(String.format("%s: %,d in %.1fs (%,.0f/s)", phase, total, seconds, total / Math.max(seconds, 1e-9)));
+        return results;
+    }
+
+    private interface Write {
+        int run();
+    }
+
+    private void write(String name, int size, Write write) {
+        long started = System.nanoTime();
+        int written = write.run();
+        instrumentation.record(name, System.nanoTime() - started, written, written < size);
+    }
+
+    private void assignOrganization(User user, String organizationKey) {
+        Organization org = organizations.get(organizationKey);
+        user.setEnterpriseId(org.getEnterpriseId());
+        user.setOrganizationId(org.getOrganizationId());
+    }
+
+    private Organization campus(String organizationId) {
+        return campuses.stream().filter(org -> org.getOrganizationId().equals(organizationId)).findFirst().orElse(campuses.get(0));
+    }
+
+    private List<User> studentsOf(Organization campus) {
+        return studentsByCampus.getOrDefault(campus.getOrganizationId(), publicUsers.get(Segment.HIGHER_ED));
+    }
+
+    private static Segment segmentOf(String organizationKey) {
+        for (Segment segment : Segment.values()) {
+            if (organizationKey.startsWith(segment.key)) {
+                return segment;
+            }
+        }
+        throw new IllegalArgumentException("No enterprise for " + organizationKey);
+    }
+
+    private static Date toDate(LocalDateTime time) {
+        return Date.from(time.atZone(ZoneId.systemDefault()).toInstant());
+    }
+
+    private void printSummary(Sizes sizes, long nanos) {
+        double seconds = nanos / 1e9;
+        long documents = instrumentation.getMethodStats().stream().mapToLong(Instrumentation.MethodStats::getDocuments).sum();
+        System.out.println();
+        System.out.println("Generated " + sizes);
+        System.out.printf("%,d documents in %.1fs (%,.0f documents/s)%n", documents, seconds, documents / Math.max(seconds, 1e-9));
+        System.out.println();
+        System.out.print(instrumentation.getReport());
+    }
+
+    // ==================== MAIN ====================
+
+    public static void main(String[] args) {
+        double scale = args.length > 0 ? Double.parseDouble(args[0]) : 0.01;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : 48;
+        int threads = args.length > 2 ? Integer.parseInt(args[2]) : Runtime.getRuntime().availableProcessors();
+
+        new WorkloadGenerator(seed, threads).generate(Sizes.metroArea(scale));
+    }
+}
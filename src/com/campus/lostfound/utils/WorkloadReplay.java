@@ -0,0 +1,398 @@
+package com.campus.lostfound.utils;
+
+import com.campus.lostfound.dao.ItemDAO;
+import com.campus.lostfound.dao.UserDAO;
+import com.campus.lostfound.dao.WorkRequestDAO;
+import com.campus.lostfound.models.Item;
+import com.campus.lostfound.models.User;
+import com.campus.lostfound.models.trustscore.TrustScoreEvent.EventType;
+import com.campus.lostfound.models.workrequest.CrossCampusTransferRequest;
+import com.campus.lostfound.models.workrequest.WorkRequest;
+import com.campus.lostfound.services.*;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+/**
+ * Drives a timed mix of user operations through the services and reports
+ * latency percentiles per operation.
+ *
+ * Worker threads pick operations at random in the configured proportions:
+ * report (save a new item and its trust event), search (ranked search of
+ * open items), match (cross-enterprise matches for an open item) and approve
+ * (load a pending request and approve its next step as a user holding the
+ * required role). Inputs are sampled from the data set before the run, for
+ * example one written by WorkloadGenerator.
+ *
+ * With a target rate, operations are scheduled at fixed intervals and each
+ * latency is measured from the scheduled start, so time spent waiting behind
+ * a slow operation is counted instead of hidden. Without one, workers run
+ * closed-loop as fast as the services allow.
+ *
+ * Usage: WorkloadReplay [seconds] [threads] [mix] [rate] [scale], e.g.
+ * {@code WorkloadReplay 60 16 report=10,search=50,match=25,approve=15 400}.
+ * A warmup of a tenth of the duration (at most 10s) runs first and is not
+ * recorded. With -Dlostfound.dao=memory the in-memory DAOs are first filled
+ * by WorkloadGenerator at the given scale.
+ */
+public class WorkloadReplay {
+
+    private static final Logger LOGGER = Logger.getLogger(WorkloadReplay.class.getName());
+
+    public enum Operation { REPORT, SEARCH, MATCH, APPROVE }
+
+    public static final String DEFAULT_MIX = "report=10,search=50,match=25,approve=15";
+
+    private static final int POOL_SIZE = 10_000;
+    private static final long SKIPPED = -1;
+
+    private final ItemDAO itemDAO;
+    private final UserDAO userDAO;
+    private final WorkRequestDAO workRequestDAO;
+    private final EnterpriseItemService enterpriseItemService;
+    private final EnterpriseItemMatcher matcher;
+    private final WorkRequestService workRequestService;
+    private final TrustScoreService trustScoreService;
+
+    private final Operation[] operations;
+    private final double[] weights;
+    private final Instrumentation instrumentation = new Instrumentation(true);
+    private final LongAdder skipped = new LongAdder();
+
+    // Operation inputs, sampled by load()
+    private final List<Item> openItems = new ArrayList<>();
+    private final List<String> searchTerms = new ArrayList<>();
+    private final List<User> reporters = new ArrayList<>();
+    private final List<String> students = new ArrayList<>();
+    private final Map<String, List<String>> approvers = new HashMap<>();   // by role, and by role@organization
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+
+    // ==================== CONSTRUCTORS ====================
+
+    public WorkloadReplay(Map<Operation, Integer> mix) {
+        this(AppContext.getInstance(), mix);
+    }
+
+    public WorkloadReplay(AppContext context, Map<Operation, Integer> mix) {
+        this.itemDAO = context.getItemDAO();
+        this.userDAO = context.getUserDAO();
+        this.workRequestDAO = context.getWorkRequestDAO();
+        this.enterpriseItemService = context.getEnterpriseItemService();
+        this.matcher = context.getEnterpriseItemMatcher();
+        this.workRequestService = context.getWorkRequestService();
+        this.trustScoreService = context.getTrustScoreService();
+
+        this.operations = mix.keySet().toArray(new Operation[0]);
+        this.weights = new double[operations.length];
+        double sum = 0;
+        for (int i = 0; i < operations.length; i++) {
+            sum += mix.get(operations[i]);
+            weights[i] = sum;
+        }
+    }
+
+    /**
+     * Parse "report=10,search=50,..." into operation weights
+     */
+    public static Map<Operation, Integer> parseMix(String mix) {
+        Map<Operation, Integer> weights = new EnumMap<>(Operation.class);
+        for (String part : mix.split(",")) {
+            String[] entry = part.trim().split("=");
+            if (entry.length != 2) {
+                throw new IllegalArgumentException("Expected operation=weight, got: " + part);
+            }
+            int weight = Integer.parseInt(entry[1].trim());
+            if (weight > 0) {
+                weights.put(Operation.valueOf(entry[0].trim().toUpperCase()), weight);
+            }
+        }
+        if (weights.isEmpty()) {
+            throw new IllegalArgumentException("No operations in mix: " + mix);
+        }
+        return weights;
+    }
+
+    // ==================== SETUP ====================
+
+    /**
+     * Sample operation inputs: the newest open items (with their title words
+     * as search terms), reporters, approvers by role and organization, and
+     * every request awaiting approval
+     */
+    public void load() {
+        itemDAO.forEachItem(null, item -> {
+            if (item.getStatus() == Item.ItemStatus.OPEN && item.getLocation() != null
+                    && item.getLocation().getBuilding() != null) {
+                openItems.add(item);
+            }
+            return openItems.size() < POOL_SIZE;
+        });
+        Set<String> terms = new LinkedHashSet<>();
+        for (Item item : openItems) {
+            for (String word : item.getTitle().toLowerCase().split("\\W+")) {
+                if (word.length() >= 4) {
+                    terms.add(word);
+                }
+            }
+        }
+        searchTerms.addAll(terms);
+
+        userDAO.forEachActiveUser(user -> {
+            User.UserRole role = user.getRole();
+            if (role == User.UserRole.STUDENT || role == User.UserRole.PUBLIC_TRAVELER) {
+                if (reporters.size() < POOL_SIZE) {
+                    reporters.add(user);
+                }
+                if (role == User.UserRole.STUDENT && students.size() < POOL_SIZE) {
+                    students.add(user.getEmail());
+                }
+            } else {
+                approvers.computeIfAbsent(role.name(), r -> new ArrayList<>()).add(user.getEmail());
+                approvers.computeIfAbsent(role.name() + "@" + user.getOrganizationId(), r -> new ArrayList<>())
+                    .add(user.getEmail());
+            }
+            return true;
+        });
+
+        List<String> ids = new ArrayList<>();
+        for (WorkRequest.RequestStatus status : Arrays.asList(WorkRequest.RequestStatus.PENDING,
+                WorkRequest.RequestStatus.IN_PROGRESS)) {
+            for (WorkRequest request : workRequestDAO.findByStatus(status)) {
+                ids.add(request.getRequestId());
+            }
+        }
+        Collections.shuffle(ids, new Random(ids.size()));
+        pending.addAll(ids);
+
+        LOGGER.info(String.format("Loaded %,d open items, %,d search terms, %,d reporters, %,d pending requests",
+            openItems.size(), searchTerms.size(), reporters.size(), pending.size()));
+        if (openItems.isEmpty() || reporters.isEmpty() || searchTerms.isEmpty()) {
+            throw new IllegalStateException("No open items or reporters to replay against; generate data first");
+        }
+    }
+
+    // ==================== REPLAY ====================
+
+    /**
+     * Run the mix for {@code warmup + duration} and record latencies after
+     * the warmup
+     * @param targetRate Operations per second over all threads, or 0 to run closed-loop
+     * @return Per-operation stats, named after the operations in lower case
+     */
+    public Instrumentation run(long durationMillis, long warmupMillis, int threads, double targetRate) {
+        instrumentation.reset();
+        skipped.reset();
+        long start = System.nanoTime();
+        long measureFrom = start + TimeUnit.MILLISECONDS.toNanos(warmupMillis);
+        long end = measureFrom + TimeUnit.MILLISECONDS.toNanos(durationMillis);
+        long interval = targetRate > 0 ? (long) (1e9 * threads / targetRate) : 0;
+
+        ExecutorService pool = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> workers = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                int worker = t;
+                // Stagger paced workers so their schedules interleave
+                long first = start + interval * worker / threads;
+                workers.add(pool.submit(() -> work(worker, first, interval, measureFrom, end)));
+            }
+            for (Future<?> worker : workers) {
+                worker.get();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (ExecutionException e) {
+            LOGGER.log(Level.SEVERE, "Replay worker failed", e.getCause());
+        } finally {
+            pool.shutdownNow();
+        }
+        return instrumentation;
+    }
+
+    private void work(int worker, long first, long interval, long measureFrom, long end) {
+        Random random = new Random(worker);
+        EnhancedDataGenerator generator = EnhancedDataGenerator.detached(worker);
+        long next = first;
+
+        while (true) {
+            long scheduled;
+            if (interval > 0) {
+                scheduled = next;
+                next += interval;
+                if (scheduled >= end) {
+                    return;
+                }
+                for (long wait = scheduled - System.nanoTime(); wait > 0; wait = scheduled - System.nanoTime()) {
+                    LockSupport.parkNanos(wait);
+                }
+            } else {
+                scheduled = System.nanoTime();
+                if (scheduled >= end) {
+                    return;
+                }
+            }
+
+            Operation operation = operations[pick(random)];
+            long documents;
+            boolean failed = false;
+            try {
+                documents = execute(operation, random, generator);
+            } catch (Exception e) {
+                LOGGER.log(Level.FINE, operation + " failed", e);
+                documents = 0;
+                failed = true;
+            }
+            if (documents == SKIPPED) {
+                skipped.increment();
+            } else if (scheduled >= measureFrom) {
+                instrumentation.record(operation.name().toLowerCase(), System.nanoTime() - scheduled, documents, failed);
+            }
+        }
+    }
+
+    private long execute(Operation operation, Random random, EnhancedDataGenerator generator) {
+        switch (operation) {
+            case REPORT:
+                return report(random, generator);
+            case SEARCH:
+                String query = searchTerms.get(random.nextInt(searchTerms.size()));
+                if (random.nextBoolean()) {
+                    query += " " + searchTerms.get(random.nextInt(searchTerms.size()));
+                }
+                return enterpriseItemService.searchOpenItems(query, null, null).size();
+            case MATCH:
+                return matcher.matchAcrossEnterprises(openItems.get(random.nextInt(openItems.size()))).size();
+            case APPROVE:
+                return approve(random);
+            default:
+                throw new IllegalArgumentException("Unknown operation: " + operation);
+        }
+    }
+
+    private long report(Random random, EnhancedDataGenerator generator) {
+        // A new item at the building of a sampled one
+        Item template = openItems.get(random.nextInt(openItems.size()));
+        User reporter = reporters.get(random.nextInt(reporters.size()));
+        Item item = generator.generateDetachedItem(template.getCategory(), template.getLocation().getBuilding(), reporter);
+        item.setEnterpriseId(template.getEnterpriseId());
+        item.setOrganizationId(template.getOrganizationId());
+        item.setStatus(Item.ItemStatus.OPEN);
+        item.setReportedDate(new Date());
+
+        if (itemDAO.create(item) == null) {
+            throw new IllegalStateException("Item not saved: " + item.getTitle());
+        }
+        trustScoreService.recordEvent(reporter.getEmail(),
+            item.getType() == Item.ItemType.FOUND ? EventType.REPORT_FOUND_ITEM : EventType.REPORT_LOST_ITEM,
+            "Reported " + item.getTitle());
+        return 1;
+    }
+
+    private long approve(Random random) {
+        String requestId = pending.poll();
+        if (requestId == null) {
+            return SKIPPED;
+        }
+        WorkRequest request = workRequestDAO.findById(requestId);
+        String approver = request != null && request.isPending() ? approverFor(request, random) : null;
+        if (approver == null) {
+            return SKIPPED;
+        }
+        if (!workRequestService.approveRequest(requestId, approver)) {
+            throw new IllegalStateException("Approval refused: " + requestId + " by " + approver);
+        }
+        if (request.getApprovalStep() + 1 < request.getApprovalChain().size()) {
+            pending.offer(requestId);
+        }
+        return 1;
+    }
+
+    /**
+     * The assigned approver, or a user with the next required role (from the
+     * right campus for cross-campus transfers)
+     */
+    private String approverFor(WorkRequest request, Random random) {
+        String role = request.getNextRequiredRole();
+        if ("STUDENT".equals(role)) {
+            return students.isEmpty() ? null : students.get(random.nextInt(students.size()));
+        }
+        // The routing engine assigns approvers by user id; approveRequest takes an email
+        if (request.getCurrentApproverId() != null && request.getCurrentApproverId().contains("@")) {
+            return request.getCurrentApproverId();
+        }
+        String key = role;
+        if (request instanceof CrossCampusTransferRequest) {
+            key += "@" + (request.getApprovalStep() == 0
+                ? request.getRequesterOrganizationId() : request.getTargetOrganizationId());
+        }
+        List<String> candidates = approvers.get(key);
+        return candidates == null ? null : candidates.get(random.nextInt(candidates.size()));
+    }
+
+    private int pick(Random random) {
+        int index = Arrays.binarySearch(weights, random.nextDouble() * weights[weights.length - 1]);
+        return Math.min(index >= 0 ? index + 1 : -index - 1, weights.length - 1);
+    }
+
+    // ==================== REPORT ====================
+
+    /**
+     * Per-operation table of calls, throughput and latency percentiles
+     */
+    public String getReport(long durationMillis) {
+        double seconds = durationMillis / 1000.0;
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("%-10s %10s %7s %10s %9s %9s %9s %9s %9s%n",
+            "Operation", "Calls", "Errors", "Ops/s", "Mean ms", "p50", "p95", "p99", "Max"));
+        long total = 0;
+        for (Operation operation : operations) {
+            Instrumentation.MethodStats m = instrumentation.getMethodStats(operation.name().toLowerCase());
+            if (m == null) {
+                continue;
+            }
+            total += m.getCalls();
+            sb.append(String.format("%-10s %10d %7d %10.1f %9.2f %9.2f %9.2f %9.2f %9.2f%n",
+                operation.name().toLowerCase(), m.getCalls(), m.getErrors(), m.getCalls() / seconds,
+                m.getMeanMillis(), m.getP50Millis(), m.getP95Millis(), m.getP99Millis(), m.getMaxMillis()));
+        }
+        sb.append(String.format("%-10s %10d %7s %10.1f%n", "total", total, "", total / seconds));
+        if (skipped.sum() > 0) {
+            sb.append(String.format("%,d operations skipped (no pending request to approve)%n", skipped.sum()));
+        }
+        return sb.toString();
+    }
+
+    // ==================== MAIN ====================
+
+    public static void main(String[] args) {
+        int seconds = args.length > 0 ? Integer.parseInt(args[0]) : 60;
+        int threads = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+        String mix = args.length > 2 ? args[2] : DEFAULT_MIX;
+        double rate = args.length > 3 ? Double.parseDouble(args[3]) : 0;
+        double scale = args.length > 4 ? Double.parseDouble(args[4]) : 0.01;
+
+        if (AppContext.getInstance().isInMemory()) {
+            new WorkloadGenerator(48, threads).generate(WorkloadGenerator.Sizes.metroArea(scale));
+        }
+        WorkloadReplay replay = new WorkloadReplay(parseMix(mix));
+        replay.load();
+
+        // Per-call INFO logging from the services would dominate the latencies
+        Logger.getLogger("com.campus.lostfound").setLevel(Level.WARNING);
+        long durationMillis = seconds * 1000L;
+        long warmupMillis = Math.min(10_000, durationMillis / 10);
+        System.out.printf("%nReplaying %s for %ds (+%ds warmup) on %d threads, %s%n%n", mix, seconds,
+            warmupMillis / 1000, threads, rate > 0 ? "target " + rate + " ops/s" : "closed-loop");
+        replay.run(durationMillis, warmupMillis, threads, rate);
+        System.out.print(replay.getReport(durationMillis));
+    }
+}